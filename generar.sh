@@ -0,0 +1,27 @@
+#!/bin/sh
+# Regenera parser/Parser.java, parser/sym.java y scanner/Scanner.java desde
+# parser.cup y scanner.flex, les aplica el parche de TableGen (las tablas se
+# cargan de TableImage), compila todo y escribe TableImage.bin junto a las
+# clases. Sin este paso la imagen no existe y Parser y Scanner decodifican
+# sus strings empaquetados como siempre. Correr desde la raíz del proyecto.
+#
+# Uso: ./generar.sh [dir de clases, por defecto build]
+set -e
+OUT=${1:-build}
+CP=lib/java-cup-11b-runtime.jar
+JAVA="java -Dfile.encoding=UTF-8"
+
+compilar() {
+    mkdir -p "$OUT"
+    javac -nowarn -encoding UTF-8 -cp "$CP" -d "$OUT" $(find . -name '*.java' -not -path './.git/*')
+}
+
+$JAVA -jar lib/jflex-full-1.7.0.jar --nobak -q -d scanner ./scanner/scanner.flex
+$JAVA -jar lib/java-cup-11b.jar -destdir parser -parser Parser -symbols sym parser/parser.cup
+
+# Los fuentes recién generados compilan sin el parche; TableGen lo aplica
+# sobre ellos y la imagen se arma con las clases ya parcheadas
+compilar
+java -cp "$OUT:$CP" parser.TableGen --patch
+compilar
+java -cp "$OUT:$CP" parser.TableGen --out "$OUT"
@@ -0,0 +1,222 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Una sección del programa ensamblador (.data, .bss o .text).
+ *
+ * En memoria guarda las líneas en una lista (modo de siempre). En modo
+ * streaming cada línea se codifica a un buffer fijo que se vuelca a un
+ * archivo temporal (spool) por FileChannel, así que la memoria no crece con
+ * la cantidad de instrucciones; al generar el .asm el spool se copia al
+ * archivo final con transferTo.
+ *
+ * close() cierra el canal y borra el spool. Los spools que siguen abiertos
+ * al terminar la JVM los borra un único shutdown hook (deleteOnExit
+ * guardaría para siempre cada archivo creado).
+ */
+final class AsmSection implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] NEWLINE = System.lineSeparator().getBytes();
+
+    // Mismo charset que usaba el FileWriter de generateFile
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    // Spools sin cerrar, para borrarlos al salir
+    private static final Set<Path> OPEN_SPOOLS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (Path p : OPEN_SPOOLS) {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    // al salir no hay a quién avisar
+                }
+            }
+        }, "asm-spool-cleanup"));
+    }
+
+    private final String prefix;             // indentación al escribir en el .asm
+    private final List<String> lines;        // modo en memoria (null si hace spool)
+    private final Path spoolFile;            // modo streaming (null si está en memoria)
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private int count = 0;
+
+    private AsmSection(String prefix, Path spoolFile) throws IOException {
+        this.prefix = prefix;
+        if (spoolFile == null) {
+            this.lines = new ArrayList<>();
+            this.spoolFile = null;
+            this.channel = null;
+            this.buffer = null;
+        } else {
+            this.lines = null;
+            this.spoolFile = spoolFile;
+            this.channel = FileChannel.open(spoolFile,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+    }
+
+    static AsmSection inMemory(String prefix) {
+        try {
+            return new AsmSection(prefix, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // no ocurre: no hay archivo
+        }
+    }
+
+    /**
+     * Sección con spool en un archivo temporal (se borra con close() o al
+     * salir de la JVM)
+     */
+    static AsmSection spooled(String prefix, String name) throws IOException {
+        Path file = Files.createTempFile("abs-" + name + "-", ".spool");
+        OPEN_SPOOLS.add(file);
+        try {
+            return new AsmSection(prefix, file);
+        } catch (IOException e) {
+            OPEN_SPOOLS.remove(file);
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Cierra el canal y borra el spool (en memoria no hace nada)
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } finally {
+            OPEN_SPOOLS.remove(spoolFile);
+            Files.deleteIfExists(spoolFile);
+        }
+    }
+
+    boolean isSpooled() {
+        return channel != null;
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void add(String line) {
+        count++;
+        if (lines != null) {
+            lines.add(line);
+            return;
+        }
+        try {
+            put((prefix + line).getBytes(CHARSET));
+            put(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el spool " + spoolFile, e);
+        }
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            flush();
+            if (bytes.length > buffer.capacity()) {
+                channel.write(ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Vacía la sección (en streaming reutiliza el mismo archivo)
+     */
+    void clear() {
+        count = 0;
+        if (lines != null) {
+            lines.clear();
+            return;
+        }
+        try {
+            buffer.clear();
+            channel.truncate(0);
+            channel.position(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Recorre las líneas sin indentación (en streaming las relee del spool)
+     */
+    void forEach(Consumer<String> action) {
+        if (lines != null) {
+            lines.forEach(action);
+            return;
+        }
+        try {
+            flush();
+            try (BufferedReader r = Files.newBufferedReader(spoolFile, CHARSET)) {
+                String line;
+                while ((line = r.readLine()) != null) {
+                    action.accept(line.substring(prefix.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escribe la sección con su indentación
+     */
+    void writeTo(PrintWriter writer) {
+        forEach(line -> writer.println(prefix + line));
+    }
+
+    /**
+     * Copia el spool al canal de salida sin pasar por el heap
+     */
+    void transferTo(WritableByteChannel out) throws IOException {
+        flush();
+        long size = channel.size();
+        long pos = 0;
+        while (pos < size) {
+            pos += channel.transferTo(pos, size - pos, out);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package parser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import scanner.LineTable;
+
+/**
+ * Árbol sintáctico de un programa guardado en arreglos primitivos: lo arma
+ * RecursiveParser y lo recorren SemanticPass (tabla de símbolos, errores y
+ * tipos) y después CodeGenPass (código intermedio).
+ *
+ * Los nodos están en orden posfijo, que es el orden en que CUP reduce: los
+ * hijos de un nodo son los nodos anteriores a él, y las pasadas pueden
+ * recorrer el árbol con un for, sin recursión, corriendo las acciones en el
+ * mismo orden que el parser de CUP. Las acciones que CUP corre en medio de
+ * una producción (el comienzo de una función, el THEN y el ELSE de un IF)
+ * son nodos propios.
+ *
+ * Por nodo se guarda:
+ *  - clase (byte): una de las constantes de abajo
+ *  - inicio (int): el primer nodo del subárbol; los nodos de [inicio, i)
+ *    son los hijos y sus descendientes. El último hijo es i - 1 y el
+ *    anterior a un hijo c es inicio(c) - 1
+ *  - pos (int): el left del token principal, que es un offset en el
+ *    fuente si el scanner usa una LineTable, y si no la línea - 1
+ *  - dato (int): el lexema (índice en la tabla de lexemas, donde cada
+ *    nombre o literal se guarda una sola vez), el operador o el tipo
+ *  - anotación (byte): lo que SemanticPass le deja a CodeGenPass
+ *
+ * Son 14 bytes por nodo, más los lexemas distintos. El arena es uno por
+ * hilo y se reutiliza de una compilación a la siguiente (forCompilation),
+ * como el resto del estado del análisis.
+ */
+public final class Ast {
+
+    // ========================================================================
+    // CLASES DE NODO (entre paréntesis, los hijos)
+    // ========================================================================
+
+    public static final int PROGRAM = 0;        // dato: nombre (DECL*, FUNCTION|PROCEDURE*, sentencias)
+    public static final int DECL = 1;           // (ID+, TYPE), todas hojas
+    public static final int ID = 2;             // dato: nombre declarado
+    public static final int TYPE = 3;           // dato: tipo (índice en TIPOS)
+    public static final int PARAM = 4;          // dato: nombre (TYPE)
+    public static final int FUNC_HEAD = 5;      // dato: nombre (PARAM*, TYPE de retorno)
+    public static final int FUNCTION = 6;       // dato: nombre (FUNC_HEAD, DECL*, sentencias, RETURN)
+    public static final int PROC_HEAD = 7;      // dato: nombre (PARAM*)
+    public static final int PROCEDURE = 8;      // dato: nombre (PROC_HEAD, DECL*, sentencias)
+    public static final int ASSIGN = 9;         // dato: variable (expresión)
+    public static final int RETURN = 10;        // dato: nombre (expresión)
+    public static final int INCREMENT = 11;     // dato: variable; la sentencia x++;
+    public static final int DECREMENT = 12;     // dato: variable; la sentencia x--;
+    public static final int READ = 13;          // dato: variable, o -1 en READ()
+    public static final int WRITE = 14;         // (expresión+)
+    public static final int CALL = 15;          // dato: nombre (argumentos); sentencia o factor
+    public static final int WHILE = 16;         // (condición, sentencias)
+    public static final int FOR = 17;           // dato: variable (expresión, expresión, sentencias)
+    public static final int THEN = 18;          // fin de la condición de un IF; pos: su primer token
+    public static final int ELSE = 19;
+    public static final int IF = 20;            // (condición, THEN, sentencias)
+    public static final int IF_ELSE = 21;       // (condición, THEN, sentencias, ELSE, sentencias)
+    public static final int VARIABLE = 22;      // dato: nombre
+    public static final int INT_LIT = 23;       // dato: lexema (también octal y hexadecimal)
+    public static final int REAL_LIT = 24;
+    public static final int STRING_LIT = 25;
+    public static final int CHAR_LIT = 26;
+    public static final int BINARY = 27;        // dato: índice en OPERADORES (izquierdo, derecho)
+    public static final int NEGATE = 28;        // (operando); el + unario no deja nodo
+    public static final int POST_INC = 29;      // dato: variable
+    public static final int POST_DEC = 30;
+    public static final int PRE_INC = 31;
+    public static final int PRE_DEC = 32;
+    public static final int RELATIONAL = 33;    // dato: índice en RELACIONALES (izquierdo, derecho)
+    public static final int AND = 34;           // (condición, condición)
+    public static final int OR = 35;
+    public static final int NOT = 36;           // (condición)
+
+    // Los nombres que usan SemanticStack.processBinaryOp y processRelationalOp
+    public static final String[] OPERADORES = { "+", "-", "*", "/", "DIV", "MOD" };
+    public static final String[] RELACIONALES = { "=", "<>", "<", ">", "<=", ">=" };
+
+    // Tipos de TYPE y de las anotaciones de expresiones; null es el de un
+    // procedimiento usado como variable
+    public static final String[] TIPOS = { null, "INT", "CHAR", "REAL", "STRING", "BOOL", "ERROR" };
+
+    public static final int BYTES_POR_NODO = 1 + 4 + 4 + 4 + 1;
+
+    private static final int CAPACIDAD_INICIAL = 1024;
+    // Después de un programa enorme, forCompilation no se queda con más que esto
+    private static final int CAPACIDAD_RETENIDA = 1 << 20;
+
+    private static final ThreadLocal<Ast> ARENA = ThreadLocal.withInitial(Ast::new);
+
+    private byte[] clase;
+    private int[] inicio;
+    private int[] pos;
+    private int[] dato;
+    private byte[] anotacion;
+    private int n;
+
+    private String[] lexemas = new String[256];
+    private int nLexemas;
+    private final HashMap<String, Integer> indice = new HashMap<>();
+
+    private LineTable lineas;
+
+    private Ast() {
+        reservar(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * El arena del hilo actual, vacío, para una compilación nueva (lineas:
+     * la del scanner si los tokens traen offsets, o null)
+     */
+    public static Ast forCompilation(LineTable lineas) {
+        Ast a = ARENA.get();
+        if (a.clase.length > CAPACIDAD_RETENIDA) {
+            a.reservar(CAPACIDAD_INICIAL);
+        }
+        a.n = 0;
+        Arrays.fill(a.lexemas, 0, a.nLexemas, null);
+        a.nLexemas = 0;
+        a.indice.clear();
+        a.lineas = lineas;
+        return a;
+    }
+
+    private void reservar(int capacidad) {
+        clase = new byte[capacidad];
+        inicio = new int[capacidad];
+        pos = new int[capacidad];
+        dato = new int[capacidad];
+        anotacion = new byte[capacidad];
+    }
+
+    // ========================================================================
+    // CONSTRUCCIÓN
+    // ========================================================================
+
+    /**
+     * Agrega un nodo cuyos hijos son los nodos agregados desde que size()
+     * valía desde (desde == size() para una hoja); devuelve su índice
+     */
+    public int add(int k, int desde, int left, int d) {
+        if (n == clase.length) {
+            int cap = n * 2;
+            clase = Arrays.copyOf(clase, cap);
+            inicio = Arrays.copyOf(inicio, cap);
+            pos = Arrays.copyOf(pos, cap);
+            dato = Arrays.copyOf(dato, cap);
+            anotacion = Arrays.copyOf(anotacion, cap);
+        }
+        clase[n] = (byte) k;
+        inicio[n] = desde;
+        pos[n] = left;
+        dato[n] = d;
+        anotacion[n] = 0;
+        return n++;
+    }
+
+    /**
+     * Índice del lexema en la tabla (lo agrega si es nuevo)
+     */
+    public int lexema(String s) {
+        Integer i = indice.get(s);
+        if (i != null) {
+            return i;
+        }
+        if (nLexemas == lexemas.length) {
+            lexemas = Arrays.copyOf(lexemas, nLexemas * 2);
+        }
+        lexemas[nLexemas] = s;
+        indice.put(s, nLexemas);
+        return nLexemas++;
+    }
+
+    /**
+     * Índice del tipo t en TIPOS
+     */
+    public static int tipo(String t) {
+        for (int i = 1; i < TIPOS.length; i++) {
+            if (TIPOS[i].equals(t)) {
+                return i;
+            }
+        }
+        if (t == null) {
+            return 0;
+        }
+        throw new IllegalStateException("tipo desconocido: " + t);
+    }
+
+    // ========================================================================
+    // CONSULTAS
+    // ========================================================================
+
+    public int size() {
+        return n;
+    }
+
+    public int clase(int i) {
+        return clase[i];
+    }
+
+    public int inicio(int i) {
+        return inicio[i];
+    }
+
+    public int pos(int i) {
+        return pos[i];
+    }
+
+    public int dato(int i) {
+        return dato[i];
+    }
+
+    /**
+     * El lexema del nodo (nombre o literal)
+     */
+    public String texto(int i) {
+        return lexemas[dato[i]];
+    }
+
+    /**
+     * Línea (desde 1) del nodo, como Parser.linea con su token
+     */
+    public int linea(int i) {
+        int left = pos[i];
+        if (left < 0) {
+            return 1;
+        }
+        return (lineas != null) ? lineas.line(left) + 1 : left + 1;
+    }
+
+    /**
+     * Cantidad de hijos del nodo
+     */
+    public int hijos(int i) {
+        int k = 0;
+        for (int c = i - 1; c >= inicio[i]; c = inicio[c] - 1) {
+            k++;
+        }
+        return k;
+    }
+
+    public int anotacion(int i) {
+        return anotacion[i];
+    }
+
+    public void anotar(int i, int valor) {
+        anotacion[i] = (byte) valor;
+    }
+
+    public int lexemas() {
+        return nLexemas;
+    }
+
+    /**
+     * Bytes reservados por los arreglos de nodos (la capacidad, no solo los
+     * nodos usados)
+     */
+    public long bytesReservados() {
+        return (long) clase.length * BYTES_POR_NODO;
+    }
+}
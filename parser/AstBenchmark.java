@@ -0,0 +1,112 @@
+package parser;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+import scanner.FastScanner;
+import scanner.IdentifierTable;
+import scanner.Lexer;
+import scanner.Scanner;
+import scanner.TokenStats;
+
+/**
+ * Memoria y tiempos del Ast: cuántos nodos salen por línea, cuántos bytes
+ * ocupan y cuánto tardan el parseo (RecursiveParser armando el árbol) y
+ * las dos pasadas, SemanticPass y CodeGenPass.
+ *
+ * Los bytes por nodo son los de los arreglos del arena (Ast.BYTES_POR_NODO);
+ * "reservados" cuenta la capacidad, que crece al doble, y los lexemas
+ * distintos se informan aparte porque no dependen de la cantidad de nodos.
+ * Los programas y las opciones son los de ModeBenchmark: semilla fija,
+ * análisis desde memoria y la mediana de las mediciones. El código
+ * va a un spool en disco (CodeGenerator.setStreamingOutput), así que en
+ * los programas de millones de líneas la memoria que cuenta es la del
+ * árbol y no la del .asm.
+ *
+ * Uso: java parser.AstBenchmark [--lines n,n,...] [--warmup n] [--iter n] [--seed s] [--lexer jflex|fast]
+ */
+public class AstBenchmark {
+
+    /**
+     * Parsea source con RecursiveParser y devuelve el árbol, con el estado
+     * del análisis reiniciado
+     */
+    private static Ast parse(String source, boolean fast) throws Exception {
+        SymbolTable.reset();
+        SemanticAnalyzer.reset();
+        CodeGenerator.reset();
+        SemanticStack.reset();
+        IdentifierTable.reset();
+        Lexer sc = fast ? new FastScanner(source.getBytes(StandardCharsets.UTF_8))
+                        : new Scanner(new StringReader(source));
+        sc.setTokenStats(TokenStats.NONE);
+        RecursiveParser rd = new RecursiveParser(sc);
+        if (!rd.parse()) {
+            throw new IllegalStateException("el programa generado tiene errores sintácticos");
+        }
+        return rd.getAst();
+    }
+
+    /**
+     * Mediana de ms de { parseo, SemanticPass, CodeGenPass }
+     */
+    private static double[] measure(String source, boolean fast, int warmup, int iterations) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            Ast ast = parse(source, fast);
+            SemanticPass.run(ast);
+            CodeGenPass.run(ast);
+        }
+        double[][] ms = new double[3][iterations];
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            Ast ast = parse(source, fast);
+            long t1 = System.nanoTime();
+            SemanticPass.run(ast);
+            long t2 = System.nanoTime();
+            CodeGenPass.run(ast);
+            long t3 = System.nanoTime();
+            if (!SemanticAnalyzer.getErrors().isEmpty()) {
+                throw new IllegalStateException("el programa generado tiene errores semánticos");
+            }
+            ms[0][i] = (t1 - t0) / 1e6;
+            ms[1][i] = (t2 - t1) / 1e6;
+            ms[2][i] = (t3 - t2) / 1e6;
+        }
+        double[] med = new double[3];
+        for (int k = 0; k < 3; k++) {
+            Arrays.sort(ms[k]);
+            med[k] = ms[k][iterations / 2];
+        }
+        return med;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ModeBenchmark.Options opt = new ModeBenchmark.Options(new long[] { 100_000, 1_000_000 }, 2, 5)
+            .parse(args, "AstBenchmark");
+        boolean fast = opt.fastLexer();
+        CodeGenerator.setStreamingOutput(true);
+
+        System.out.printf("Scanner %s, semilla %d, %d calentamientos, %d mediciones, %d bytes por nodo%n",
+            opt.lexer, opt.seed, opt.warmup, opt.iterations, Ast.BYTES_POR_NODO);
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("                         AST: MEMORIA POR NODO Y TIEMPO DE LAS PASADAS");
+        System.out.println("=".repeat(100));
+        System.out.printf("%-10s %11s %8s %10s %10s %9s %11s %11s %11s%n",
+            "Líneas", "nodos", "nod/lín", "MB nodos", "MB reserv", "lexemas", "parseo ms", "semánt. ms", "código ms");
+        System.out.println("-".repeat(100));
+        for (long lines : opt.sizes) {
+            String source = ModeBenchmark.program(lines, opt.seed);
+
+            double[] ms = measure(source, fast, opt.warmup, opt.iterations);
+            Ast ast = parse(source, fast);
+            long reales = source.lines().count();
+            System.out.printf(Locale.ROOT, "%-10d %11d %8.2f %10.1f %10.1f %9d %11.1f %11.1f %11.1f%n",
+                reales, ast.size(), (double) ast.size() / reales,
+                (double) ast.size() * Ast.BYTES_POR_NODO / (1024 * 1024), ast.bytesReservados() / (1024.0 * 1024),
+                ast.lexemas(), ms[0], ms[1], ms[2]);
+        }
+        System.out.println("=".repeat(100));
+    }
+}
@@ -0,0 +1,235 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compilación por lotes de muchos archivos .abs en una sola JVM.
+ *
+ * Cada archivo se compila en un hilo de un pool fijo. El estado de
+ * SymbolTable, SemanticAnalyzer, SemanticStack y CodeGenerator es por hilo,
+ * así que las compilaciones concurrentes no se mezclan.
+ *
+ * Con --cache dir los archivos sin cambios se restauran de CompileCache.
+ * Con --metrics salida.json se guardan los tiempos por fase de cada archivo.
+ * Los flags de modo (--fast-lexer, --recursive-parser, etc.) son los de
+ * MainParser.parseModeFlag.
+ *
+ * Uso: java parser.BatchCompiler [-j hilos] [--cache dir] [--cache-max MB] [--metrics salida.json] [flags de modo] <archivo.abs | directorio> ...
+ */
+public class BatchCompiler {
+
+    /**
+     * Expande la lista de rutas: los directorios se recorren buscando .abs
+     */
+    public static List<String> collectSources(List<String> paths) throws IOException {
+        List<String> sources = new ArrayList<>();
+        for (String p : paths) {
+            Path path = Paths.get(p);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    sources.addAll(walk
+                        .filter(Files::isRegularFile)
+                        .filter(f -> f.getFileName().toString().toLowerCase().endsWith(".abs"))
+                        .map(Path::toString)
+                        .sorted()
+                        .collect(Collectors.toList()));
+                }
+            } else {
+                sources.add(p);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Pasa todos los archivos por compile en paralelo y retorna los
+     * resultados en el mismo orden de entrada; si compile lanza una
+     * excepción el archivo queda con failure
+     */
+    public static List<CompileResult> compileAll(List<String> sources, int threads,
+                                                 Function<String, CompileResult> compile) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, CodeGenerator.releasingThreads());
+        List<CompileResult> results = new ArrayList<>();
+        try {
+            List<Future<CompileResult>> futures = new ArrayList<>();
+            for (String src : sources) {
+                futures.add(pool.submit(() -> compile.apply(src)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    CompileResult failed = new CompileResult(sources.get(i));
+                    failed.failure = String.valueOf(e.getCause());
+                    results.add(failed);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Reporte consolidado: una línea por archivo y totales
+     */
+    public static void printReport(List<CompileResult> results, long wallNanos, int threads) {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                        REPORTE BATCH");
+        System.out.println("=".repeat(80));
+        System.out.printf("%-8s %5s %5s %5s %9s  %s%n", "Estado", "Lex", "Sint", "Sem", "ms", "Archivo");
+        System.out.println("-".repeat(80));
+
+        int ok = 0, withErrors = 0, failed = 0;
+        for (CompileResult r : results) {
+            String estado;
+            if (r.failure != null) {
+                estado = "FALLO";
+                failed++;
+            } else if (r.hasErrors()) {
+                estado = "ERRORES";
+                withErrors++;
+            } else {
+                estado = "OK";
+                ok++;
+            }
+            System.out.printf("%-8s %5d %5d %5d %9.1f  %s%s%n",
+                estado,
+                r.lexicalErrors.size(),
+                r.syntaxErrors.size(),
+                r.semanticErrors.size(),
+                r.elapsedNanos / 1e6,
+                r.sourcePath,
+                (r.fromCache ? " [caché]" : "")
+            );
+            if (r.failure != null) {
+                System.out.println("         -> " + r.failure);
+            }
+        }
+
+        double wallSec = wallNanos / 1e9;
+        System.out.println("=".repeat(80));
+        System.out.printf("Archivos: %d | OK: %d | Con errores: %d | Fallidos: %d%n",
+            results.size(), ok, withErrors, failed);
+        System.out.printf("Tiempo total: %.1f ms con %d hilo(s) (%.1f archivos/s)%n",
+            wallNanos / 1e6, threads, (wallSec > 0 ? results.size() / wallSec : 0.0));
+    }
+
+    /**
+     * Reporte JSON del lote: métricas por archivo (los restaurados de la caché
+     * no tienen fases) y totales del lote
+     */
+    public static String metricsJson(List<CompileResult> results, long wallNanos, int threads) {
+        StringBuilder sb = new StringBuilder();
+        long tokens = 0, lines = 0;
+        sb.append("{\"files\":[");
+        boolean first = true;
+        for (CompileResult r : results) {
+            if (r.metrics == null) {
+                continue;
+            }
+            if (!first) sb.append(',');
+            sb.append('\n').append(r.metrics.toJson());
+            tokens += r.metrics.tokens;
+            lines += r.metrics.lines;
+            first = false;
+        }
+        double wallSec = wallNanos / 1e9;
+        sb.append("\n],\"totals\":{");
+        sb.append("\"files\":").append(results.size()).append(',');
+        sb.append("\"threads\":").append(threads).append(',');
+        sb.append("\"tokens\":").append(tokens).append(',');
+        sb.append("\"lines\":").append(lines).append(',');
+        sb.append(String.format(Locale.ROOT,
+            "\"wall_ms\":%.3f,\"files_per_sec\":%.1f,\"tokens_per_sec\":%.1f,\"lines_per_sec\":%.1f",
+            wallNanos / 1e6,
+            wallSec > 0 ? results.size() / wallSec : 0.0,
+            wallSec > 0 ? tokens / wallSec : 0.0,
+            wallSec > 0 ? lines / wallSec : 0.0));
+        sb.append("}}\n");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String cacheDir = null;
+        long cacheMaxMb = 256;
+        String metricsOut = null;
+        List<String> paths = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-j") && i + 1 < args.length) {
+                threads = Math.max(1, Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--cache") && i + 1 < args.length) {
+                cacheDir = args[++i];
+            } else if (args[i].equals("--cache-max") && i + 1 < args.length) {
+                cacheMaxMb = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--metrics") && i + 1 < args.length) {
+                metricsOut = args[++i];
+            } else if (!MainParser.parseModeFlag(args[i])) {
+                paths.add(args[i]);
+            }
+        }
+
+        if (paths.isEmpty()) {
+            System.err.println("Uso: java parser.BatchCompiler [-j hilos] [--cache dir] [--cache-max MB] [--metrics salida.json] "
+                + MainParser.MODE_FLAGS_USAGE + " <archivo.abs | directorio> ...");
+            System.exit(1);
+        }
+
+        List<String> sources;
+        CompileCache cache = null;
+        try {
+            sources = collectSources(paths);
+            if (cacheDir != null) {
+                cache = new CompileCache(Paths.get(cacheDir), cacheMaxMb * 1024 * 1024);
+            }
+        } catch (IOException e) {
+            System.err.println("[BATCH] No se pudieron listar los archivos: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (metricsOut != null) {
+            PhaseMetrics.setEnabled(true);
+        }
+
+        CompileCache cacheLote = cache;
+        long start = System.nanoTime();
+        List<CompileResult> results = compileAll(sources, threads, src -> MainParser.compile(src, cacheLote));
+        long wall = System.nanoTime() - start;
+
+        printReport(results, wall, threads);
+        if (cache != null) {
+            cache.printStats();
+        }
+        if (metricsOut != null) {
+            try {
+                Files.writeString(Paths.get(metricsOut), metricsJson(results, wall, threads), StandardCharsets.UTF_8);
+                System.out.println("[METRICS] JSON: " + metricsOut);
+            } catch (IOException e) {
+                System.err.println("[METRICS] No se pudo escribir " + metricsOut + ": " + e.getMessage());
+            }
+        }
+
+        boolean allOk = results.stream().allMatch(r -> r.failure == null && !r.hasErrors());
+        System.exit(allOk ? 0 : 1);
+    }
+}
@@ -0,0 +1,134 @@
+package parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Stack;
+
+/**
+ * Segunda pasada sobre el Ast: el código intermedio, con lo que SemanticPass
+ * dejó anotado en los nodos. No consulta la tabla de símbolos ni registra
+ * errores; la pila semántica es la de SemanticStack, que es la que arma los
+ * temporales y pliega las constantes, así que el .asm sale igual que con el
+ * parser de CUP.
+ */
+public final class CodeGenPass {
+
+    private final Ast ast;
+    private final Stack<String> ifLabelStack = new Stack<>();
+    private final Stack<String> finales = new Stack<>();     // etiqueta del final de cada IF con ELSE
+    private String funcion;                                  // la función cuyo cuerpo se recorre
+
+    private CodeGenPass(Ast ast) {
+        this.ast = ast;
+    }
+
+    /**
+     * Corre la pasada sobre un árbol que ya pasó por SemanticPass, con el
+     * estado del generador del hilo actual
+     */
+    public static void run(Ast ast) {
+        new CodeGenPass(ast).recorrer();
+    }
+
+    private void recorrer() {
+        Ast a = ast;
+        for (int i = 0, n = a.size(); i < n; i++) {
+            switch (a.clase(i)) {
+                case Ast.DECL -> {
+                    String t = Ast.TIPOS[a.dato(i - 1)];
+                    for (int id = a.inicio(i); id < i - 1; id++) {
+                        CodeGenerator.declareGlobalVariable(a.texto(id), t);
+                    }
+                }
+                case Ast.FUNC_HEAD -> funcion = a.texto(i);
+                case Ast.ASSIGN -> {
+                    SemanticStack.StackEntry expr = SemanticActions.popExpression();
+                    if (a.anotacion(i) == 1) {
+                        SemanticActions.emitStore(a.texto(i), expr);
+                    }
+                }
+                case Ast.RETURN -> {
+                    SemanticStack.StackEntry expr = SemanticActions.popExpression();
+                    if (a.anotacion(i) == 1) {
+                        SemanticActions.emitStore(funcion, expr);
+                    }
+                }
+                case Ast.INCREMENT -> {
+                    if (a.anotacion(i) == 1) {
+                        CodeGenerator.emitIncrement(a.texto(i));
+                    }
+                }
+                case Ast.DECREMENT -> {
+                    if (a.anotacion(i) == 1) {
+                        CodeGenerator.emitDecrement(a.texto(i));
+                    }
+                }
+                case Ast.WRITE -> SemanticActions.write(argumentos(i));
+                case Ast.CALL -> {
+                    if (a.hijos(i) > 0) {
+                        argumentos(i);
+                    }
+                    if (a.anotacion(i) == 1) {
+                        CodeGenerator.emitCode("CALL " + a.texto(i));
+                    }
+                }
+                case Ast.WHILE -> SemanticActions.popExpression();
+                case Ast.THEN -> SemanticActions.emitIfStart(SemanticActions.popExpression(), ifLabelStack);
+                case Ast.ELSE -> finales.push(SemanticActions.elseStart(ifLabelStack));
+                case Ast.IF -> SemanticActions.ifEnd(ifLabelStack);
+                case Ast.IF_ELSE -> CodeGenerator.emitIfElseEnd(finales.pop());
+                case Ast.VARIABLE -> cargar(i);
+                case Ast.INT_LIT -> SemanticStack.loadConstant("INT", a.texto(i));
+                case Ast.REAL_LIT -> SemanticStack.loadConstant("REAL", a.texto(i));
+                case Ast.STRING_LIT -> SemanticStack.loadConstant("STRING", a.texto(i));
+                case Ast.CHAR_LIT -> SemanticStack.loadConstant("CHAR", a.texto(i));
+                case Ast.BINARY -> SemanticStack.processBinaryOp(Ast.OPERADORES[a.dato(i)]);
+                case Ast.RELATIONAL -> SemanticStack.processRelationalOp(Ast.RELACIONALES[a.dato(i)]);
+                case Ast.NEGATE -> SemanticStack.processUnaryOp("-");
+                case Ast.POST_INC, Ast.POST_DEC -> {
+                    // El valor es el anterior: primero se carga y después x = x +- 1
+                    if (a.anotacion(i) != SemanticPass.NO_CARGA) {
+                        cargar(i);
+                        incrementar(i, a.clase(i) == Ast.POST_INC);
+                    }
+                }
+                case Ast.PRE_INC, Ast.PRE_DEC -> {
+                    if (a.anotacion(i) != SemanticPass.NO_CARGA) {
+                        incrementar(i, a.clase(i) == Ast.PRE_INC);
+                        cargar(i);
+                    }
+                }
+                default -> {
+                    // Declaraciones de funciones y procedimientos, READ, FOR y condiciones: sin código
+                }
+            }
+        }
+    }
+
+    /**
+     * Apila la variable del nodo con el tipo que anotó SemanticPass
+     */
+    private void cargar(int i) {
+        SemanticStack.push(new SemanticStack.StackEntry(Ast.TIPOS[ast.anotacion(i)], ast.texto(i)));
+    }
+
+    private void incrementar(int i, boolean incremento) {
+        if (incremento) {
+            CodeGenerator.emitIncrement(ast.texto(i));
+        } else {
+            CodeGenerator.emitDecrement(ast.texto(i));
+        }
+    }
+
+    /**
+     * Saca de la pila semántica los resultados de los argumentos del nodo,
+     * del último al primero, como lista_expresiones
+     */
+    private List<SemanticStack.StackEntry> argumentos(int i) {
+        SemanticStack.StackEntry[] args = new SemanticStack.StackEntry[ast.hijos(i)];
+        for (int j = args.length - 1; j >= 0; j--) {
+            args[j] = SemanticActions.popExpression();
+        }
+        return Arrays.asList(args);
+    }
+}
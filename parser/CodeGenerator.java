@@ -2,8 +2,15 @@
 package parser;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
+import scanner.IdentifierTable;
+
 /**
  * Generador de Código para el Proyecto 3
  * Genera código ensamblador (x86 NASM) a partir del análisis semántico.
@@ -20,29 +27,41 @@ import java.util.*;
 public class CodeGenerator {
     
     // ========================================================================
-    // SECCIONES DEL CÓDIGO ENSAMBLADOR
+    // ESTADO DEL GENERADOR (uno por hilo / compilación)
     // ========================================================================
     
-    private static List<String> dataSection = new ArrayList<>();      // .data
-    private static List<String> bssSection = new ArrayList<>();       // .bss
-    private static List<String> textSection = new ArrayList<>();      // .text (código)
+    private static final class State {
+        // Secciones del código ensamblador (en memoria o con spool, ver AsmSection)
+        AsmSection dataSection;      // .data
+        AsmSection bssSection;       // .bss
+        AsmSection textSection;      // .text (código)
+        boolean streaming;
+        
+        // Contadores para temporales y labels
+        final Set<String> declaredGlobals = new LinkedHashSet<>(); // seguimiento de globals
+        int tempCounter = 0;
+        int labelCounter = 0;
+        // Pila de labels de fin para IF-ELSE
+        final Deque<String> ifEndStack = new ArrayDeque<>();
+        
+        State() {
+            createSections(this, streamingOutput);
+        }
+    }
     
-    // ========================================================================
-    // CONTADORES PARA TEMPORALES Y LABELS
-    // ========================================================================
+    // Sin valor inicial: release() no arma un estado en los hilos que no generaron código
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
     
-    private static Set<String> declaredGlobals = new LinkedHashSet<>(); // seguimiento de globals
-    private static int tempCounter = 0;
-    private static int labelCounter = 0;
-    // Pila de labels de fin para IF-ELSE
-    private static Deque<String> ifEndStack = new ArrayDeque<>();
+    // Secciones con spool a disco en vez de listas (--stream-asm o -Dabs.streamAsm=true)
+    private static volatile boolean streamingOutput = Boolean.getBoolean("abs.streamAsm");
+    
+    // Sistema operativo objetivo, para todos los hilos: true=Linux, false=Windows
+    private static volatile boolean isLinux = true;
     
     // ========================================================================
     // CONFIGURACIÓN
     // ========================================================================
     
-    private static boolean isLinux = true;  // true=Linux, false=Windows
-    
     /**
      * Configura el sistema operativo objetivo
      */
@@ -50,6 +69,22 @@ public class CodeGenerator {
         isLinux = linux;
     }
     
+    /**
+     * true si el objetivo es Linux
+     */
+    public static boolean isTargetLinux() {
+        return isLinux;
+    }
+    
+    /**
+     * Activa la emisión en streaming: cada sección se vuelca a un archivo
+     * temporal a medida que se genera y generateFile las une con transferTo.
+     * Aplica desde el próximo reset().
+     */
+    public static void setStreamingOutput(boolean on) {
+        streamingOutput = on;
+    }
+    
     // ========================================================================
     // INICIALIZACIÓN
     // ========================================================================
@@ -58,13 +93,18 @@ public class CodeGenerator {
      * Reinicia el generador (para nuevos análisis)
      */
     public static void reset() {
-        dataSection.clear();
-        bssSection.clear();
-        textSection.clear();
-        declaredGlobals.clear();
-        tempCounter = 0;
-        labelCounter = 0;
-        ifEndStack.clear();
+        State st = state();
+        if (st.streaming != streamingOutput) {
+            createSections(st, streamingOutput);
+        } else {
+            st.dataSection.clear();
+            st.bssSection.clear();
+            st.textSection.clear();
+        }
+        st.declaredGlobals.clear();
+        st.tempCounter = 0;
+        st.labelCounter = 0;
+        st.ifEndStack.clear();
         
         // Agregar mensajes predefinidos para WRITE
         addData("newline", "DB 10, 0");  // Salto de línea
@@ -72,6 +112,80 @@ public class CodeGenerator {
         addData("fmt_str", "DB '%s', 10, 0");  // Formato para strings
     }
     
+    private static void createSections(State st, boolean streaming) {
+        closeSections(st);
+        if (streaming) {
+            try {
+                st.dataSection = AsmSection.spooled("    ", "data");
+                st.bssSection = AsmSection.spooled("    ", "bss");
+                st.textSection = AsmSection.spooled("", "text");
+                st.streaming = true;
+                return;
+            } catch (IOException e) {
+                System.err.println("[CODE GEN] No se pudo crear el spool, se usa memoria: " + e.getMessage());
+            }
+        }
+        st.dataSection = AsmSection.inMemory("    ");
+        st.bssSection = AsmSection.inMemory("    ");
+        st.textSection = AsmSection.inMemory("");
+        st.streaming = streaming;
+    }
+    
+    /**
+     * Cierra las secciones (y borra sus spools) antes de reemplazarlas
+     */
+    private static void closeSections(State st) {
+        for (AsmSection section : new AsmSection[] { st.dataSection, st.bssSection, st.textSection }) {
+            if (section == null) {
+                continue;
+            }
+            try {
+                section.close();
+            } catch (IOException e) {
+                System.err.println("[CODE GEN] No se pudo borrar el spool: " + e.getMessage());
+            }
+        }
+        st.dataSection = st.bssSection = st.textSection = null;
+    }
+    
+    /**
+     * Libera el estado del hilo actual (los spools abiertos incluidos); el
+     * próximo uso arma uno nuevo
+     */
+    public static void release() {
+        State st = STATE.get();
+        if (st != null) {
+            closeSections(st);
+            STATE.remove();
+        }
+    }
+    
+    /**
+     * Estado del hilo actual; lo arma en el primer uso
+     */
+    private static State state() {
+        State st = STATE.get();
+        if (st == null) {
+            st = new State();
+            STATE.set(st);
+        }
+        return st;
+    }
+    
+    /**
+     * Fábrica de hilos para los pools de compilación: cada hilo libera su
+     * estado del generador al terminar
+     */
+    public static java.util.concurrent.ThreadFactory releasingThreads() {
+        return r -> new Thread(() -> {
+            try {
+                r.run();
+            } finally {
+                release();
+            }
+        });
+    }
+    
     // ========================================================================
     // GENERACIÓN DE TEMPORALES Y LABELS
     // ========================================================================
@@ -80,8 +194,9 @@ public class CodeGenerator {
      * Genera un nuevo temporal (t0, t1, t2, ...)
      */
     public static String newTemp() {
-        String temp = "t" + tempCounter;
-        tempCounter++;
+        State st = state();
+        String temp = "t" + st.tempCounter;
+        st.tempCounter++;
         
         // Declarar el temporal en .bss (sin inicializar)
         addBss(temp, "RESD 1");  // Reservar 4 bytes para INT
@@ -93,8 +208,9 @@ public class CodeGenerator {
      * Genera un nuevo label (L0, L1, L2, ...)
      */
     public static String newLabel() {
-        String label = "L" + labelCounter;
-        labelCounter++;
+        State st = state();
+        String label = "L" + st.labelCounter;
+        st.labelCounter++;
         return label;
     }
     
@@ -106,35 +222,35 @@ public class CodeGenerator {
      * Agrega una línea a la sección .data
      */
     public static void addData(String label, String declaration) {
-        dataSection.add(label + " " + declaration);
+        state().dataSection.add(label + " " + declaration);
     }
     
     /**
      * Agrega una línea a la sección .bss
      */
     public static void addBss(String label, String declaration) {
-        bssSection.add(label + " " + declaration);
+        state().bssSection.add(label + " " + declaration);
     }
     
     /**
      * Agrega una instrucción a la sección .text (con indentación)
      */
     public static void emitCode(String instruction) {
-        textSection.add("    " + instruction);
+        state().textSection.add("    " + instruction);
     }
     
     /**
      * Agrega una instrucción sin indentación (para labels)
      */
     public static void emitLabel(String label) {
-        textSection.add(label + ":");
+        state().textSection.add(label + ":");
     }
     
     /**
      * Agrega un comentario
      */
     public static void emitComment(String comment) {
-        textSection.add("    ; " + comment);
+        state().textSection.add("    ; " + comment);
     }
     
     // ========================================================================
@@ -145,11 +261,12 @@ public class CodeGenerator {
      * Declara una variable global en la sección .bss
      */
     public static void declareGlobalVariable(String name, String type) {
-        String key = name.toLowerCase();
-        if (declaredGlobals.contains(key)) {
+        State st = state();
+        String key = IdentifierTable.current().lower(name);
+        if (st.declaredGlobals.contains(key)) {
             return;  // evitar doble emisión
         }
-        declaredGlobals.add(key);
+        st.declaredGlobals.add(key);
 
         String declaration = switch (type) {
             case "INT" -> "RESD 1";          // 4 bytes (entero)
@@ -160,7 +277,9 @@ public class CodeGenerator {
         };
         
         addBss(name, declaration);
-        System.out.println("[CODE GEN] Variable global declarada: " + name + " (" + type + ")");
+        if (Trace.on(Trace.Category.CODEGEN, Trace.Level.INFO)) {
+            Trace.log(Trace.Category.CODEGEN, Trace.Level.INFO, "Variable global declarada: " + name + " (" + type + ")");
+        }
     }
     
     /**
@@ -350,9 +469,10 @@ public class CodeGenerator {
      * Genera el código entre IF y ELSE
      */
     public static String emitElse(String labelFalse) {
+        State st = state();
         String labelEnd = newLabel();
         // Guardar el label de fin por si luego no se pasa a emitIfElseEnd
-        ifEndStack.push(labelEnd);
+        st.ifEndStack.push(labelEnd);
         emitCode("JMP " + labelEnd);     // Saltar al final después del THEN
         emitLabel(labelFalse);           // Inicio del ELSE
         emitComment("=== ELSE ===");
@@ -371,11 +491,12 @@ public class CodeGenerator {
      * Termina un IF-ELSE
      */
     public static void emitIfElseEnd(String labelEnd) {
+        State st = state();
         // Recuperar de la pila si no viene (o si coincide con la cima)
-        if (labelEnd == null && !ifEndStack.isEmpty()) {
-            labelEnd = ifEndStack.pop();
-        } else if (labelEnd != null && !ifEndStack.isEmpty() && ifEndStack.peek().equals(labelEnd)) {
-            ifEndStack.pop();
+        if (labelEnd == null && !st.ifEndStack.isEmpty()) {
+            labelEnd = st.ifEndStack.pop();
+        } else if (labelEnd != null && !st.ifEndStack.isEmpty() && st.ifEndStack.peek().equals(labelEnd)) {
+            st.ifEndStack.pop();
         }
         // Última defensa: si sigue siendo null, generar uno para no dejar etiqueta indefinida
         if (labelEnd == null) {
@@ -433,8 +554,9 @@ public class CodeGenerator {
      * Agrega un string literal a .data y retorna su label
      */
     public static String addStringLiteral(String content) {
-        String label = "str" + labelCounter;
-        labelCounter++;
+        State st = state();
+        String label = "str" + st.labelCounter;
+        st.labelCounter++;
         
         // Escapar caracteres especiales
         content = content.replace("\\n", "\", 10, \"");
@@ -452,87 +574,110 @@ public class CodeGenerator {
      * Genera el archivo .asm completo
      */
     public static void generateFile(String filename) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            
-            // ===== CABECERA =====
-            writer.println("; Código generado por el Compilador ABS");
-            writer.println("; Proyecto 3 - Compiladores e Intérpretes");
-            writer.println("; Archivo: " + filename);
-            writer.println();
+        State st = state();
+        try (FileChannel out = FileChannel.open(Paths.get(filename),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
             
-            // ===== DECLARACIONES EXTERNAS =====
-            if (isLinux) {
-                writer.println("extern printf");
-                writer.println("extern exit");
-            } else {
-                writer.println("extern _printf");
-                writer.println("extern _exit");
-            }
-            writer.println();
-            
-            // ===== SECCIÓN .data =====
-            writer.println("section .data");
-            if (dataSection.isEmpty()) {
-                writer.println("    ; (vacía)");
-            } else {
-                for (String line : dataSection) {
-                    writer.println("    " + line);
-                }
-            }
-            writer.println();
-            
-            // ===== SECCIÓN .bss =====
-            writer.println("section .bss");
-            if (bssSection.isEmpty()) {
-                writer.println("    ; (vacía)");
-            } else {
-                for (String line : bssSection) {
-                    writer.println("    " + line);
-                }
-            }
-            writer.println();
-            
-            // ===== SECCIÓN .text (código) =====
-            writer.println("section .text");
-            if (isLinux) {
-                writer.println("global _start");
-                writer.println();
-                writer.println("_start:");
-            } else {
-                writer.println("global _main");
-                writer.println();
-                writer.println("_main:");
-            }
-            
-            if (textSection.isEmpty()) {
-                writer.println("    ; (vacío)");
-            } else {
-                for (String line : textSection) {
-                    writer.println(line);
-                }
-            }
-            
-            // ===== SALIDA DEL PROGRAMA =====
-            writer.println();
-            writer.println("    ; Salir del programa");
-            if (isLinux) {
-                writer.println("    MOV EAX, 1");      // syscall: exit
-                writer.println("    XOR EBX, EBX");    // código de salida: 0
-                writer.println("    INT 0x80");        // llamada al sistema
-            } else {
-                writer.println("    PUSH 0");
-                writer.println("    CALL [exit]");
-            }
+            // Mismo charset que el FileWriter de antes; las secciones con spool
+            // se copian directo al canal entre bloques de cabecera
+            PrintWriter writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(out), Charset.defaultCharset())));
+            generate(writer, filename, out);
+            writer.flush();
             
             System.out.println("\n[CODE GEN] ✓ Archivo generado exitosamente: " + filename);
-            System.out.println("           - Variables globales: " + bssSection.size());
-            System.out.println("           - Instrucciones: " + textSection.size());
+            System.out.println("           - Variables globales: " + st.bssSection.size());
+            System.out.println("           - Instrucciones: " + st.textSection.size());
             
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             System.err.println("[CODE GEN] ✗ Error al escribir el archivo: " + e.getMessage());
         }
     }
     
+    /**
+     * Escribe el programa ensamblador completo en el writer dado
+     * (usado por generateFile y por el daemon, que devuelve el ASM en memoria)
+     */
+    public static void generate(PrintWriter writer, String filename) {
+        try {
+            generate(writer, filename, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Si out no es null, las secciones con spool se transfieren a ese canal
+     * (writer debe escribir en el mismo canal)
+     */
+    private static void generate(PrintWriter writer, String filename, FileChannel out) throws IOException {
+        State st = state();
+        
+        // ===== CABECERA =====
+        writer.println("; Código generado por el Compilador ABS");
+        writer.println("; Proyecto 3 - Compiladores e Intérpretes");
+        writer.println("; Archivo: " + filename);
+        writer.println();
+        
+        // ===== DECLARACIONES EXTERNAS =====
+        if (isLinux) {
+            writer.println("extern printf");
+            writer.println("extern exit");
+        } else {
+            writer.println("extern _printf");
+            writer.println("extern _exit");
+        }
+        writer.println();
+        
+        // ===== SECCIÓN .data =====
+        writer.println("section .data");
+        writeSection(writer, st.dataSection, out, "    ; (vacía)");
+        writer.println();
+        
+        // ===== SECCIÓN .bss =====
+        writer.println("section .bss");
+        writeSection(writer, st.bssSection, out, "    ; (vacía)");
+        writer.println();
+        
+        // ===== SECCIÓN .text (código) =====
+        writer.println("section .text");
+        if (isLinux) {
+            writer.println("global _start");
+            writer.println();
+            writer.println("_start:");
+        } else {
+            writer.println("global _main");
+            writer.println();
+            writer.println("_main:");
+        }
+        
+        writeSection(writer, st.textSection, out, "    ; (vacío)");
+        
+        // ===== SALIDA DEL PROGRAMA =====
+        writer.println();
+        writer.println("    ; Salir del programa");
+        if (isLinux) {
+            writer.println("    MOV EAX, 1");      // syscall: exit
+            writer.println("    XOR EBX, EBX");    // código de salida: 0
+            writer.println("    INT 0x80");        // llamada al sistema
+        } else {
+            writer.println("    PUSH 0");
+            writer.println("    CALL [exit]");
+        }
+    }
+    
+    private static void writeSection(PrintWriter writer, AsmSection section, FileChannel out,
+                                     String emptyMark) throws IOException {
+        if (section.isEmpty()) {
+            writer.println(emptyMark);
+        } else if (out != null && section.isSpooled()) {
+            writer.flush();
+            section.transferTo(out);
+        } else {
+            section.writeTo(writer);
+        }
+    }
+    
     // ========================================================================
     // 8. MÉTODOS DE DEBUGGING
     // ========================================================================
@@ -541,33 +686,28 @@ public class CodeGenerator {
      * Imprime el código generado (para debugging)
      */
     public static void printGeneratedCode() {
+        State st = state();
         System.out.println("\n=== CÓDIGO GENERADO ===");
         
         System.out.println("\n--- .data ---");
-        if (dataSection.isEmpty()) {
+        if (st.dataSection.isEmpty()) {
             System.out.println("(vacía)");
         } else {
-            for (String line : dataSection) {
-                System.out.println("  " + line);
-            }
+            st.dataSection.forEach(line -> System.out.println("  " + line));
         }
         
         System.out.println("\n--- .bss ---");
-        if (bssSection.isEmpty()) {
+        if (st.bssSection.isEmpty()) {
             System.out.println("(vacía)");
         } else {
-            for (String line : bssSection) {
-                System.out.println("  " + line);
-            }
+            st.bssSection.forEach(line -> System.out.println("  " + line));
         }
         
         System.out.println("\n--- .text ---");
-        if (textSection.isEmpty()) {
+        if (st.textSection.isEmpty()) {
             System.out.println("(vacía)");
         } else {
-            for (String line : textSection) {
-                System.out.println(line);
-            }
+            st.textSection.forEach(System.out::println);
         }
     }
     
@@ -575,11 +715,12 @@ public class CodeGenerator {
      * Obtiene estadísticas del código generado
      */
     public static void printStats() {
+        State st = state();
         System.out.println("\n=== ESTADÍSTICAS DE GENERACIÓN ===");
-        System.out.println("Variables globales declaradas: " + bssSection.size());
-        System.out.println("Constantes en .data: " + dataSection.size());
-        System.out.println("Instrucciones generadas: " + textSection.size());
-        System.out.println("Temporales usados: " + tempCounter);
-        System.out.println("Labels generados: " + labelCounter);
+        System.out.println("Variables globales declaradas: " + st.bssSection.size());
+        System.out.println("Constantes en .data: " + st.dataSection.size());
+        System.out.println("Instrucciones generadas: " + st.textSection.size());
+        System.out.println("Temporales usados: " + st.tempCounter);
+        System.out.println("Labels generados: " + st.labelCounter);
     }
 }
@@ -0,0 +1,368 @@
+package parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Caché en disco de compilaciones, indexada por el hash SHA-256 de los bytes
+ * del fuente más una huella de la versión del compilador y de los ajustes
+ * que cambian la salida.
+ *
+ * Un acierto restaura el .asm y los errores registrados sin correr el scanner
+ * ni el parser. El directorio tiene un tamaño máximo; al superarlo se borran
+ * las entradas usadas hace más tiempo (LRU).
+ */
+public class CompileCache {
+
+    private static final int MAGIC = 0x41425343;  // "ABSC"
+    private static final String SUFFIX = ".entry";
+
+    // Paquetes cuyas clases (y la imagen de tablas) forman la huella del compilador
+    private static final String[] COMPILER_PACKAGES = { "parser/", "scanner/" };
+
+    /**
+     * Huella de la versión del compilador: si cambia alguna clase, cambian
+     * todas las claves y las entradas viejas dejan de usarse.
+     */
+    public static final String COMPILER_VERSION = fingerprint();
+
+    private final Path dir;
+    private final long maxBytes;
+
+    // Índice LRU: clave -> tamaño en bytes (orden de acceso)
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CompileCache(Path dir, long maxBytes) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(dir);
+        loadIndex();
+    }
+
+    // ========================================================================
+    // CLAVES
+    // ========================================================================
+
+    /**
+     * Clave de caché para el contenido de un fuente con los ajustes actuales
+     */
+    public String keyFor(byte[] source) {
+        MessageDigest md = sha256();
+        md.update(COMPILER_VERSION.getBytes(StandardCharsets.UTF_8));
+        md.update(outputSettings().getBytes(StandardCharsets.UTF_8));
+        md.update(source);
+        return toHex(md.digest());
+    }
+
+    /**
+     * Ajustes globales que cambian el .asm: por ahora solo el SO objetivo.
+     * Los flags de modo de MainParser y --stream-asm dan la misma salida,
+     * así que no entran en la clave.
+     */
+    private static String outputSettings() {
+        return "os=" + (CodeGenerator.isTargetLinux() ? "linux" : "windows") + ";";
+    }
+
+    /**
+     * Hash de todos los .class de los paquetes del compilador (y de
+     * TableImage.bin), leídos del directorio o jar de donde se cargó Parser,
+     * en orden de nombre. Así cualquier clase nueva o cambiada entra sin
+     * tener que anotarla en ninguna lista.
+     */
+    private static String fingerprint() {
+        MessageDigest md = sha256();
+        try {
+            Path root = Path.of(Parser.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            Map<String, byte[]> files = Files.isDirectory(root) ? readDirectory(root) : readJar(root);
+            for (Map.Entry<String, byte[]> e : files.entrySet()) {
+                md.update(e.getKey().getBytes(StandardCharsets.UTF_8));
+                md.update(e.getValue());
+            }
+        } catch (Exception e) {
+            // Sin acceso a las clases: una huella distinta en cada ejecución, para no servir .asm viejos
+            md.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(md.digest()).substring(0, 16);
+    }
+
+    private static boolean partOfCompiler(String name) {
+        if (!name.endsWith(".class") && !name.endsWith(TableImage.RECURSO)) {
+            return false;
+        }
+        for (String pkg : COMPILER_PACKAGES) {
+            if (name.startsWith(pkg) && name.indexOf('/', pkg.length()) == -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, byte[]> readDirectory(Path root) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        for (String pkg : COMPILER_PACKAGES) {
+            Path dir = root.resolve(pkg);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> list = Files.list(dir)) {
+                for (Path f : (Iterable<Path>) list::iterator) {
+                    String name = pkg + f.getFileName();
+                    if (Files.isRegularFile(f) && partOfCompiler(name)) {
+                        files.put(name, Files.readAllBytes(f));
+                    }
+                }
+            }
+        }
+        return files;
+    }
+
+    private static Map<String, byte[]> readJar(Path jar) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        try (JarFile jf = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jf.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry e = entries.nextElement();
+                if (!e.isDirectory() && partOfCompiler(e.getName())) {
+                    try (InputStream in = jf.getInputStream(e)) {
+                        files.put(e.getName(), in.readAllBytes());
+                    }
+                }
+            }
+        }
+        return files;
+    }
+
+    // ========================================================================
+    // LECTURA Y ESCRITURA DE ENTRADAS
+    // ========================================================================
+
+    /**
+     * Busca una entrada; si existe, escribe el .asm en asmPath (si la compilación
+     * original lo generó) y retorna el resultado con los errores guardados.
+     * Retorna null si no hay entrada.
+     */
+    public CompileResult restore(String key, String sourcePath, Path asmPath) {
+        Path file = dir.resolve(key + SUFFIX);
+        synchronized (this) {
+            if (!index.containsKey(key)) {
+                misses.incrementAndGet();
+                return null;
+            }
+            index.get(key);  // marca como usado recientemente
+        }
+
+        CompileResult r = new CompileResult(sourcePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("entrada corrupta");
+            }
+            readStrings(in, r.lexicalErrors);
+            readStrings(in, r.syntaxErrors);
+            int nSem = in.readInt();
+            for (int i = 0; i < nSem; i++) {
+                int line = in.readInt();
+                String type = readString(in);
+                String message = readString(in);
+                r.semanticErrors.add(new SemanticAnalyzer.SemanticError(line, message, type));
+            }
+            r.symbolCount = in.readInt();
+            boolean hasAsm = in.readBoolean();
+            if (hasAsm) {
+                String header = readString(in);
+                String asm = readString(in);
+                // La cabecera del .asm lleva la ruta de salida; se ajusta a la nueva
+                asm = asm.replace(header, "; Archivo: " + asmPath);
+                Files.writeString(asmPath, asm);
+                r.asmPath = asmPath.toString();
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            synchronized (this) {
+                forget(key);
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+
+        r.fromCache = true;
+        hits.incrementAndGet();
+        return r;
+    }
+
+    /**
+     * Guarda el resultado de una compilación (no se guardan los fallos de IO/CUP)
+     */
+    public void store(String key, CompileResult r) {
+        if (r.failure != null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                writeStrings(out, r.lexicalErrors);
+                writeStrings(out, r.syntaxErrors);
+                out.writeInt(r.semanticErrors.size());
+                for (SemanticAnalyzer.SemanticError e : r.semanticErrors) {
+                    out.writeInt(e.line);
+                    writeString(out, e.type);
+                    writeString(out, e.message);
+                }
+                out.writeInt(r.symbolCount);
+                out.writeBoolean(r.asmPath != null);
+                if (r.asmPath != null) {
+                    writeString(out, "; Archivo: " + r.asmPath);
+                    writeString(out, Files.readString(Path.of(r.asmPath)));
+                }
+            }
+
+            // Escritura atómica: archivo temporal + rename
+            Path tmp = Files.createTempFile(dir, key, ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            Files.move(tmp, dir.resolve(key + SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (this) {
+                forget(key);
+                index.put(key, (long) bytes.size());
+                totalBytes += bytes.size();
+                evict();
+            }
+        } catch (IOException e) {
+            System.err.println("[CACHE] No se pudo guardar la entrada: " + e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // LRU
+    // ========================================================================
+
+    private void loadIndex() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).forEach(entries::add);
+        }
+        // Del menos al más recientemente usado
+        entries.sort((a, b) -> {
+            try {
+                return Files.getLastModifiedTime(a).compareTo(Files.getLastModifiedTime(b));
+            } catch (IOException e) {
+                return 0;
+            }
+        });
+        for (Path f : entries) {
+            String name = f.getFileName().toString();
+            long size = Files.size(f);
+            index.put(name.substring(0, name.length() - SUFFIX.length()), size);
+            totalBytes += size;
+        }
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.getValue();
+            evictions.incrementAndGet();
+            try {
+                Files.deleteIfExists(dir.resolve(eldest.getKey() + SUFFIX));
+            } catch (IOException e) {
+                System.err.println("[CACHE] No se pudo borrar: " + eldest.getKey());
+            }
+        }
+    }
+
+    private void forget(String key) {
+        Long old = index.remove(key);
+        if (old != null) {
+            totalBytes -= old;
+        }
+    }
+
+    // ========================================================================
+    // ESTADÍSTICAS
+    // ========================================================================
+
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getEvictions() { return evictions.get(); }
+
+    public synchronized void printStats() {
+        System.out.printf("[CACHE] Aciertos: %d | Fallos: %d | Desalojos: %d | Entradas: %d (%.1f KB de %.1f KB)%n",
+            hits.get(), misses.get(), evictions.get(), index.size(), totalBytes / 1024.0, maxBytes / 1024.0);
+    }
+
+    // ========================================================================
+    // AUXILIARES
+    // ========================================================================
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] b = new byte[in.readInt()];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String s : list) {
+            writeString(out, s);
+        }
+    }
+
+    private static void readStrings(DataInputStream in, List<String> list) throws IOException {
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            list.add(readString(in));
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
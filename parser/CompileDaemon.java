@@ -0,0 +1,350 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Daemon de compilación: mantiene la JVM, las clases de Parser/Scanner y el JIT
+ * calientes y atiende pedidos por un socket de loopback (127.0.0.1).
+ *
+ * Protocolo de texto (UTF-8, una orden por línea):
+ *   COMPILE ruta             compila el archivo y escribe el .asm junto a él
+ *   SOURCE nombre n          compila las n líneas siguientes (el ASM va en la respuesta)
+ *   STATS                    estadísticas de latencia por pedido
+ *   QUIT                     cierra la conexión
+ *   SHUTDOWN                 detiene el daemon
+ *
+ * Respuesta de COMPILE/SOURCE:
+ *   RESULT OK|ERRORES|FALLO ms [CACHE]
+ *   LEX n / SYN n / SEM n    cada uno seguido de n líneas con los errores
+ *   ASMFILE ruta | ASM n     (n líneas de ASM; ASM 0 si se omitió)
+ *   END
+ *
+ * Cada conexión tiene su hilo y las compilaciones concurrentes se limitan a
+ * la cantidad de núcleos, así las conexiones abiertas sin pedidos no dejan
+ * afuera a las demás. Una conexión sin pedidos durante --idle-timeout
+ * segundos (300 por defecto; 0 = sin límite) se cierra.
+ *
+ * Con --cache dir, COMPILE usa CompileCache para los fuentes sin cambios.
+ * Los flags de modo son los de MainParser.parseModeFlag.
+ *
+ * Ejemplo: printf 'COMPILE test_simple.abs\nQUIT\n' | nc 127.0.0.1 7070
+ */
+public class CompileDaemon {
+
+    public static final int DEFAULT_PORT = 7070;
+    public static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+
+    // Programa mínimo para calentar las clases y el JIT antes de aceptar pedidos
+    private static final String WARMUP_SOURCE =
+        "PROGRAM warmup\n" +
+        "VAR\n" +
+        "  a, b : INT;\n" +
+        "BEGIN\n" +
+        "  a := 1;\n" +
+        "  b := a + 2 * 3;\n" +
+        "  IF a = b THEN BEGIN WRITE(a); END ELSE BEGIN WRITE(b); END\n" +
+        "END\n";
+
+    // ========================================================================
+    // ESTADÍSTICAS DE LATENCIA
+    // ========================================================================
+
+    /**
+     * Latencias de los pedidos de compilación. Guarda las últimas
+     * WINDOW muestras para calcular percentiles.
+     */
+    static final class LatencyStats {
+        private static final int WINDOW = 4096;
+
+        private final long[] samples = new long[WINDOW];
+        private long count = 0;
+        private long totalNanos = 0;
+        private long minNanos = Long.MAX_VALUE;
+        private long maxNanos = 0;
+
+        synchronized void record(long nanos) {
+            samples[(int) (count % WINDOW)] = nanos;
+            count++;
+            totalNanos += nanos;
+            minNanos = Math.min(minNanos, nanos);
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        synchronized void print(PrintWriter out) {
+            out.println("COUNT " + count);
+            if (count == 0) {
+                return;
+            }
+            int n = (int) Math.min(count, WINDOW);
+            long[] sorted = Arrays.copyOf(samples, n);
+            Arrays.sort(sorted);
+            out.printf("MEAN_MS %.3f%n", totalNanos / 1e6 / count);
+            out.printf("MIN_MS %.3f%n", minNanos / 1e6);
+            out.printf("P50_MS %.3f%n", percentile(sorted, 0.50) / 1e6);
+            out.printf("P90_MS %.3f%n", percentile(sorted, 0.90) / 1e6);
+            out.printf("P99_MS %.3f%n", percentile(sorted, 0.99) / 1e6);
+            out.printf("MAX_MS %.3f%n", maxNanos / 1e6);
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+        }
+    }
+
+    // ========================================================================
+    // SERVIDOR
+    // ========================================================================
+
+    private final int port;
+    private final CompileCache cache;   // null si no se usa caché
+    private final int idleTimeoutMs;    // 0 = sin límite
+    private final LatencyStats stats = new LatencyStats();
+    // Un hilo por conexión; el estado del compilador es por hilo
+    private final ExecutorService connections = Executors.newCachedThreadPool(CodeGenerator.releasingThreads());
+    private final Semaphore compiles = new Semaphore(Runtime.getRuntime().availableProcessors());
+    private volatile ServerSocket server;
+
+    public CompileDaemon(int port, CompileCache cache, int idleTimeoutSeconds) {
+        this.port = port;
+        this.cache = cache;
+        this.idleTimeoutMs = idleTimeoutSeconds * 1000;
+    }
+
+    /**
+     * Compila el programa de calentamiento varias veces (sin escribir archivos)
+     */
+    public static void warmUp(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            compileSource("warmup.abs", WARMUP_SOURCE, null);
+        }
+    }
+
+    /**
+     * Acepta conexiones hasta recibir SHUTDOWN. Cada conexión se atiende
+     * en su propio hilo; las compilaciones esperan un permiso de compiles.
+     */
+    public void serve() throws IOException {
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        System.out.println("[DAEMON] Escuchando en " + server.getLocalSocketAddress());
+        try {
+            while (!server.isClosed()) {
+                Socket client;
+                try {
+                    client = server.accept();
+                } catch (SocketException e) {
+                    break;  // socket cerrado por SHUTDOWN
+                }
+                connections.submit(() -> handle(client));
+            }
+        } finally {
+            connections.shutdownNow();
+            System.out.println("[DAEMON] Detenido");
+        }
+    }
+
+    /**
+     * Compila con un permiso de compiles (a lo sumo un pedido por núcleo)
+     */
+    private CompileResult limited(Supplier<CompileResult> compile) throws InterruptedException {
+        compiles.acquire();
+        try {
+            return compile.get();
+        } finally {
+            compiles.release();
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket s = client;
+             BufferedReader in = new BufferedReader(
+                 new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                 new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+
+            s.setSoTimeout(idleTimeoutMs);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.trim().split("\\s+", 3);
+                String cmd = parts[0].toUpperCase();
+
+                switch (cmd) {
+                    case "COMPILE" -> {
+                        if (parts.length < 2) {
+                            out.println("ERROR uso: COMPILE ruta");
+                            break;
+                        }
+                        String path = line.trim().substring(cmd.length()).trim();
+                        long start = System.nanoTime();
+                        CompileResult r = limited(() -> MainParser.compile(path, cache));
+                        long elapsed = System.nanoTime() - start;
+                        stats.record(elapsed);
+                        writeResult(out, r, elapsed, null);
+                    }
+                    case "SOURCE" -> {
+                        int n = (parts.length < 3) ? -1 : lineCount(parts[2]);
+                        if (n < 0) {
+                            out.println("ERROR uso: SOURCE nombre n_lineas");
+                            break;
+                        }
+                        StringBuilder src = new StringBuilder();
+                        for (int i = 0; i < n; i++) {
+                            String srcLine = in.readLine();
+                            if (srcLine == null) break;
+                            src.append(srcLine).append('\n');
+                        }
+                        long start = System.nanoTime();
+                        StringWriter asm = new StringWriter();
+                        CompileResult r = limited(() -> compileSource(parts[1], src.toString(), asm));
+                        long elapsed = System.nanoTime() - start;
+                        stats.record(elapsed);
+                        writeResult(out, r, elapsed, asm.toString());
+                    }
+                    case "STATS" -> {
+                        stats.print(out);
+                        if (cache != null) {
+                            out.println("CACHE_HITS " + cache.getHits());
+                            out.println("CACHE_MISSES " + cache.getMisses());
+                            out.println("CACHE_EVICTIONS " + cache.getEvictions());
+                        }
+                        out.println("END");
+                    }
+                    case "QUIT" -> {
+                        out.flush();
+                        return;
+                    }
+                    case "SHUTDOWN" -> {
+                        out.println("BYE");
+                        out.flush();
+                        server.close();
+                        return;
+                    }
+                    case "" -> { }
+                    default -> out.println("ERROR orden desconocida: " + cmd);
+                }
+                out.flush();
+            }
+        } catch (SocketTimeoutException e) {
+            System.err.println("[DAEMON] Conexión cerrada por inactividad");
+        } catch (Exception e) {
+            System.err.println("[DAEMON] Error en conexión: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cantidad de líneas de SOURCE, o -1 si no es un entero no negativo
+     */
+    private static int lineCount(String s) {
+        try {
+            return Math.max(-1, Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Compila un texto en memoria; si asm no es null y no hubo errores,
+     * escribe allí el programa ensamblador.
+     */
+    static CompileResult compileSource(String name, String source, StringWriter asm) {
+        long start = System.nanoTime();
+        CompileResult r = MainParser.analyze(name, source);
+        if (!r.hasErrors()) {
+            CodeGenerator.declareAllGlobalVariables();
+            StringWriter sw = (asm != null ? asm : new StringWriter());
+            CodeGenerator.generate(new PrintWriter(sw), name);
+        }
+        r.elapsedNanos = System.nanoTime() - start;
+        return r;
+    }
+
+    private static void writeResult(PrintWriter out, CompileResult r, long elapsed, String asm) {
+        String estado = (r.failure != null) ? "FALLO" : (r.hasErrors() ? "ERRORES" : "OK");
+        out.printf("RESULT %s %.3f%s%n", estado, elapsed / 1e6, (r.fromCache ? " CACHE" : ""));
+        if (r.failure != null) {
+            out.println("FAILURE " + r.failure);
+        }
+        writeSection(out, "LEX", r.lexicalErrors);
+        writeSection(out, "SYN", r.syntaxErrors);
+        out.println("SEM " + r.semanticErrors.size());
+        for (SemanticAnalyzer.SemanticError e : r.semanticErrors) {
+            out.println(e);
+        }
+        if (asm == null) {
+            out.println("ASMFILE " + (r.asmPath != null ? r.asmPath : "-"));
+        } else if (r.hasErrors() || asm.isEmpty()) {
+            out.println("ASM 0");
+        } else {
+            String[] lines = asm.split("\\R", -1);
+            int n = lines.length;
+            if (n > 0 && lines[n - 1].isEmpty()) n--;  // último salto de línea
+            out.println("ASM " + n);
+            for (int i = 0; i < n; i++) {
+                out.println(lines[i]);
+            }
+        }
+        out.println("END");
+    }
+
+    private static void writeSection(PrintWriter out, String tag, List<String> lines) {
+        out.println(tag + " " + lines.size());
+        for (String l : lines) {
+            out.println(l);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int warmup = 200;
+        String cacheDir = null;
+        long cacheMaxMb = 256;
+        int idleTimeout = DEFAULT_IDLE_TIMEOUT_SECONDS;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--warmup") && i + 1 < args.length) {
+                warmup = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--cache") && i + 1 < args.length) {
+                cacheDir = args[++i];
+            } else if (args[i].equals("--cache-max") && i + 1 < args.length) {
+                cacheMaxMb = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--idle-timeout") && i + 1 < args.length) {
+                idleTimeout = Math.max(0, Integer.parseInt(args[++i]));
+            } else if (!MainParser.parseModeFlag(args[i])) {
+                System.err.println("Uso: java parser.CompileDaemon [--port n] [--warmup iteraciones] [--cache dir] [--cache-max MB] "
+                    + "[--idle-timeout segundos] "
+                    + MainParser.MODE_FLAGS_USAGE);
+                System.exit(1);
+            }
+        }
+
+        long start = System.nanoTime();
+        warmUp(warmup);
+        System.out.printf("[DAEMON] Calentamiento: %d compilaciones en %.1f ms%n",
+            warmup, (System.nanoTime() - start) / 1e6);
+
+        CompileCache cache = (cacheDir != null)
+            ? new CompileCache(Paths.get(cacheDir), cacheMaxMb * 1024 * 1024)
+            : null;
+        new CompileDaemon(port, cache, idleTimeout).serve();
+    }
+}
@@ -0,0 +1,47 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scanner.Lexer;
+
+/**
+ * Resultado de compilar un archivo .abs (P3).
+ * Guarda los errores de cada fase y la ruta del ASM generado,
+ * para poder reportarlos después de la compilación (p.ej. en modo batch).
+ */
+public class CompileResult {
+
+    public final String sourcePath;
+    public final List<String> lexicalErrors = new ArrayList<>();
+    public final List<String> syntaxErrors = new ArrayList<>();
+    public final List<SemanticAnalyzer.SemanticError> semanticErrors = new ArrayList<>();
+
+    public String failure;       // Excepción de IO o de CUP (null si no hubo)
+    public String asmPath;       // Ruta del .asm generado (null si se omitió)
+    public int symbolCount;      // Símbolos en la tabla al terminar
+    public long elapsedNanos;    // Tiempo total de la compilación
+    public boolean fromCache;    // true si se restauró de CompileCache
+    public PhaseMetrics metrics; // Tiempos por fase (null si PhaseMetrics está desactivado)
+
+    // Scanner usado (solo para mostrar los tokens en el reporte de MainParser)
+    Lexer scanner;
+
+    public CompileResult(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    /**
+     * Verifica si hubo errores léxicos, sintácticos o semánticos
+     */
+    public boolean hasErrors() {
+        return !lexicalErrors.isEmpty() || !syntaxErrors.isEmpty() || !semanticErrors.isEmpty();
+    }
+
+    /**
+     * true si no hubo errores ni fallos y se generó el ASM
+     */
+    public boolean isSuccess() {
+        return failure == null && !hasErrors() && asmPath != null;
+    }
+}
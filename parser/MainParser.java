@@ -1,57 +1,501 @@
 package parser;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
+import scanner.FastScanner;
+import scanner.IdentifierTable;
+import scanner.Lexer;
+import scanner.LineTable;
+import scanner.MappedSourceReader;
+import scanner.ParallelLexer;
+import scanner.PipelinedLexer;
 import scanner.Scanner;
+import scanner.TokenBuffer;
+import scanner.TokenStats;
 
 public class MainParser {
 
     private static final boolean SHOW_TOKENS = false;
 
-    public static void run(String sourcePath) {
-        System.out.println("=== Analizando (P3): " + sourcePath + " ===");
+    // Leer los fuentes con FileChannel.map en vez de un BufferedReader (--mmap o -Dabs.mmap=true)
+    private static volatile boolean mappedInput = Boolean.getBoolean("abs.mmap");
+
+    public static void setMappedInput(boolean on) {
+        mappedInput = on;
+    }
+
+    // Usar FastScanner (a mano, sobre bytes) en vez del Scanner de JFlex (--fast-lexer o -Dabs.fastLexer=true)
+    private static volatile boolean fastLexer = Boolean.getBoolean("abs.fastLexer");
+
+    public static void setFastLexer(boolean on) {
+        fastLexer = on;
+    }
+
+    // Pasar los tokens al parser desde un TokenBuffer sobre FastScanner (--token-buffer o -Dabs.tokenBuffer=true)
+    private static volatile boolean tokenBuffer = Boolean.getBoolean("abs.tokenBuffer");
+
+    public static void setTokenBuffer(boolean on) {
+        tokenBuffer = on;
+    }
+
+    // Escanear en paralelo (ParallelLexer) antes de parsear (--parallel-lexer o -Dabs.parallelLexer=true)
+    private static volatile boolean parallelLexer = Boolean.getBoolean("abs.parallelLexer");
+
+    public static void setParallelLexer(boolean on) {
+        parallelLexer = on;
+    }
+
+    // Tokens con offsets y línea/columna resueltas con una LineTable solo cuando
+    // hacen falta; implica FastScanner (--offsets o -Dabs.offsets=true)
+    private static volatile boolean offsetPositions = Boolean.getBoolean("abs.offsets");
+
+    public static void setOffsetPositions(boolean on) {
+        offsetPositions = on;
+    }
+
+    // Escanear en otro hilo, en paralelo con el parser (--pipeline o -Dabs.pipeline=true)
+    private static volatile boolean pipelinedLexer = Boolean.getBoolean("abs.pipeline");
+
+    public static void setPipelinedLexer(boolean on) {
+        pipelinedLexer = on;
+    }
+
+    // Parsear con RecursiveParser; ante un error sintáctico se reanaliza con CUP
+    // (--recursive-parser o -Dabs.recursiveParser=true)
+    private static volatile boolean recursiveParser = Boolean.getBoolean("abs.recursiveParser");
+
+    public static void setRecursiveParser(boolean on) {
+        recursiveParser = on;
+    }
+
+    // Los flags de parseModeFlag, para los mensajes de uso
+    public static final String MODE_FLAGS_USAGE =
+        "[--mmap] [--fast-lexer] [--token-buffer] [--parallel-lexer] [--pipeline] [--offsets] [--recursive-parser] [--stream-asm]";
+
+    /**
+     * Aplica un flag de modo, común a todos los puntos de entrada (MainParser,
+     * BatchCompiler, SyntaxChecker, CompileDaemon y WatchCompiler):
+     *   --mmap              los fuentes se leen mapeados en memoria (MappedSourceReader)
+     *   --fast-lexer        FastScanner en vez del Scanner de JFlex
+     *   --token-buffer      el parser lee los tokens de un TokenBuffer (sobre FastScanner)
+     *   --parallel-lexer    cada fuente grande se escanea en paralelo (ParallelLexer)
+     *   --pipeline          el scanner corre en su propio hilo (PipelinedLexer)
+     *   --offsets           tokens con offsets y líneas de una LineTable (implica FastScanner)
+     *   --recursive-parser  RecursiveParser; los fuentes con errores sintácticos los reanaliza CUP
+     *   --stream-asm        el ASM se escribe en streaming (ver AsmSection)
+     * Retorna false si arg no es un flag de modo.
+     */
+    public static boolean parseModeFlag(String arg) {
+        switch (arg) {
+            case "--mmap" -> setMappedInput(true);
+            case "--fast-lexer" -> setFastLexer(true);
+            case "--token-buffer" -> setTokenBuffer(true);
+            case "--parallel-lexer" -> setParallelLexer(true);
+            case "--pipeline" -> setPipelinedLexer(true);
+            case "--offsets" -> setOffsetPositions(true);
+            case "--recursive-parser" -> setRecursiveParser(true);
+            case "--stream-asm" -> CodeGenerator.setStreamingOutput(true);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Abre el fuente para el scanner según el modo de lectura configurado
+     */
+    static Reader openSource(String sourcePath) throws IOException {
+        Path path = Paths.get(sourcePath);
+        if (mappedInput) {
+            return MappedSourceReader.open(path);
+        }
+        return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lexer según el modo configurado: sobre los bytes del fuente si data no
+     * es null, si no el Scanner de JFlex sobre in. Con lineas, un
+     * FastScanner con posiciones por offset.
+     */
+    private static Lexer newLexer(Reader in, byte[] data, LineTable lineas) throws IOException {
+        if (data == null) {
+            return new Scanner(in);     // scanner de JFlex
+        }
+        if (parallelLexer) {
+            return ParallelLexer.scan(data).reader();
+        }
+        FastScanner fast = new FastScanner(data);
+        if (tokenBuffer) {
+            return new TokenBuffer(fast).reader();
+        }
+        fast.setLineTable(lineas);
+        return fast;
+    }
+
+    /**
+     * La LineTable de data si los tokens llevan offsets (TokenBuffer y
+     * ParallelLexer ya guardan la línea de cada token)
+     */
+    private static LineTable lineTableFor(byte[] data) {
+        return (offsetPositions && !tokenBuffer && !parallelLexer) ? new LineTable(data) : null;
+    }
+
+    /**
+     * newLexer, en su propio hilo con --pipeline y sin la tabla de tokens
+     * si no se va a mostrar
+     */
+    private static Lexer openLexer(Reader in, byte[] data, LineTable lineas) throws IOException {
+        Lexer sc;
+        if (pipelinedLexer) {
+            sc = new PipelinedLexer(() -> newLexer(in, data, lineas));   // el lexer corre en su propio hilo
+        } else {
+            sc = newLexer(in, data, lineas);
+        }
+        if (!SHOW_TOKENS) {
+            sc.setTokenStats(TokenStats.NONE);   // la tabla de tokens no se muestra
+        }
+        return sc;
+    }
+
+    /**
+     * Análisis completo (scanner + parser + acciones semánticas) de un archivo.
+     * Usa el estado semántico del hilo actual, que se reinicia al empezar.
+     */
+    static CompileResult analyze(String sourcePath) {
+        return analyze(sourcePath, null);
+    }
+
+    /**
+     * Igual que analyze(sourcePath), pero si source no es null se analiza
+     * ese texto en memoria y sourcePath solo se usa como nombre.
+     */
+    static CompileResult analyze(String sourcePath, String source) {
+        // Con --metrics se queda CUP: PhaseMetrics cronometra sus reducciones
+        if (recursiveParser && !PhaseMetrics.isEnabled()) {
+            CompileResult result = analyze(sourcePath, source, true);
+            if (result != null) {
+                return result;
+            }
+            // Error sintáctico: CUP lo analiza desde cero, con su recuperación de errores
+        }
+        return analyze(sourcePath, source, false);
+    }
+
+    /**
+     * Con recursivo, parsea con RecursiveParser, corre SemanticPass y
+     * CodeGenPass sobre el árbol y devuelve null si encuentra un error
+     * sintáctico o el análisis falla (el estado semántico queda a medias
+     * hasta el próximo análisis, que lo reinicia)
+     */
+    private static CompileResult analyze(String sourcePath, String source, boolean recursivo) {
+        CompileResult result = new CompileResult(sourcePath);
+        PhaseMetrics metrics = PhaseMetrics.isEnabled() ? new PhaseMetrics(sourcePath) : null;
+        long start = System.nanoTime();
 
     // reset de estructuras semánticas y generador
         SymbolTable.reset();
         SemanticAnalyzer.reset();
-        CodeGenerator.reset(); 
-        SemanticStack.reset(); 
+        SemanticAnalyzer.setDeferredReport(recursivo);   // los errores se muestran solo si el intento sale bien
+        CodeGenerator.reset();
+        SemanticStack.reset();
+        Trace.reset();
+        IdentifierTable.reset();
 
-        Scanner sc = null;
+        Lexer sc = null;
         Parser p = null;
 
-        // 1) Construir scanner y parser
-        try (BufferedReader br = Files.newBufferedReader(Paths.get(sourcePath), StandardCharsets.UTF_8)) {
+        // 1) Construir scanner y parser (FastScanner, TokenBuffer y ParallelLexer no usan Reader)
+        boolean bytes = fastLexer || tokenBuffer || parallelLexer || offsetPositions;
+        try (Reader br = bytes ? null
+                : (source != null) ? new BufferedReader(new StringReader(source))
+                : openSource(sourcePath)) {
 
-            sc = new Scanner(br);   // scanner de JFlex
-            p  = new Parser(sc);    // parser de CUP
+            byte[] data = null;
+            if (bytes) {
+                data = (source != null)
+                    ? source.getBytes(StandardCharsets.UTF_8)
+                    : Files.readAllBytes(Paths.get(sourcePath));
+                if (metrics != null) {
+                    metrics.countSource(data);
+                }
+            }
+            Reader in = (br == null || metrics == null) ? br : metrics.countingReader(br);
+            LineTable lineas = lineTableFor(data);
+            sc = openLexer(in, data, lineas);
+            if (recursivo) {
+                RecursiveParser rd = new RecursiveParser(sc);
+                rd.setLineTable(lineas);
+                try {
+                    if (!rd.parse()) {
+                        return null;
+                    }
+                    // Las acciones corren sobre el árbol: primero la semántica, después el código
+                    SemanticPass.run(rd.getAst());
+                    CodeGenPass.run(rd.getAst());
+                } catch (Exception ex) {
+                    return null;    // CUP lo vuelve a intentar y registra la falla
+                } finally {
+                    if (sc instanceof PipelinedLexer pipelined) {
+                        pipelined.close();
+                    }
+                }
+                SemanticAnalyzer.reportDeferred();
+                return finish(result, sc, null, metrics, start);
+            }
+            if (metrics == null) {
+                p = new Parser(sc);     // parser de CUP
+            } else {
+                p = new PhaseMetrics.TimedParser(metrics.timedScanner(sc), metrics);
+            }
+            p.setLineTable(lineas);
 
+            long parseStart = System.nanoTime();
             try {
                 p.parse();          // corre el análisis sintáctico
             } catch (Exception ex) {
                 System.err.println("[ABORT] CUP lanzó una excepción: " + ex.getMessage());
+                result.failure = "CUP: " + ex.getMessage();
+            } finally {
+                if (sc instanceof PipelinedLexer pipelined) {
+                    pipelined.close();      // si el parser no llegó al EOF
+                }
+            }
+            if (metrics != null) {
+                metrics.parseNanos = System.nanoTime() - parseStart;
             }
 
         } catch (Exception e) {
+            if (recursivo) {
+                return null;
+            }
             System.err.println("[IO/RUN] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            result.failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return finish(result, sc, p, metrics, start);
+    }
+
+    /**
+     * Solo los errores léxicos y sintácticos de un archivo (o de source, si
+     * no es null): el parser de CUP corre sin acciones semánticas
+     * (SyntaxChecker.SyntaxParser), así que no se llena la tabla de símbolos
+     * ni se genera código. Con --recursive-parser se prueba antes con
+     * RecursiveParser y CUP solo reanaliza los que tienen errores.
+     */
+    static CompileResult checkSyntax(String sourcePath, String source) {
+        if (recursiveParser) {
+            CompileResult result = checkSyntax(sourcePath, source, true);
+            if (result != null) {
+                return result;
+            }
+        }
+        return checkSyntax(sourcePath, source, false);
+    }
+
+    /**
+     * Con recursivo, devuelve null si RecursiveParser no acepta el fuente
+     */
+    private static CompileResult checkSyntax(String sourcePath, String source, boolean recursivo) {
+        CompileResult result = new CompileResult(sourcePath);
+        long start = System.nanoTime();
+        IdentifierTable.reset();
+
+        Lexer sc = null;
+        Parser p = null;
+        boolean bytes = fastLexer || tokenBuffer || parallelLexer || offsetPositions;
+        try (Reader in = bytes ? null
+                : (source != null) ? new BufferedReader(new StringReader(source))
+                : openSource(sourcePath)) {
+
+            byte[] data = null;
+            if (bytes) {
+                data = (source != null)
+                    ? source.getBytes(StandardCharsets.UTF_8)
+                    : Files.readAllBytes(Paths.get(sourcePath));
+            }
+            LineTable lineas = lineTableFor(data);
+            sc = openLexer(in, data, lineas);
+            try {
+                if (recursivo) {
+                    RecursiveParser rd = new RecursiveParser(sc);
+                    rd.setLineTable(lineas);
+                    if (!rd.parse()) {
+                        return null;
+                    }
+                } else {
+                    p = new SyntaxChecker.SyntaxParser(sc);
+                    p.setLineTable(lineas);
+                    try {
+                        p.parse();
+                    } catch (Exception ex) {
+                        result.failure = "CUP: " + ex.getMessage();
+                    }
+                }
+            } finally {
+                if (sc instanceof PipelinedLexer pipelined) {
+                    pipelined.close();
+                }
+            }
+        } catch (Exception e) {
+            if (recursivo) {
+                return null;
+            }
+            result.failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        if (sc != null && sc.getErrores() != null) {
+            result.lexicalErrors.addAll(sc.getErrores());
+        }
+        if (p != null && p.getErroresSintacticos() != null) {
+            result.syntaxErrors.addAll(p.getErroresSintacticos());
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Junta en result los errores de las tres fases y la tabla de símbolos
+     */
+    private static CompileResult finish(CompileResult result, Lexer sc, Parser p, PhaseMetrics metrics, long start) {
+        result.scanner = sc;
+        if (sc != null && sc.getErrores() != null) {
+            result.lexicalErrors.addAll(sc.getErrores());
         }
+        if (p != null && p.getErroresSintacticos() != null) {
+            result.syntaxErrors.addAll(p.getErroresSintacticos());
+        }
+        result.semanticErrors.addAll(SemanticAnalyzer.getErrors());
+        result.symbolCount = SymbolTable.size();
+        if (metrics != null) {
+            metrics.symbols = result.symbolCount;
+            metrics.totalNanos = System.nanoTime() - start;
+            result.metrics = metrics;
+        }
+        return result;
+    }
+
+    /**
+     * Ruta del .asm que corresponde a un fuente (misma carpeta, extensión .asm)
+     */
+    static Path asmPathFor(String sourcePath) {
+        Path srcPath = Paths.get(sourcePath);
+        String baseName = srcPath.getFileName().toString();
+        int dot = baseName.lastIndexOf('.');
+        if (dot != -1) {
+            baseName = baseName.substring(0, dot);
+        }
+        return srcPath.resolveSibling(baseName + ".asm");
+    }
+
+    /**
+     * Genera el archivo ASM junto al fuente si no hubo errores.
+     * Debe llamarse en el mismo hilo que hizo analyze().
+     */
+    static void generateAsm(CompileResult result) {
+        if (result.hasErrors()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Path outPath = asmPathFor(result.sourcePath);
+
+            CodeGenerator.declareAllGlobalVariables();
+            CodeGenerator.generateFile(outPath.toString());
+            result.asmPath = outPath.toString();
+        } catch (Exception e) {
+            System.err.println("[CODE GEN] Error al generar ASM: " + e.getMessage());
+        }
+        if (result.metrics != null) {
+            result.metrics.codegenNanos = System.nanoTime() - start;
+            result.metrics.totalNanos += result.metrics.codegenNanos;
+        }
+    }
+
+    /**
+     * Compila un archivo sin imprimir el reporte (usado por el modo batch).
+     */
+    public static CompileResult compile(String sourcePath) {
+        long start = System.nanoTime();
+        CompileResult result = analyze(sourcePath);
+        generateAsm(result);
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Compila el contenido ya leído de un fuente (sourcePath da el nombre y
+     * la ruta del .asm)
+     */
+    public static CompileResult compile(String sourcePath, byte[] source) {
+        long start = System.nanoTime();
+        CompileResult result = analyze(sourcePath, new String(source, StandardCharsets.UTF_8));
+        generateAsm(result);
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Compila usando la caché: si el contenido del fuente ya se compiló,
+     * restaura el .asm y los errores sin correr scanner ni parser.
+     */
+    public static CompileResult compile(String sourcePath, CompileCache cache) {
+        if (cache == null) {
+            return compile(sourcePath);
+        }
+        long start = System.nanoTime();
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(Paths.get(sourcePath));
+        } catch (IOException e) {
+            return compile(sourcePath);  // el camino normal reporta el error de IO
+        }
+
+        String key = cache.keyFor(bytes);
+        CompileResult result = cache.restore(key, sourcePath, asmPathFor(sourcePath));
+        if (result == null) {
+            result = analyze(sourcePath, new String(bytes, StandardCharsets.UTF_8));
+            generateAsm(result);
+            cache.store(key, result);
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Ruta del reporte JSON de métricas (misma carpeta, extensión .metrics.json)
+     */
+    static Path metricsPathFor(String sourcePath) {
+        Path asm = asmPathFor(sourcePath);
+        String name = asm.getFileName().toString();
+        return asm.resolveSibling(name.substring(0, name.length() - 4) + ".metrics.json");
+    }
+
+    public static void run(String sourcePath) {
+        System.out.println("=== Analizando (P3): " + sourcePath + " ===");
+
+        CompileResult result = analyze(sourcePath);
 
         System.out.println();
 
         // 2) (Opcional) mostrar tokens aceptados por el scanner
-        if (SHOW_TOKENS && sc != null) {
+        if (SHOW_TOKENS && result.scanner != null) {
             System.out.println("=== TOKENS ACEPTADOS (scanner) ===");
-            sc.imprimirTokens();
+            result.scanner.imprimirTokens();
             System.out.println();
         }
 
         // 3) Errores léxicos
         System.out.println("=== ERRORES LEXICOS ===");
-        if (sc != null && !sc.getErrores().isEmpty()) {
-            for (String err : sc.getErrores()) {
+        if (!result.lexicalErrors.isEmpty()) {
+            for (String err : result.lexicalErrors) {
                 System.out.println(err);
             }
         } else {
@@ -61,8 +505,8 @@ public class MainParser {
 
         // 4) Errores sintácticos
         System.out.println("=== ERRORES SINTACTICOS ===");
-        if (p != null && !p.getErroresSintacticos().isEmpty()) {
-            for (String err : p.getErroresSintacticos()) {
+        if (!result.syntaxErrors.isEmpty()) {
+            for (String err : result.syntaxErrors) {
                 System.out.println(err);
             }
         } else {
@@ -79,37 +523,80 @@ public class MainParser {
         SymbolTable.print();
 
         // 7) Generar archivo ASM si no hay errores
-        boolean hasLexErrors = (sc != null && sc.getErrores() != null && !sc.getErrores().isEmpty());
-        boolean hasSynErrors = (p != null && p.getErroresSintacticos() != null && !p.getErroresSintacticos().isEmpty());
-        boolean hasSemErrors = SemanticAnalyzer.hasErrors();
+        generateAsm(result);
+        if (result.asmPath != null) {
+            System.out.println("[CODE GEN] Archivo ASM generado: " + result.asmPath);
+        } else if (result.hasErrors()) {
+            System.out.println("[CODE GEN] Se omite generacion de ASM por errores detectados.");
+        }
 
-        if (!hasLexErrors && !hasSynErrors && !hasSemErrors) {
+        // 8) Métricas por fase (solo con --metrics)
+        if (result.metrics != null) {
+            result.metrics.print();
+            Path jsonPath = metricsPathFor(sourcePath);
             try {
-                java.nio.file.Path srcPath = Paths.get(sourcePath);
-                String baseName = srcPath.getFileName().toString();
-                int dot = baseName.lastIndexOf('.');
-                if (dot != -1) {
-                    baseName = baseName.substring(0, dot);
-                }
-                java.nio.file.Path outPath = srcPath.resolveSibling(baseName + ".asm");
-
-                CodeGenerator.declareAllGlobalVariables();
-                CodeGenerator.generateFile(outPath.toString());
-                System.out.println("[CODE GEN] Archivo ASM generado: " + outPath);
-            } catch (Exception e) {
-                System.err.println("[CODE GEN] Error al generar ASM: " + e.getMessage());
+                Files.writeString(jsonPath, result.metrics.toJson() + "\n", StandardCharsets.UTF_8);
+                System.out.println("[METRICS] JSON: " + jsonPath);
+            } catch (IOException e) {
+                System.err.println("[METRICS] No se pudo escribir " + jsonPath + ": " + e.getMessage());
             }
-        } else {
-            System.out.println("[CODE GEN] Se omite generacion de ASM por errores detectados.");
         }
 
         System.out.println("=== Fin del analisis P3 ===");
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args != null && args.length > 0 && args[0].equals("--batch")) {
+            BatchCompiler.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args != null && args.length > 0 && args[0].equals("--daemon")) {
+            CompileDaemon.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args != null && args.length > 0 && args[0].equals("--check")) {
+            SyntaxChecker.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args != null && args.length > 0 && args[0].equals("--watch")) {
+            WatchCompiler.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        String traceFile = null;
+        boolean tracing = false;
+        while (args != null && args.length > 0 && args[0].startsWith("--")) {
+            if (args[0].equals("--metrics")) {
+                PhaseMetrics.setEnabled(true);
+            } else if (parseModeFlag(args[0])) {
+                // flag de modo aplicado
+            } else if (args[0].equals("--trace-file") && args.length > 1) {
+                args = Arrays.copyOfRange(args, 1, args.length);
+                traceFile = args[0];
+            } else if (args[0].equals("--trace") || args[0].startsWith("--trace=")) {
+                // --trace[=NIVEL[:CATEGORIAS]], p.ej. --trace=DEBUG:SYMTAB,SCOPE
+                int eq = args[0].indexOf('=');
+                Trace.configure(eq != -1 ? args[0].substring(eq + 1) : "DEBUG");
+                tracing = true;
+            } else {
+                break;
+            }
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+
         String path = (args != null && args.length > 0)
                         ? args[0]
                         : "parser/testFile.abs";
         run(path);
+
+        if (tracing) {
+            if (traceFile != null) {
+                Trace.dumpToFile(Paths.get(traceFile));
+                System.out.println("[TRACE] Eventos guardados en: " + traceFile);
+            } else {
+                System.out.println("\n=== TRAZA ===");
+                Trace.dump(System.out);
+            }
+        }
     }
 }
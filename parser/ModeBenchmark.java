@@ -0,0 +1,145 @@
+package parser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Partes comunes de los benchmarks del análisis sobre programas generados
+ * (ParserBenchmark, PipelineBenchmark y AstBenchmark): las opciones de línea
+ * de comandos, los programas de ProgramGenerator y la comparación del
+ * análisis completo con un modo de MainParser apagado y prendido.
+ *
+ * Los programas salen con semilla fija y se analizan desde memoria, así que
+ * no se mide IO. Los tiempos son la mediana de las mediciones.
+ */
+final class ModeBenchmark {
+
+    static final String USO = "[--lines n,n,...] [--warmup n] [--iter n] [--seed s] [--lexer jflex|fast]";
+
+    /**
+     * Opciones comunes; las que pasa el constructor son los valores por
+     * defecto de cada benchmark
+     */
+    static final class Options {
+        long[] sizes;
+        int warmup;
+        int iterations;
+        long seed = 1;
+        String lexer = "jflex";
+
+        Options(long[] sizes, int warmup, int iterations) {
+            this.sizes = sizes;
+            this.warmup = warmup;
+            this.iterations = iterations;
+        }
+
+        boolean fastLexer() {
+            return lexer.equals("fast");
+        }
+
+        /**
+         * Lee args; con una opción desconocida imprime el uso del benchmark
+         * y termina
+         */
+        Options parse(String[] args, String benchmark) {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--lines" -> sizes = Arrays.stream(args[++i].split(",")).mapToLong(Long::parseLong).toArray();
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    case "--iter" -> iterations = Math.max(1, Integer.parseInt(args[++i]));
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--lexer" -> lexer = args[++i];
+                    default -> {
+                        System.err.println("Uso: java parser." + benchmark + " " + USO);
+                        System.exit(1);
+                    }
+                }
+            }
+            return this;
+        }
+    }
+
+    private ModeBenchmark() {
+    }
+
+    /**
+     * Programa generado de unas lines líneas
+     */
+    static String program(long lines, long seed) throws IOException {
+        ProgramGenerator.Options opt = new ProgramGenerator.Options();
+        opt.lines = lines;
+        opt.seed = seed;
+        StringWriter w = new StringWriter();
+        ProgramGenerator.generate(opt, w);
+        return w.toString();
+    }
+
+    /**
+     * Mediana de ms de analyze() sobre source con el modo apagado [0] y
+     * prendido [1]. Los modos se alternan en cada medición para que el JIT
+     * y el GC no favorezcan al que corre después.
+     */
+    private static double[] measure(String source, Consumer<Boolean> setMode, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            for (int mode = 0; mode < 2; mode++) {
+                setMode.accept(mode == 1);
+                check(MainParser.analyze("bench.abs", source));
+            }
+        }
+        double[][] ms = new double[2][iterations];
+        for (int i = 0; i < iterations; i++) {
+            for (int mode = 0; mode < 2; mode++) {
+                setMode.accept(mode == 1);
+                long t0 = System.nanoTime();
+                CompileResult r = MainParser.analyze("bench.abs", source);
+                ms[mode][i] = (System.nanoTime() - t0) / 1e6;
+                check(r);
+            }
+        }
+        Arrays.sort(ms[0]);
+        Arrays.sort(ms[1]);
+        return new double[] { ms[0][iterations / 2], ms[1][iterations / 2] };
+    }
+
+    /**
+     * Los programas generados no tienen errores: si aparecen, la medición no sirve
+     */
+    private static void check(CompileResult r) {
+        if (r.failure != null || r.hasErrors()) {
+            throw new IllegalStateException("el programa generado tiene errores: "
+                + (r.failure != null ? r.failure : r.lexicalErrors + " " + r.syntaxErrors + " " + r.semanticErrors));
+        }
+    }
+
+    /**
+     * Tabla de ms y MB/s del análisis completo con el modo apagado (columna
+     * a) y prendido (columna b) para cada tamaño, y la aceleración; al
+     * terminar deja el modo apagado
+     */
+    static void compare(Options opt, Consumer<Boolean> setMode, String titulo, String a, String b)
+            throws IOException {
+        MainParser.setFastLexer(opt.fastLexer());
+
+        System.out.printf("Scanner %s, %d núcleos, semilla %d, %d calentamientos, %d mediciones%n",
+            opt.lexer, Runtime.getRuntime().availableProcessors(), opt.seed, opt.warmup, opt.iterations);
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("              ANÁLISIS COMPLETO: " + titulo);
+        System.out.println("=".repeat(80));
+        System.out.printf("%-10s %8s %12s %10s %12s %10s %10s%n",
+            "Líneas", "KB", a + " ms", "MB/s", b + " ms", "MB/s", "acel.");
+        System.out.println("-".repeat(80));
+        for (long lines : opt.sizes) {
+            String source = program(lines, opt.seed);
+            double mb = source.length() / (1024.0 * 1024.0);
+
+            double[] ms = measure(source, setMode, opt.warmup, opt.iterations);
+            System.out.printf(Locale.ROOT, "%-10d %8d %12.1f %10.2f %12.1f %10.2f %9.2fx%n",
+                lines, source.length() / 1024, ms[0], mb / (ms[0] / 1000), ms[1], mb / (ms[1] / 1000), ms[0] / ms[1]);
+        }
+        System.out.println("=".repeat(80));
+        setMode.accept(false);
+    }
+}
@@ -34,7 +34,7 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** Production table. */
   protected static final short _production_table[][] = 
-    unpackFromStrings(new String[] {
+    tabla(TableImage.PRODUCTION, new String[] {
     "\000\227\000\002\002\004\000\002\002\003\000\002\003" +
     "\007\000\002\003\010\000\002\003\007\000\002\003\003" +
     "\000\002\004\004\000\002\004\002\000\002\005\003\000" +
@@ -88,7 +88,7 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** Parse-action table. */
   protected static final short[][] _action_table = 
-    unpackFromStrings(new String[] {
+    tabla(TableImage.ACTION, new String[] {
     "\000\u0152\000\006\003\005\050\007\001\002\000\004\002" +
     "\000\001\002\000\004\002\ufffc\001\002\000\004\002\u0154" +
     "\001\002\000\006\003\010\134\011\001\002\000\014\003" +
@@ -528,7 +528,7 @@ public class Parser extends java_cup.runtime.lr_parser {
 
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
-    unpackFromStrings(new String[] {
+    tabla(TableImage.REDUCE, new String[] {
     "\000\u0152\000\006\002\005\003\003\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\004\004\u0150\001\001\000\004\004\012\001\001\000" +
@@ -795,8 +795,8 @@ public class Parser extends java_cup.runtime.lr_parser {
         
         if (info instanceof Symbol) {
             Symbol s = (Symbol)info;
-            int line = (s.left >= 0 ? s.left + 1 : 1);
-            int column = (s.right >= 0 ? s.right + 1 : 1);
+            int line = linea(s);
+            int column = columna(s);
             
             String errorMsg = String.format("Linea %d, Columna %d: %s", line, column, message);
             
@@ -816,9 +816,52 @@ public class Parser extends java_cup.runtime.lr_parser {
         report_error("Error fatal: " + message, info);
     }
     
+    // Tablas de CUP desde la imagen de TableImage; si no hay imagen o es de
+    // otra version de la gramatica, se decodifican los strings como siempre
+    // (TableGen --patch hace que las tablas de arriba pasen por aca)
+    private static short[][] tabla(int seccion, String[] packed) {
+        short[][] t = TableImage.shortTable(seccion, packed);
+        return (t != null) ? t : unpackFromStrings(packed);
+    }
+
+    // Con posiciones por offset (FastScanner.setLineTable) left y right son
+    // offsets, y la linea y la columna se resuelven recien aca con la tabla
+    private scanner.LineTable lineas;
+
+    public void setLineTable(scanner.LineTable lineas) {
+        this.lineas = lineas;
+    }
+
+    // Linea (desde 1) de un simbolo; 1 si no tiene posicion
+    public int linea(Symbol s) {
+        if (s.left < 0) {
+            return 1;
+        }
+        return (lineas != null) ? lineas.line(s.left) + 1 : s.left + 1;
+    }
+
+    // Columna (desde 1) de un simbolo; 1 si no tiene posicion
+    public int columna(Symbol s) {
+        if (lineas != null) {
+            return (s.left >= 0) ? lineas.column(s.left) + 1 : 1;
+        }
+        return (s.right >= 0) ? s.right + 1 : 1;
+    }
+
+    // Texto de un token para los mensajes; los de TokenBuffer lo arman recien aca
+    private String textoToken(Symbol s) {
+        if (s.value != null) {
+            return s.value.toString();
+        }
+        if (s instanceof scanner.TokenBuffer.Token) {
+            return ((scanner.TokenBuffer.Token) s).lexeme();
+        }
+        return "fin de archivo";
+    }
+
     // Metodo mejorado con mensajes mas descriptivos
     public void syntax_error(Symbol cur_token) {
-        String tokenValue = (cur_token.value != null ? cur_token.value.toString() : "fin de archivo");
+        String tokenValue = textoToken(cur_token);
         String errorMsg = String.format(
             "Token inesperado '%s'. Verifique la sintaxis del programa", 
             tokenValue
@@ -827,7 +870,7 @@ public class Parser extends java_cup.runtime.lr_parser {
     }
     
     public void unrecovered_syntax_error(Symbol cur_token) {
-        String tokenValue = (cur_token.value != null ? cur_token.value.toString() : "fin de archivo");
+        String tokenValue = textoToken(cur_token);
         String errorMsg = String.format(
             "Error de sintaxis irrecuperable en '%s'. El analisis no puede continuar desde este punto", 
             tokenValue
@@ -976,22 +1019,7 @@ class CUP$Parser$actions {
 		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		String t = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		
-        // Para cada identificador declarado, lo agregamos a la tabla de sÃ­mbolos
-        for (IdInfo id : ids) {
-            boolean ok = SymbolTable.addVariable(id.name, t, id.line);
-            if (!ok) {
-                // Variable doblemente definida en el mismo Ã¡mbito
-                SemanticAnalyzer.addError(
-                    id.line,
-                    "Variable '" + id.name + "' ya esta definida en el ambito " + SymbolTable.getCurrentScope(),
-                    "DOBLE_DEFINICION"
-                );
-            }
-        }
-        // Declarar variables globales en el generador de cÃ³digo
-        for (IdInfo id : ids) {
-            CodeGenerator.declareGlobalVariable(id.name, t);
-        }
+        SemanticActions.declareVariables(ids, t);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("declaracion_variable_global",4, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1035,7 +1063,7 @@ class CUP$Parser$actions {
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
 
         String name = id; // el lexema (String, porque terminal String IDENTIFICADOR)
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
+        int line = parser.linea(idSym);
 
         list.add(new IdInfo(name, line));
 
@@ -1070,7 +1098,7 @@ class CUP$Parser$actions {
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
 
         String name = id;
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
+        int line = parser.linea(idSym);
 
         list.add(new IdInfo(name, line));
 
@@ -1139,39 +1167,7 @@ class CUP$Parser$actions {
         // parametros (top-3), ')' (top-2), ':' (top-1), tipo (top-0)
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        // Convertir ParamInfo -> listas de nombres y tipos
-        java.util.List<String> paramNames = new java.util.ArrayList<>();
-        java.util.List<String> paramTypes = new java.util.ArrayList<>();
-        for (ParamInfo p : plist) {
-            paramNames.add(p.name);
-            paramTypes.add(p.type);
-        }
-
-        boolean ok = SymbolTable.addFunction(id, line, paramNames, paramTypes, t);
-        if (!ok) {
-            SemanticAnalyzer.addError(
-                line,
-                "Funcion '" + id + "' ya esta definida en el ambito GLOBAL",
-                "DOBLE_DEFINICION_FUNCION"
-            );
-        }
-
-        // Abrir scope para la funciÃ³n
-        SymbolTable.enterScope(id);
-
-        // Insertar parÃ¡metros como variables del scope de la funciÃ³n
-        for (ParamInfo p : plist) {
-            boolean okVar = SymbolTable.addVariable(p.name, p.type, p.line);
-            if (!okVar) {
-                SemanticAnalyzer.addError(
-                    p.line,
-                    "Parametro '" + p.name + "' ya esta definido en el ambito de la funcion '" + id + "'",
-                    "DOBLE_DEFINICION"
-                );
-            }
-        }
+        SemanticActions.beginFunction(id, parser.linea(idSym), plist, t);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$0",41, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1275,7 +1271,7 @@ class CUP$Parser$actions {
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
 
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
+        int line = parser.linea(idSym);
 
         list.add(new ParamInfo(id, t, line));
 
@@ -1320,7 +1316,7 @@ class CUP$Parser$actions {
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
 
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
+        int line = parser.linea(idSym);
 
         list.add(new ParamInfo(id, t, line));
 
@@ -1406,55 +1402,10 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		
-        // LÃ­nea del identificador del "retorno"
+        // Linea del identificador del "retorno"
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        // Resultado de la expresiÃ³n de retorno
-        SemanticStack.StackEntry expr = null;
-        if (SemanticStack.size() > 0) {
-            expr = SemanticStack.pop();
-        }
-
-        // Nombre del scope actual (deberÃ­a ser el nombre de la funciÃ³n)
-        String currentScope = SymbolTable.getCurrentScope();
-
-        // 1) Verificar que se estÃ¡ retornando a la funciÃ³n correcta
-        if (!id.equals(currentScope)) {
-            SemanticAnalyzer.addError(
-                line,
-                "El retorno debe asignarse al identificador de la funcion '" +
-                currentScope + "', no a '" + id + "'",
-                "RETORNO_INVALIDO"
-            );
-        }
-
-        // 2) Verificar tipo de retorno vs tipo de la función
-        SymbolTable.Symbol funSym = SymbolTable.lookupInScope(currentScope, "GLOBAL");
-        if (funSym != null && expr != null && !expr.type.equals("ERROR")) {
-
-            boolean compatible =
-                   funSym.type.equals(expr.type)
-                || (funSym.type.equals("REAL") && expr.type.equals("INT"));
-
-            if (!compatible) {
-                SemanticAnalyzer.addError(
-                    line,
-                    "Tipo de retorno incompatible en funcion '" + currentScope +
-                    "': se esperaba " + funSym.type +
-                    " pero se obtuvo " + expr.type,
-                    "TIPO_RETORNO_INCOMPATIBLE"
-                );
-            } else {
-                // Código intermedio para el retorno: nombreFuncion = valor
-                if (expr.isConst && expr.type.equals("INT")) {
-                    CodeGenerator.emitAssignmentConst(currentScope, expr.getIntValue());
-                } else {
-                    CodeGenerator.emitAssignment(currentScope, expr.value);
-                }
-            }
-        }
+        SemanticActions.functionReturn(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("retorno",12, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1503,37 +1454,7 @@ class CUP$Parser$actions {
 
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        java.util.List<String> paramNames = new java.util.ArrayList<>();
-        java.util.List<String> paramTypes = new java.util.ArrayList<>();
-        for (ParamInfo p : plist) {
-            paramNames.add(p.name);
-            paramTypes.add(p.type);
-        }
-
-        boolean ok = SymbolTable.addProcedure(id, line, paramNames, paramTypes);
-        if (!ok) {
-            SemanticAnalyzer.addError(
-                line,
-                "Procedimiento '" + id + "' ya esta definido en el ambito GLOBAL",
-                "DOBLE_DEFINICION_PROCEDURE"
-            );
-        }
-
-        SymbolTable.enterScope(id);
-
-        // Insertar parÃ¡metros como variables del scope del procedimiento
-        for (ParamInfo p : plist) {
-            boolean okVar = SymbolTable.addVariable(p.name, p.type, p.line);
-            if (!okVar) {
-                SemanticAnalyzer.addError(
-                    p.line,
-                    "Parametro '" + p.name + "' ya esta definido en el ambito del procedimiento '" + id + "'",
-                    "DOBLE_DEFINICION"
-                );
-            }
-        }
+        SemanticActions.beginProcedure(id, parser.linea(idSym), plist);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("NT$1",42, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1647,47 +1568,9 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
 		
-        // LÃ­nea del identificador
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        // Resultado de la expresiÃ³n en la pila semÃ¡ntica
-        SemanticStack.StackEntry expr = null;
-        if (SemanticStack.size() > 0) {
-            expr = SemanticStack.pop();
-        }
-
-        // Buscar la variable en la tabla de sÃ­mbolos
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida en un ambito visible",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (expr != null && !expr.type.equals("ERROR")) {
-            // Compatibilidad simple de tipos
-            boolean compatible =
-                   sym.type.equals(expr.type)
-                || (sym.type.equals("REAL") && expr.type.equals("INT")); // INT -> REAL permitido
-
-            if (!compatible) {
-                SemanticAnalyzer.addError(
-                    line,
-                    "Tipos incompatibles en asignacion: no se puede asignar " +
-                    expr.type + " a variable de tipo " + sym.type,
-                    "TIPOS_INCOMPATIBLES"
-                );
-            } else {
-                // CÃ³digo intermedio: id = expr.value
-                if (expr.isConst && expr.type.equals("INT")) {
-                    CodeGenerator.emitAssignmentConst(id, expr.getIntValue());
-                } else {
-                    CodeGenerator.emitAssignment(id, expr.value);
-                }
-            }
-        }
+        SemanticActions.assignment(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1739,25 +1622,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida para incremento",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-            SemanticAnalyzer.addError(
-                line,
-                "Incremento solo permitido en variables numericas",
-                "TIPO_NO_NUMERICO"
-            );
-        } else {
-            // x++  â  x = x + 1
-            CodeGenerator.emitIncrement(id);
-        }
+        SemanticActions.incrementStatement(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1773,25 +1638,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida para decremento",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-            SemanticAnalyzer.addError(
-                line,
-                "Decremento solo permitido en variables numericas",
-                "TIPO_NO_NUMERICO"
-            );
-        } else {
-            // x--  â  x = x - 1
-            CodeGenerator.emitDecrement(id);
-        }
+        SemanticActions.decrementStatement(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia",14, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1893,42 +1740,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        // Resultado de la expresiÃ³n en la pila semÃ¡ntica
-        SemanticStack.StackEntry expr = null;
-        if (SemanticStack.size() > 0) {
-            expr = SemanticStack.pop();
-        }
-
-        // Buscar la variable en la tabla de sÃ­mbolos
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida en un ambito visible",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (expr != null && !expr.type.equals("ERROR")) {
-            boolean compatible =
-                   sym.type.equals(expr.type)
-                || (sym.type.equals("REAL") && expr.type.equals("INT"));
-
-            if (!compatible) {
-                SemanticAnalyzer.addError(
-                    line,
-                    "Tipos incompatibles en asignacion: no se puede asignar " +
-                    expr.type + " a variable de tipo " + sym.type,
-                    "TIPOS_INCOMPATIBLES"
-                );
-            } else {
-                if (expr.isConst && expr.type.equals("INT")) {
-                    CodeGenerator.emitAssignmentConst(id, expr.getIntValue());
-                } else {
-                    CodeGenerator.emitAssignment(id, expr.value);
-                }
-            }
-        }
+        SemanticActions.assignment(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia_main",16, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -1980,24 +1792,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida para incremento",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-            SemanticAnalyzer.addError(
-                line,
-                "Incremento solo permitido en variables numericas",
-                "TIPO_NO_NUMERICO"
-            );
-        } else {
-            CodeGenerator.emitIncrement(id);
-        }
+        SemanticActions.incrementStatement(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia_main",16, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2013,24 +1808,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookup(id);
-        if (sym == null) {
-            SemanticAnalyzer.addError(
-                line,
-                "Variable '" + id + "' no esta definida para decremento",
-                "VAR_NO_DEFINIDA"
-            );
-        } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-            SemanticAnalyzer.addError(
-                line,
-                "Decremento solo permitido en variables numericas",
-                "TIPO_NO_NUMERICO"
-            );
-        } else {
-            CodeGenerator.emitDecrement(id);
-        }
+        SemanticActions.decrementStatement(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("sentencia_main",16, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2139,7 +1917,7 @@ class CUP$Parser$actions {
                // lÃ­nea del identificador
                java_cup.runtime.Symbol idSym =
                    (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0);
-               int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
+               int line = parser.linea(idSym);
 
                // usar SemanticStack para verificar y pushear
                SemanticStack.loadVariable(id, line);
@@ -2275,33 +2053,9 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		
-               // Post-incremento: valor de la expresiÃ³n = valor ANTERIOR de id
                java_cup.runtime.Symbol idSym =
                    (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
-               int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-               SymbolTable.Symbol sym = SymbolTable.lookup(id);
-               if (sym == null) {
-                   // Variable no definida: registramos error y dejamos un valor "ERROR" en la pila
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Variable '" + id + "' no esta definida para incremento",
-                       "VAR_NO_DEFINIDA"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Incremento solo permitido en variables numericas",
-                       "TIPO_NO_NUMERICO"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else {
-                   // Usar valor actual en la expresiÃ³n
-                   SemanticStack.loadVariable(id, line);
-                   // y luego hacer el efecto lateral x = x + 1
-                   CodeGenerator.emitIncrement(id);
-               }
+               SemanticActions.postIncrement(id, parser.linea(idSym));
            
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2315,30 +2069,9 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
 		
-               // Post-decremento: valor de la expresiÃ³n = valor ANTERIOR de id
                java_cup.runtime.Symbol idSym =
                    (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
-               int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-               SymbolTable.Symbol sym = SymbolTable.lookup(id);
-               if (sym == null) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Variable '" + id + "' no esta definida para decremento",
-                       "VAR_NO_DEFINIDA"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Decremento solo permitido en variables numericas",
-                       "TIPO_NO_NUMERICO"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else {
-                   SemanticStack.loadVariable(id, line);
-                   CodeGenerator.emitDecrement(id);
-               }
+               SemanticActions.postDecrement(id, parser.linea(idSym));
            
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2352,30 +2085,9 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
-               // Pre-incremento: primero x = x + 1, luego valor expresado = valor NUEVO
                java_cup.runtime.Symbol idSym =
                    (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0);
-               int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-               SymbolTable.Symbol sym = SymbolTable.lookup(id);
-               if (sym == null) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Variable '" + id + "' no esta definida para incremento",
-                       "VAR_NO_DEFINIDA"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Incremento solo permitido en variables numericas",
-                       "TIPO_NO_NUMERICO"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else {
-                   CodeGenerator.emitIncrement(id);
-                   SemanticStack.loadVariable(id, line);
-               }
+               SemanticActions.preIncrement(id, parser.linea(idSym));
            
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2389,30 +2101,9 @@ class CUP$Parser$actions {
 		int idright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		String id = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
-               // Pre-decremento: primero x = x - 1, luego valor expresado = valor NUEVO
                java_cup.runtime.Symbol idSym =
                    (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-0);
-               int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-               SymbolTable.Symbol sym = SymbolTable.lookup(id);
-               if (sym == null) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Variable '" + id + "' no esta definida para decremento",
-                       "VAR_NO_DEFINIDA"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
-                   SemanticAnalyzer.addError(
-                       line,
-                       "Decremento solo permitido en variables numericas",
-                       "TIPO_NO_NUMERICO"
-                   );
-                   SemanticStack.loadConstant("ERROR", "0");
-               } else {
-                   CodeGenerator.emitDecrement(id);
-                   SemanticStack.loadVariable(id, line);
-               }
+               SemanticActions.preDecrement(id, parser.linea(idSym));
            
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("factor",19, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2567,23 +2258,9 @@ class CUP$Parser$actions {
             {
               Object RESULT =null;
 		
-        // Verificar que la condiciÃ³n sea de tipo BOOL
-        SemanticStack.StackEntry cond = null;
-        if (SemanticStack.size() > 0) {
-            cond = SemanticStack.pop();
-        }
-
-        if (cond != null && !cond.type.equals("BOOL") && !cond.type.equals("ERROR")) {
-            java_cup.runtime.Symbol whileSym =
-                (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5);
-            int line = (whileSym.left >= 0 ? whileSym.left + 1 : 1);
-
-            SemanticAnalyzer.addError(
-                line,
-                "La condicion del WHILE debe ser de tipo BOOL",
-                "CONDICION_NO_BOOLEANA"
-            );
-        }
+        java_cup.runtime.Symbol whileSym =
+            (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5);
+        SemanticActions.whileEnd(parser.linea(whileSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("while_stmt",25, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2675,31 +2352,9 @@ class CUP$Parser$actions {
             {
               String RESULT =null;
 		
-        // Sacar el resultado de la condicion (BOOL esperado)
-        SemanticStack.StackEntry cond = (SemanticStack.size() > 0) ? SemanticStack.pop() : null;
-
-        // Validar que la condicion sea booleana
-        if (cond != null && !cond.type.equals("BOOL") && !cond.type.equals("ERROR")) {
-            java_cup.runtime.Symbol condSym =
-                (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
-            int line = (condSym.left >= 0 ? condSym.left + 1 : 1);
-
-            SemanticAnalyzer.addError(
-                line,
-                "La condicion del IF debe ser de tipo BOOL",
-                "CONDICION_NO_BOOLEANA"
-            );
-        }
-
-        // Asegurar un valor de condicion para el salto
-        String condValue = (cond != null ? cond.value : CodeGenerator.newTemp());
-        if (cond == null || "ERROR".equals(cond.type)) {
-            CodeGenerator.emitAssignmentConst(condValue, 0);
-        }
-
-        String labelFalse = CodeGenerator.emitIfStart(condValue);
-        ifLabelStack.push(labelFalse);
-        RESULT = labelFalse;
+        java_cup.runtime.Symbol condSym =
+            (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1);
+        RESULT = SemanticActions.ifStart(parser.linea(condSym), ifLabelStack);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("if_start",39, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2710,9 +2365,7 @@ class CUP$Parser$actions {
             {
               String RESULT =null;
 		
-        String labelFalse = ifLabelStack.isEmpty() ? null : ifLabelStack.pop();
-        String labelEnd = CodeGenerator.emitElse(labelFalse);
-        RESULT = labelEnd;
+        RESULT = SemanticActions.elseStart(ifLabelStack);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("else_start",40, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2723,8 +2376,7 @@ class CUP$Parser$actions {
             {
               Object RESULT =null;
 		
-        String labelFalse = ifLabelStack.isEmpty() ? null : ifLabelStack.pop();
-        CodeGenerator.emitIfEnd(labelFalse);
+        SemanticActions.ifEnd(ifLabelStack);
         RESULT = null;
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("if_stmt",27, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -2808,16 +2460,7 @@ class CUP$Parser$actions {
 		
           java_cup.runtime.Symbol idSym =
               (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-          int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-          SymbolTable.Symbol sym = SymbolTable.lookup(id);
-          if (sym == null) {
-              SemanticAnalyzer.addError(
-                  line,
-                  "Variable '" + id + "' usada en READ no esta definida",
-                  "VAR_NO_DEFINIDA"
-              );
-          }
+          SemanticActions.readVariable(id, parser.linea(idSym));
       
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("read_stmt",28, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2867,29 +2510,7 @@ class CUP$Parser$actions {
 		int argsright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
 		java.util.List<SemanticStack.StackEntry> args = (java.util.List<SemanticStack.StackEntry>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
 		
-        // Generar una instrucción WRITE por cada expresión
-        if (args != null) {
-            for (SemanticStack.StackEntry entry : args) {
-                if (entry == null) continue;
-
-                if ("INT".equals(entry.type)) {
-                    if (entry.isConst) {
-                        String t = CodeGenerator.newTemp();
-                        CodeGenerator.emitAssignmentConst(t, entry.getIntValue());
-                        CodeGenerator.emitWriteInt(t);
-                    } else {
-                        CodeGenerator.emitWriteInt(entry.value);
-                    }
-                } else if ("STRING".equals(entry.type)) {
-                    String content = entry.value;
-                    if (content.startsWith("\"") && content.endsWith("\"") && content.length() >= 2) {
-                        content = content.substring(1, content.length() - 1);
-                    }
-                    String label = CodeGenerator.addStringLiteral(content);
-                    CodeGenerator.emitWriteString(label);
-                }
-            }
-        }
+        SemanticActions.write(args);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("write_stmt",29, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2926,64 +2547,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookupInScope(id, "GLOBAL");
-        if (sym == null || 
-            !(sym.category.equals("FUNCTION") || sym.category.equals("PROCEDURE"))) {
-            // No estÃ¡ definida como funciÃ³n/procedimiento
-            SemanticAnalyzer.addError(
-                line,
-                "Llamada a '" + id + "' que no esta definida como funcion o procedimiento",
-                "FUNCION_NO_DEFINIDA"
-            );
-        } else {
-            // Tipos de parÃ¡metros formales
-            java.util.List<String> formalTypes = sym.paramTypes;
-            int expected = (formalTypes != null ? formalTypes.size() : 0);
-            int received = (args != null ? args.size() : 0);
-
-            // Verificar cantidad de parÃ¡metros
-            if (expected != received) {
-                SemanticAnalyzer.addError(
-                    line,
-                    "Cantidad de parametros incorrecta al llamar '" + id +
-                    "': se esperaban " + expected +
-                    " y se recibieron " + received,
-                    "CANT_PARAM_INCORRECTA"
-                );
-            } else {
-                // Verificar tipos parÃ¡metro por parÃ¡metro
-                for (int i = 0; i < expected; i++) {
-                    String expectedType = formalTypes.get(i);
-
-                    SemanticStack.StackEntry argEntry = args.get(i);
-                    String argType = (argEntry != null ? argEntry.type : "ERROR");
-
-                    if ("ERROR".equals(argType)) {
-                        // Ya hubo error antes en esa expresiÃ³n, no duplicamos
-                        continue;
-                    }
-
-                    boolean compatible =
-                           expectedType.equals(argType)
-                        || (expectedType.equals("REAL") && argType.equals("INT")); // INT -> REAL permitido
-
-                    if (!compatible) {
-                        SemanticAnalyzer.addError(
-                            line,
-                            "Tipo de parametro " + (i+1) + " incorrecto en llamada a '" + id +
-                            "': se esperaba " + expectedType +
-                            " pero se obtuvo " + argType,
-                            "TIPO_PARAM_INCORRECTO"
-                        );
-                    }
-                }
-            }
-
-            // TraducciÃ³n muy simple de la llamada (sin manejar retorno aÃºn)
-            CodeGenerator.emitCode("CALL " + id);
-        }
+        SemanticActions.call(id, parser.linea(idSym), args);
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("llamada_funcion",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -2999,32 +2563,7 @@ class CUP$Parser$actions {
 		
         java_cup.runtime.Symbol idSym =
             (java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2);
-        int line = (idSym.left >= 0 ? idSym.left + 1 : 1);
-
-        SymbolTable.Symbol sym = SymbolTable.lookupInScope(id, "GLOBAL");
-        if (sym == null || 
-            !(sym.category.equals("FUNCTION") || sym.category.equals("PROCEDURE"))) {
-            SemanticAnalyzer.addError(
-                line,
-                "Llamada a '" + id + "' que no esta definida como funcion o procedimiento",
-                "FUNCION_NO_DEFINIDA"
-            );
-        } else {
-            // Verificar que la funciÃ³n/procedimiento no espere parÃ¡metros
-            java.util.List<String> formalTypes = sym.paramTypes;
-            int expected = (formalTypes != null ? formalTypes.size() : 0);
-
-            if (expected != 0) {
-                SemanticAnalyzer.addError(
-                    line,
-                    "Llamada a '" + id + "' sin argumentos, pero la definicion espera " +
-                    expected + " parametro(s)",
-                    "CANT_PARAM_INCORRECTA"
-                );
-            }
-
-            CodeGenerator.emitCode("CALL " + id);
-        }
+        SemanticActions.callNoArgs(id, parser.linea(idSym));
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("llamada_funcion",30, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
             }
@@ -3038,19 +2577,12 @@ class CUP$Parser$actions {
 		int restoright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		java.util.List<SemanticStack.StackEntry> resto = (java.util.List<SemanticStack.StackEntry>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
-        // Sacamos el resultado de la primera expresiÃ³n de la lista
-        SemanticStack.StackEntry expr = null;
-        if (SemanticStack.size() > 0) {
-            expr = SemanticStack.pop();
-        }
-
+        // Resultado de la primera expresion de la lista (null si hubo algun problema)
         java.util.List<SemanticStack.StackEntry> list = new java.util.ArrayList<>();
-        list.add(expr); // puede ser null si hubo algÃºn problema
-
+        list.add(SemanticActions.popExpression());
         if (resto != null) {
             list.addAll(resto);
         }
-
         RESULT = list;
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("lista_expresiones",37, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -3065,18 +2597,11 @@ class CUP$Parser$actions {
 		int restoright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
 		java.util.List<SemanticStack.StackEntry> resto = (java.util.List<SemanticStack.StackEntry>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
 		
-        SemanticStack.StackEntry expr = null;
-        if (SemanticStack.size() > 0) {
-            expr = SemanticStack.pop();
-        }
-
         java.util.List<SemanticStack.StackEntry> list = new java.util.ArrayList<>();
-        list.add(expr);
-
+        list.add(SemanticActions.popExpression());
         if (resto != null) {
             list.addAll(resto);
         }
-
         RESULT = list;
     
               CUP$Parser$result = parser.getSymbolFactory().newSymbol("mas_expresiones",38, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)), ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()), RESULT);
@@ -0,0 +1,23 @@
+package parser;
+
+import java.io.IOException;
+
+/**
+ * Benchmark del análisis completo (MainParser.analyze: scanner, parser y
+ * acciones semánticas) con el parser LALR de CUP o con RecursiveParser
+ * (--recursive-parser). Las acciones son las mismas (SemanticActions), así
+ * que la diferencia es el costo de parsear.
+ *
+ * Por cada tamaño de programa generado se informa la mediana de ms y MB/s
+ * de los dos parsers y la aceleración (ver ModeBenchmark).
+ *
+ * Uso: java parser.ParserBenchmark [--lines n,n,...] [--warmup n] [--iter n] [--seed s] [--lexer jflex|fast]
+ */
+public class ParserBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        ModeBenchmark.Options opt = new ModeBenchmark.Options(new long[] { 20_000, 100_000 }, 3, 7)
+            .parse(args, "ParserBenchmark");
+        ModeBenchmark.compare(opt, MainParser::setRecursiveParser, "CUP vs RECURSIVO", "CUP", "recursivo");
+    }
+}
@@ -0,0 +1,241 @@
+package parser;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * Métricas por fase de una compilación: tiempo de pared, tokens/s, líneas/s
+ * y símbolos creados en scanner, parser, acciones semánticas y generación de ASM.
+ *
+ * Las fases de CUP están intercaladas (el parser pide tokens y ejecuta acciones
+ * mientras reduce), así que se miden con envoltorios: TimedScanner cronometra
+ * cada next_token() y TimedParser cada do_action(). El tiempo del parser es el
+ * de parse() menos esas dos partes.
+ *
+ * Se activa con setEnabled(true), --metrics o -Dabs.metrics=true.
+ */
+public class PhaseMetrics {
+
+    private static volatile boolean enabled = Boolean.getBoolean("abs.metrics");
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========================================================================
+    // DATOS MEDIDOS
+    // ========================================================================
+
+    public final String sourcePath;
+    public long chars;
+    public long lines;
+    public long tokens;
+    public long reductions;
+    public int symbols;
+
+    public long scanNanos;      // dentro de next_token()
+    public long actionNanos;    // dentro de do_action() (acciones semánticas)
+    public long parseNanos;     // parse() completo (incluye scanner y acciones)
+    public long codegenNanos;   // declaración de globales + escritura del .asm
+    public long totalNanos;
+
+    public PhaseMetrics(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    /**
+     * Tiempo del parser LALR en sí (sin scanner ni acciones)
+     */
+    public long parserOnlyNanos() {
+        return Math.max(0, parseNanos - scanNanos - actionNanos);
+    }
+
+    // ========================================================================
+    // ENVOLTORIOS DE MEDICIÓN
+    // ========================================================================
+
+    /**
+     * Reader que cuenta caracteres y líneas mientras el scanner lo consume
+     */
+    Reader countingReader(Reader in) {
+        return new FilterReader(in) {
+            private int last = -1;
+
+            @Override
+            public int read() throws IOException {
+                int c = super.read();
+                if (c != -1) {
+                    count(c);
+                } else {
+                    finish();
+                }
+                return c;
+            }
+
+            @Override
+            public int read(char[] buf, int off, int len) throws IOException {
+                int n = super.read(buf, off, len);
+                if (n == -1) {
+                    finish();
+                }
+                for (int i = 0; i < n; i++) {
+                    count(buf[off + i]);
+                }
+                return n;
+            }
+
+            private void count(int c) {
+                chars++;
+                if (c == '\n') {
+                    lines++;
+                }
+                last = c;
+            }
+
+            private void finish() {
+                // Última línea sin salto de línea final
+                if (last != -1 && last != '\n') {
+                    lines++;
+                    last = '\n';
+                }
+            }
+        };
+    }
+
+    /**
+     * Cuenta caracteres y líneas de un fuente UTF-8 que no pasa por
+     * countingReader (FastScanner lee los bytes directamente)
+     */
+    void countSource(byte[] data) {
+        for (byte b : data) {
+            if ((b & 0xC0) != 0x80) {
+                chars += ((b & 0xF8) == 0xF0) ? 2 : 1;   // fuera del BMP: dos chars
+            }
+            if (b == '\n') {
+                lines++;
+            }
+        }
+        if (data.length > 0 && data[data.length - 1] != '\n') {
+            lines++;
+        }
+    }
+
+    /**
+     * Scanner que cronometra cada token
+     */
+    java_cup.runtime.Scanner timedScanner(java_cup.runtime.Scanner inner) {
+        return () -> {
+            long t0 = System.nanoTime();
+            Symbol s = inner.next_token();
+            scanNanos += System.nanoTime() - t0;
+            tokens++;
+            return s;
+        };
+    }
+
+    /**
+     * Parser que cronometra las acciones de cada reducción
+     */
+    @SuppressWarnings({"deprecation", "rawtypes"})
+    static final class TimedParser extends Parser {
+        private final PhaseMetrics metrics;
+
+        TimedParser(java_cup.runtime.Scanner s, PhaseMetrics metrics) {
+            super(s);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Symbol do_action(int act_num, java_cup.runtime.lr_parser parser,
+                                java.util.Stack stack, int top) throws Exception {
+            long t0 = System.nanoTime();
+            try {
+                return super.do_action(act_num, parser, stack, top);
+            } finally {
+                metrics.actionNanos += System.nanoTime() - t0;
+                metrics.reductions++;
+            }
+        }
+    }
+
+    // ========================================================================
+    // REPORTES
+    // ========================================================================
+
+    /**
+     * Reporte en texto para la consola
+     */
+    public void print() {
+        System.out.println("\n=== METRICAS POR FASE ===");
+        System.out.printf("Fuente: %s | %d caracteres | %d lineas | %d tokens | %d reducciones | %d simbolos%n",
+            sourcePath, chars, lines, tokens, reductions, symbols);
+        System.out.printf("%-10s %10s %14s %14s%n", "Fase", "ms", "tokens/s", "lineas/s");
+        printPhase("scanner", scanNanos);
+        printPhase("parser", parserOnlyNanos());
+        printPhase("semantica", actionNanos);
+        printPhase("codegen", codegenNanos);
+        printPhase("total", totalNanos);
+    }
+
+    private void printPhase(String name, long nanos) {
+        System.out.printf("%-10s %10.3f %14.0f %14.0f%n", name, nanos / 1e6, rate(tokens, nanos), rate(lines, nanos));
+    }
+
+    /**
+     * Reporte JSON (una línea) para seguir regresiones de rendimiento
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        sb.append("\"source\":\"").append(escape(sourcePath)).append("\",");
+        sb.append("\"chars\":").append(chars).append(',');
+        sb.append("\"lines\":").append(lines).append(',');
+        sb.append("\"tokens\":").append(tokens).append(',');
+        sb.append("\"reductions\":").append(reductions).append(',');
+        sb.append("\"symbols\":").append(symbols).append(',');
+        sb.append("\"phases\":{");
+        sb.append(phaseJson("scan", scanNanos, 0)).append(',');
+        sb.append(phaseJson("parse", parserOnlyNanos(), 0)).append(',');
+        sb.append(phaseJson("semantic", actionNanos, symbols)).append(',');
+        sb.append(phaseJson("codegen", codegenNanos, 0)).append(',');
+        sb.append(phaseJson("total", totalNanos, symbols));
+        sb.append("}}");
+        return sb.toString();
+    }
+
+    private String phaseJson(String name, long nanos, int symbolsCreated) {
+        return String.format(Locale.ROOT,
+            "\"%s\":{\"wall_ms\":%.3f,\"tokens_per_sec\":%.1f,\"lines_per_sec\":%.1f,\"symbols\":%d}",
+            name, nanos / 1e6, rate(tokens, nanos), rate(lines, nanos), symbolsCreated);
+    }
+
+    private static double rate(long count, long nanos) {
+        return (nanos > 0) ? count / (nanos / 1e9) : 0.0;
+    }
+
+    static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
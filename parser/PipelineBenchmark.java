@@ -0,0 +1,24 @@
+package parser;
+
+import java.io.IOException;
+
+/**
+ * Benchmark del análisis completo (MainParser.analyze: scanner, parser y
+ * acciones semánticas) con el scanner en el mismo hilo que el parser
+ * (sincrónico) o en su propio hilo (--pipeline, PipelinedLexer).
+ *
+ * Por cada tamaño de programa generado se informa la mediana de ms y MB/s
+ * de los dos modos y la aceleración del pipeline (ver ModeBenchmark). La
+ * ganancia depende de los núcleos libres: con uno solo, el pipeline no
+ * tiene con qué solaparse.
+ *
+ * Uso: java parser.PipelineBenchmark [--lines n,n,...] [--warmup n] [--iter n] [--seed s] [--lexer jflex|fast]
+ */
+public class PipelineBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        ModeBenchmark.Options opt = new ModeBenchmark.Options(new long[] { 20_000, 100_000 }, 3, 7)
+            .parse(args, "PipelineBenchmark");
+        ModeBenchmark.compare(opt, MainParser::setPipelinedLexer, "SINCRÓNICO vs PIPELINE", "sinc.", "pipeline");
+    }
+}
@@ -0,0 +1,349 @@
+package parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generador determinista de programas ABS válidos para pruebas de escala.
+ *
+ * Cubre lo que acepta parser.cup: variables globales, FUNCTION/PROCEDURE con
+ * parámetros y variables locales, asignaciones, ++/--, IF/ELSE anidados,
+ * WHILE, FOR, WRITE, READ y llamadas. Los programas no tienen errores
+ * léxicos, sintácticos ni semánticos, así que recorren todas las fases.
+ *
+ * La misma semilla y las mismas opciones producen siempre el mismo texto.
+ * El programa se escribe en streaming, así que 10M de líneas no ocupan
+ * memoria.
+ *
+ * Uso: java parser.ProgramGenerator [--lines n] [--seed s] [--depth n]
+ *          [--symbols n] [--expr-depth n] [--params n] [--stmts n] [--out archivo.abs]
+ */
+public class ProgramGenerator {
+
+    /**
+     * Parámetros de generación
+     */
+    public static class Options {
+        public long lines = 1000;          // tamaño aproximado del programa (líneas)
+        public long seed = 1;
+        public int maxDepth = 3;           // anidamiento máximo de IF/WHILE/FOR
+        public int symbolsPerScope = 8;    // variables globales y locales por rutina
+        public int exprDepth = 3;          // profundidad máxima de las expresiones
+        public int maxParams = 3;          // parámetros por FUNCTION/PROCEDURE
+        public int stmtsPerRoutine = 12;   // sentencias de primer nivel por rutina
+    }
+
+    // Fracción de las líneas dedicada a rutinas (el resto va al cuerpo principal)
+    private static final double ROUTINE_SHARE = 0.8;
+
+    private final Options opt;
+    private final Random rnd;
+    private final Writer out;
+    private long lineCount = 0;
+
+    // Rutinas ya declaradas (se pueden llamar desde las siguientes y desde el main)
+    private final List<String> routineNames = new ArrayList<>();
+    private final List<Integer> routineArity = new ArrayList<>();
+
+    // Variables INT visibles en el scope que se está generando
+    private List<String> visible = new ArrayList<>();
+
+    private ProgramGenerator(Options opt, Writer out) {
+        this.opt = opt;
+        this.rnd = new Random(opt.seed);
+        this.out = out;
+    }
+
+    /**
+     * Escribe un programa completo en out y retorna la cantidad de líneas
+     */
+    public static long generate(Options opt, Writer out) throws IOException {
+        ProgramGenerator g = new ProgramGenerator(opt, out);
+        g.program();
+        out.flush();
+        return g.lineCount;
+    }
+
+    // ========================================================================
+    // ESTRUCTURA DEL PROGRAMA
+    // ========================================================================
+
+    private void program() throws IOException {
+        line(0, "PROGRAM Generado" + opt.seed);
+        line(0, "");
+
+        List<String> globals = names("g", opt.symbolsPerScope);
+        line(0, "VAR");
+        declare(1, globals, "INT");
+        line(1, "gc : CHAR;");
+        line(1, "gr : REAL;");
+        line(1, "gs : STRING;");
+        line(0, "");
+
+        long routineBudget = (long) (opt.lines * ROUTINE_SHARE);
+        for (int n = 0; lineCount < routineBudget; n++) {
+            if (rnd.nextInt(3) == 0) {
+                procedure("p" + n, globals);
+            } else {
+                function("f" + n, globals);
+            }
+            line(0, "");
+        }
+
+        visible = globals;
+        line(0, "BEGIN");
+        line(1, "gc := 'a';");
+        line(1, "gr := 1.5;");
+        line(1, "gs := \"generado\";");
+        while (lineCount < opt.lines - 1) {
+            statement(1, 0, false);
+        }
+        line(0, "END");
+    }
+
+    private void function(String name, List<String> globals) throws IOException {
+        List<String> params = names(name + "a", rnd.nextInt(opt.maxParams + 1));
+        line(0, "FUNCTION " + name + "(" + paramList(params) + "): INT");
+        routineBody(name, params, globals, true);
+        routineNames.add(name);
+        routineArity.add(params.size());
+    }
+
+    private void procedure(String name, List<String> globals) throws IOException {
+        List<String> params = names(name + "a", rnd.nextInt(opt.maxParams + 1));
+        line(0, "PROCEDURE " + name + "(" + paramList(params) + ")");
+        routineBody(name, params, globals, false);
+        routineNames.add(name);
+        routineArity.add(params.size());
+    }
+
+    private void routineBody(String name, List<String> params, List<String> globals, boolean isFunction)
+            throws IOException {
+        List<String> locals = names(name + "v", opt.symbolsPerScope);
+        line(0, "VAR");
+        declare(1, locals, "INT");
+
+        visible = new ArrayList<>(globals);
+        visible.addAll(params);
+        visible.addAll(locals);
+
+        line(0, "BEGIN");
+        for (String v : locals) {
+            line(1, v + " := " + (1 + rnd.nextInt(100)) + ";");
+        }
+        for (int i = 0; i < opt.stmtsPerRoutine; i++) {
+            statement(1, 0, false);
+        }
+        if (isFunction) {
+            line(1, name + " := " + expression(opt.exprDepth) + ";");
+        }
+        line(0, "END");
+    }
+
+    // ========================================================================
+    // SENTENCIAS
+    // ========================================================================
+
+    /**
+     * inWhile: el WHILE saca su condición de la pila semántica recién al
+     * terminar el cuerpo, y el FOR deja sus dos límites en la pila; por eso
+     * no se genera FOR dentro de un WHILE (el chequeo de BOOL fallaría).
+     */
+    private void statement(int indent, int depth, boolean inWhile) throws IOException {
+        int kinds = (depth < opt.maxDepth) ? (inWhile ? 11 : 12) : 8;
+        int kind = rnd.nextInt(kinds);
+        switch (kind) {
+            case 0, 1, 2 -> line(indent, variable() + " := " + expression(opt.exprDepth) + ";");
+            case 3 -> line(indent, variable() + (rnd.nextBoolean() ? "++;" : "--;"));
+            case 4 -> write(indent);
+            case 5 -> line(indent, "READ(" + variable() + ");");
+            case 6 -> call(indent);
+            case 7 -> line(indent, variable() + " := " + variable() + ";");
+            case 8, 9 -> ifStatement(indent, depth, inWhile);
+            case 10 -> whileStatement(indent, depth);
+            default -> forStatement(indent, depth);
+        }
+    }
+
+    private void write(int indent) throws IOException {
+        if (rnd.nextInt(3) == 0) {
+            line(indent, "WRITE(\"valor " + rnd.nextInt(1000) + "\");");
+        } else {
+            line(indent, "WRITE(" + expression(Math.min(2, opt.exprDepth)) + ");");
+        }
+    }
+
+    private void call(int indent) throws IOException {
+        if (routineNames.isEmpty()) {
+            line(indent, variable() + "++;");
+            return;
+        }
+        int i = rnd.nextInt(routineNames.size());
+        int arity = routineArity.get(i);
+        StringBuilder sb = new StringBuilder(routineNames.get(i)).append('(');
+        for (int a = 0; a < arity; a++) {
+            if (a > 0) sb.append(", ");
+            sb.append(expression(1));
+        }
+        line(indent, sb.append(");").toString());
+    }
+
+    private void block(int indent, int depth, boolean inWhile) throws IOException {
+        int n = 1 + rnd.nextInt(3);
+        for (int i = 0; i < n; i++) {
+            statement(indent, depth, inWhile);
+        }
+    }
+
+    private void ifStatement(int indent, int depth, boolean inWhile) throws IOException {
+        line(indent, "IF " + condition() + " THEN BEGIN");
+        block(indent + 1, depth + 1, inWhile);
+        if (rnd.nextBoolean()) {
+            line(indent, "END ELSE BEGIN");
+            block(indent + 1, depth + 1, inWhile);
+        }
+        line(indent, "END");
+    }
+
+    private void whileStatement(int indent, int depth) throws IOException {
+        line(indent, "WHILE " + condition() + " DO BEGIN");
+        block(indent + 1, depth + 1, true);
+        line(indent, "END");
+    }
+
+    private void forStatement(int indent, int depth) throws IOException {
+        line(indent, "FOR " + variable() + " := " + expression(1) + " TO " + expression(2) + " DO BEGIN");
+        block(indent + 1, depth + 1, false);
+        line(indent, "END");
+    }
+
+    // ========================================================================
+    // EXPRESIONES Y CONDICIONES
+    // ========================================================================
+
+    private static final String[] BINARY = { "+", "-", "*", "/", "DIV", "MOD" };
+    private static final String[] RELATIONAL = { "=", "<>", "<", ">", "<=", ">=" };
+
+    private String expression(int depth) {
+        if (depth <= 0 || rnd.nextInt(3) == 0) {
+            return operand();
+        }
+        String op = BINARY[rnd.nextInt(BINARY.length)];
+        String left = expression(depth - 1);
+        // Divisor siempre literal distinto de cero (evita división por cero en el constant folding)
+        String right = (op.equals("+") || op.equals("-") || op.equals("*"))
+            ? expression(depth - 1)
+            : String.valueOf(1 + rnd.nextInt(9));
+        String e = left + " " + op + " " + right;
+        return (rnd.nextInt(3) == 0) ? "(" + e + ")" : e;
+    }
+
+    private String operand() {
+        return switch (rnd.nextInt(6)) {
+            case 0 -> String.valueOf(rnd.nextInt(1000));
+            case 1 -> "-" + variable();
+            default -> variable();
+        };
+    }
+
+    private String condition() {
+        String c = expression(Math.min(2, opt.exprDepth)) + " "
+            + RELATIONAL[rnd.nextInt(RELATIONAL.length)] + " "
+            + expression(Math.min(2, opt.exprDepth));
+        return (rnd.nextInt(4) == 0) ? "(" + c + ")" : c;
+    }
+
+    private String variable() {
+        return visible.get(rnd.nextInt(visible.size()));
+    }
+
+    // ========================================================================
+    // UTILIDADES
+    // ========================================================================
+
+    private static List<String> names(String prefix, int n) {
+        List<String> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(prefix + i);
+        }
+        return list;
+    }
+
+    private static String paramList(List<String> params) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("INT ").append(params.get(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Declaraciones de a 8 identificadores por línea
+     */
+    private void declare(int indent, List<String> vars, String type) throws IOException {
+        for (int i = 0; i < vars.size(); i += 8) {
+            line(indent, String.join(", ", vars.subList(i, Math.min(vars.size(), i + 8))) + " : " + type + ";");
+        }
+    }
+
+    private void line(int indent, String text) throws IOException {
+        for (int i = 0; i < indent; i++) {
+            out.write("  ");
+        }
+        out.write(text);
+        out.write('\n');
+        lineCount++;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options opt = new Options();
+        String outPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                usage();
+            }
+            switch (args[i]) {
+                case "--lines" -> opt.lines = Long.parseLong(args[++i]);
+                case "--seed" -> opt.seed = Long.parseLong(args[++i]);
+                case "--depth" -> opt.maxDepth = Integer.parseInt(args[++i]);
+                case "--symbols" -> opt.symbolsPerScope = Math.max(1, Integer.parseInt(args[++i]));
+                case "--expr-depth" -> opt.exprDepth = Integer.parseInt(args[++i]);
+                case "--params" -> opt.maxParams = Integer.parseInt(args[++i]);
+                case "--stmts" -> opt.stmtsPerRoutine = Integer.parseInt(args[++i]);
+                case "--out" -> outPath = args[++i];
+                default -> usage();
+            }
+        }
+
+        Writer w = (outPath != null)
+            ? Files.newBufferedWriter(Paths.get(outPath), StandardCharsets.US_ASCII)
+            : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII));
+        long n;
+        try {
+            n = generate(opt, w);
+        } finally {
+            if (outPath != null) {
+                w.close();
+            }
+        }
+        if (outPath != null) {
+            System.out.println("[GEN] " + n + " lineas en " + outPath + " (semilla " + opt.seed + ")");
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Uso: java parser.ProgramGenerator [--lines n] [--seed s] [--depth n] [--symbols n] "
+            + "[--expr-depth n] [--params n] [--stmts n] [--out archivo.abs]");
+        System.exit(1);
+    }
+}
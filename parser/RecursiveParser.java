@@ -0,0 +1,651 @@
+package parser;
+
+import java_cup.runtime.Symbol;
+import scanner.LineTable;
+
+/**
+ * Parser de descenso recursivo para la misma gramática que parser.cup, con
+ * las expresiones aritméticas por precedencia (Pratt): una llamada por
+ * operador en vez de la cadena de reducciones expresion -> termino ->
+ * factor de CUP, y sin un Symbol por reducción.
+ *
+ * No corre acciones: arma el Ast del programa, con un nodo por cada
+ * reducción que tiene acción en parser.cup y en el mismo orden en que CUP
+ * reduce. Después SemanticPass y CodeGenPass recorren el árbol llamando a
+ * las mismas acciones (SemanticActions, SemanticStack, CodeGenerator y
+ * SymbolTable): la tabla de símbolos, los errores semánticos y el .asm
+ * salen iguales que con CUP.
+ *
+ * No se recupera de errores: parse() devuelve false en el primer token que
+ * la gramática no acepta, y entonces MainParser analiza el fuente de nuevo
+ * desde cero con el parser de CUP, que es el que tiene las producciones de
+ * error y los mensajes. Así los diagnósticos de un programa con errores
+ * sintácticos son siempre los de CUP, y este parser solo tiene que aceptar
+ * exactamente los programas que CUP acepta sin errores.
+ *
+ * TestRecursiveParser compara los dos caminos (errores y .asm).
+ */
+public final class RecursiveParser {
+
+    /**
+     * Token que la gramática no acepta en ese lugar
+     */
+    static final class SyntaxError extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final transient Symbol token;
+
+        SyntaxError(Symbol token) {
+            super("token inesperado " + token.sym + " en " + token.left + ":" + token.right, null, false, false);
+            this.token = token;
+        }
+    }
+
+    // Operadores aritméticos binarios: precedencia (0 = no es operador) y
+    // su índice en Ast.OPERADORES
+    private static final int[] PRECEDENCIA = new int[sym.terminalNames.length];
+    private static final int[] OPERADOR = new int[sym.terminalNames.length];
+
+    static {
+        binario(sym.MAS, 1, 0);
+        binario(sym.MENOS, 1, 1);
+        binario(sym.POR, 2, 2);
+        binario(sym.DIVISION, 2, 3);
+        binario(sym.DIV, 2, 4);
+        binario(sym.MOD, 2, 5);
+    }
+
+    private static void binario(int k, int precedencia, int operador) {
+        PRECEDENCIA[k] = precedencia;
+        OPERADOR[k] = operador;
+    }
+
+    private final java_cup.runtime.Scanner scanner;
+    private Symbol tok;                 // token actual (lookahead)
+    private LineTable lineas;
+    private Ast ast;
+
+    public RecursiveParser(java_cup.runtime.Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    /**
+     * Igual que Parser.setLineTable: left y right son offsets
+     */
+    public void setLineTable(LineTable lineas) {
+        this.lineas = lineas;
+    }
+
+    /**
+     * El árbol del último parse() (el arena del hilo actual)
+     */
+    public Ast getAst() {
+        return ast;
+    }
+
+    /**
+     * Analiza el programa completo y arma su árbol; false si hay un error
+     * sintáctico (el árbol queda a medias)
+     */
+    public boolean parse() throws Exception {
+        ast = Ast.forCompilation(lineas);
+        try {
+            tok = scanner.next_token();
+            programa();
+            return true;
+        } catch (SyntaxError e) {
+            return false;
+        }
+    }
+
+    // ========================================================================
+    // TOKENS
+    // ========================================================================
+
+    private Symbol avanzar() throws Exception {
+        Symbol t = tok;
+        tok = scanner.next_token();
+        return t;
+    }
+
+    private Symbol esperar(int k) throws Exception {
+        if (tok.sym != k) {
+            throw new SyntaxError(tok);
+        }
+        return avanzar();
+    }
+
+    /**
+     * Índice en el Ast del lexema de un identificador
+     */
+    private int lexema(Symbol s) {
+        return ast.lexema((String) s.value);
+    }
+
+    /**
+     * Hoja para el token s
+     */
+    private void hoja(int k, Symbol s, int dato) {
+        ast.add(k, ast.size(), s.left, dato);
+    }
+
+    // ========================================================================
+    // PROGRAMA Y DECLARACIONES
+    // ========================================================================
+
+    /**
+     * programa ::= PROGRAM IDENTIFICADOR variables_globales funciones_globales cuerpo_main [PUNTO]
+     */
+    private void programa() throws Exception {
+        esperar(sym.PROGRAM);
+        Symbol id = esperar(sym.IDENTIFICADOR);
+        if (tok.sym == sym.VAR) {
+            avanzar();
+            listaDeclaraciones();
+        }
+        while (tok.sym == sym.FUNCTION || tok.sym == sym.PROCEDURE) {
+            if (tok.sym == sym.FUNCTION) {
+                funcion();
+            } else {
+                procedimiento();
+            }
+        }
+        bloque(true);     // cuerpo_main
+        if (tok.sym == sym.PUNTO) {
+            avanzar();
+        }
+        esperar(sym.EOF);
+        ast.add(Ast.PROGRAM, 0, id.left, lexema(id));
+    }
+
+    /**
+     * lista_declaraciones_globales: una o más declaracion_variable_global
+     */
+    private void listaDeclaraciones() throws Exception {
+        do {
+            int desde = ast.size();
+            Symbol id = esperar(sym.IDENTIFICADOR);
+            hoja(Ast.ID, id, lexema(id));
+            while (tok.sym == sym.COMA) {
+                avanzar();
+                id = esperar(sym.IDENTIFICADOR);
+                hoja(Ast.ID, id, lexema(id));
+            }
+            esperar(sym.DOS_PUNTOS);
+            tipo();
+            Symbol fin = esperar(sym.PUNTO_COMA);
+            ast.add(Ast.DECL, desde, fin.left, -1);
+        } while (tok.sym == sym.IDENTIFICADOR);
+    }
+
+    /**
+     * tipo: una hoja TYPE
+     */
+    private void tipo() throws Exception {
+        String t = switch (tok.sym) {
+            case sym.INT -> "INT";
+            case sym.CHAR -> "CHAR";
+            case sym.REAL -> "REAL";
+            case sym.STRING -> "STRING";
+            default -> throw new SyntaxError(tok);
+        };
+        hoja(Ast.TYPE, avanzar(), Ast.tipo(t));
+    }
+
+    private boolean empiezaTipo() {
+        return tok.sym == sym.INT || tok.sym == sym.CHAR || tok.sym == sym.REAL || tok.sym == sym.STRING;
+    }
+
+    /**
+     * parametros ::= tipo IDENTIFICADOR (COMA tipo IDENTIFICADOR)* | vacío
+     * (un PARAM por parámetro)
+     */
+    private void parametros() throws Exception {
+        if (!empiezaTipo()) {
+            return;
+        }
+        while (true) {
+            int desde = ast.size();
+            tipo();
+            Symbol id = esperar(sym.IDENTIFICADOR);
+            ast.add(Ast.PARAM, desde, id.left, lexema(id));
+            if (tok.sym != sym.COMA) {
+                return;
+            }
+            avanzar();
+        }
+    }
+
+    /**
+     * funcion_global ::= FUNCTION IDENTIFICADOR ( parametros ) : tipo cuerpo_funcion
+     */
+    private void funcion() throws Exception {
+        int desde = ast.size();
+        avanzar();
+        Symbol id = esperar(sym.IDENTIFICADOR);
+        esperar(sym.PARENTESIS_IZQ);
+        parametros();
+        esperar(sym.PARENTESIS_DER);
+        esperar(sym.DOS_PUNTOS);
+        tipo();
+        ast.add(Ast.FUNC_HEAD, desde, id.left, lexema(id));
+        if (tok.sym == sym.VAR) {
+            avanzar();
+            listaDeclaraciones();
+        }
+        esperar(sym.BEGIN);
+        bloqueFuncion();
+        esperar(sym.END);
+        ast.add(Ast.FUNCTION, desde, id.left, lexema(id));
+    }
+
+    /**
+     * bloque_funcion ::= sentencias retorno | retorno. El retorno es la
+     * asignación que va justo antes del END: recién ahí se sabe que no era
+     * una sentencia.
+     */
+    private void bloqueFuncion() throws Exception {
+        while (true) {
+            if (tok.sym != sym.IDENTIFICADOR) {
+                sentencia();
+                continue;
+            }
+            int desde = ast.size();
+            Symbol id = avanzar();
+            if (tok.sym != sym.ASIGNACION) {
+                sentenciaIdentificador(id);
+                continue;
+            }
+            avanzar();
+            expresion(0);
+            esperar(sym.PUNTO_COMA);
+            if (tok.sym == sym.END) {
+                ast.add(Ast.RETURN, desde, id.left, lexema(id));
+                return;
+            }
+            ast.add(Ast.ASSIGN, desde, id.left, lexema(id));
+        }
+    }
+
+    /**
+     * procedure_global ::= PROCEDURE IDENTIFICADOR ( parametros ) cuerpo_procedure
+     */
+    private void procedimiento() throws Exception {
+        int desde = ast.size();
+        avanzar();
+        Symbol id = esperar(sym.IDENTIFICADOR);
+        esperar(sym.PARENTESIS_IZQ);
+        parametros();
+        esperar(sym.PARENTESIS_DER);
+        if (tok.sym != sym.BEGIN && tok.sym != sym.VAR) {
+            throw new SyntaxError(tok);     // p. ej. ": tipo", que CUP informa
+        }
+        ast.add(Ast.PROC_HEAD, desde, id.left, lexema(id));
+        if (tok.sym == sym.VAR) {
+            avanzar();
+            listaDeclaraciones();
+        }
+        bloque(true);
+        ast.add(Ast.PROCEDURE, desde, id.left, lexema(id));
+    }
+
+    /**
+     * BEGIN sentencias_main END; con puedeVacio también BEGIN END
+     * (cuerpo_main y el cuerpo de un procedimiento)
+     */
+    private void bloque(boolean puedeVacio) throws Exception {
+        esperar(sym.BEGIN);
+        if (!puedeVacio) {
+            sentencia();    // sentencias_main: al menos una
+        }
+        while (tok.sym != sym.END) {
+            sentencia();
+        }
+        avanzar();
+    }
+
+    // ========================================================================
+    // SENTENCIAS
+    // ========================================================================
+
+    /**
+     * sentencia / sentencia_main (las dos tienen las mismas producciones)
+     */
+    private void sentencia() throws Exception {
+        switch (tok.sym) {
+            case sym.IDENTIFICADOR -> {
+                int desde = ast.size();
+                Symbol id = avanzar();
+                if (tok.sym == sym.ASIGNACION) {
+                    avanzar();
+                    expresion(0);
+                    esperar(sym.PUNTO_COMA);
+                    ast.add(Ast.ASSIGN, desde, id.left, lexema(id));
+                } else {
+                    sentenciaIdentificador(id);
+                }
+            }
+            case sym.WHILE -> mientras();
+            case sym.FOR -> para();
+            case sym.IF -> si();
+            case sym.READ -> leer();
+            case sym.WRITE -> escribir();
+            default -> throw new SyntaxError(tok);
+        }
+    }
+
+    /**
+     * Sentencias que empiezan con IDENTIFICADOR (ya consumido) y no son
+     * asignaciones: id++; id--; y llamadas
+     */
+    private void sentenciaIdentificador(Symbol id) throws Exception {
+        switch (tok.sym) {
+            case sym.INCREMENTO -> {
+                avanzar();
+                esperar(sym.PUNTO_COMA);
+                hoja(Ast.INCREMENT, id, lexema(id));
+            }
+            case sym.DECREMENTO -> {
+                avanzar();
+                esperar(sym.PUNTO_COMA);
+                hoja(Ast.DECREMENT, id, lexema(id));
+            }
+            case sym.PARENTESIS_IZQ -> {
+                llamada(id);
+                esperar(sym.PUNTO_COMA);
+            }
+            default -> throw new SyntaxError(tok);
+        }
+    }
+
+    /**
+     * while_stmt ::= WHILE condicion DO BEGIN sentencias_main END
+     */
+    private void mientras() throws Exception {
+        int desde = ast.size();
+        Symbol w = avanzar();
+        condicion();
+        esperar(sym.DO);
+        bloque(false);
+        ast.add(Ast.WHILE, desde, w.left, -1);
+    }
+
+    /**
+     * for_stmt ::= FOR IDENTIFICADOR ASIGNACION expresion TO expresion DO BEGIN sentencias_main END
+     * (sin acción)
+     */
+    private void para() throws Exception {
+        int desde = ast.size();
+        avanzar();
+        Symbol id = esperar(sym.IDENTIFICADOR);
+        esperar(sym.ASIGNACION);
+        expresion(0);
+        esperar(sym.TO);
+        expresion(0);
+        esperar(sym.DO);
+        bloque(false);
+        ast.add(Ast.FOR, desde, id.left, lexema(id));
+    }
+
+    /**
+     * if_stmt ::= IF condicion if_start BEGIN sentencias_main END [else_start BEGIN sentencias_main END]
+     */
+    private void si() throws Exception {
+        int desde = ast.size();
+        Symbol si = avanzar();
+        Symbol primero = tok;       // la línea del IF es la del comienzo de la condición
+        condicion();
+        esperar(sym.THEN);
+        hoja(Ast.THEN, primero, -1);
+        bloque(false);
+        if (tok.sym != sym.ELSE) {
+            ast.add(Ast.IF, desde, si.left, -1);
+            return;
+        }
+        hoja(Ast.ELSE, avanzar(), -1);
+        bloque(false);
+        ast.add(Ast.IF_ELSE, desde, si.left, -1);
+    }
+
+    /**
+     * read_stmt ::= READ ( ) ; | READ ( IDENTIFICADOR ) ;
+     */
+    private void leer() throws Exception {
+        Symbol r = avanzar();
+        esperar(sym.PARENTESIS_IZQ);
+        if (tok.sym == sym.PARENTESIS_DER) {
+            avanzar();
+            esperar(sym.PUNTO_COMA);
+            hoja(Ast.READ, r, -1);
+            return;
+        }
+        Symbol id = esperar(sym.IDENTIFICADOR);
+        esperar(sym.PARENTESIS_DER);
+        esperar(sym.PUNTO_COMA);
+        hoja(Ast.READ, id, lexema(id));
+    }
+
+    /**
+     * write_stmt ::= WRITE ( lista_expresiones ) ;
+     */
+    private void escribir() throws Exception {
+        int desde = ast.size();
+        Symbol w = avanzar();
+        esperar(sym.PARENTESIS_IZQ);
+        listaExpresiones();
+        esperar(sym.PARENTESIS_DER);
+        esperar(sym.PUNTO_COMA);
+        ast.add(Ast.WRITE, desde, w.left, -1);
+    }
+
+    /**
+     * llamada_funcion ::= IDENTIFICADOR ( [lista_expresiones] ), con el
+     * identificador ya consumido
+     */
+    private void llamada(Symbol id) throws Exception {
+        int desde = ast.size();
+        avanzar();
+        if (tok.sym != sym.PARENTESIS_DER) {
+            listaExpresiones();
+        }
+        esperar(sym.PARENTESIS_DER);
+        ast.add(Ast.CALL, desde, id.left, lexema(id));
+    }
+
+    /**
+     * lista_expresiones ::= expresion (COMA expresion)*: una expresión por
+     * hijo. CUP la arma por recursión a derecha y saca los resultados de la
+     * pila semántica recién después de la última expresión; las pasadas lo
+     * hacen en el nodo padre.
+     */
+    private void listaExpresiones() throws Exception {
+        expresion(0);
+        while (tok.sym == sym.COMA) {
+            avanzar();
+            expresion(0);
+        }
+    }
+
+    // ========================================================================
+    // EXPRESIONES
+    // ========================================================================
+
+    /**
+     * Expresión aritmética cuyos operadores binarios tienen precedencia
+     * mayor que min (0: todos). Todos asocian a izquierda, como la
+     * recursión a izquierda de expresion y termino.
+     */
+    private void expresion(int min) throws Exception {
+        int desde = ast.size();
+        factor();
+        infijos(min, desde);
+    }
+
+    /**
+     * Los operadores binarios que siguen a un operando ya analizado, que
+     * empieza en el nodo desde
+     */
+    private void infijos(int min, int desde) throws Exception {
+        int p;
+        while ((p = PRECEDENCIA[tok.sym]) > min) {
+            Symbol op = avanzar();
+            expresion(p);
+            ast.add(Ast.BINARY, desde, op.left, OPERADOR[op.sym]);
+        }
+    }
+
+    private void factor() throws Exception {
+        switch (tok.sym) {
+            case sym.PARENTESIS_IZQ -> {
+                avanzar();
+                expresion(0);
+                esperar(sym.PARENTESIS_DER);
+            }
+            case sym.IDENTIFICADOR -> {
+                Symbol id = avanzar();
+                switch (tok.sym) {
+                    case sym.PARENTESIS_IZQ -> llamada(id);
+                    case sym.INCREMENTO -> {
+                        avanzar();
+                        hoja(Ast.POST_INC, id, lexema(id));
+                    }
+                    case sym.DECREMENTO -> {
+                        avanzar();
+                        hoja(Ast.POST_DEC, id, lexema(id));
+                    }
+                    default -> hoja(Ast.VARIABLE, id, lexema(id));
+                }
+            }
+            case sym.LIT_ENTERO, sym.LIT_OCTAL, sym.LIT_HEX -> literal(Ast.INT_LIT);
+            case sym.LIT_REAL -> literal(Ast.REAL_LIT);
+            case sym.LIT_STRING -> literal(Ast.STRING_LIT);
+            case sym.LIT_CHAR -> literal(Ast.CHAR_LIT);
+            case sym.MENOS -> {
+                int desde = ast.size();
+                Symbol menos = avanzar();
+                factor();
+                ast.add(Ast.NEGATE, desde, menos.left, -1);
+            }
+            case sym.MAS -> {
+                avanzar();
+                factor();
+            }
+            case sym.INCREMENTO -> {
+                avanzar();
+                Symbol id = esperar(sym.IDENTIFICADOR);
+                hoja(Ast.PRE_INC, id, lexema(id));
+            }
+            case sym.DECREMENTO -> {
+                avanzar();
+                Symbol id = esperar(sym.IDENTIFICADOR);
+                hoja(Ast.PRE_DEC, id, lexema(id));
+            }
+            default -> throw new SyntaxError(tok);
+        }
+    }
+
+    private void literal(int k) throws Exception {
+        Symbol lit = avanzar();
+        hoja(k, lit, ast.lexema(lit.value.toString()));
+    }
+
+    // ========================================================================
+    // CONDICIONES
+    // ========================================================================
+
+    /**
+     * condicion ::= condicion OR condicion_and | condicion_and (OR, AND y
+     * NOT no tienen acciones)
+     */
+    private void condicion() throws Exception {
+        if (disyuncion()) {
+            throw new SyntaxError(tok);     // una expresión sola no es una condición
+        }
+    }
+
+    /*
+     * Un "(" al principio de una condición puede abrir una condición,
+     * "(a > b)", o una expresión, "(a + 1) > b": las dos reglas comparten
+     * el prefijo y CUP decide recién al ver lo que sigue a la expresión de
+     * adentro. Por eso las funciones que siguen devuelven true cuando lo que
+     * analizaron es una expresión sola (sin operador relacional, AND, OR ni
+     * NOT), que solo vale como contenido de esos paréntesis.
+     */
+
+    private boolean disyuncion() throws Exception {
+        int desde = ast.size();
+        if (conjuncion()) {
+            return true;
+        }
+        while (tok.sym == sym.OR) {
+            Symbol or = avanzar();
+            if (conjuncion()) {
+                throw new SyntaxError(tok);
+            }
+            ast.add(Ast.OR, desde, or.left, -1);
+        }
+        return false;
+    }
+
+    private boolean conjuncion() throws Exception {
+        int desde = ast.size();
+        if (negacion()) {
+            return true;
+        }
+        while (tok.sym == sym.AND) {
+            Symbol and = avanzar();
+            if (negacion()) {
+                throw new SyntaxError(tok);
+            }
+            ast.add(Ast.AND, desde, and.left, -1);
+        }
+        return false;
+    }
+
+    private boolean negacion() throws Exception {
+        if (tok.sym != sym.NOT) {
+            return relacional();
+        }
+        int desde = ast.size();
+        Symbol not = avanzar();
+        if (negacion()) {
+            throw new SyntaxError(tok);
+        }
+        ast.add(Ast.NOT, desde, not.left, -1);
+        return false;
+    }
+
+    /**
+     * condicion_relacional ::= expresion OPREL expresion | ( condicion )
+     */
+    private boolean relacional() throws Exception {
+        int desde = ast.size();
+        if (tok.sym == sym.PARENTESIS_IZQ) {
+            avanzar();
+            boolean expresionSola = disyuncion();
+            esperar(sym.PARENTESIS_DER);
+            if (!expresionSola) {
+                return false;       // ( condicion )
+            }
+            infijos(0, desde);      // era el factor ( expresion ) de una expresión más larga
+        } else {
+            expresion(0);
+        }
+        int op = switch (tok.sym) {     // índice en Ast.RELACIONALES
+            case sym.IGUAL -> 0;
+            case sym.DIFERENTE -> 1;
+            case sym.MENOR -> 2;
+            case sym.MAYOR -> 3;
+            case sym.MENOR_IGUAL -> 4;
+            case sym.MAYOR_IGUAL -> 5;
+            default -> -1;
+        };
+        if (op < 0) {
+            return true;
+        }
+        Symbol t = avanzar();
+        expresion(0);
+        ast.add(Ast.RELATIONAL, desde, t.left, op);
+        return false;
+    }
+}
@@ -0,0 +1,585 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+/**
+ * Acciones semánticas de la gramática, fuera del .cup para que las llamen
+ * tanto el parser de CUP como RecursiveParser: los dos parsers solo deciden
+ * cuándo reducir, y lo que hace cada reducción (tabla de símbolos, pila
+ * semántica, errores semánticos y código intermedio) está una sola vez acá.
+ *
+ * Cada método corresponde a la acción de una producción (la que se indica)
+ * y recibe lo que la acción leía de la pila de CUP: el lexema y la línea
+ * del identificador, las listas ya armadas o la pila de etiquetas del IF.
+ * Usan el estado semántico del hilo actual, como el resto del análisis.
+ *
+ * Las acciones que verifican y también generan código están partidas en
+ * dos: un check* (o declareVariable, numericVariable) que consulta la tabla
+ * de símbolos, registra los errores y dice si hay que generar código, y la
+ * parte que lo genera. Las acciones completas llaman a las dos, como antes;
+ * SemanticPass y CodeGenPass las llaman por separado sobre el Ast.
+ */
+public final class SemanticActions {
+
+    private SemanticActions() {
+    }
+
+    // ========================================================================
+    // DECLARACIONES
+    // ========================================================================
+
+    /**
+     * declaracion_variable_global ::= lista_identificadores DOS_PUNTOS tipo PUNTO_COMA
+     */
+    public static void declareVariables(List<Parser.IdInfo> ids, String t) {
+        // Para cada identificador declarado, lo agregamos a la tabla de símbolos
+        for (Parser.IdInfo id : ids) {
+            declareVariable(id.name, t, id.line);
+        }
+        // Declarar variables globales en el generador de código
+        for (Parser.IdInfo id : ids) {
+            CodeGenerator.declareGlobalVariable(id.name, t);
+        }
+    }
+
+    /**
+     * Agrega una variable declarada a la tabla de símbolos (sin generar código)
+     */
+    public static void declareVariable(String name, String t, int line) {
+        boolean ok = SymbolTable.addVariable(name, t, line);
+        if (!ok) {
+            // Variable doblemente definida en el mismo ámbito
+            SemanticAnalyzer.addError(
+                line,
+                "Variable '" + name + "' ya esta definida en el ambito " + SymbolTable.getCurrentScope(),
+                "DOBLE_DEFINICION"
+            );
+        }
+    }
+
+    /**
+     * funcion_global: después del tipo de retorno, antes del cuerpo. Abre el
+     * ámbito de la función (lo cierra SymbolTable.exitScope() al final).
+     */
+    public static void beginFunction(String id, int line, List<Parser.ParamInfo> plist, String t) {
+        // Convertir ParamInfo -> listas de nombres y tipos
+        List<String> paramNames = new ArrayList<>();
+        List<String> paramTypes = new ArrayList<>();
+        for (Parser.ParamInfo p : plist) {
+            paramNames.add(p.name);
+            paramTypes.add(p.type);
+        }
+
+        boolean ok = SymbolTable.addFunction(id, line, paramNames, paramTypes, t);
+        if (!ok) {
+            SemanticAnalyzer.addError(
+                line,
+                "Funcion '" + id + "' ya esta definida en el ambito GLOBAL",
+                "DOBLE_DEFINICION_FUNCION"
+            );
+        }
+
+        // Abrir scope para la función
+        SymbolTable.enterScope(id);
+
+        // Insertar parámetros como variables del scope de la función
+        for (Parser.ParamInfo p : plist) {
+            boolean okVar = SymbolTable.addVariable(p.name, p.type, p.line);
+            if (!okVar) {
+                SemanticAnalyzer.addError(
+                    p.line,
+                    "Parametro '" + p.name + "' ya esta definido en el ambito de la funcion '" + id + "'",
+                    "DOBLE_DEFINICION"
+                );
+            }
+        }
+    }
+
+    /**
+     * procedure_global: después de los parámetros, antes del cuerpo
+     */
+    public static void beginProcedure(String id, int line, List<Parser.ParamInfo> plist) {
+        List<String> paramNames = new ArrayList<>();
+        List<String> paramTypes = new ArrayList<>();
+        for (Parser.ParamInfo p : plist) {
+            paramNames.add(p.name);
+            paramTypes.add(p.type);
+        }
+
+        boolean ok = SymbolTable.addProcedure(id, line, paramNames, paramTypes);
+        if (!ok) {
+            SemanticAnalyzer.addError(
+                line,
+                "Procedimiento '" + id + "' ya esta definido en el ambito GLOBAL",
+                "DOBLE_DEFINICION_PROCEDURE"
+            );
+        }
+
+        SymbolTable.enterScope(id);
+
+        // Insertar parámetros como variables del scope del procedimiento
+        for (Parser.ParamInfo p : plist) {
+            boolean okVar = SymbolTable.addVariable(p.name, p.type, p.line);
+            if (!okVar) {
+                SemanticAnalyzer.addError(
+                    p.line,
+                    "Parametro '" + p.name + "' ya esta definido en el ambito del procedimiento '" + id + "'",
+                    "DOBLE_DEFINICION"
+                );
+            }
+        }
+    }
+
+    // ========================================================================
+    // SENTENCIAS
+    // ========================================================================
+
+    /**
+     * retorno ::= IDENTIFICADOR ASIGNACION expresion PUNTO_COMA
+     */
+    public static void functionReturn(String id, int line) {
+        // Resultado de la expresión de retorno
+        SemanticStack.StackEntry expr = popExpression();
+        if (checkReturn(id, line, expr)) {
+            // Código intermedio para el retorno: nombreFuncion = valor
+            emitStore(SymbolTable.getCurrentScope(), expr);
+        }
+    }
+
+    /**
+     * Verificación del retorno: true si hay que generar la asignación al
+     * nombre de la función (expr: el resultado de la expresión, o null)
+     */
+    public static boolean checkReturn(String id, int line, SemanticStack.StackEntry expr) {
+        // Nombre del scope actual (debería ser el nombre de la función)
+        String currentScope = SymbolTable.getCurrentScope();
+
+        // 1) Verificar que se está retornando a la función correcta
+        if (!id.equals(currentScope)) {
+            SemanticAnalyzer.addError(
+                line,
+                "El retorno debe asignarse al identificador de la funcion '" +
+                currentScope + "', no a '" + id + "'",
+                "RETORNO_INVALIDO"
+            );
+        }
+
+        // 2) Verificar tipo de retorno vs tipo de la función
+        SymbolTable.Symbol funSym = SymbolTable.lookupInScope(currentScope, "GLOBAL");
+        if (funSym != null && expr != null && !expr.type.equals("ERROR")) {
+
+            boolean compatible =
+                   funSym.type.equals(expr.type)
+                || (funSym.type.equals("REAL") && expr.type.equals("INT"));
+
+            if (!compatible) {
+                SemanticAnalyzer.addError(
+                    line,
+                    "Tipo de retorno incompatible en funcion '" + currentScope +
+                    "': se esperaba " + funSym.type +
+                    " pero se obtuvo " + expr.type,
+                    "TIPO_RETORNO_INCOMPATIBLE"
+                );
+            }
+            return compatible;
+        }
+        return false;
+    }
+
+    /**
+     * sentencia / sentencia_main ::= IDENTIFICADOR ASIGNACION expresion PUNTO_COMA
+     */
+    public static void assignment(String id, int line) {
+        // Resultado de la expresión en la pila semántica
+        SemanticStack.StackEntry expr = popExpression();
+        if (checkAssignment(id, line, expr)) {
+            // Código intermedio: id = expr.value
+            emitStore(id, expr);
+        }
+    }
+
+    /**
+     * Verificación de la asignación: true si hay que generar su código
+     * (expr: el resultado de la expresión, o null)
+     */
+    public static boolean checkAssignment(String id, int line, SemanticStack.StackEntry expr) {
+        // Buscar la variable en la tabla de símbolos
+        SymbolTable.Symbol sym = SymbolTable.lookup(id);
+        if (sym == null) {
+            SemanticAnalyzer.addError(
+                line,
+                "Variable '" + id + "' no esta definida en un ambito visible",
+                "VAR_NO_DEFINIDA"
+            );
+        } else if (expr != null && !expr.type.equals("ERROR")) {
+            // Compatibilidad simple de tipos
+            boolean compatible =
+                   sym.type.equals(expr.type)
+                || (sym.type.equals("REAL") && expr.type.equals("INT")); // INT -> REAL permitido
+
+            if (!compatible) {
+                SemanticAnalyzer.addError(
+                    line,
+                    "Tipos incompatibles en asignacion: no se puede asignar " +
+                    expr.type + " a variable de tipo " + sym.type,
+                    "TIPOS_INCOMPATIBLES"
+                );
+            }
+            return compatible;
+        }
+        return false;
+    }
+
+    /**
+     * target = expr (una asignación o un retorno ya verificados)
+     */
+    public static void emitStore(String target, SemanticStack.StackEntry expr) {
+        if (expr.isConst && expr.type.equals("INT")) {
+            CodeGenerator.emitAssignmentConst(target, expr.getIntValue());
+        } else {
+            CodeGenerator.emitAssignment(target, expr.value);
+        }
+    }
+
+    /**
+     * sentencia / sentencia_main ::= IDENTIFICADOR INCREMENTO PUNTO_COMA
+     */
+    public static void incrementStatement(String id, int line) {
+        if (numericVariable(id, line, true) != null) {
+            // x++  =>  x = x + 1
+            CodeGenerator.emitIncrement(id);
+        }
+    }
+
+    /**
+     * sentencia / sentencia_main ::= IDENTIFICADOR DECREMENTO PUNTO_COMA
+     */
+    public static void decrementStatement(String id, int line) {
+        if (numericVariable(id, line, false) != null) {
+            // x--  =>  x = x - 1
+            CodeGenerator.emitDecrement(id);
+        }
+    }
+
+    /**
+     * Variable numérica a la que se le aplica ++ (increment) o --, en una
+     * sentencia o en una expresión; null si no está definida o no es INT ni
+     * REAL (el error ya quedó registrado)
+     */
+    public static SymbolTable.Symbol numericVariable(String id, int line, boolean increment) {
+        SymbolTable.Symbol sym = SymbolTable.lookup(id);
+        if (sym == null) {
+            SemanticAnalyzer.addError(
+                line,
+                "Variable '" + id + "' no esta definida para " + (increment ? "incremento" : "decremento"),
+                "VAR_NO_DEFINIDA"
+            );
+            return null;
+        }
+        if (!sym.type.equals("INT") && !sym.type.equals("REAL")) {
+            SemanticAnalyzer.addError(
+                line,
+                (increment ? "Incremento" : "Decremento") + " solo permitido en variables numericas",
+                "TIPO_NO_NUMERICO"
+            );
+            return null;
+        }
+        return sym;
+    }
+
+    /**
+     * read_stmt ::= READ PARENTESIS_IZQ IDENTIFICADOR PARENTESIS_DER PUNTO_COMA
+     */
+    public static void readVariable(String id, int line) {
+        SymbolTable.Symbol sym = SymbolTable.lookup(id);
+        if (sym == null) {
+            SemanticAnalyzer.addError(
+                line,
+                "Variable '" + id + "' usada en READ no esta definida",
+                "VAR_NO_DEFINIDA"
+            );
+        }
+    }
+
+    /**
+     * write_stmt ::= WRITE PARENTESIS_IZQ lista_expresiones PARENTESIS_DER PUNTO_COMA
+     */
+    public static void write(List<SemanticStack.StackEntry> args) {
+        // Generar una instrucción WRITE por cada expresión
+        if (args != null) {
+            for (SemanticStack.StackEntry entry : args) {
+                if (entry == null) continue;
+
+                if ("INT".equals(entry.type)) {
+                    if (entry.isConst) {
+                        String t = CodeGenerator.newTemp();
+                        CodeGenerator.emitAssignmentConst(t, entry.getIntValue());
+                        CodeGenerator.emitWriteInt(t);
+                    } else {
+                        CodeGenerator.emitWriteInt(entry.value);
+                    }
+                } else if ("STRING".equals(entry.type)) {
+                    String content = entry.value;
+                    if (content.startsWith("\"") && content.endsWith("\"") && content.length() >= 2) {
+                        content = content.substring(1, content.length() - 1);
+                    }
+                    String label = CodeGenerator.addStringLiteral(content);
+                    CodeGenerator.emitWriteString(label);
+                }
+            }
+        }
+    }
+
+    // ========================================================================
+    // ESTRUCTURAS DE CONTROL
+    // ========================================================================
+
+    /**
+     * while_stmt ::= WHILE condicion DO BEGIN sentencias_main END
+     * (line: la del WHILE)
+     */
+    public static void whileEnd(int line) {
+        // Verificar que la condición sea de tipo BOOL
+        checkCondition(popExpression(), line, "WHILE");
+    }
+
+    /**
+     * La condición de un WHILE o un IF (stmt) tiene que ser BOOL (cond: el
+     * resultado de la condición, o null)
+     */
+    public static void checkCondition(SemanticStack.StackEntry cond, int line, String stmt) {
+        if (cond != null && !cond.type.equals("BOOL") && !cond.type.equals("ERROR")) {
+            SemanticAnalyzer.addError(
+                line,
+                "La condicion del " + stmt + " debe ser de tipo BOOL",
+                "CONDICION_NO_BOOLEANA"
+            );
+        }
+    }
+
+    /**
+     * if_start ::= THEN (line: la del primer token de la condición). Apila y
+     * devuelve la etiqueta del caso falso.
+     */
+    public static String ifStart(int line, Stack<String> ifLabelStack) {
+        // Sacar el resultado de la condición (BOOL esperado)
+        SemanticStack.StackEntry cond = popExpression();
+
+        // Validar que la condición sea booleana
+        checkCondition(cond, line, "IF");
+        return emitIfStart(cond, ifLabelStack);
+    }
+
+    /**
+     * Código de if_start: el salto al caso falso según cond (o un 0 si la
+     * condición falta o tuvo errores). Apila y devuelve la etiqueta.
+     */
+    public static String emitIfStart(SemanticStack.StackEntry cond, Stack<String> ifLabelStack) {
+        // Asegurar un valor de condición para el salto
+        String condValue = (cond != null ? cond.value : CodeGenerator.newTemp());
+        if (cond == null || "ERROR".equals(cond.type)) {
+            CodeGenerator.emitAssignmentConst(condValue, 0);
+        }
+
+        String labelFalse = CodeGenerator.emitIfStart(condValue);
+        ifLabelStack.push(labelFalse);
+        return labelFalse;
+    }
+
+    /**
+     * else_start ::= ELSE; devuelve la etiqueta del final del IF
+     */
+    public static String elseStart(Stack<String> ifLabelStack) {
+        String labelFalse = ifLabelStack.isEmpty() ? null : ifLabelStack.pop();
+        return CodeGenerator.emitElse(labelFalse);
+    }
+
+    /**
+     * if_stmt ::= IF condicion if_start BEGIN sentencias_main END
+     */
+    public static void ifEnd(Stack<String> ifLabelStack) {
+        String labelFalse = ifLabelStack.isEmpty() ? null : ifLabelStack.pop();
+        CodeGenerator.emitIfEnd(labelFalse);
+    }
+
+    // ========================================================================
+    // EXPRESIONES
+    // ========================================================================
+
+    /**
+     * factor ::= IDENTIFICADOR INCREMENTO: el valor es el ANTERIOR de id
+     */
+    public static void postIncrement(String id, int line) {
+        if (numericVariable(id, line, true) == null) {
+            // El error ya quedó registrado; "ERROR" no es un tipo de loadConstant y no se apila nada
+            SemanticStack.loadConstant("ERROR", "0");
+        } else {
+            // Usar valor actual en la expresión
+            SemanticStack.loadVariable(id, line);
+            // y luego hacer el efecto lateral x = x + 1
+            CodeGenerator.emitIncrement(id);
+        }
+    }
+
+    /**
+     * factor ::= IDENTIFICADOR DECREMENTO: el valor es el ANTERIOR de id
+     */
+    public static void postDecrement(String id, int line) {
+        if (numericVariable(id, line, false) == null) {
+            SemanticStack.loadConstant("ERROR", "0");
+        } else {
+            SemanticStack.loadVariable(id, line);
+            CodeGenerator.emitDecrement(id);
+        }
+    }
+
+    /**
+     * factor ::= INCREMENTO IDENTIFICADOR: primero x = x + 1, el valor es el NUEVO
+     */
+    public static void preIncrement(String id, int line) {
+        if (numericVariable(id, line, true) == null) {
+            SemanticStack.loadConstant("ERROR", "0");
+        } else {
+            CodeGenerator.emitIncrement(id);
+            SemanticStack.loadVariable(id, line);
+        }
+    }
+
+    /**
+     * factor ::= DECREMENTO IDENTIFICADOR: primero x = x - 1, el valor es el NUEVO
+     */
+    public static void preDecrement(String id, int line) {
+        if (numericVariable(id, line, false) == null) {
+            SemanticStack.loadConstant("ERROR", "0");
+        } else {
+            CodeGenerator.emitDecrement(id);
+            SemanticStack.loadVariable(id, line);
+        }
+    }
+
+    /**
+     * Resultado de una expresión de lista_expresiones / mas_expresiones
+     * (null si la pila semántica quedó vacía)
+     */
+    public static SemanticStack.StackEntry popExpression() {
+        SemanticStack.StackEntry expr = null;
+        if (SemanticStack.size() > 0) {
+            expr = SemanticStack.pop();
+        }
+        return expr;
+    }
+
+    /**
+     * llamada_funcion ::= IDENTIFICADOR PARENTESIS_IZQ lista_expresiones PARENTESIS_DER
+     */
+    public static void call(String id, int line, List<SemanticStack.StackEntry> args) {
+        if (checkCall(id, line, args)) {
+            // Traducción muy simple de la llamada (sin manejar retorno aún)
+            CodeGenerator.emitCode("CALL " + id);
+        }
+    }
+
+    /**
+     * Verificación de una llamada con argumentos: true si id es una función
+     * o un procedimiento y hay que generar el CALL (aunque los argumentos
+     * tengan errores)
+     */
+    public static boolean checkCall(String id, int line, List<SemanticStack.StackEntry> args) {
+        SymbolTable.Symbol sym = SymbolTable.lookupInScope(id, "GLOBAL");
+        if (sym == null ||
+            !(sym.category.equals("FUNCTION") || sym.category.equals("PROCEDURE"))) {
+            // No está definida como función/procedimiento
+            SemanticAnalyzer.addError(
+                line,
+                "Llamada a '" + id + "' que no esta definida como funcion o procedimiento",
+                "FUNCION_NO_DEFINIDA"
+            );
+        } else {
+            // Tipos de parámetros formales
+            List<String> formalTypes = sym.paramTypes;
+            int expected = (formalTypes != null ? formalTypes.size() : 0);
+            int received = (args != null ? args.size() : 0);
+
+            // Verificar cantidad de parámetros
+            if (expected != received) {
+                SemanticAnalyzer.addError(
+                    line,
+                    "Cantidad de parametros incorrecta al llamar '" + id +
+                    "': se esperaban " + expected +
+                    " y se recibieron " + received,
+                    "CANT_PARAM_INCORRECTA"
+                );
+            } else {
+                // Verificar tipos parámetro por parámetro
+                for (int i = 0; i < expected; i++) {
+                    String expectedType = formalTypes.get(i);
+
+                    SemanticStack.StackEntry argEntry = args.get(i);
+                    String argType = (argEntry != null ? argEntry.type : "ERROR");
+
+                    if ("ERROR".equals(argType)) {
+                        // Ya hubo error antes en esa expresión, no duplicamos
+                        continue;
+                    }
+
+                    boolean compatible =
+                           expectedType.equals(argType)
+                        || (expectedType.equals("REAL") && argType.equals("INT")); // INT -> REAL permitido
+
+                    if (!compatible) {
+                        SemanticAnalyzer.addError(
+                            line,
+                            "Tipo de parametro " + (i+1) + " incorrecto en llamada a '" + id +
+                            "': se esperaba " + expectedType +
+                            " pero se obtuvo " + argType,
+                            "TIPO_PARAM_INCORRECTO"
+                        );
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * llamada_funcion ::= IDENTIFICADOR PARENTESIS_IZQ PARENTESIS_DER
+     */
+    public static void callNoArgs(String id, int line) {
+        if (checkCallNoArgs(id, line)) {
+            CodeGenerator.emitCode("CALL " + id);
+        }
+    }
+
+    /**
+     * Verificación de una llamada sin argumentos, como checkCall
+     */
+    public static boolean checkCallNoArgs(String id, int line) {
+        SymbolTable.Symbol sym = SymbolTable.lookupInScope(id, "GLOBAL");
+        if (sym == null ||
+            !(sym.category.equals("FUNCTION") || sym.category.equals("PROCEDURE"))) {
+            SemanticAnalyzer.addError(
+                line,
+                "Llamada a '" + id + "' que no esta definida como funcion o procedimiento",
+                "FUNCION_NO_DEFINIDA"
+            );
+        } else {
+            // Verificar que la función/procedimiento no espere parámetros
+            List<String> formalTypes = sym.paramTypes;
+            int expected = (formalTypes != null ? formalTypes.size() : 0);
+
+            if (expected != 0) {
+                SemanticAnalyzer.addError(
+                    line,
+                    "Llamada a '" + id + "' sin argumentos, pero la definicion espera " +
+                    expected + " parametro(s)",
+                    "CANT_PARAM_INCORRECTA"
+                );
+            }
+            return true;
+        }
+        return false;
+    }
+}
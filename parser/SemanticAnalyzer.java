@@ -13,7 +13,11 @@ public class SemanticAnalyzer {
     // ALMACENAMIENTO DE ERRORES
     // ========================================================================
     
-    private static List<SemanticError> errors = new ArrayList<>();
+    // Una lista por hilo: cada compilación en paralelo acumula sus propios errores
+    private static final ThreadLocal<List<SemanticError>> ERRORS = ThreadLocal.withInitial(ArrayList::new);
+
+    // Con el reporte diferido los errores se guardan sin imprimirse (ver reportDeferred)
+    private static final ThreadLocal<Boolean> DEFERRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
     
     /**
      * Clase interna para representar un error semántico
@@ -43,37 +47,70 @@ public class SemanticAnalyzer {
      * Reinicia el analizador (para nuevos análisis)
      */
     public static void reset() {
-        errors.clear();
+        ERRORS.get().clear();
     }
     
     /**
      * Agrega un error semántico
      */
     public static void addError(int line, String message, String type) {
-        errors.add(new SemanticError(line, message, type));
-        System.err.println("[SEMANTIC ERROR] Línea " + line + ": " + message);
+        SemanticError e = new SemanticError(line, message, type);
+        ERRORS.get().add(e);
+        if (!DEFERRED.get()) {
+            print(e);
+        }
     }
     
     /**
      * Agrega un error sin tipo específico
      */
     public static void addError(String message) {
-        errors.add(new SemanticError(-1, message, "GENERAL"));
-        System.err.println("[SEMANTIC ERROR] " + message);
+        SemanticError e = new SemanticError(-1, message, "GENERAL");
+        ERRORS.get().add(e);
+        if (!DEFERRED.get()) {
+            print(e);
+        }
+    }
+
+    /**
+     * Activa o desactiva el reporte diferido en el hilo actual. MainParser lo
+     * usa mientras prueba RecursiveParser: si el intento falla, CUP reanaliza
+     * el fuente y los errores del intento no deben aparecer.
+     */
+    public static void setDeferredReport(boolean on) {
+        DEFERRED.set(on);
+    }
+
+    /**
+     * Imprime los errores guardados durante el reporte diferido y lo desactiva
+     */
+    public static void reportDeferred() {
+        DEFERRED.set(Boolean.FALSE);
+        for (SemanticError e : ERRORS.get()) {
+            print(e);
+        }
+    }
+
+    private static void print(SemanticError e) {
+        if (e.line == -1 && "GENERAL".equals(e.type)) {
+            System.err.println("[SEMANTIC ERROR] " + e.message);
+        } else {
+            System.err.println("[SEMANTIC ERROR] Línea " + e.line + ": " + e.message);
+        }
     }
     
     /**
      * Verifica si hay errores
      */
     public static boolean hasErrors() {
-        return !errors.isEmpty();
+        return !ERRORS.get().isEmpty();
     }
     
     /**
      * Obtiene la cantidad de errores
      */
     public static int getErrorCount() {
-        return errors.size();
+        return ERRORS.get().size();
     }
 
     // ========================================================================
@@ -84,6 +121,7 @@ public class SemanticAnalyzer {
      * Imprime todos los errores semánticos
      */
     public static void printErrors() {
+        List<SemanticError> errors = ERRORS.get();
         System.out.println("\n" + "=".repeat(80));
         System.out.println("                    ERRORES SEMÁNTICOS");
         System.out.println("=".repeat(80));
@@ -117,6 +155,7 @@ public class SemanticAnalyzer {
      * Imprime un resumen corto
      */
     public static void printSummary() {
+        List<SemanticError> errors = ERRORS.get();
         if (errors.isEmpty()) {
             System.out.println("✓ Análisis semántico exitoso (0 errores)");
         } else {
@@ -128,6 +167,7 @@ public class SemanticAnalyzer {
      * Exporta errores a un archivo
      */
     public static void exportErrors(String filename) {
+        List<SemanticError> errors = ERRORS.get();
         try (java.io.PrintWriter writer = new java.io.PrintWriter(filename)) {
             writer.println("ERRORES SEMÁNTICOS");
             writer.println("=".repeat(80));
@@ -151,6 +191,6 @@ public class SemanticAnalyzer {
      * Obtiene lista de errores (para testing)
      */
     public static List<SemanticError> getErrors() {
-        return new ArrayList<>(errors);
+        return new ArrayList<>(ERRORS.get());
     }
 }
\ No newline at end of file
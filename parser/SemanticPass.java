@@ -0,0 +1,184 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Primera pasada sobre el Ast: tabla de símbolos, errores semánticos y
+ * tipos, sin generar código. Corre las verificaciones de SemanticActions en
+ * el mismo orden que el parser de CUP, así que los errores y la tabla salen
+ * iguales.
+ *
+ * La pila semántica se simula solo con tipos: las verificaciones miran el
+ * type de lo que sacan, nunca el valor. Lo que CodeGenPass necesita saber
+ * queda anotado en el nodo:
+ *  - ASSIGN, RETURN, INCREMENT, DECREMENT y CALL: 1 si hay que generar su
+ *    código, 0 si no
+ *  - VARIABLE: el tipo con el que se carga (índice en Ast.TIPOS)
+ *  - POST_INC, POST_DEC, PRE_INC y PRE_DEC: el tipo de la variable, o
+ *    NO_CARGA si tuvo un error y no se apila nada
+ *
+ * Si esta pasada termina, la de código no puede encontrar otro error
+ * semántico. Las excepciones que CUP tendría por la pila vacía salen acá;
+ * las de la evaluación de constantes (división por cero, un literal que no
+ * entra en un int) salen en CodeGenPass.
+ */
+public final class SemanticPass {
+
+    public static final int NO_CARGA = -1;
+
+    // Una entrada por tipo: las verificaciones solo leen type
+    private static final SemanticStack.StackEntry[] ENTRADAS = new SemanticStack.StackEntry[Ast.TIPOS.length];
+
+    static {
+        for (int i = 0; i < ENTRADAS.length; i++) {
+            ENTRADAS[i] = new SemanticStack.StackEntry(Ast.TIPOS[i], (String) null);
+        }
+    }
+
+    private static final int INT = Ast.tipo("INT");
+    private static final int REAL = Ast.tipo("REAL");
+    private static final int CHAR = Ast.tipo("CHAR");
+    private static final int STRING = Ast.tipo("STRING");
+    private static final int BOOL = Ast.tipo("BOOL");
+
+    private final Ast ast;
+    private int[] pila = new int[64];   // tipos (índices en Ast.TIPOS)
+    private int tope;
+
+    private SemanticPass(Ast ast) {
+        this.ast = ast;
+    }
+
+    /**
+     * Corre la pasada sobre el árbol con el estado semántico del hilo actual
+     */
+    public static void run(Ast ast) {
+        new SemanticPass(ast).recorrer();
+    }
+
+    private void recorrer() {
+        Ast a = ast;
+        for (int i = 0, n = a.size(); i < n; i++) {
+            switch (a.clase(i)) {
+                case Ast.DECL -> {
+                    // Hijos: ID+ y TYPE, todas hojas
+                    String t = Ast.TIPOS[a.dato(i - 1)];
+                    for (int id = a.inicio(i); id < i - 1; id++) {
+                        SemanticActions.declareVariable(a.texto(id), t, a.linea(id));
+                    }
+                }
+                case Ast.FUNC_HEAD -> SemanticActions.beginFunction(a.texto(i), a.linea(i),
+                    parametros(i, i - 1), Ast.TIPOS[a.dato(i - 1)]);
+                case Ast.PROC_HEAD -> SemanticActions.beginProcedure(a.texto(i), a.linea(i), parametros(i, i));
+                case Ast.FUNCTION, Ast.PROCEDURE -> SymbolTable.exitScope();
+                case Ast.ASSIGN -> a.anotar(i, SemanticActions.checkAssignment(a.texto(i), a.linea(i), sacar()) ? 1 : 0);
+                case Ast.RETURN -> a.anotar(i, SemanticActions.checkReturn(a.texto(i), a.linea(i), sacar()) ? 1 : 0);
+                case Ast.INCREMENT, Ast.DECREMENT -> a.anotar(i,
+                    SemanticActions.numericVariable(a.texto(i), a.linea(i), a.clase(i) == Ast.INCREMENT) != null ? 1 : 0);
+                case Ast.READ -> {
+                    if (a.dato(i) >= 0) {
+                        SemanticActions.readVariable(a.texto(i), a.linea(i));
+                    }
+                }
+                case Ast.WRITE -> {
+                    for (int k = a.hijos(i); k > 0; k--) {
+                        sacar();
+                    }
+                }
+                case Ast.CALL -> {
+                    int k = a.hijos(i);
+                    boolean ok;
+                    if (k == 0) {
+                        ok = SemanticActions.checkCallNoArgs(a.texto(i), a.linea(i));
+                    } else {
+                        SemanticStack.StackEntry[] args = new SemanticStack.StackEntry[k];
+                        for (int j = k - 1; j >= 0; j--) {
+                            args[j] = sacar();
+                        }
+                        ok = SemanticActions.checkCall(a.texto(i), a.linea(i), Arrays.asList(args));
+                    }
+                    a.anotar(i, ok ? 1 : 0);
+                }
+                case Ast.WHILE -> SemanticActions.checkCondition(sacar(), a.linea(i), "WHILE");
+                case Ast.THEN -> SemanticActions.checkCondition(sacar(), a.linea(i), "IF");
+                case Ast.VARIABLE -> {
+                    int t = Ast.tipo(SemanticStack.variableType(a.texto(i), a.linea(i)));
+                    apilar(t);
+                    a.anotar(i, t);
+                }
+                case Ast.INT_LIT -> apilar(INT);
+                case Ast.REAL_LIT -> apilar(REAL);
+                case Ast.STRING_LIT -> apilar(STRING);
+                case Ast.CHAR_LIT -> apilar(CHAR);
+                case Ast.BINARY -> {
+                    // El resultado tiene el tipo del operando izquierdo (también al plegar constantes INT)
+                    desapilar();
+                    apilar(desapilar());
+                }
+                case Ast.RELATIONAL -> {
+                    desapilar();
+                    desapilar();
+                    apilar(BOOL);
+                }
+                case Ast.NEGATE -> apilar(desapilar());
+                case Ast.POST_INC, Ast.POST_DEC, Ast.PRE_INC, Ast.PRE_DEC -> {
+                    int k = a.clase(i);
+                    SymbolTable.Symbol sym = SemanticActions.numericVariable(a.texto(i), a.linea(i),
+                        k == Ast.POST_INC || k == Ast.PRE_INC);
+                    if (sym == null) {
+                        a.anotar(i, NO_CARGA);
+                    } else {
+                        int t = Ast.tipo(sym.type);
+                        apilar(t);
+                        a.anotar(i, t);
+                    }
+                }
+                default -> {
+                    // PROGRAM, ID, TYPE, PARAM, FOR, ELSE, IF, IF_ELSE, AND, OR, NOT: sin acción
+                }
+            }
+        }
+    }
+
+    /**
+     * Los PARAM de una cabecera (cada uno con su TYPE), que van de su
+     * inicio hasta fin
+     */
+    private List<Parser.ParamInfo> parametros(int cabecera, int fin) {
+        List<Parser.ParamInfo> list = new ArrayList<>();
+        for (int p = ast.inicio(cabecera) + 1; p < fin; p += 2) {
+            list.add(new Parser.ParamInfo(ast.texto(p), Ast.TIPOS[ast.dato(p - 1)], ast.linea(p)));
+        }
+        return list;
+    }
+
+    // ========================================================================
+    // PILA DE TIPOS
+    // ========================================================================
+
+    private void apilar(int t) {
+        if (tope == pila.length) {
+            pila = Arrays.copyOf(pila, tope * 2);
+        }
+        pila[tope++] = t;
+    }
+
+    /**
+     * Como SemanticStack.pop()
+     */
+    private int desapilar() {
+        if (tope == 0) {
+            throw new RuntimeException("Pila semántica vacía (pop)");
+        }
+        return pila[--tope];
+    }
+
+    /**
+     * Como SemanticActions.popExpression(): null si la pila está vacía
+     */
+    private SemanticStack.StackEntry sacar() {
+        return (tope == 0) ? null : ENTRADAS[pila[--tope]];
+    }
+}
@@ -72,32 +72,38 @@ public class SemanticStack {
     // PILA SEMÁNTICA
     // ========================================================================
     
-    private static Stack<StackEntry> stack = new Stack<>();
+    // Una pila por hilo: cada compilación en paralelo usa la suya
+    private static final ThreadLocal<Stack<StackEntry>> STACK = ThreadLocal.withInitial(Stack::new);
     
     /**
      * Reinicia la pila
      */
     public static void reset() {
-        stack.clear();
+        STACK.get().clear();
     }
     
     /**
      * Agrega un elemento a la pila
      */
     public static void push(StackEntry entry) {
-        stack.push(entry);
-        System.out.println("[DEBUG STACK] Push: " + entry);
+        STACK.get().push(entry);
+        if (Trace.on(Trace.Category.STACK, Trace.Level.DEBUG)) {
+            Trace.log(Trace.Category.STACK, Trace.Level.DEBUG, "Push: " + entry);
+        }
     }
     
     /**
      * Saca el tope de la pila
      */
     public static StackEntry pop() {
+        Stack<StackEntry> stack = STACK.get();
         if (stack.isEmpty()) {
             throw new RuntimeException("Pila semántica vacía (pop)");
         }
         StackEntry entry = stack.pop();
-        System.out.println("[DEBUG STACK] Pop: " + entry);
+        if (Trace.on(Trace.Category.STACK, Trace.Level.DEBUG)) {
+            Trace.log(Trace.Category.STACK, Trace.Level.DEBUG, "Pop: " + entry);
+        }
         return entry;
     }
     
@@ -105,6 +111,7 @@ public class SemanticStack {
      * Ve el tope sin sacarlo
      */
     public static StackEntry peek() {
+        Stack<StackEntry> stack = STACK.get();
         if (stack.isEmpty()) {
             throw new RuntimeException("Pila semántica vacía (peek)");
         }
@@ -115,20 +122,21 @@ public class SemanticStack {
      * Verifica si está vacía
      */
     public static boolean isEmpty() {
-        return stack.isEmpty();
+        return STACK.get().isEmpty();
     }
     
     /**
      * Obtiene el tamaño actual
      */
     public static int size() {
-        return stack.size();
+        return STACK.get().size();
     }
     
     /**
      * Imprime el estado actual (debugging)
      */
     public static void printStack() {
+        Stack<StackEntry> stack = STACK.get();
         System.out.println("[STACK] Contenido actual (" + stack.size() + " elementos):");
         for (int i = stack.size() - 1; i >= 0; i--) {
             System.out.println("  [" + i + "] " + stack.get(i));
@@ -162,7 +170,9 @@ public class SemanticStack {
                 case "DIV" -> result = leftVal / rightVal;
             }
             
-            System.out.println("[CONSTANT FOLDING] " + leftVal + " " + operator + " " + rightVal + " = " + result);
+            if (Trace.on(Trace.Category.FOLD, Trace.Level.INFO)) {
+                Trace.log(Trace.Category.FOLD, Trace.Level.INFO, leftVal + " " + operator + " " + rightVal + " = " + result);
+            }
             push(new StackEntry("INT", result));
             return;
         }
@@ -249,6 +259,14 @@ public class SemanticStack {
      * Carga una variable desde SymbolTable a la pila
      */
     public static void loadVariable(String name, int line) {
+        push(new StackEntry(variableType(name, line), name));
+    }
+
+    /**
+     * Tipo con el que se carga una variable; si no está definida registra
+     * el error y devuelve "ERROR"
+     */
+    public static String variableType(String name, int line) {
         SymbolTable.Symbol sym = SymbolTable.lookup(name);
         if (sym == null) {
             // mismo tipo de error que estás usando en el parser.cup
@@ -258,10 +276,9 @@ public class SemanticStack {
                 "VAR_NO_DEFINIDA"
             );
             // seguimos, pero marcamos el tipo como ERROR
-            push(new StackEntry("ERROR", name));
-        } else {
-            push(new StackEntry(sym.type, name));
+            return "ERROR";
         }
+        return sym.type;
     }
 
     
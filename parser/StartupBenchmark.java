@@ -0,0 +1,147 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Locale;
+
+import java_cup.runtime.Symbol;
+import scanner.Scanner;
+import scanner.TokenStats;
+
+/**
+ * Benchmark de arranque en frío: cuánto tarda una JVM nueva en sacar el
+ * primer token del Scanner de JFlex y en llegar a la primera reducción del
+ * Parser de CUP, con las tablas decodificadas de los strings empaquetados
+ * (-Dabs.packedTables=true) o cargadas de la imagen de TableImage.
+ *
+ * Cada medición es un proceso aparte (los tiempos de inicialización de
+ * clases solo se ven una vez por JVM); los dos modos se alternan. Los
+ * tiempos se cuentan desde el main del proceso hijo; además se informa el
+ * tiempo del proceso completo visto desde afuera. La imagen tiene que
+ * existir (generar.sh, o java parser.TableGen después de compilar).
+ *
+ * Uso: java parser.StartupBenchmark [--runs n]
+ */
+public class StartupBenchmark {
+
+    private static final String PROGRAMA =
+        "PROGRAM inicio\nVAR\n  x: INT;\nBEGIN\n  x := 1;\n  WRITE(x);\nEND\n";
+
+    private static final String[] MEDIDAS = { "token", "reduce" };
+
+    private static volatile long primeraReduccion = 0;
+
+    /**
+     * Proceso hijo: imprime los ns desde el comienzo del main hasta el primer
+     * token (token) o hasta la primera reducción (reduce)
+     */
+    @SuppressWarnings({"deprecation", "rawtypes"})
+    private static void child(String medida) throws Exception {
+        long t0 = System.nanoTime();
+        Scanner sc = new Scanner(new StringReader(PROGRAMA));
+        sc.setTokenStats(TokenStats.NONE);
+        if (medida.equals("token")) {
+            sc.next_token();
+            System.out.println(System.nanoTime() - t0);
+            return;
+        }
+        Parser p = new Parser(sc) {
+            @Override
+            public Symbol do_action(int act_num, java_cup.runtime.lr_parser parser,
+                                    java.util.Stack stack, int top) throws Exception {
+                if (primeraReduccion == 0) {
+                    primeraReduccion = System.nanoTime();
+                }
+                return super.do_action(act_num, parser, stack, top);
+            }
+        };
+        p.parse();
+        System.out.println(primeraReduccion - t0);
+    }
+
+    /**
+     * Corre un hijo y retorna { ns que informó, ns del proceso completo }
+     */
+    private static long[] run(String medida, boolean packed) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder pb = new ProcessBuilder(java, "-Dabs.packedTables=" + packed,
+            "-cp", System.getProperty("java.class.path"), StartupBenchmark.class.getName(), "--child", medida);
+        pb.redirectErrorStream(true);
+        long t0 = System.nanoTime();
+        Process proc = pb.start();
+        String linea;
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(proc.getInputStream()))) {
+            linea = out.readLine();
+        }
+        int exit = proc.waitFor();
+        long total = System.nanoTime() - t0;
+        if (exit != 0 || linea == null) {
+            throw new IllegalStateException("el proceso hijo falló (" + exit + "): " + linea);
+        }
+        return new long[] { Long.parseLong(linea.trim()), total };
+    }
+
+    private static double median(double[] ms) {
+        double[] s = ms.clone();
+        Arrays.sort(s);
+        return s[s.length / 2];
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 15;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--child" -> {
+                    child(args[++i]);
+                    return;
+                }
+                case "--runs" -> runs = Math.max(1, Integer.parseInt(args[++i]));
+                default -> {
+                    System.err.println("Uso: java parser.StartupBenchmark [--runs n]");
+                    System.exit(1);
+                }
+            }
+        }
+        if (!TableImage.isAvailable()) {
+            System.err.println("No hay imagen de tablas: correr antes java parser.TableGen");
+            System.exit(1);
+        }
+
+        // [medida][modo][corrida]; modo 0 = strings empaquetados, 1 = imagen
+        double[][][] ms = new double[MEDIDAS.length][2][runs];
+        double[][] proceso = new double[2][runs];
+        for (int r = 0; r < runs; r++) {
+            for (int m = 0; m < MEDIDAS.length; m++) {
+                for (int mode = 0; mode < 2; mode++) {
+                    long[] t = run(MEDIDAS[m], mode == 0);
+                    ms[m][mode][r] = t[0] / 1e6;
+                    if (MEDIDAS[m].equals("reduce")) {
+                        proceso[mode][r] = t[1] / 1e6;
+                    }
+                }
+            }
+        }
+
+        System.out.printf("%d procesos por medición, mediana de ms%n", runs);
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("          ARRANQUE: STRINGS EMPAQUETADOS vs IMAGEN DE TABLAS");
+        System.out.println("=".repeat(70));
+        System.out.printf("%-26s %14s %12s %12s%n", "", "empaquetadas", "imagen", "acel.");
+        System.out.println("-".repeat(70));
+        String[] nombres = { "Primer token", "Primera reducción" };
+        for (int m = 0; m < MEDIDAS.length; m++) {
+            double a = median(ms[m][0]);
+            double b = median(ms[m][1]);
+            System.out.printf(Locale.ROOT, "%-26s %14.2f %12.2f %11.2fx%n", nombres[m], a, b, a / b);
+        }
+        double a = median(proceso[0]);
+        double b = median(proceso[1]);
+        System.out.printf(Locale.ROOT, "%-26s %14.1f %12.1f %11.2fx%n", "Proceso completo", a, b, a / b);
+        System.out.println("=".repeat(70));
+    }
+}
@@ -2,10 +2,21 @@ package parser;
 
 import java.util.*;
 
+import scanner.IdentifierTable;
+
 /**
  * Tabla de Símbolos para el Proyecto 3 - Análisis Semántico
  * Almacena variables, funciones, procedimientos y parámetros
  * con soporte para múltiples ámbitos (scopes).
+ *
+ * Cada símbolo recibe un id denso (su posición en el orden de inserción) y
+ * cada ámbito tiene su propio mapa de direccionamiento abierto: id del
+ * nombre (plegado a minúsculas) -> id del símbolo. Buscar un nombre no arma
+ * claves "scope.nombre" y listar un ámbito recorre solo sus símbolos.
+ *
+ * Los ámbitos no forman un árbol: se guardan por nombre y lookup busca en
+ * el actual y después en GLOBAL. Alcanza porque las funciones y los
+ * procedimientos no se anidan.
  */
 public class SymbolTable {
     
@@ -20,6 +31,7 @@ public class SymbolTable {
         public String scope;       // "GLOBAL", "MAIN", "nombreFuncion"
         public String category;    // "VAR", "FUNCTION", "PROCEDURE", "PARAM"
         public int line;           // Línea donde fue declarado
+        public int id = -1;        // Posición en el orden de inserción (-1 si no está en la tabla)
         
         // Información extra para funciones/procedimientos
         public List<String> paramTypes;   // Tipos de parámetros ["INT", "REAL"]
@@ -95,21 +107,204 @@ public class SymbolTable {
     // ========================================================================
     
     /**
-     * Tabla principal: clave = "scope.nombre", valor = Symbol
-     * Ejemplo: "GLOBAL.x", "miFuncion.y", "MAIN.contador"
-     */
-    private static Map<String, Symbol> table = new LinkedHashMap<>();
-    
-    /**
-     * Pila de scopes para manejar ámbitos anidados
-     * Ejemplo: ["GLOBAL"] -> ["GLOBAL", "miFuncion"] -> ["GLOBAL", "MAIN"]
+     * Un ámbito: sus símbolos en un mapa con direccionamiento abierto y
+     * sondeo lineal (carga máxima 1/2), y en orden de inserción para
+     * listarlos sin recorrer la tabla entera. Se identifica por su nombre:
+     * volver a entrar a un scope con el mismo nombre reabre el mismo ámbito.
      */
-    private static Deque<String> scopeStack = new ArrayDeque<>();
-    
+    private static final class Scope {
+        final String name;
+
+        int[] keys = new int[8];         // id de nombre + 1 (0 = libre)
+        int[] values = new int[8];       // id de símbolo
+        int[] members = new int[4];      // ids de símbolo en orden de inserción
+        int size = 0;
+
+        Scope(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Id del símbolo con ese nombre en este ámbito, o -1
+         */
+        int get(int nameId) {
+            int mask = keys.length - 1;
+            int k = nameId + 1;
+            for (int i = mix(nameId) & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == k) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Agrega un nombre que no está en el ámbito
+         */
+        void put(int nameId, int symbolId) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size++] = symbolId;
+            if (size * 2 > keys.length) {
+                int[] oldKeys = keys, oldValues = values;
+                keys = new int[oldKeys.length * 2];
+                values = new int[oldKeys.length * 2];
+                for (int j = 0; j < oldKeys.length; j++) {
+                    if (oldKeys[j] != 0) {
+                        insert(oldKeys[j], oldValues[j]);
+                    }
+                }
+            }
+            insert(nameId + 1, symbolId);
+        }
+
+        private void insert(int k, int symbolId) {
+            int mask = keys.length - 1;
+            int i = mix(k - 1) & mask;
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = k;
+            values[i] = symbolId;
+        }
+
+        @Override
+        public String toString() {
+            return name;   // la traza imprime la pila de scopes por nombre
+        }
+    }
+
     /**
-     * Scope actual (el tope de la pila)
+     * Estado de la tabla para una compilación.
+     * Cada hilo tiene el suyo, así varias compilaciones pueden correr en paralelo.
      */
-    private static String currentScope = "GLOBAL";
+    private static final class State {
+        /**
+         * Símbolos por id, en orden de inserción
+         */
+        Symbol[] symbols = new Symbol[INITIAL_CAPACITY];
+        int count = 0;
+
+        /**
+         * Ids de los nombres, plegados a minúsculas con IdentifierTable
+         * (direccionamiento abierto, carga máxima 1/2)
+         */
+        String[] names = new String[INITIAL_CAPACITY];
+        int[] nameIds = new int[INITIAL_CAPACITY];
+        int nameCount = 0;
+
+        /**
+         * Ámbitos por nombre, GLOBAL incluido (lookup cae del actual a GLOBAL)
+         */
+        final Map<String, Scope> scopes = new HashMap<>();
+        Scope global;
+
+        /**
+         * Pila de scopes para manejar ámbitos anidados
+         * Ejemplo: [GLOBAL] -> [GLOBAL, miFuncion] -> [GLOBAL, MAIN]
+         */
+        final Deque<Scope> scopeStack = new ArrayDeque<>();
+
+        /**
+         * Scope actual (el tope de la pila)
+         */
+        Scope current;
+
+        State() {
+            clear();
+        }
+
+        void clear() {
+            // No retener tablas enormes de una compilación anterior; los nombres
+            // tienen carga 1/2 y pasan el límite antes que symbols
+            if (symbols.length > INITIAL_CAPACITY * 64) {
+                symbols = new Symbol[INITIAL_CAPACITY];
+            } else {
+                Arrays.fill(symbols, 0, count, null);
+            }
+            if (names.length > INITIAL_CAPACITY * 64) {
+                names = new String[INITIAL_CAPACITY];
+                nameIds = new int[INITIAL_CAPACITY];
+            } else {
+                Arrays.fill(names, null);
+            }
+            count = 0;
+            nameCount = 0;
+            scopes.clear();
+            scopeStack.clear();
+            // Inicializar la tabla con GLOBAL como scope inicial
+            global = new Scope("GLOBAL");
+            scopes.put("GLOBAL", global);
+            scopeStack.push(global);
+            current = global;
+        }
+
+        /**
+         * Ámbito con ese nombre, o null si nunca se abrió
+         */
+        Scope scope(String name) {
+            return (name.equals(current.name)) ? current : scopes.get(name);
+        }
+
+        /**
+         * Id del nombre (case-insensitive); con add lo agrega si no está,
+         * si no retorna -1
+         */
+        int nameId(String name, boolean add) {
+            String key = IdentifierTable.current().lower(name);
+            int h = key.hashCode();
+            int mask = names.length - 1;
+            int i = mix(h) & mask;
+            String e;
+            while ((e = names[i]) != null) {
+                if (e == key || e.equals(key)) {
+                    return nameIds[i];
+                }
+                i = (i + 1) & mask;
+            }
+            if (!add) {
+                return -1;
+            }
+            names[i] = key;
+            nameIds[i] = nameCount;
+            if (++nameCount * 2 > names.length) {
+                growNames();
+            }
+            return nameCount - 1;
+        }
+
+        private void growNames() {
+            String[] oldNames = names;
+            int[] oldIds = nameIds;
+            names = new String[oldNames.length * 2];
+            nameIds = new int[oldNames.length * 2];
+            int mask = names.length - 1;
+            for (int j = 0; j < oldNames.length; j++) {
+                if (oldNames[j] == null) {
+                    continue;
+                }
+                int i = mix(oldNames[j].hashCode()) & mask;
+                while (names[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                names[i] = oldNames[j];
+                nameIds[i] = oldIds[j];
+            }
+        }
+
+        /**
+         * Símbolo con ese nombre en el ámbito, o null
+         */
+        Symbol find(Scope scope, int nameId) {
+            int id = scope.get(nameId);
+            return (id < 0) ? null : symbols[id];
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;   // potencia de 2
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
     
     // ========================================================================
     // MÉTODOS DE INICIALIZACIÓN Y GESTIÓN DE SCOPES
@@ -119,29 +314,37 @@ public class SymbolTable {
      * Reinicia la tabla (útil para ejecutar múltiples análisis)
      */
     public static void reset() {
-        table.clear();
-        scopeStack.clear();
-        scopeStack.push("GLOBAL");
-        currentScope = "GLOBAL";
+        STATE.get().clear();
     }
     
     /**
      * Entra a un nuevo scope (cuando empieza una función o MAIN)
      */
     public static void enterScope(String scope) {
-        scopeStack.push(scope);
-        currentScope = scope;
-        System.out.println("[DEBUG] Entrando a scope: " + scope + " | Pila: " + scopeStack);
+        State st = STATE.get();
+        Scope s = st.scope(scope);
+        if (s == null) {
+            s = new Scope(scope);
+            st.scopes.put(scope, s);
+        }
+        st.scopeStack.push(s);
+        st.current = s;
+        if (Trace.on(Trace.Category.SCOPE, Trace.Level.DEBUG)) {
+            Trace.log(Trace.Category.SCOPE, Trace.Level.DEBUG, "Entrando a scope: " + scope + " | Pila: " + st.scopeStack);
+        }
     }
     
     /**
      * Sale del scope actual (cuando termina una función o MAIN)
      */
     public static void exitScope() {
-        if (scopeStack.size() > 1) {  // Nunca sacar GLOBAL
-            String exited = scopeStack.pop();
-            currentScope = scopeStack.peek();
-            System.out.println("[DEBUG] Saliendo de scope: " + exited + " | Actual: " + currentScope);
+        State st = STATE.get();
+        if (st.scopeStack.size() > 1) {  // Nunca sacar GLOBAL
+            Scope exited = st.scopeStack.pop();
+            st.current = st.scopeStack.peek();
+            if (Trace.on(Trace.Category.SCOPE, Trace.Level.DEBUG)) {
+                Trace.log(Trace.Category.SCOPE, Trace.Level.DEBUG, "Saliendo de scope: " + exited + " | Actual: " + st.current);
+            }
         } else {
             System.err.println("[WARNING] Intento de salir de GLOBAL ignorado");
         }
@@ -151,14 +354,18 @@ public class SymbolTable {
      * Obtiene el scope actual
      */
     public static String getCurrentScope() {
-        return currentScope;
+        return STATE.get().current.name;
     }
     
     /**
      * Obtiene la pila de scopes (para debugging)
      */
     public static List<String> getScopeStack() {
-        return new ArrayList<>(scopeStack);
+        List<String> names = new ArrayList<>();
+        for (Scope s : STATE.get().scopeStack) {
+            names.add(s.name);
+        }
+        return names;
     }
     
     // ========================================================================
@@ -170,14 +377,28 @@ public class SymbolTable {
      * @return true si se agregó correctamente, false si ya existía en ese scope
      */
     public static boolean add(Symbol s) {
-        String key = makeKey(s.scope, s.name);
+        State st = STATE.get();
+        Scope scope = st.scope(s.scope);
+        if (scope == null) {
+            // Un scope en el que todavía no se entró (p.ej. agregado a mano)
+            scope = new Scope(s.scope);
+            st.scopes.put(s.scope, scope);
+        }
+        int nameId = st.nameId(s.name, true);
         
-        if (table.containsKey(key)) {
+        if (scope.get(nameId) >= 0) {
             return false;  // Ya existe
         }
         
-        table.put(key, s);
-        System.out.println("[DEBUG] Agregado: " + key + " -> " + s.category + " " + s.type);
+        if (st.count == st.symbols.length) {
+            st.symbols = Arrays.copyOf(st.symbols, st.count * 2);
+        }
+        s.id = st.count;
+        st.symbols[st.count++] = s;
+        scope.put(nameId, s.id);
+        if (Trace.on(Trace.Category.SYMTAB, Trace.Level.DEBUG)) {
+            Trace.log(Trace.Category.SYMTAB, Trace.Level.DEBUG, "Agregado: " + makeKey(s.scope, s.name) + " -> " + s.category + " " + s.type);
+        }
         return true;
     }
     
@@ -185,7 +406,7 @@ public class SymbolTable {
      * Agrega una variable simple
      */
     public static boolean addVariable(String name, String type, int line) {
-        Symbol s = new Symbol(name, type, currentScope, "VAR", line);
+        Symbol s = new Symbol(name, type, STATE.get().current.name, "VAR", line);
         return add(s);
     }
     
@@ -193,7 +414,7 @@ public class SymbolTable {
      * Agrega un parámetro de función
      */
     public static boolean addParameter(String name, String type, int line) {
-        Symbol s = new Symbol(name, type, currentScope, "PARAM", line);
+        Symbol s = new Symbol(name, type, STATE.get().current.name, "PARAM", line);
         return add(s);
     }
     
@@ -231,14 +452,17 @@ public class SymbolTable {
      * 3. Si no existe, retorna null
      */
     public static Symbol lookup(String name) {
+        State st = STATE.get();
+        int nameId = st.nameId(name, false);
+        if (nameId < 0) {
+            return null;   // ningún ámbito tiene ese nombre
+        }
         // 1. Buscar en scope actual
-        String key = makeKey(currentScope, name);
-        Symbol s = table.get(key);
+        Symbol s = st.find(st.current, nameId);
         
         // 2. Si no está y no estamos en GLOBAL, buscar en GLOBAL
-        if (s == null && !currentScope.equals("GLOBAL")) {
-            key = makeKey("GLOBAL", name);
-            s = table.get(key);
+        if (s == null && st.current != st.global) {
+            s = st.find(st.global, nameId);
         }
         
         return s;
@@ -249,16 +473,30 @@ public class SymbolTable {
      * (útil para detectar dobles definiciones)
      */
     public static Symbol lookupInCurrentScope(String name) {
-        String key = makeKey(currentScope, name);
-        return table.get(key);
+        State st = STATE.get();
+        int nameId = st.nameId(name, false);
+        return (nameId < 0) ? null : st.find(st.current, nameId);
     }
     
     /**
      * Busca un símbolo en un scope específico
      */
     public static Symbol lookupInScope(String name, String scope) {
-        String key = makeKey(scope, name);
-        return table.get(key);
+        State st = STATE.get();
+        Scope s = st.scope(scope);
+        int nameId = (s == null) ? -1 : st.nameId(name, false);
+        return (nameId < 0) ? null : st.find(s, nameId);
+    }
+    
+    /**
+     * Símbolo por id (el orden en que se agregó)
+     */
+    public static Symbol getSymbol(int id) {
+        State st = STATE.get();
+        if (id < 0 || id >= st.count) {
+            throw new IndexOutOfBoundsException("Id de símbolo fuera de rango: " + id);
+        }
+        return st.symbols[id];
     }
     
     /**
@@ -276,15 +514,15 @@ public class SymbolTable {
      * Obtiene todos los símbolos de un scope específico
      */
     public static List<Symbol> getSymbolsInScope(String scope) {
-        List<Symbol> result = new ArrayList<>();
-        String prefix = scope + ".";
-        
-        for (Map.Entry<String, Symbol> entry : table.entrySet()) {
-            if (entry.getKey().startsWith(prefix)) {
-                result.add(entry.getValue());
-            }
+        State st = STATE.get();
+        Scope s = st.scope(scope);
+        if (s == null) {
+            return new ArrayList<>();
+        }
+        List<Symbol> result = new ArrayList<>(s.size);
+        for (int i = 0; i < s.size; i++) {
+            result.add(st.symbols[s.members[i]]);
         }
-        
         return result;
     }
     
@@ -318,14 +556,14 @@ public class SymbolTable {
      * Cuenta cuántos símbolos hay en la tabla
      */
     public static int size() {
-        return table.size();
+        return STATE.get().count;
     }
     
     /**
      * Verifica si la tabla está vacía
      */
     public static boolean isEmpty() {
-        return table.isEmpty();
+        return STATE.get().count == 0;
     }
     
     // ========================================================================
@@ -336,11 +574,12 @@ public class SymbolTable {
      * Imprime toda la tabla de símbolos (para el reporte final)
      */
     public static void print() {
+        State st = STATE.get();
         System.out.println("\n" + "=".repeat(80));
         System.out.println("                        TABLA DE SÍMBOLOS");
         System.out.println("=".repeat(80));
         
-        if (table.isEmpty()) {
+        if (st.count == 0) {
             System.out.println("(vacía)");
             return;
         }
@@ -351,7 +590,7 @@ public class SymbolTable {
         System.out.println("-".repeat(80));
         
         // Ordenar por scope y luego por nombre
-        List<Symbol> sorted = new ArrayList<>(table.values());
+        List<Symbol> sorted = new ArrayList<>(Arrays.asList(st.symbols).subList(0, st.count));
         sorted.sort((a, b) -> {
             int scopeCmp = a.scope.compareTo(b.scope);
             return (scopeCmp != 0) ? scopeCmp : a.name.compareTo(b.name);
@@ -370,7 +609,7 @@ public class SymbolTable {
         }
         
         System.out.println("=".repeat(80));
-        System.out.println("Total de símbolos: " + table.size());
+        System.out.println("Total de símbolos: " + st.count);
     }
     
     /**
@@ -422,6 +661,7 @@ public class SymbolTable {
      * Exporta la tabla a un archivo de texto
      */
     public static void exportToFile(String filename) {
+        State st = STATE.get();
         try (java.io.PrintWriter writer = new java.io.PrintWriter(filename)) {
             writer.println("TABLA DE SÍMBOLOS");
             writer.println("=".repeat(80));
@@ -429,11 +669,11 @@ public class SymbolTable {
                 "Nombre", "Tipo", "Ámbito", "Categoría", "Línea");
             writer.println("-".repeat(80));
             
-            for (Symbol s : table.values()) {
-                writer.println(s);
+            for (int i = 0; i < st.count; i++) {
+                writer.println(st.symbols[i]);
             }
             
-            writer.println("\nTotal: " + table.size() + " símbolos");
+            writer.println("\nTotal: " + st.count + " símbolos");
             System.out.println("[INFO] Tabla exportada a: " + filename);
         } catch (Exception e) {
             System.err.println("[ERROR] No se pudo exportar: " + e.getMessage());
@@ -445,19 +685,13 @@ public class SymbolTable {
     // ========================================================================
     
     /**
-     * Genera la clave única "scope.nombre"
+     * Clave "scope.nombre" de un símbolo (solo para la traza)
      */
     private static String makeKey(String scope, String name) {
-        return scope + "." + name.toLowerCase();  // case-insensitive
+        return scope + "." + IdentifierTable.current().lower(name);  // case-insensitive
     }
     
-    // ========================================================================
-    // INICIALIZACIÓN ESTÁTICA
-    // ========================================================================
-    
-    static {
-        // Inicializar la tabla con GLOBAL como scope inicial
-        scopeStack.push("GLOBAL");
-        currentScope = "GLOBAL";
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package parser;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import scanner.IdentifierTable;
+
+/**
+ * Microbenchmark de SymbolTable con tablas grandes: por defecto 1M símbolos
+ * repartidos en 100K ámbitos (más las variables globales).
+ *
+ * Cada medición llena la tabla desde cero y después mide:
+ *  - carga: enterScope, addParameter/addVariable y exitScope de cada ámbito
+ *  - locales: lookup de cada símbolo desde su ámbito
+ *  - globales: lookup de una global desde cada ámbito (no está en el actual)
+ *  - ausentes: lookup de un nombre que nadie declaró, desde cada ámbito
+ *  - listar: getSymbolsInScope de todos los ámbitos
+ *  - getGlobalVariables
+ *
+ * Los nombres se internan antes con IdentifierTable, como los que entrega el
+ * scanner, y se repiten entre ámbitos ("v0", "v1", ... en cada función) con
+ * mayúsculas distintas en las búsquedas. Los tiempos son la mediana de las
+ * mediciones; ns/op es por llamada.
+ *
+ * Uso: java parser.SymbolTableBenchmark [--symbols n] [--scopes n] [--globals n] [--warmup n] [--iter n]
+ */
+public class SymbolTableBenchmark {
+
+    private static final String[] FASES = { "carga", "locales", "globales", "ausentes", "listar", "globalVars" };
+
+    private static String[] scopes;     // nombre de cada ámbito
+    private static String[] locales;    // nombres de los símbolos de un ámbito
+    private static String[] buscados;   // los mismos en mayúsculas
+    private static String[] globales;
+    private static long control;        // para que el JIT no descarte las búsquedas
+
+    /**
+     * Llena la tabla; retorna los símbolos agregados
+     */
+    private static int cargar(int porScope) {
+        SymbolTable.reset();
+        int n = 0;
+        for (int g = 0; g < globales.length; g++) {
+            n += SymbolTable.addVariable(globales[g], "INT", g + 1) ? 1 : 0;
+        }
+        for (int s = 0; s < scopes.length; s++) {
+            n += SymbolTable.addFunction(scopes[s], s + 1, Arrays.asList(), Arrays.asList(), "INT") ? 1 : 0;
+            SymbolTable.enterScope(scopes[s]);
+            for (int v = 0; v < porScope; v++) {
+                n += ((v & 1) == 0 ? SymbolTable.addParameter(locales[v], "INT", s + 1)
+                                   : SymbolTable.addVariable(locales[v], "REAL", s + 1)) ? 1 : 0;
+            }
+            SymbolTable.exitScope();
+        }
+        return n;
+    }
+
+    private static void locales(int porScope) {
+        for (String scope : scopes) {
+            SymbolTable.enterScope(scope);
+            for (int v = 0; v < porScope; v++) {
+                control += SymbolTable.lookup(buscados[v]).line;
+            }
+            SymbolTable.exitScope();
+        }
+    }
+
+    private static void globales() {
+        for (int s = 0; s < scopes.length; s++) {
+            SymbolTable.enterScope(scopes[s]);
+            control += SymbolTable.lookup(globales[s % globales.length]).line;
+            SymbolTable.exitScope();
+        }
+    }
+
+    private static void ausentes(String nombre) {
+        for (String scope : scopes) {
+            SymbolTable.enterScope(scope);
+            if (SymbolTable.lookup(nombre) == null) {
+                control++;
+            }
+            SymbolTable.exitScope();
+        }
+    }
+
+    private static void listar() {
+        for (String scope : scopes) {
+            control += SymbolTable.getSymbolsInScope(scope).size();
+        }
+    }
+
+    /**
+     * Mediana de ms de cada fase
+     */
+    private static double[] measure(int porScope, int warmup, int iterations) {
+        IdentifierTable ids = IdentifierTable.current();
+        String ausente = ids.intern("noDeclarado");
+        double[][] ms = new double[FASES.length][iterations];
+        for (int i = -warmup; i < iterations; i++) {
+            long[] t = new long[FASES.length + 1];
+            t[0] = System.nanoTime();
+            cargar(porScope);
+            t[1] = System.nanoTime();
+            locales(porScope);
+            t[2] = System.nanoTime();
+            globales();
+            t[3] = System.nanoTime();
+            ausentes(ausente);
+            t[4] = System.nanoTime();
+            listar();
+            t[5] = System.nanoTime();
+            control += SymbolTable.getGlobalVariables().size();
+            t[6] = System.nanoTime();
+            if (i >= 0) {
+                for (int f = 0; f < FASES.length; f++) {
+                    ms[f][i] = (t[f + 1] - t[f]) / 1e6;
+                }
+            }
+        }
+        double[] med = new double[FASES.length];
+        for (int f = 0; f < FASES.length; f++) {
+            Arrays.sort(ms[f]);
+            med[f] = ms[f][iterations / 2];
+        }
+        return med;
+    }
+
+    public static void main(String[] args) {
+        int symbols = 1_000_000;
+        int scopeCount = 100_000;
+        int globalCount = 1_000;
+        int warmup = 2;
+        int iterations = 5;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--symbols" -> symbols = Integer.parseInt(args[++i]);
+                case "--scopes" -> scopeCount = Math.max(1, Integer.parseInt(args[++i]));
+                case "--globals" -> globalCount = Math.max(1, Integer.parseInt(args[++i]));
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--iter" -> iterations = Math.max(1, Integer.parseInt(args[++i]));
+                default -> {
+                    System.err.println("Uso: java parser.SymbolTableBenchmark [--symbols n] [--scopes n] "
+                        + "[--globals n] [--warmup n] [--iter n]");
+                    System.exit(1);
+                }
+            }
+        }
+        // Cada ámbito tiene su función en GLOBAL y porScope símbolos propios
+        int porScope = Math.max(1, (int) Math.round((double) (symbols - globalCount - scopeCount) / scopeCount));
+
+        IdentifierTable.reset();
+        IdentifierTable ids = IdentifierTable.current();
+        scopes = new String[scopeCount];
+        for (int s = 0; s < scopeCount; s++) {
+            scopes[s] = ids.intern("f" + s);
+        }
+        locales = new String[porScope];
+        buscados = new String[porScope];
+        for (int v = 0; v < porScope; v++) {
+            locales[v] = ids.intern("v" + v);
+            buscados[v] = ids.intern("V" + v);
+        }
+        globales = new String[globalCount];
+        for (int g = 0; g < globalCount; g++) {
+            globales[g] = ids.intern("g" + g);
+        }
+
+        double[] ms = measure(porScope, warmup, iterations);
+        int total = cargar(porScope);
+        long[] ops = {
+            total + 2L * scopeCount, (long) scopeCount * porScope, scopeCount, scopeCount, scopeCount, 1
+        };
+
+        System.out.printf("%d símbolos en %d ámbitos (%d por ámbito) y %d globales, %d calentamientos, %d mediciones%n",
+            total, scopeCount, porScope, globalCount, warmup, iterations);
+        System.out.println("\n" + "=".repeat(60));
+        System.out.println("                 SYMBOLTABLE CON TABLAS GRANDES");
+        System.out.println("=".repeat(60));
+        System.out.printf("%-12s %14s %14s %14s%n", "Fase", "operaciones", "ms", "ns/op");
+        System.out.println("-".repeat(60));
+        for (int f = 0; f < FASES.length; f++) {
+            System.out.printf(Locale.ROOT, "%-12s %14d %14.1f %14.1f%n",
+                FASES[f], ops[f], ms[f], ms[f] * 1e6 / ops[f]);
+        }
+        System.out.println("=".repeat(60));
+        if (control == 42) {
+            System.out.println();   // nunca: solo usa control
+        }
+    }
+}
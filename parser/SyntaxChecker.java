@@ -0,0 +1,153 @@
+package parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import java_cup.runtime.Symbol;
+import java_cup.runtime.lr_parser;
+
+/**
+ * Verificación solo sintáctica de muchos archivos .abs, para el lint de CI.
+ *
+ * Cada archivo pasa por el scanner y por la gramática sin acciones
+ * semánticas (MainParser.checkSyntax): no se llena la tabla de símbolos, no
+ * se imprime su reporte y no se genera ASM. Solo se informan los errores
+ * léxicos y sintácticos, una línea por diagnóstico con la ruta adelante, y
+ * un resumen con los archivos por segundo. Los archivos se verifican con
+ * BatchCompiler.compileAll y el reporte sale en el orden de entrada.
+ *
+ * El código de salida es 0 si ningún archivo tiene errores ni fallos y 1 si
+ * alguno tiene.
+ *
+ * Con --quiet solo se imprime el resumen. Los flags de modo son los de
+ * MainParser.parseModeFlag; con --recursive-parser se prueba primero con
+ * RecursiveParser y CUP solo reanaliza los archivos con errores.
+ *
+ * Uso: java parser.SyntaxChecker [-j hilos] [--quiet] [flags de modo] <archivo.abs | directorio> ...
+ */
+public class SyntaxChecker {
+
+    /**
+     * Parser de CUP que solo corre las acciones de las producciones con
+     * error (las que reportan los errores sintácticos) y la de la producción
+     * inicial. Las demás reducciones arman el símbolo del lado izquierdo con
+     * las mismas posiciones que la acción generada y sin valor, así que la
+     * recuperación de errores y los mensajes son los mismos que con acciones.
+     */
+    @SuppressWarnings({"deprecation", "rawtypes"})
+    static final class SyntaxParser extends Parser {
+        private static final String NO_TERMINAL = "no_terminal";
+
+        private final short[][] producciones = production_table();
+
+        SyntaxParser(java_cup.runtime.Scanner s) {
+            super(s);
+        }
+
+        @Override
+        public Symbol do_action(int act_num, lr_parser parser, Stack stack, int top) throws Exception {
+            int largo = producciones[act_num][1];
+            if (act_num == start_production() || conError(stack, top, largo)) {
+                return super.do_action(act_num, parser, stack, top);
+            }
+            int lhs = producciones[act_num][0];
+            Symbol fin = (Symbol) stack.peek();
+            if (largo == 0) {
+                return getSymbolFactory().newSymbol(NO_TERMINAL, lhs, fin, (Object) null);
+            }
+            return getSymbolFactory().newSymbol(NO_TERMINAL, lhs, (Symbol) stack.elementAt(top - largo + 1), fin, null);
+        }
+
+        /**
+         * true si el lado derecho que se reduce tiene el terminal error
+         */
+        private boolean conError(Stack stack, int top, int largo) {
+            for (int k = 0; k < largo; k++) {
+                if (((Symbol) stack.elementAt(top - k)).sym == error_sym()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Diagnósticos de cada archivo (salvo con quiet) y el resumen del lote
+     */
+    public static void printReport(List<CompileResult> results, long wallNanos, int threads, boolean quiet) {
+        int ok = 0, withErrors = 0, failed = 0, lexical = 0, syntax = 0;
+        for (CompileResult r : results) {
+            if (r.failure != null) {
+                failed++;
+            } else if (r.hasErrors()) {
+                withErrors++;
+            } else {
+                ok++;
+            }
+            lexical += r.lexicalErrors.size();
+            syntax += r.syntaxErrors.size();
+            if (quiet) {
+                continue;
+            }
+            for (String err : r.lexicalErrors) {
+                System.out.println(r.sourcePath + ": [LEXICO] " + err);
+            }
+            for (String err : r.syntaxErrors) {
+                System.out.println(r.sourcePath + ": [SINTACTICO] " + err);
+            }
+            if (r.failure != null) {
+                System.out.println(r.sourcePath + ": [FALLO] " + r.failure);
+            }
+        }
+
+        double wallSec = wallNanos / 1e9;
+        System.out.println("=".repeat(80));
+        System.out.printf("Archivos: %d | OK: %d | Con errores: %d | Fallidos: %d%n",
+            results.size(), ok, withErrors, failed);
+        System.out.printf("Errores léxicos: %d | Errores sintácticos: %d%n", lexical, syntax);
+        System.out.printf("Tiempo total: %.1f ms con %d hilo(s) (%.1f archivos/s)%n",
+            wallNanos / 1e6, threads, (wallSec > 0 ? results.size() / wallSec : 0.0));
+    }
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean quiet = false;
+        List<String> paths = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-j") && i + 1 < args.length) {
+                threads = Math.max(1, Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--quiet")) {
+                quiet = true;
+            } else if (!MainParser.parseModeFlag(args[i])) {
+                paths.add(args[i]);
+            }
+        }
+
+        if (paths.isEmpty()) {
+            System.err.println("Uso: java parser.SyntaxChecker [-j hilos] [--quiet] " + MainParser.MODE_FLAGS_USAGE
+                + " <archivo.abs | directorio> ...");
+            System.exit(1);
+        }
+
+        List<String> sources;
+        try {
+            sources = BatchCompiler.collectSources(paths);
+        } catch (IOException e) {
+            System.err.println("[CHECK] No se pudieron listar los archivos: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<CompileResult> results = BatchCompiler.compileAll(sources, threads, src -> MainParser.checkSyntax(src, null));
+        long wall = System.nanoTime() - start;
+
+        printReport(results, wall, threads, quiet);
+
+        boolean allOk = results.stream().allMatch(r -> r.failure == null && !r.hasErrors());
+        System.exit(allOk ? 0 : 1);
+    }
+}
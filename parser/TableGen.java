@@ -0,0 +1,269 @@
+package parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Paso de build de TableImage: escribe la imagen binaria con las tablas
+ * decodificadas de Parser y Scanner, y aplica a los fuentes generados el
+ * cambio que hace que las carguen de la imagen.
+ *
+ * Después de regenerar Parser.java (CUP) o Scanner.java (JFlex):
+ *
+ *   java parser.TableGen --patch [--src dir]     (dir: raíz de los fuentes, por defecto ".")
+ *   ... compilar ...
+ *   java parser.TableGen [--out dir]             (dir: raíz de las clases compiladas)
+ *
+ * generar.sh, en la raíz del proyecto, hace todo: corre JFlex y CUP, el
+ * parche, compila y escribe la imagen. Los Parser.java y Scanner.java del
+ * repositorio ya están parcheados; la imagen no se versiona, así que sin
+ * ese paso (o sin java parser.TableGen después de compilar) no hay imagen
+ * y las tablas se decodifican de los strings empaquetados.
+ *
+ * --patch reemplaza en los fuentes la llamada a unpackFromStrings (CUP) y a
+ * zzUnpack* (JFlex) de cada tabla por tabla()/tablaCMap(), definidos en
+ * parser.cup y scanner.flex, que prueban primero la imagen. Es idempotente.
+ *
+ * Sin --out la imagen se escribe junto a TableImage.class. La imagen se arma
+ * con las tablas de las clases ya compiladas, así que tiene que correr con
+ * los fuentes parcheados: si no, no sabe de qué strings empaquetados salió
+ * cada tabla y termina con error.
+ */
+public class TableGen {
+
+    // Tablas de CUP: campo de Parser -> sección
+    private static final String[][] TABLAS_CUP = {
+        { "_production_table", "PRODUCTION" },
+        { "_action_table", "ACTION" },
+        { "_reduce_table", "REDUCE" },
+    };
+
+    // Tablas int[] de JFlex: campo de Scanner -> función de JFlex que la decodifica
+    private static final String[][] TABLAS_JFLEX = {
+        { "ZZ_ACTION", "zzUnpackAction" },
+        { "ZZ_ROWMAP", "zzUnpackRowMap" },
+        { "ZZ_TRANS", "zzUnpackTrans" },
+        { "ZZ_ATTRIBUTE", "zzUnpackAttribute" },
+    };
+
+    // ========================================================================
+    // PARCHE DE LOS FUENTES GENERADOS
+    // ========================================================================
+
+    /**
+     * Parchea parser/Parser.java y scanner/Scanner.java bajo src
+     */
+    static void patch(Path src) throws IOException {
+        Path parser = src.resolve("parser").resolve("Parser.java");
+        String p = Files.readString(parser, StandardCharsets.UTF_8);
+        String p2 = p;
+        for (String[] t : TABLAS_CUP) {
+            Matcher m = Pattern.compile("(" + t[0] + "[\\[\\] ]*=\\s*)unpackFromStrings\\(").matcher(p2);
+            p2 = m.replaceFirst("$1tabla(TableImage." + t[1] + ", ");
+        }
+        report(parser, p, p2);
+
+        Path scanner = src.resolve("scanner").resolve("Scanner.java");
+        String s = Files.readString(scanner, StandardCharsets.UTF_8);
+        String s2 = s.replace("ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);", "ZZ_CMAP = tablaCMap(ZZ_CMAP_PACKED);");
+        for (String[] t : TABLAS_JFLEX) {
+            if (s2.contains(t[0] + "_PACKED_1")) {
+                throw new IllegalStateException(t[0] + " está partida en varios strings; tabla() recibe uno solo");
+            }
+            // Calificado: el string se declara después y por nombre simple sería referencia adelantada
+            s2 = s2.replace(t[0] + " = " + t[1] + "();",
+                t[0] + " = tabla(TableImage." + t[0] + ", Scanner." + t[0] + "_PACKED_0);");
+        }
+        report(scanner, s, s2);
+    }
+
+    private static void report(Path file, String antes, String despues) throws IOException {
+        if (antes.equals(despues)) {
+            System.out.println("[TABLES] " + file + ": sin cambios (ya parcheado)");
+        } else {
+            Files.writeString(file, despues, StandardCharsets.UTF_8);
+            System.out.println("[TABLES] " + file + ": parcheado");
+        }
+    }
+
+    // ========================================================================
+    // IMAGEN
+    // ========================================================================
+
+    /**
+     * Escribe la imagen con las tablas de las clases cargadas
+     */
+    static void write(Path out) throws Exception {
+        // Inicializar las clases llena TableImage.pedido() de cada sección
+        Parser parser = new Parser(null, new java_cup.runtime.ComplexSymbolFactory());
+        Class<?> scanner = Class.forName("scanner.Scanner", true, TableGen.class.getClassLoader());
+
+        List<Integer> ids = new ArrayList<>();
+        List<Object> tablas = new ArrayList<>();
+        List<byte[]> datos = new ArrayList<>();
+
+        short[][][] cup = { parser.production_table(), parser.action_table(), parser.reduce_table() };
+        for (int i = 0; i < TABLAS_CUP.length; i++) {
+            ids.add(TableImage.class.getField(TABLAS_CUP[i][1]).getInt(null));
+            tablas.add(cup[i]);
+            datos.add(shorts(cup[i]));
+        }
+        char[] cmap = (char[]) campo(scanner, "ZZ_CMAP");
+        ids.add(TableImage.CMAP);
+        tablas.add(cmap);
+        datos.add(charMap(cmap));
+        for (String[] t : TABLAS_JFLEX) {
+            int[] tabla = (int[]) campo(scanner, t[0]);
+            ids.add(TableImage.class.getField(t[0]).getInt(null));
+            tablas.add(tabla);
+            datos.add(ints(tabla));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream o = new DataOutputStream(bytes)) {
+            o.writeInt(TableImage.MAGIC);
+            o.writeInt(TableImage.VERSION);
+            o.writeInt(ids.size());
+            int off = 12 + 12 * ids.size();
+            for (int i = 0; i < ids.size(); i++) {
+                o.writeInt(ids.get(i));
+                o.writeInt(hash(ids.get(i)));
+                o.writeInt(off);
+                off += datos.get(i).length;
+            }
+            for (byte[] d : datos) {
+                o.write(d);
+            }
+        }
+        byte[] img = bytes.toByteArray();
+
+        // La imagen tiene que devolver exactamente las tablas de las clases
+        for (int i = 0; i < ids.size(); i++) {
+            if (!Arrays.deepEquals(new Object[] { TableImage.decode(img, ids.get(i)) }, new Object[] { tablas.get(i) })) {
+                throw new IllegalStateException("la sección " + ids.get(i) + " no se decodifica igual");
+            }
+        }
+        Files.createDirectories(out.getParent());
+        Files.write(out, img);
+        System.out.printf("[TABLES] Imagen: %s (%d secciones, %.1f KB)%n", out, ids.size(), img.length / 1024.0);
+    }
+
+    /**
+     * Hash de los strings empaquetados de los que salió la sección
+     */
+    private static int hash(int seccion) {
+        Object packed = TableImage.pedido(seccion);
+        if (packed instanceof String[] a) {
+            return TableImage.hash(a);
+        }
+        if (packed instanceof String s) {
+            return TableImage.hash(s);
+        }
+        throw new IllegalStateException("la sección " + seccion + " no pasó por TableImage: "
+            + "falta correr TableGen --patch y compilar de nuevo");
+    }
+
+    private static Object campo(Class<?> c, String nombre) throws ReflectiveOperationException {
+        Field f = c.getDeclaredField(nombre);
+        f.setAccessible(true);
+        return f.get(null);
+    }
+
+    private static byte[] shorts(short[][] t) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream o = new DataOutputStream(bytes)) {
+            o.writeInt(t.length);
+            for (short[] fila : t) {
+                o.writeInt(fila.length);
+            }
+            for (short[] fila : t) {
+                for (short v : fila) {
+                    o.writeShort(v);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] ints(int[] t) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream o = new DataOutputStream(bytes)) {
+            o.writeInt(t.length);
+            for (int v : t) {
+                o.writeInt(v);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * El mapa de caracteres como tramos (cantidad, valor) de chars iguales
+     */
+    private static byte[] charMap(char[] map) throws IOException {
+        List<int[]> tramos = new ArrayList<>();
+        for (int i = 0; i < map.length; ) {
+            int j = i;
+            while (j < map.length && map[j] == map[i]) {
+                j++;
+            }
+            tramos.add(new int[] { j - i, map[i] });
+            i = j;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream o = new DataOutputStream(bytes)) {
+            o.writeInt(map.length);
+            o.writeInt(tramos.size());
+            for (int[] t : tramos) {
+                o.writeInt(t[0]);
+                o.writeInt(t[1]);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * TableImage.bin junto a TableImage.class, si esa clase se cargó de un directorio
+     */
+    private static Path imagenPorDefecto() throws Exception {
+        Path raiz = Paths.get(TableImage.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        if (!Files.isDirectory(raiz)) {
+            throw new IllegalStateException("las clases no están en un directorio (" + raiz + "): usar --out");
+        }
+        return raiz.resolve("parser").resolve(TableImage.RECURSO);
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean parchear = false;
+        Path src = Paths.get(".");
+        Path out = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--patch" -> parchear = true;
+                case "--src" -> src = Paths.get(args[++i]);
+                case "--out" -> out = Paths.get(args[++i]).resolve("parser").resolve(TableImage.RECURSO);
+                default -> {
+                    System.err.println("Uso: java parser.TableGen [--patch [--src dir]] [--out dir]");
+                    System.exit(1);
+                }
+            }
+        }
+
+        if (parchear) {
+            patch(src);
+        } else {
+            write(out != null ? out : imagenPorDefecto());
+        }
+    }
+}
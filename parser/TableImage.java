@@ -0,0 +1,281 @@
+package parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+
+/**
+ * Imagen binaria con las tablas de Parser (CUP) y Scanner (JFlex) ya
+ * decodificadas.
+ *
+ * Sin la imagen, cada clase arma sus tablas al inicializarse recorriendo
+ * strings empaquetados; en Scanner eso incluye llenar de a un char el mapa
+ * de caracteres de 0x110000 entradas, que en una compilación corta por CLI
+ * se nota en el arranque. Con la imagen las tablas se leen de los bytes ya
+ * decodificados, y el mapa se llena por tramos salteando los de 0.
+ *
+ * TableGen escribe la imagen (TableImage.bin, junto a esta clase) y aplica
+ * a Parser.java y Scanner.java el cambio que los hace pasar por acá;
+ * generar.sh regenera los fuentes y hace los dos pasos. Cada
+ * sección guarda el hash de los strings empaquetados de los que salió: si la
+ * gramática o el scanner se regeneran y la imagen queda vieja, el hash no
+ * coincide y la clase decodifica sus strings como siempre. Lo mismo si no
+ * hay imagen o con -Dabs.packedTables=true.
+ *
+ * Formato (big-endian): MAGIC, VERSION, cantidad de secciones y por cada
+ * una su número, hash y offset. Los datos de cada sección son:
+ *  - short[][] de CUP: filas, largo de cada fila y todos los valores seguidos
+ *  - int[] de JFlex: largo y valores
+ *  - mapa de caracteres: largo, cantidad de tramos y por tramo (cantidad, valor)
+ */
+public final class TableImage {
+
+    // Secciones de Parser
+    public static final int PRODUCTION = 0;
+    public static final int ACTION = 1;
+    public static final int REDUCE = 2;
+    // Secciones de Scanner
+    public static final int CMAP = 3;
+    public static final int ZZ_ACTION = 4;
+    public static final int ZZ_ROWMAP = 5;
+    public static final int ZZ_TRANS = 6;
+    public static final int ZZ_ATTRIBUTE = 7;
+
+    static final int SECCIONES = 8;
+    static final String RECURSO = "TableImage.bin";
+    static final int MAGIC = 0x41425354;  // "ABST"
+    static final int VERSION = 1;
+
+    // Se lee una sola vez: las tablas se cargan al inicializar Parser y Scanner
+    private static final boolean PACKED = Boolean.getBoolean("abs.packedTables");
+
+    // Strings empaquetados que pidió cada sección (TableGen calcula los hashes con ellos)
+    private static final Object[] PEDIDOS = new Object[SECCIONES];
+
+    // La imagen entera; null si no hay. Esta clase solo se carga al
+    // inicializar Parser o Scanner, así que no hace falta abrirla más tarde
+    private static final byte[] IMAGEN = PACKED ? null : abrir();
+
+    private TableImage() {
+    }
+
+    // ========================================================================
+    // CONSULTAS
+    // ========================================================================
+
+    /**
+     * Tabla de CUP seccion (PRODUCTION, ACTION o REDUCE); null si hay que
+     * decodificar packed
+     */
+    public static short[][] shortTable(int seccion, String[] packed) {
+        PEDIDOS[seccion] = packed;
+        int p = seccion(seccion, packed);
+        try {
+            return (p < 0) ? null : shorts(IMAGEN, p);
+        } catch (RuntimeException e) {
+            return null;    // imagen truncada
+        }
+    }
+
+    /**
+     * Tabla int[] de JFlex seccion (ZZ_ACTION, ZZ_ROWMAP, ZZ_TRANS o
+     * ZZ_ATTRIBUTE); null si hay que decodificar packed
+     */
+    public static int[] intTable(int seccion, String packed) {
+        PEDIDOS[seccion] = packed;
+        int p = seccion(seccion, packed);
+        try {
+            return (p < 0) ? null : ints(IMAGEN, p);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Mapa de caracteres de JFlex; null si hay que decodificar packed
+     */
+    public static char[] charMap(String packed) {
+        PEDIDOS[CMAP] = packed;
+        int p = seccion(CMAP, packed);
+        try {
+            return (p < 0) ? null : chars(IMAGEN, p);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * true si hay una imagen para usar (no dice si sus secciones están al día)
+     */
+    public static boolean isAvailable() {
+        return IMAGEN != null;
+    }
+
+    /**
+     * Strings empaquetados que pidió la sección (String o String[]), o null
+     * si la clase todavía no se inicializó
+     */
+    static Object pedido(int seccion) {
+        return PEDIDOS[seccion];
+    }
+
+    /**
+     * Hash de los strings empaquetados de una tabla
+     */
+    static int hash(String... packed) {
+        int h = 1;
+        for (String s : packed) {
+            h = 31 * h + s.hashCode();
+        }
+        return h;
+    }
+
+    // ========================================================================
+    // IMAGEN
+    // ========================================================================
+
+    /**
+     * Offset de los datos de la sección; -1 si no hay imagen, no tiene la
+     * sección o la sección salió de otros strings empaquetados (el hash se
+     * calcula solo si hay imagen)
+     */
+    private static int seccion(int seccion, String... packed) {
+        byte[] img = IMAGEN;
+        int p = (img == null) ? -1 : offset(img, seccion);
+        if (p < 0 || hashDe(img, seccion) != hash(packed)) {
+            return -1;
+        }
+        return p;
+    }
+
+    /**
+     * Offset de los datos de la sección en img; -1 si no está
+     */
+    private static int offset(byte[] img, int seccion) {
+        int i = entrada(img, seccion);
+        if (i < 0) {
+            return -1;
+        }
+        int off = entero(img, i + 8);
+        return (off >= 0 && off < img.length) ? off : -1;
+    }
+
+    private static int hashDe(byte[] img, int seccion) {
+        return entero(img, entrada(img, seccion) + 4);
+    }
+
+    /**
+     * Posición en la cabecera de la entrada de la sección; -1 si no está
+     */
+    private static int entrada(byte[] img, int seccion) {
+        int n = entero(img, 8);
+        if (n < 0 || n > SECCIONES || 12 + 12 * n > img.length) {
+            return -1;
+        }
+        for (int i = 0; i < n; i++) {
+            if (entero(img, 12 + 12 * i) == seccion) {
+                return 12 + 12 * i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sección de img decodificada sin mirar el hash (TableGen la compara con
+     * la tabla de la que salió); null si img no la tiene
+     */
+    static Object decode(byte[] img, int seccion) {
+        int p = offset(img, seccion);
+        if (p < 0) {
+            return null;
+        }
+        if (seccion <= REDUCE) {
+            return shorts(img, p);
+        }
+        return (seccion == CMAP) ? chars(img, p) : ints(img, p);
+    }
+
+    private static short[][] shorts(byte[] b, int p) {
+        int filas = entero(b, p);
+        int v = p + 4 + 4 * filas;     // valores de la primera fila
+        short[][] t = new short[filas][];
+        for (int i = 0; i < filas; i++) {
+            short[] fila = new short[entero(b, p + 4 + 4 * i)];
+            for (int j = 0; j < fila.length; j++, v += 2) {
+                fila[j] = (short) ((b[v] << 8) | (b[v + 1] & 0xFF));
+            }
+            t[i] = fila;
+        }
+        return t;
+    }
+
+    private static int[] ints(byte[] b, int p) {
+        int[] t = new int[entero(b, p)];
+        for (int i = 0; i < t.length; i++) {
+            t[i] = entero(b, p + 4 + 4 * i);
+        }
+        return t;
+    }
+
+    private static char[] chars(byte[] b, int p) {
+        char[] map = new char[entero(b, p)];
+        int tramos = entero(b, p + 4);
+        int j = 0;
+        for (int i = 0, q = p + 8; i < tramos; i++, q += 8) {
+            int cantidad = entero(b, q);
+            char valor = (char) entero(b, q + 4);
+            if (valor != 0) {    // casi todo el mapa es 0, y el arreglo ya nace en 0
+                Arrays.fill(map, j, j + cantidad, valor);
+            }
+            j += cantidad;
+        }
+        return map;
+    }
+
+    /**
+     * int big-endian en b[p .. p+4)
+     */
+    private static int entero(byte[] b, int p) {
+        return (b[p] << 24) | ((b[p + 1] & 0xFF) << 16) | ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+    }
+
+    /**
+     * Lee la imagen; null si no está o no es de esta versión.
+     *
+     * Con las clases en un directorio se lee el archivo directo: mapearlo o
+     * buscarlo con getResource (que primero recorre los módulos del JDK)
+     * carga más clases de las que ahorra en una imagen de pocos KB. Por lo
+     * mismo se decodifica a mano y no con vistas de java.nio.
+     */
+    private static byte[] abrir() {
+        try {
+            byte[] datos;
+            File raiz = new File(TableImage.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (raiz.isDirectory()) {
+                File f = new File(new File(raiz, "parser"), RECURSO);
+                if (!f.isFile()) {
+                    return null;
+                }
+                try (InputStream in = new FileInputStream(f)) {
+                    datos = in.readAllBytes();
+                }
+            } else {
+                try (InputStream in = TableImage.class.getResourceAsStream(RECURSO)) {   // desde un jar
+                    if (in == null) {
+                        return null;
+                    }
+                    datos = in.readAllBytes();
+                }
+            }
+            if (datos.length < 12 || entero(datos, 0) != MAGIC || entero(datos, 4) != VERSION) {
+                return null;
+            }
+            return datos;
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return null;    // sin imagen: las clases decodifican sus strings
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import java_cup.runtime.Symbol;
+import scanner.FastScanner;
+import scanner.IdentifierTable;
+import scanner.LineTable;
+import scanner.Scanner;
+
+/**
+ * Prueba diferencial: MainParser.analyze con RecursiveParser (el Ast y las
+ * pasadas SemanticPass y CodeGenPass) tiene que dar lo mismo que con el
+ * parser de CUP: errores léxicos, sintácticos y semánticos, cantidad de
+ * símbolos, lo que se imprime en stderr y el ASM generado.
+ *
+ * Además, cada entrada se parsea sola con RecursiveParser para comprobar que
+ * acepta exactamente los programas que CUP acepta sin errores sintácticos.
+ * Si aceptara uno que CUP rechaza, sus diagnósticos no serían los de CUP; si
+ * rechazara uno que CUP acepta, el resultado sería el mismo (reanaliza CUP)
+ * pero se perdería la ganancia, así que las dos cosas cuentan como falla.
+ *
+ * Entradas: los archivos de scanner/test, parser/testFile.abs, programas de
+ * ProgramGenerator y mutaciones de programas generados (se borra, duplica,
+ * intercambia o reemplaza algún token).
+ *
+ * Uso: java parser.TestRecursiveParser [--fuzz n] [--seed s] [archivo.abs ...]
+ */
+public class TestRecursiveParser {
+
+    // Reemplazos para las mutaciones: tokens que usa la gramática y algunos que no
+    private static final String[] LEXEMAS = {
+        "PROGRAM", "VAR", "INT", "CHAR", "FUNCTION", "PROCEDURE", "BEGIN", "END", "IF", "THEN",
+        "ELSE", "WHILE", "DO", "FOR", "TO", "READ", "WRITE", "AND", "OR", "NOT", "DIV", "MOD",
+        ":=", ";", ",", ":", ".", "(", ")", "+", "-", "*", "/", "++", "--", "=", "<>", "<",
+        "<=", ">", ">=", "[", "]", "x", "y1", "42", "'c'", "\"s\"", "REPEAT", "CASE",
+    };
+
+    private static int casos = 0;
+    private static int fallas = 0;
+    private static int aceptados = 0;
+
+    public static void main(String[] args) throws IOException {
+        int fuzz = 3000;
+        long seed = 11;
+        List<Path> archivos = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fuzz" -> fuzz = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> archivos.add(Paths.get(args[i]));
+            }
+        }
+
+        System.out.println("=== PRUEBA DIFERENCIAL: RecursiveParser vs Parser (CUP) ===\n");
+
+        // ===== 1: Archivos =====
+        if (archivos.isEmpty()) {
+            try (Stream<Path> files = Files.list(Paths.get("scanner", "test"))) {
+                files.filter(f -> f.toString().endsWith(".abs")).sorted().forEach(archivos::add);
+            }
+            archivos.add(Paths.get("parser", "testFile.abs"));
+        }
+        System.out.println("--- Archivos (" + archivos.size() + ") ---");
+        for (Path p : archivos) {
+            comparar(p.toString(), Files.readString(p));
+        }
+
+        // ===== 2: Programas generados =====
+        System.out.println("--- Programas generados ---");
+        for (int s = 1; s <= 3; s++) {
+            comparar("generado semilla " + s, generar(2000, s));
+        }
+
+        // ===== 3: Mutaciones =====
+        System.out.println("--- Mutaciones (" + fuzz + ", semilla " + seed + ") ---");
+        Random rnd = new Random(seed);
+        List<String> bases = new ArrayList<>();
+        for (int s = 1; s <= 20; s++) {
+            bases.add(generar(40, 100 + s));
+        }
+        for (Path p : archivos) {
+            bases.add(Files.readString(p));
+        }
+        for (int i = 0; i < fuzz; i++) {
+            String base = bases.get(rnd.nextInt(bases.size()));
+            comparar("mutación #" + i, mutar(base, rnd, 1 + rnd.nextInt(3)));
+        }
+
+        System.out.println("\n" + casos + " entradas (" + aceptados + " sin errores sintácticos), "
+            + fallas + " diferencias");
+        if (fallas > 0) {
+            System.exit(1);
+        }
+    }
+
+    static String generar(long lineas, long semilla) throws IOException {
+        ProgramGenerator.Options opt = new ProgramGenerator.Options();
+        opt.lines = lineas;
+        opt.seed = semilla;
+        StringWriter w = new StringWriter();
+        ProgramGenerator.generate(opt, w);
+        return w.toString();
+    }
+
+    /**
+     * Aplica n mutaciones de token sobre source (los tokens salen de
+     * FastScanner con offsets, que en estos fuentes coinciden con los índices)
+     */
+    static String mutar(String source, Random rnd, int n) throws IOException {
+        String s = source;
+        for (int k = 0; k < n; k++) {
+            byte[] data = s.getBytes(StandardCharsets.UTF_8);
+            if (data.length != s.length()) {
+                return s;   // no es ASCII: los offsets no son índices del String
+            }
+            FastScanner fast = new FastScanner(data);
+            fast.setLineTable(new LineTable(data));
+            List<int[]> tokens = new ArrayList<>();
+            for (Symbol t = fast.next_token(); t.sym != sym.EOF; t = fast.next_token()) {
+                tokens.add(new int[] { t.left, t.right });
+            }
+            if (tokens.size() < 2) {
+                return s;
+            }
+            int i = rnd.nextInt(tokens.size() - 1);
+            int[] a = tokens.get(i);
+            int[] b = tokens.get(i + 1);
+            String ta = s.substring(a[0], a[1]);
+            String tb = s.substring(b[0], b[1]);
+            s = switch (rnd.nextInt(4)) {
+                case 0 -> s.substring(0, a[0]) + s.substring(a[1]);                          // borrar
+                case 1 -> s.substring(0, a[1]) + " " + ta + s.substring(a[1]);               // duplicar
+                case 2 -> s.substring(0, a[0]) + tb + s.substring(a[1], b[0]) + ta + s.substring(b[1]);   // intercambiar
+                default -> s.substring(0, a[0]) + LEXEMAS[rnd.nextInt(LEXEMAS.length)] + s.substring(a[1]);   // reemplazar
+            };
+        }
+        return s;
+    }
+
+    /**
+     * Analiza source con los dos parsers y reporta la primera diferencia
+     */
+    private static void comparar(String nombre, String source) {
+        casos++;
+        String cup = analizar(source, false);
+        String rd = analizar(source, true);
+        if (!cup.equals(rd)) {
+            falla(nombre, source, "CUP:\n" + cup + "\nRecursiveParser:\n" + rd);
+            return;
+        }
+
+        CompileResult r;
+        boolean acepta;
+        PrintStream err = System.err;
+        System.setErr(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            MainParser.setRecursiveParser(false);
+            r = MainParser.analyze(nombre, source);
+            acepta = aceptaRecursivo(source);
+        } finally {
+            System.setErr(err);
+        }
+        boolean aceptaCup = r.failure == null && r.syntaxErrors.isEmpty();
+        if (aceptaCup) {
+            aceptados++;
+        }
+        if (acepta != aceptaCup) {
+            falla(nombre, source, acepta
+                ? "RecursiveParser acepta un programa con errores sintácticos: " + r.syntaxErrors
+                : "RecursiveParser rechaza un programa que CUP acepta");
+        }
+    }
+
+    /**
+     * Resultado de MainParser.analyze (más el ASM si no hubo errores) como texto
+     */
+    private static String analizar(String source, boolean recursivo) {
+        MainParser.setRecursiveParser(recursivo);
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        PrintStream err = System.err;
+        System.setErr(new PrintStream(salida, true, StandardCharsets.UTF_8));
+        CompileResult r;
+        try {
+            r = MainParser.analyze("prueba.abs", source);
+        } finally {
+            System.setErr(err);
+            MainParser.setRecursiveParser(false);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("falla: ").append(r.failure).append('\n');
+        sb.append("léxicos: ").append(r.lexicalErrors).append('\n');
+        sb.append("sintácticos: ").append(r.syntaxErrors).append('\n');
+        for (SemanticAnalyzer.SemanticError e : r.semanticErrors) {
+            sb.append("semántico: ").append(e.type).append(' ').append(e).append('\n');
+        }
+        sb.append("símbolos: ").append(r.symbolCount).append('\n');
+        sb.append("stderr:\n").append(salida.toString(StandardCharsets.UTF_8));
+        if (!r.hasErrors() && r.failure == null) {
+            StringWriter asm = new StringWriter();
+            CodeGenerator.declareAllGlobalVariables();
+            try (PrintWriter w = new PrintWriter(asm)) {
+                CodeGenerator.generate(w, "prueba.asm");
+            }
+            sb.append(asm);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * true si RecursiveParser parsea source sin errores sintácticos y las
+     * pasadas sobre el árbol terminan (si no, MainParser también reanaliza
+     * con CUP)
+     */
+    private static boolean aceptaRecursivo(String source) {
+        SymbolTable.reset();
+        SemanticAnalyzer.reset();
+        SemanticAnalyzer.setDeferredReport(true);
+        CodeGenerator.reset();
+        SemanticStack.reset();
+        Trace.reset();
+        IdentifierTable.reset();
+        try {
+            RecursiveParser rd = new RecursiveParser(new Scanner(new StringReader(source)));
+            if (!rd.parse()) {
+                return false;
+            }
+            SemanticPass.run(rd.getAst());
+            CodeGenPass.run(rd.getAst());
+            return true;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            SemanticAnalyzer.setDeferredReport(false);
+        }
+    }
+
+    private static void falla(String nombre, String source, String detalle) {
+        fallas++;
+        if (fallas <= 10) {
+            System.out.println("[FALLA] " + nombre + "\n" + detalle);
+            System.out.println("Fuente:\n" + source + "\n" + "-".repeat(60));
+        }
+    }
+}
@@ -61,6 +61,14 @@ public class TestSymbolTable {
         
         SymbolTable.exitScope();
         
+        // ===== PRUEBA 6: Ids y símbolos por ámbito =====
+        System.out.println("\n--- Prueba 6: Ids y Ámbitos ---");
+        System.out.println("Símbolos en 'suma': " + SymbolTable.getSymbolsInScope("suma").size() + " (esperado: 3)");
+        System.out.println("Símbolos en 'noExiste': " + SymbolTable.getSymbolsInScope("noExiste").size() + " (esperado: 0)");
+        SymbolTable.Symbol temp = SymbolTable.lookupInScope("TEMP", "suma");
+        System.out.println("Id de 'temp': " + temp.id + " (esperado: 7)");
+        System.out.println("¿getSymbol(7) es 'temp'? " + (SymbolTable.getSymbol(7) == temp));
+        
         // ===== IMPRESIÓN FINAL =====
         SymbolTable.print();
         SymbolTable.printGlobalVariables();
@@ -0,0 +1,131 @@
+package parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Prueba diferencial: MainParser.checkSyntax (CUP sin acciones semánticas,
+ * y con --recursive-parser) tiene que dar los mismos errores léxicos y
+ * sintácticos que el análisis completo con CUP.
+ *
+ * Las entradas en las que el análisis completo termina con una excepción
+ * de una acción semántica (la pila semántica vacía) se cuentan aparte: ahí
+ * CUP corta y la verificación sintáctica sigue, así que puede informar más
+ * errores. Entradas: las mismas que TestRecursiveParser.
+ *
+ * Uso: java parser.TestSyntaxChecker [--fuzz n] [--seed s] [archivo.abs ...]
+ */
+public class TestSyntaxChecker {
+
+    private static int casos = 0;
+    private static int fallas = 0;
+    private static int cortados = 0;
+
+    public static void main(String[] args) throws IOException {
+        int fuzz = 3000;
+        long seed = 11;
+        List<Path> archivos = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fuzz" -> fuzz = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> archivos.add(Paths.get(args[i]));
+            }
+        }
+
+        System.out.println("=== PRUEBA DIFERENCIAL: verificación sintáctica vs análisis completo ===\n");
+
+        if (archivos.isEmpty()) {
+            try (Stream<Path> files = Files.list(Paths.get("scanner", "test"))) {
+                files.filter(f -> f.toString().endsWith(".abs")).sorted().forEach(archivos::add);
+            }
+            archivos.add(Paths.get("parser", "testFile.abs"));
+        }
+        System.out.println("--- Archivos (" + archivos.size() + ") ---");
+        for (Path p : archivos) {
+            comparar(p.toString(), Files.readString(p));
+        }
+
+        System.out.println("--- Programas generados ---");
+        for (int s = 1; s <= 3; s++) {
+            comparar("generado semilla " + s, TestRecursiveParser.generar(2000, s));
+        }
+
+        System.out.println("--- Mutaciones (" + fuzz + ", semilla " + seed + ") ---");
+        Random rnd = new Random(seed);
+        List<String> bases = new ArrayList<>();
+        for (int s = 1; s <= 20; s++) {
+            bases.add(TestRecursiveParser.generar(40, 100 + s));
+        }
+        for (Path p : archivos) {
+            bases.add(Files.readString(p));
+        }
+        for (int i = 0; i < fuzz; i++) {
+            String base = bases.get(rnd.nextInt(bases.size()));
+            comparar("mutación #" + i, TestRecursiveParser.mutar(base, rnd, 1 + rnd.nextInt(3)));
+        }
+
+        System.out.println("\n" + casos + " entradas (" + cortados + " con excepción en el análisis completo), "
+            + fallas + " diferencias");
+        if (fallas > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compara los diagnósticos de checkSyntax, con los dos parsers, con los
+     * del análisis completo
+     */
+    private static void comparar(String nombre, String source) {
+        casos++;
+        CompileResult completo;
+        PrintStream err = System.err;
+        System.setErr(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            completo = MainParser.analyze(nombre, source);
+        } finally {
+            System.setErr(err);
+        }
+        if (completo.failure != null) {
+            cortados++;
+            return;
+        }
+        String esperado = diagnosticos(completo);
+        for (boolean recursivo : new boolean[] { false, true }) {
+            MainParser.setRecursiveParser(recursivo);
+            CompileResult r;
+            try {
+                r = MainParser.checkSyntax(nombre, source);
+            } finally {
+                MainParser.setRecursiveParser(false);
+            }
+            String obtenido = diagnosticos(r);
+            if (!esperado.equals(obtenido)) {
+                falla(nombre, source, "Análisis completo:\n" + esperado + "\ncheckSyntax"
+                    + (recursivo ? " (RecursiveParser)" : "") + ":\n" + obtenido);
+                return;
+            }
+        }
+    }
+
+    private static String diagnosticos(CompileResult r) {
+        return "falla: " + r.failure + "\nléxicos: " + r.lexicalErrors + "\nsintácticos: " + r.syntaxErrors + "\n";
+    }
+
+    private static void falla(String nombre, String source, String detalle) {
+        fallas++;
+        if (fallas <= 10) {
+            System.out.println("[FALLA] " + nombre + "\n" + detalle);
+            System.out.println("Fuente:\n" + source + "\n" + "-".repeat(60));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package parser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Trazas de depuración del compilador (tabla de símbolos, scopes, pila
+ * semántica, generación de código) con niveles y categorías.
+ *
+ * Desactivado no cuesta nada: los puntos de traza se escriben como
+ *
+ *     if (Trace.on(Trace.Category.SYMTAB, Trace.Level.DEBUG)) {
+ *         Trace.log(Trace.Category.SYMTAB, Trace.Level.DEBUG, "Agregado: " + key);
+ *     }
+ *
+ * y on() solo compara dos enteros estáticos, así que el mensaje no se arma
+ * ni se toma ningún lock. Activado, los eventos van a un buffer circular
+ * por hilo (se conservan los últimos N) que se vuelca al terminar con
+ * dump() o dumpToFile().
+ *
+ * Configuración: enable(nivel, categorías...) o las propiedades
+ * -Dabs.trace=DEBUG[:SYMTAB,STACK] y -Dabs.trace.size=N.
+ */
+public final class Trace {
+
+    public enum Level { ERROR, WARN, INFO, DEBUG }
+
+    public enum Category {
+        SYMTAB,   // inserciones en la tabla de símbolos
+        SCOPE,    // entrada/salida de scopes
+        STACK,    // push/pop de la pila semántica
+        FOLD,     // constant folding
+        CODEGEN;  // declaraciones del generador de código
+
+        final int bit = 1 << ordinal();
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    // Nivel máximo registrado (-1 = trazas apagadas) y máscara de categorías.
+    // No son volatile a propósito: se configuran antes de compilar.
+    private static int maxLevel = -1;
+    private static int categoryMask = 0;
+    private static int capacity = DEFAULT_CAPACITY;
+
+    private static final ThreadLocal<Ring> RING = ThreadLocal.withInitial(() -> new Ring(capacity));
+
+    static {
+        String spec = System.getProperty("abs.trace");
+        if (spec != null) {
+            configure(spec);
+        }
+        capacity = Math.max(1, Integer.getInteger("abs.trace.size", DEFAULT_CAPACITY));
+    }
+
+    private Trace() {
+    }
+
+    // ========================================================================
+    // CONFIGURACIÓN
+    // ========================================================================
+
+    /**
+     * Activa las trazas hasta el nivel dado; sin categorías se activan todas
+     */
+    public static void enable(Level level, Category... categories) {
+        int mask = 0;
+        for (Category c : categories) {
+            mask |= c.bit;
+        }
+        categoryMask = (categories.length == 0) ? -1 : mask;
+        maxLevel = level.ordinal();
+    }
+
+    public static void disable() {
+        maxLevel = -1;
+        categoryMask = 0;
+    }
+
+    /**
+     * Configura desde un texto "NIVEL[:CAT1,CAT2]", p.ej. "DEBUG:SYMTAB,SCOPE"
+     */
+    public static void configure(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        Level level = parts[0].isEmpty() ? Level.DEBUG : Level.valueOf(parts[0].trim().toUpperCase());
+        if (parts.length < 2 || parts[1].isBlank()) {
+            enable(level);
+            return;
+        }
+        String[] names = parts[1].split(",");
+        Category[] cats = new Category[names.length];
+        for (int i = 0; i < names.length; i++) {
+            cats[i] = Category.valueOf(names[i].trim().toUpperCase());
+        }
+        enable(level, cats);
+    }
+
+    /**
+     * Tamaño del buffer circular (aplica a los hilos que aún no trazaron)
+     */
+    public static void setCapacity(int events) {
+        capacity = Math.max(1, events);
+    }
+
+    // ========================================================================
+    // REGISTRO
+    // ========================================================================
+
+    /**
+     * true si hay que registrar eventos de esa categoría y nivel
+     */
+    public static boolean on(Category category, Level level) {
+        return level.ordinal() <= maxLevel && (categoryMask & category.bit) != 0;
+    }
+
+    /**
+     * Registra un evento en el buffer del hilo actual. Llamar solo después de on().
+     */
+    public static void log(Category category, Level level, String message) {
+        RING.get().add(System.nanoTime(), category, level, message);
+    }
+
+    /**
+     * Descarta los eventos del hilo actual (se llama al iniciar cada compilación)
+     */
+    public static void reset() {
+        if (maxLevel >= 0) {
+            RING.get().clear();
+        }
+    }
+
+    /**
+     * Cantidad de eventos descartados por desborde en el hilo actual
+     */
+    public static long dropped() {
+        return RING.get().dropped();
+    }
+
+    // ========================================================================
+    // VOLCADO
+    // ========================================================================
+
+    public static void dump(PrintStream out) {
+        PrintWriter w = new PrintWriter(out);
+        RING.get().writeTo(w);
+        w.flush();
+    }
+
+    public static void dumpToFile(Path file) throws IOException {
+        try (Writer fw = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             PrintWriter w = new PrintWriter(fw)) {
+            RING.get().writeTo(w);
+        }
+    }
+
+    // ========================================================================
+    // BUFFER CIRCULAR
+    // ========================================================================
+
+    private static final class Ring {
+        private final long[] times;
+        private final Category[] categories;
+        private final Level[] levels;
+        private final String[] messages;
+        private long written = 0;
+
+        Ring(int size) {
+            times = new long[size];
+            categories = new Category[size];
+            levels = new Level[size];
+            messages = new String[size];
+        }
+
+        void add(long time, Category category, Level level, String message) {
+            int i = (int) (written % times.length);
+            times[i] = time;
+            categories[i] = category;
+            levels[i] = level;
+            messages[i] = message;
+            written++;
+        }
+
+        void clear() {
+            java.util.Arrays.fill(messages, null);
+            written = 0;
+        }
+
+        long dropped() {
+            return Math.max(0, written - times.length);
+        }
+
+        void writeTo(PrintWriter out) {
+            long first = Math.max(0, written - times.length);
+            if (first > 0) {
+                out.println("[TRACE] ... " + first + " eventos anteriores descartados");
+            }
+            long t0 = (written > first) ? times[(int) (first % times.length)] : 0;
+            for (long n = first; n < written; n++) {
+                int i = (int) (n % times.length);
+                out.printf("[TRACE %9.3f ms] %-5s %-7s %s%n",
+                    (times[i] - t0) / 1e6, levels[i], categories[i], messages[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Modo --watch: vigila un árbol de fuentes con WatchService y recompila
+ * solo los .abs que cambiaron, dentro de la misma JVM (pipeline caliente).
+ *
+ * Las ráfagas de eventos de un mismo archivo (p.ej. un editor que guarda
+ * en varios pasos) se agrupan: se compila cuando pasan DEBOUNCE ms sin
+ * eventos nuevos. Si el contenido no cambió, no se recompila. Los .abs de
+ * un directorio nuevo se compilan al registrarlo, aunque se hayan creado
+ * antes de que se empezara a vigilarlo.
+ *
+ * Los flags de modo son los de MainParser.parseModeFlag.
+ *
+ * Uso: java parser.WatchCompiler [--debounce ms] [flags de modo] [directorio]
+ */
+public class WatchCompiler implements Closeable {
+
+    private static final long DEFAULT_DEBOUNCE_MS = 200;
+
+    private final Path root;
+    private final long debounceMs;
+    private final WatchService watcher;
+    private final Map<WatchKey, Path> dirs = new HashMap<>();
+
+    // Archivos con eventos pendientes -> instante (ms) en que se pueden compilar
+    private final Map<Path, Long> pending = new LinkedHashMap<>();
+    // CRC del contenido compilado por última vez, para ignorar guardados sin cambios
+    private final Map<Path, Long> lastChecksum = new HashMap<>();
+
+    public WatchCompiler(Path root, long debounceMs) throws IOException {
+        this.root = root;
+        this.debounceMs = debounceMs;
+        this.watcher = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Cierra el WatchService
+     */
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+    }
+
+    /**
+     * Registra un directorio y todos sus subdirectorios
+     */
+    private void registerTree(Path start) throws IOException {
+        try (Stream<Path> walk = Files.walk(start)) {
+            for (Path d : (Iterable<Path>) walk.filter(Files::isDirectory)::iterator) {
+                WatchKey key = d.register(watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+                dirs.put(key, d);
+            }
+        }
+    }
+
+    private static boolean isSource(Path p) {
+        return p.getFileName().toString().toLowerCase().endsWith(".abs");
+    }
+
+    /**
+     * Compila todos los fuentes una vez y luego queda vigilando cambios
+     */
+    public void run() throws IOException, InterruptedException {
+        registerTree(root);
+        System.out.println("[WATCH] Vigilando " + root.toAbsolutePath() + " (debounce " + debounceMs + " ms)");
+
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path p : (Iterable<Path>) walk.filter(Files::isRegularFile).filter(WatchCompiler::isSource)::iterator) {
+                recompile(p);
+            }
+        }
+
+        try {
+            while (true) {
+                long timeout = nextTimeout();
+                WatchKey key = (timeout < 0)
+                    ? watcher.take()
+                    : watcher.poll(timeout, TimeUnit.MILLISECONDS);
+
+                if (key != null) {
+                    collectEvents(key);
+                }
+                compileDue();
+            }
+        } catch (ClosedWatchServiceException e) {
+            System.out.println("[WATCH] Detenido");
+        }
+    }
+
+    private void collectEvents(WatchKey key) throws IOException {
+        Path dir = dirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                continue;
+            }
+            Path changed = dir.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                registerTree(changed);
+                // Los archivos creados antes del registro no generan eventos
+                try (Stream<Path> walk = Files.walk(changed)) {
+                    for (Path p : (Iterable<Path>) walk.filter(Files::isRegularFile).filter(WatchCompiler::isSource)::iterator) {
+                        schedule(p);
+                    }
+                }
+            } else if (isSource(changed)) {
+                schedule(changed);
+            }
+        }
+        if (!key.reset()) {
+            dirs.remove(key);
+        }
+    }
+
+    /**
+     * Cada evento nuevo posterga la compilación de ese archivo
+     */
+    private void schedule(Path source) {
+        pending.remove(source);
+        pending.put(source, System.currentTimeMillis() + debounceMs);
+    }
+
+    /**
+     * Milisegundos hasta el próximo archivo listo, o -1 si no hay pendientes
+     */
+    private long nextTimeout() {
+        if (pending.isEmpty()) {
+            return -1;
+        }
+        long now = System.currentTimeMillis();
+        long min = Long.MAX_VALUE;
+        for (long due : pending.values()) {
+            min = Math.min(min, due);
+        }
+        return Math.max(0, min - now);
+    }
+
+    private void compileDue() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Path, Long> e = it.next();
+            if (e.getValue() <= now) {
+                it.remove();
+                recompile(e.getKey());
+            }
+        }
+    }
+
+    private void recompile(Path source) {
+        if (!Files.isRegularFile(source)) {
+            return;  // borrado o renombrado antes de compilar
+        }
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(source);
+        } catch (IOException e) {
+            System.err.println("[WATCH] No se pudo leer " + source + ": " + e.getMessage());
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        Long previous = lastChecksum.put(source, crc.getValue());
+        if (previous != null && previous == crc.getValue()) {
+            return;  // guardado sin cambios
+        }
+
+        CompileResult r = MainParser.compile(source.toString(), bytes);   // sin volver a leer el archivo
+        printResult(r);
+    }
+
+    /**
+     * Reporte compacto: una línea por compilación y los errores, si los hay
+     */
+    private static void printResult(CompileResult r) {
+        String estado = (r.failure != null) ? "FALLO" : (r.hasErrors() ? "ERRORES" : "OK");
+        System.out.printf("[WATCH] %-8s %7.1f ms  %s%n", estado, r.elapsedNanos / 1e6, r.sourcePath);
+        if (r.failure != null) {
+            System.out.println("        " + r.failure);
+        }
+        for (String err : r.lexicalErrors) {
+            System.out.println("        [LEX] " + err);
+        }
+        for (String err : r.syntaxErrors) {
+            System.out.println("        [SINT] " + err);
+        }
+        for (SemanticAnalyzer.SemanticError err : r.semanticErrors) {
+            System.out.println("        [SEM] " + err);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long debounce = DEFAULT_DEBOUNCE_MS;
+        String dir = ".";
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--debounce") && i + 1 < args.length) {
+                debounce = Long.parseLong(args[++i]);
+            } else if (!MainParser.parseModeFlag(args[i])) {
+                dir = args[i];
+            }
+        }
+
+        try (WatchCompiler w = new WatchCompiler(Paths.get(dir), debounce)) {
+            w.run();
+        }
+    }
+}
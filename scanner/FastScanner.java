@@ -0,0 +1,994 @@
+package scanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+import parser.sym;
+
+/**
+ * Scanner escrito a mano que trabaja directamente sobre los bytes UTF-8 del
+ * fuente, sin Reader ni tablas de DFA.
+ *
+ * Produce exactamente los mismos Symbol que scanner.Scanner (mismo token de
+ * parser.sym, mismo left/right = línea/columna y mismo texto) y los mismos
+ * mensajes de error: cada caso de next_token() calcula el match más largo de
+ * las reglas de scanner.flex que pueden empezar con ese carácter y, si dos
+ * empatan, gana la que está antes en el .flex, igual que en JFlex. Las reglas
+ * raras (comentarios "(* *)" con "**)", strings y chars mal cerrados) siguen
+ * al pie de la letra la expresión regular del .flex, no lo que "debería" ser.
+ *
+ * Línea y columna se cuentan como en el código de JFlex: la columna en
+ * unidades UTF-16, y \r\n, \r, \n, U+000B, U+000C, U+0085, U+2028 y U+2029
+ * terminan una línea. Todo carácter no ASCII es un "símbolo" para las reglas
+ * de identificadores, así que basta con clasificar bytes.
+ *
+ * El fuente tiene que ser UTF-8 válido (igual que con MappedSourceReader);
+ * si no lo es, el constructor lanza MalformedInputException.
+ *
+ * Los blancos, el cuerpo de los comentarios y el avance de línea y columna
+ * sobre ellos se recorren de a 8 bytes (WordScan); -Dabs.scalarScan=true
+ * o setWordScan(false) vuelve a recorrerlos de a un byte.
+ *
+ * TestFastScanner compara los dos scanners token por token.
+ */
+public final class FastScanner implements Lexer {
+
+    private static final int MAX_IDENTIFICADOR = 127;
+
+    // Clases de bytes ASCII
+    private static final byte OTRO = 0;       // no ASCII o símbolo inválido
+    private static final byte LETRA = 1;
+    private static final byte DIGITO = 2;
+    private static final byte SEPARADOR = 3;  // espacio u operador: corta un identificador inválido
+
+    private static final byte[] CLASE = new byte[256];
+
+    // Blancos y comentarios de a 8 bytes (WordScan) o de a uno (-Dabs.scalarScan=true)
+    private static volatile boolean wordScan = !Boolean.getBoolean("abs.scalarScan");
+
+    /**
+     * Vale para los scanners que se creen después
+     */
+    public static void setWordScan(boolean on) {
+        wordScan = on;
+    }
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            CLASE[c] = LETRA;
+            CLASE[c - 'a' + 'A'] = LETRA;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            CLASE[c] = DIGITO;
+        }
+        for (char c : " \t\n\r()[]+-*/=<>:;.,".toCharArray()) {
+            CLASE[c] = SEPARADOR;
+        }
+    }
+
+    // Tipo de cada token en la tabla de tokens, y si su texto es un literal (no se interna)
+    private static final String[] TIPO = new String[sym.terminalNames.length];
+    private static final boolean[] LITERAL = new boolean[sym.terminalNames.length];
+
+    static {
+        Arrays.fill(TIPO, "PALABRA RESERVADA");
+        int[] operadores = {
+            sym.MAS, sym.MENOS, sym.POR, sym.DIVISION, sym.INCREMENTO, sym.DECREMENTO, sym.POTENCIA,
+            sym.IGUAL, sym.DIFERENTE, sym.MENOR, sym.MAYOR, sym.MENOR_IGUAL, sym.MAYOR_IGUAL,
+            sym.ASIGNACION, sym.PUNTO_COMA, sym.COMA, sym.DOS_PUNTOS, sym.PARENTESIS_IZQ,
+            sym.PARENTESIS_DER, sym.CORCHETE_IZQ, sym.CORCHETE_DER, sym.PUNTO, sym.PUNTERO
+        };
+        for (int k : operadores) {
+            TIPO[k] = "OPERADOR";
+        }
+        TIPO[sym.IDENTIFICADOR] = "IDENTIFICADOR";
+        literal(sym.LIT_ENTERO, "LITERAL ENTERO");
+        literal(sym.LIT_REAL, "LITERAL REAL");
+        literal(sym.LIT_OCTAL, "LITERAL OCTAL");
+        literal(sym.LIT_HEX, "LITERAL HEXADECIMAL");
+        literal(sym.LIT_STRING, "LITERAL STRING");
+        literal(sym.LIT_CHAR, "LITERAL CARACTER");
+    }
+
+    private static void literal(int k, String tipo) {
+        TIPO[k] = tipo;
+        LITERAL[k] = true;
+    }
+
+    /**
+     * true si el valor del token de tipo k es su texto tal cual (literales)
+     * y no un String internado
+     */
+    static boolean esLiteral(int k) {
+        return LITERAL[k];
+    }
+
+    private final byte[] buf;
+    private final int base;
+    private final int end;
+    private final boolean ascii;
+    private final boolean porPalabras = wordScan;
+
+    // Hasta dónde pueden mirar los espacios, los comentarios y la búsqueda
+    // de la comilla de {StringIncorrecto}, las únicas reglas que cruzan un
+    // \n; end salvo en los trozos de ParallelLexer (ver limitar())
+    private int tope;
+
+    // Token actual: [start, marked). yyline/yycolumn corresponden a start
+    // (sin usar si hay tabla de líneas).
+    private int start;
+    private int marked;
+    private int yyline;
+    private int yycolumn;
+    private LineTable lineas;
+
+    private final ArrayList<String> errores = new ArrayList<>();
+    private TokenStats tokenStats = TokenStats.counting();
+    private final IdentifierTable ids = IdentifierTable.current();
+
+    public FastScanner(byte[] data) throws IOException {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Escanea data[off .. off+len) (UTF-8)
+     */
+    public FastScanner(byte[] data, int off, int len) throws IOException {
+        this.buf = data;
+        this.base = off;
+        this.start = off;
+        this.marked = off;
+        this.end = off + len;
+        this.tope = end;
+        this.ascii = MappedSourceReader.isAscii(ByteBuffer.wrap(data, off, len).slice());
+        if (!ascii) {
+            // Valida una sola vez; después cada byte >= 0x80 es parte de un carácter bien formado
+            validarUtf8(ByteBuffer.wrap(data, off, len));
+        }
+    }
+
+    /**
+     * Escanea data[from .. off+len) como parte de data[off .. off+len), que
+     * ya se validó: from es el principio de la línea line (ParallelLexer).
+     * Igual que en el escaneo completo, un token puede terminar después de
+     * cualquier punto intermedio.
+     */
+    FastScanner(byte[] data, int off, int len, boolean ascii, int from, int line) {
+        this.buf = data;
+        this.base = off;
+        this.start = from;
+        this.marked = from;
+        this.end = off + len;
+        this.tope = end;
+        this.ascii = ascii;
+        this.yyline = line;
+    }
+
+    /**
+     * Decodifica de a bloques a un buffer chico (no arma el texto completo)
+     * y lanza MalformedInputException si data no es UTF-8 válido
+     */
+    static void validarUtf8(ByteBuffer data) throws CharacterCodingException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer out = CharBuffer.allocate(8192);
+        CoderResult r;
+        do {
+            out.clear();
+            r = decoder.decode(data, out, true);
+            if (r.isError()) {
+                r.throwException();
+            }
+        } while (r.isOverflow());
+        out.clear();
+        r = decoder.flush(out);
+        if (r.isError()) {
+            r.throwException();
+        }
+    }
+
+    /**
+     * Escanea los bytes restantes de data. Si no es un buffer con arreglo
+     * (directo o mapeado) se copia una vez a un byte[].
+     */
+    public FastScanner(ByteBuffer data) throws IOException {
+        this(arrayOf(data), offsetOf(data), data.remaining());
+    }
+
+    /**
+     * Lee el archivo completo y lo escanea
+     */
+    public static FastScanner open(Path path) throws IOException {
+        return new FastScanner(Files.readAllBytes(path));
+    }
+
+    private static byte[] arrayOf(ByteBuffer data) {
+        if (data.hasArray()) {
+            return data.array();
+        }
+        byte[] copy = new byte[data.remaining()];
+        data.duplicate().get(copy);
+        return copy;
+    }
+
+    private static int offsetOf(ByteBuffer data) {
+        return data.hasArray() ? data.arrayOffset() + data.position() : 0;
+    }
+
+    // ========================================================================
+    // INTERFAZ Lexer
+    // ========================================================================
+
+    @Override
+    public List<String> getErrores() {
+        return errores;
+    }
+
+    @Override
+    public void setTokenStats(TokenStats stats) {
+        tokenStats = stats;
+    }
+
+    @Override
+    public TokenStats getTokenStats() {
+        return tokenStats;
+    }
+
+    @Override
+    public void imprimirTokens() {
+        tokenStats.print();
+    }
+
+    // Token actual después de nextKind(), para TokenBuffer
+
+    int tokenStart() {
+        return start;
+    }
+
+    int tokenLength() {
+        return marked - start;
+    }
+
+    int tokenLine() {
+        return linea();
+    }
+
+    byte[] source() {
+        return buf;
+    }
+
+    int sourceStart() {
+        return base;
+    }
+
+    /**
+     * Bytes del fuente que faltan escanear (para dimensionar un TokenBuffer)
+     */
+    int remaining() {
+        return end - marked;
+    }
+
+    boolean isAscii() {
+        return ascii;
+    }
+
+    /**
+     * Posiciones por offset: el scanner deja de contar líneas y columnas, y
+     * cada Symbol lleva en left el offset de su primer byte y en right el
+     * de su fin (desde el principio de lo que se escanea, como en lineas).
+     * Los mensajes de error y la tabla de tokens resuelven la línea con
+     * lineas, que recién entonces se arma. Fijarla antes del primer token.
+     */
+    public void setLineTable(LineTable lineas) {
+        this.lineas = lineas;
+    }
+
+    /**
+     * nextKind() cuando el próximo lexema empieza en tope o necesita mirar
+     * más allá para decidir; el scanner queda al principio del lexema
+     */
+    static final int CORTE = -2;
+
+    /**
+     * Ningún lexema mira más allá de tope (se devuelve CORTE): así el
+     * escaneo de un trozo de ParallelLexer no sigue hasta el final del
+     * fuente por un comentario sin cerrar o muchas líneas en blanco. El resto
+     * de las reglas no cruza un \n, y los trozos terminan en uno.
+     * Se puede volver a subir (hasta end) para seguir desde el lexema cortado.
+     */
+    void limitar(int tope) {
+        this.tope = Math.min(tope, end);
+    }
+
+    // ========================================================================
+    // TOKENS
+    // ========================================================================
+
+    @Override
+    public Symbol next_token() {
+        int k = nextKind();
+        if (k == sym.EOF) {
+            return new Symbol(sym.EOF);
+        }
+        String token = lexema(k);
+        registrar(k, token);
+        if (lineas != null) {
+            return new Symbol(k, start - base, marked - base, token);
+        }
+        return new Symbol(k, yyline, yycolumn, token);
+    }
+
+    /**
+     * Avanza al próximo token y devuelve su tipo (sym.EOF al terminar) sin
+     * armar el Symbol ni el texto: el token queda en tokenStart() /
+     * tokenLength() / tokenLine(). Lo usa TokenBuffer para guardar solo
+     * posiciones; los comentarios y errores se registran igual. Con
+     * limitar() puede devolver CORTE.
+     */
+    int nextKind() {
+        while (true) {
+            avanzarPosicion();
+            int p = start;
+            if (p >= end) {
+                return sym.EOF;
+            }
+            if (p >= tope) {
+                return CORTE;
+            }
+            int c = buf[p] & 0xFF;
+            switch (c) {
+                case ' ', '\t', '\n', '\r' -> {
+                    int i = p + 1;
+                    if (porPalabras) {
+                        i = WordScan.saltarEspacios(buf, i, tope);
+                    } else {
+                        while (i < tope && esEspacio(buf[i])) {
+                            i++;
+                        }
+                    }
+                    marked = i;     // ignorar
+                }
+                case '{' -> {
+                    if (!comentarioLlave(p)) {
+                        return cortar();
+                    }
+                }
+                case '(' -> {
+                    if (siguiente(p) != '*') {
+                        return operador(sym.PARENTESIS_IZQ, 1);
+                    }
+                    if (!comentarioParentesis(p)) {
+                        return cortar();
+                    }
+                }
+                case '+' -> {
+                    return (siguiente(p) == '+') ? operador(sym.INCREMENTO, 2) : operador(sym.MAS, 1);
+                }
+                case '-' -> {
+                    return (siguiente(p) == '-') ? operador(sym.DECREMENTO, 2) : operador(sym.MENOS, 1);
+                }
+                case '*' -> {
+                    return (siguiente(p) == '*') ? operador(sym.POTENCIA, 2) : operador(sym.POR, 1);
+                }
+                case '/' -> {
+                    return operador(sym.DIVISION, 1);
+                }
+                case '=' -> {
+                    return operador(sym.IGUAL, 1);
+                }
+                case '<' -> {
+                    int n = siguiente(p);
+                    return (n == '>') ? operador(sym.DIFERENTE, 2)
+                         : (n == '=') ? operador(sym.MENOR_IGUAL, 2)
+                         : operador(sym.MENOR, 1);
+                }
+                case '>' -> {
+                    return (siguiente(p) == '=') ? operador(sym.MAYOR_IGUAL, 2) : operador(sym.MAYOR, 1);
+                }
+                case ':' -> {
+                    return (siguiente(p) == '=') ? operador(sym.ASIGNACION, 2) : operador(sym.DOS_PUNTOS, 1);
+                }
+                case ',' -> {
+                    return operador(sym.COMA, 1);
+                }
+                case ';' -> {
+                    return operador(sym.PUNTO_COMA, 1);
+                }
+                case ')' -> {
+                    return operador(sym.PARENTESIS_DER, 1);
+                }
+                case '[' -> {
+                    return operador(sym.CORCHETE_IZQ, 1);
+                }
+                case ']' -> {
+                    return operador(sym.CORCHETE_DER, 1);
+                }
+                case '.' -> {
+                    if (esDigito(siguiente(p))) {
+                        marked = digitos(p + 1);
+                        errorEnColumna("número real incorrecto");
+                    } else {
+                        return operador(sym.PUNTO, 1);
+                    }
+                }
+                case '^' -> {
+                    // "^" es PUNTERO, pero "^abc" es más largo como identificador con símbolo
+                    int fin = alfanumericos(p + 1);
+                    if (fin == p + 1) {
+                        return operador(sym.PUNTERO, 1);
+                    }
+                    marked = fin;
+                    errorEnColumna("identificador inválido, no puede iniciar con símbolo");
+                }
+                case '"' -> {
+                    int k = cadena(p);
+                    if (k == CORTE) {
+                        return cortar();
+                    }
+                    if (k >= 0) {
+                        return k;
+                    }
+                }
+                case '\'' -> {
+                    int k = caracter(p);
+                    if (k >= 0) {
+                        return k;
+                    }
+                }
+                default -> {
+                    byte clase = CLASE[c];
+                    if (clase == LETRA) {
+                        int k = identificador(p);
+                        if (k >= 0) {
+                            return k;
+                        }
+                    } else if (clase == DIGITO) {
+                        int k = numero(p);
+                        if (k >= 0) {
+                            return k;
+                        }
+                    } else {
+                        // Cualquier otro carácter (ASCII o no) seguido de letras/dígitos
+                        marked = alfanumericos(p + largoUtf8(c));
+                        errorEnColumna("identificador inválido, no puede iniciar con símbolo");
+                    }
+                }
+            }
+        }
+    }
+
+    // ========================================================================
+    // REGLAS
+    // ========================================================================
+
+    /**
+     * {Comentario1} o {Comentario1MalCerrado}; false si llegó a tope sin
+     * encontrar la llave de cierre
+     */
+    private boolean comentarioLlave(int p) {
+        int i = p + 1;
+        if (porPalabras) {
+            i = WordScan.buscar(buf, i, tope, '}');
+        } else {
+            while (i < tope && buf[i] != '}') {
+                i++;
+            }
+        }
+        if (i < tope) {
+            marked = i + 1;
+            registrarToken("COMENTARIO");
+        } else if (tope < end) {
+            return false;
+        } else {
+            marked = end;
+            errores.add("Error en línea " + (linea() + 1) + ", comentario '{' sin cerrar. Texto: " + texto());
+        }
+        return true;
+    }
+
+    /**
+     * {Comentario2} = \(\*([^*]|\*[^)])*\*\) o {Comentario2MalCerrado}.
+     * Simula la expresión: después de un '*' que empieza un par "*x" no se
+     * puede cerrar con ")", por eso "(* a **)" no cierra el comentario.
+     * false si llegó a tope sin cerrarse.
+     */
+    private boolean comentarioParentesis(int p) {
+        int i = p + 2;
+        int completo = i;                   // último fin de {Comentario2MalCerrado}
+        boolean despuesDeAsterisco = false;
+        while (i < tope) {
+            if (porPalabras && !despuesDeAsterisco) {
+                // Hasta el próximo '*' todo byte es un carácter completo
+                int j = WordScan.buscar(buf, i, tope, '*');
+                if (j > i) {
+                    completo = j;
+                    i = j;
+                    continue;
+                }
+            }
+            byte b = buf[i++];
+            if (despuesDeAsterisco) {
+                if (b == ')') {
+                    marked = i;
+                    registrarToken("COMENTARIO");
+                    return true;
+                }
+                despuesDeAsterisco = false;     // "*x" forma un par completo
+                completo = i;
+            } else if (b == '*') {
+                despuesDeAsterisco = true;
+            } else {
+                completo = i;
+            }
+        }
+        if (tope < end) {
+            return false;
+        }
+        // Un '*' suelto al final no es parte del comentario sin cerrar
+        marked = completo;
+        errores.add("Error en línea " + (linea() + 1) + ", comentario '(*' sin cerrar. Texto: " + texto());
+        return true;
+    }
+
+    /**
+     * {StringSinCerrar}, {StringIncorrecto} o {String}; CORTE si buscando
+     * la comilla de {StringIncorrecto} llegó a tope.
+     *
+     * La búsqueda de esa comilla es la mirada hacia adelante más larga del
+     * scanner, pero no se repite: si la encuentra, el string incorrecto la
+     * consume, y si no la hay, esta es la última comilla del fuente.
+     */
+    private int cadena(int p) {
+        int i = p + 1;
+        while (i < end && buf[i] != '"' && buf[i] != '\n' && buf[i] != '\r') {
+            i++;
+        }
+        if (i < end && buf[i] == '"') {
+            marked = i + 1;
+            return sym.LIT_STRING;
+        }
+        if (i < end) {
+            // Salto de línea antes de cerrar: incorrecto si hay otra comilla más adelante.
+            // Con \r (y sin \n antes de la comilla) también calza {String}, pero empata
+            // y {StringIncorrecto} está antes en el .flex.
+            int q = i + 1;
+            if (porPalabras) {
+                q = WordScan.buscar(buf, q, tope, '"');
+            } else {
+                while (q < tope && buf[q] != '"') {
+                    q++;
+                }
+            }
+            if (q == tope && tope < end) {
+                return CORTE;
+            }
+            if (q < end) {
+                marked = q + 1;
+                errorEnColumna("string incorrecto");
+                return -1;
+            }
+        }
+        marked = i;
+        errorEnColumna("string sin cerrar");
+        return -1;
+    }
+
+    // Reglas que pueden empezar con comilla simple, en el orden del .flex
+    private static final int CHAR_INVALIDO = 1;
+    private static final int CHAR_SIN_CIERRE = 2;
+    private static final int CHAR = 3;
+    private static final int SIMBOLO = 4;
+
+    /**
+     * {CharInvalido}, {CharSinCierre}, {Char} o {IdentificadorSimbolo}:
+     * el más largo, y ante un empate el primero del .flex
+     */
+    private int caracter(int p) {
+        // Primera comilla o \n después de la de apertura, y cuántos caracteres hay antes
+        int m = p + 1;
+        int chars = 0;
+        while (m < end && buf[m] != '\'' && buf[m] != '\n') {
+            if ((buf[m] & 0xC0) != 0x80) {
+                chars++;
+            }
+            m++;
+        }
+        boolean cierra = m < end && buf[m] == '\'';
+
+        int mejor = 0;
+        int regla = 0;
+        // {CharInvalido} = \'([^\'\n][^\'\n]+)\' | \'\'
+        if (cierra && (chars >= 2 || m == p + 1)) {
+            mejor = m + 1;
+            regla = CHAR_INVALIDO;
+        }
+        // {CharSinCierre} = \'[^\'\n\r]*
+        int r = p + 1;
+        while (r < end && buf[r] != '\'' && buf[r] != '\n' && buf[r] != '\r') {
+            r++;
+        }
+        if (r > mejor) {
+            mejor = r;
+            regla = CHAR_SIN_CIERRE;
+        }
+        // {Char} = \'([^\'\n]|\\.)\'
+        int charFin = -1;
+        if (cierra && chars == 1) {
+            charFin = m + 1;
+        }
+        if (p + 2 < end && buf[p + 1] == '\\') {
+            int c2 = p + 2;
+            int n2 = largoUtf8(buf[c2] & 0xFF);
+            if (!terminaLinea(c2) && c2 + n2 < end && buf[c2 + n2] == '\'') {
+                charFin = Math.max(charFin, c2 + n2 + 1);
+            }
+        }
+        if (charFin > mejor) {
+            mejor = charFin;
+            regla = CHAR;
+        }
+        // {IdentificadorSimbolo}
+        int simbolo = alfanumericos(p + 1);
+        if (simbolo > mejor) {
+            mejor = simbolo;
+            regla = SIMBOLO;
+        }
+
+        marked = mejor;
+        switch (regla) {
+            case CHAR_INVALIDO -> errorEnColumna("carácter inválido");
+            case CHAR_SIN_CIERRE -> errorEnColumna("carácter sin cerrar");
+            case CHAR -> {
+                return sym.LIT_CHAR;
+            }
+            default -> errorEnColumna("identificador inválido, no puede iniciar con símbolo");
+        }
+        return -1;
+    }
+
+    // Reglas que pueden empezar con un dígito, en el orden del .flex
+    private static final int REAL_INCORRECTO = 1;
+    private static final int OCTAL = 2;
+    private static final int HEXADECIMAL = 3;
+    private static final int DECIMAL = 4;
+    private static final int REAL = 5;
+    private static final int IDENT_NUMERO = 6;
+
+    /**
+     * Literales numéricos, {NumeroRealIncorrecto} ("12.") e
+     * {IdentificadorNumero} ("12abc"): el más largo, y ante un empate el
+     * primero del .flex ("0x1F" es hexadecimal aunque también calce como
+     * identificador inválido)
+     */
+    private int numero(int p) {
+        int enteros = digitos(p);
+        int mejor = 0;
+        int regla = 0;
+
+        boolean punto = enteros < end && buf[enteros] == '.';
+        if (punto) {
+            mejor = enteros + 1;
+            regla = REAL_INCORRECTO;
+        }
+        if (buf[p] == '0') {
+            int octal = p + 1;
+            while (octal < end && buf[octal] >= '0' && buf[octal] <= '7') {
+                octal++;
+            }
+            if (octal > p + 1 && octal > mejor) {
+                mejor = octal;
+                regla = OCTAL;
+            }
+            if (p + 2 < end && (buf[p + 1] == 'x' || buf[p + 1] == 'X')) {
+                int hex = p + 2;
+                while (hex < end && esHexadecimal(buf[hex])) {
+                    hex++;
+                }
+                if (hex > p + 2 && hex > mejor) {
+                    mejor = hex;
+                    regla = HEXADECIMAL;
+                }
+            }
+        }
+        int decimal = (buf[p] == '0') ? p + 1 : enteros;
+        if (decimal > mejor) {
+            mejor = decimal;
+            regla = DECIMAL;
+        }
+        if (punto && enteros + 1 < end && esDigito(buf[enteros + 1])) {
+            int real = digitos(enteros + 1);
+            // Exponente opcional: [eE][+-]?[0-9]+
+            if (real < end && (buf[real] == 'e' || buf[real] == 'E')) {
+                int e = real + 1;
+                if (e < end && (buf[e] == '+' || buf[e] == '-')) {
+                    e++;
+                }
+                if (e < end && esDigito(buf[e])) {
+                    real = digitos(e);
+                }
+            }
+            if (real > mejor) {
+                mejor = real;
+                regla = REAL;
+            }
+        }
+        int ident = alfanumericos(p + 1);
+        if (ident > mejor) {
+            mejor = ident;
+            regla = IDENT_NUMERO;
+        }
+
+        marked = mejor;
+        switch (regla) {
+            case REAL_INCORRECTO -> errorEnColumna("número real incorrecto");
+            case OCTAL -> {
+                return sym.LIT_OCTAL;
+            }
+            case HEXADECIMAL -> {
+                return sym.LIT_HEX;
+            }
+            case DECIMAL -> {
+                return sym.LIT_ENTERO;
+            }
+            case REAL -> {
+                return sym.LIT_REAL;
+            }
+            default -> errorEnColumna("identificador inválido, no puede iniciar con un número");
+        }
+        return -1;
+    }
+
+    /**
+     * {Identificador} (palabra reservada o identificador) o
+     * {IdentificadorInvalido} = letras/dígitos, símbolos, letras/dígitos
+     */
+    private int identificador(int p) {
+        int fin = alfanumericos(p + 1);
+        if (fin < end && CLASE[buf[fin] & 0xFF] == OTRO) {
+            int simbolos = fin + 1;
+            while (simbolos < end && CLASE[buf[simbolos] & 0xFF] == OTRO) {
+                simbolos++;
+            }
+            int resto = alfanumericos(simbolos);
+            if (resto > simbolos) {
+                marked = resto;
+                errorEnColumna("identificador inválido, solo se permiten letras y dígitos");
+                return -1;
+            }
+        }
+        marked = fin;
+        int largo = fin - p;
+        if (largo > MAX_IDENTIFICADOR) {
+            errorEnColumna("identificador inválido, excede el máximo de 127 caracteres");
+            return -1;
+        }
+        int reservada = Keywords.lookup(buf, p, largo);
+        return (reservada >= 0) ? reservada : sym.IDENTIFICADOR;
+    }
+
+    // ========================================================================
+    // SÍMBOLOS, ERRORES Y REGISTRO
+    // ========================================================================
+
+    /**
+     * Deja el scanner al principio del lexema que no se pudo decidir
+     */
+    private int cortar() {
+        marked = start;
+        return CORTE;
+    }
+
+    private int operador(int symType, int largo) {
+        marked = start + largo;
+        return symType;
+    }
+
+    /**
+     * Texto del token actual de tipo k: internado salvo los literales
+     */
+    String lexema(int k) {
+        return LITERAL[k] ? texto() : ids.intern(buf, start, marked - start);
+    }
+
+    /**
+     * Registra el token actual (de tipo k y texto token) en la tabla de tokens
+     */
+    void registrar(int k, String token) {
+        if (tokenStats.isEnabled()) {
+            tokenStats.record(LITERAL[k] ? token.toUpperCase() : ids.upper(token), TIPO[k], linea() + 1);
+        }
+    }
+
+    private void registrarToken(String tipo) {
+        if (tokenStats.isEnabled()) {
+            tokenStats.record(texto().toUpperCase(), tipo, linea() + 1);
+        }
+    }
+
+    private void errorEnColumna(String detalle) {
+        errores.add("Error en línea " + (linea() + 1) + ", columna " + (columna() + 1)
+            + ": " + detalle + ". Texto: " + texto());
+    }
+
+    /**
+     * Texto del token actual
+     */
+    private String texto() {
+        return new String(buf, start, marked - start,
+            ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    // ========================================================================
+    // POSICIÓN
+    // ========================================================================
+
+    /**
+     * Línea y columna del token actual
+     */
+    private int linea() {
+        return (lineas != null) ? lineas.line(start - base) : yyline;
+    }
+
+    private int columna() {
+        return (lineas != null) ? lineas.column(start - base) : yycolumn;
+    }
+
+    /**
+     * Avanza línea y columna sobre el token anterior, como el código que
+     * genera JFlex con %line y %column: un \r que termina el token y va
+     * seguido de \n no cuenta dos veces. Con tabla de líneas solo avanza.
+     *
+     * De a 8 bytes mientras sean ASCII sin más fines de línea que \n: cada
+     * \n suma una línea y la columna es lo que queda después del último.
+     */
+    private void avanzarPosicion() {
+        if (lineas != null) {
+            start = marked;
+            return;
+        }
+        boolean r = false;
+        int i = start;
+        int escalar = porPalabras ? i : marked;     // hasta acá de a un byte
+        while (i < marked) {
+            if (i >= escalar && !r) {
+                if (i + 8 > marked) {
+                    escalar = marked;
+                } else {
+                    long w = WordScan.palabra(buf, i);
+                    if (WordScan.columnasOSaltos(w)) {
+                        long saltos = WordScan.iguales(w, '\n');
+                        if (saltos == 0) {
+                            yycolumn += 8;
+                        } else {
+                            yyline += Long.bitCount(saltos);
+                            yycolumn = 7 - ((63 - Long.numberOfLeadingZeros(saltos)) >>> 3);
+                        }
+                        i += 8;
+                        continue;
+                    }
+                    escalar = i + 8;
+                }
+            }
+            int b = buf[i] & 0xFF;
+            if (b < 0x80) {
+                switch (b) {
+                    case 0x0B, 0x0C -> {
+                        yyline++;
+                        yycolumn = 0;
+                        r = false;
+                    }
+                    case '\r' -> {
+                        yyline++;
+                        yycolumn = 0;
+                        r = true;
+                    }
+                    case '\n' -> {
+                        if (r) {
+                            r = false;
+                        } else {
+                            yyline++;
+                            yycolumn = 0;
+                        }
+                    }
+                    default -> {
+                        r = false;
+                        yycolumn++;
+                    }
+                }
+                i++;
+            } else {
+                int n = largoUtf8(b);
+                if (terminaLinea(i)) {
+                    yyline++;
+                    yycolumn = 0;
+                } else {
+                    yycolumn += (n == 4) ? 2 : 1;   // fuera del BMP: par sustituto
+                }
+                r = false;
+                i += n;
+            }
+        }
+        if (r && marked < end && buf[marked] == '\n') {
+            yyline--;
+        }
+        start = marked;
+    }
+
+    /**
+     * true si en i empieza un carácter que termina línea y que el "." de
+     * JFlex no acepta (\n, \r, U+000B, U+000C, U+0085, U+2028, U+2029)
+     */
+    private boolean terminaLinea(int i) {
+        int b = buf[i] & 0xFF;
+        switch (b) {
+            case '\n', '\r', 0x0B, 0x0C:
+                return true;
+            case 0xC2:
+                return (buf[i + 1] & 0xFF) == 0x85;
+            case 0xE2:
+                return (buf[i + 1] & 0xFF) == 0x80 && ((buf[i + 2] & 0xFF) == 0xA8 || (buf[i + 2] & 0xFF) == 0xA9);
+            default:
+                return false;
+        }
+    }
+
+    // ========================================================================
+    // UTILIDADES
+    // ========================================================================
+
+    private int siguiente(int p) {
+        return (p + 1 < end) ? buf[p + 1] : -1;
+    }
+
+    private int alfanumericos(int i) {
+        while (i < end && (CLASE[buf[i] & 0xFF] == LETRA || CLASE[buf[i] & 0xFF] == DIGITO)) {
+            i++;
+        }
+        return i;
+    }
+
+    private int digitos(int i) {
+        while (i < end && esDigito(buf[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean esDigito(int b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean esHexadecimal(byte b) {
+        return esDigito(b) || (b >= 'a' && b <= 'f') || (b >= 'A' && b <= 'F');
+    }
+
+    private static boolean esEspacio(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * Bytes del carácter UTF-8 que empieza con el byte b (el fuente ya se validó)
+     */
+    private static int largoUtf8(int b) {
+        if (b < 0x80) {
+            return 1;
+        }
+        if (b >= 0xF0) {
+            return 4;
+        }
+        return (b >= 0xE0) ? 3 : 2;
+    }
+}
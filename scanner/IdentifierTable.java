@@ -0,0 +1,248 @@
+package scanner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tabla de identificadores y palabras reservadas internados.
+ *
+ * El scanner pide cada lexema directamente sobre su buffer de caracteres
+ * (intern(buf, off, len)): si la misma grafía ya apareció se devuelve la
+ * misma instancia de String sin asignar nada. Para cada grafía se guardan
+ * también sus versiones en minúsculas y mayúsculas, internadas, de modo que
+ * "Suma", "SUMA" y "suma" comparten la misma instancia plegada y las fases
+ * siguientes (registro de tokens, SymbolTable, CodeGenerator) no vuelven a
+ * llamar toLowerCase()/toUpperCase() ni a recorrer el texto para el hash:
+ * String guarda su hashCode después de calcularlo la primera vez.
+ *
+ * Hay una tabla por hilo, igual que el estado del compilador; MainParser la
+ * vacía al empezar cada compilación.
+ */
+public final class IdentifierTable {
+
+    private static final ThreadLocal<IdentifierTable> CURRENT = ThreadLocal.withInitial(IdentifierTable::new);
+
+    private static final int INITIAL_CAPACITY = 1024;   // potencia de 2
+
+    // Direccionamiento abierto con sondeo lineal; carga máxima 1/2
+    private String[] spellings = new String[INITIAL_CAPACITY];
+    private String[] lowers = new String[INITIAL_CAPACITY];
+    private String[] uppers = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Tabla del hilo actual
+     */
+    public static IdentifierTable current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Vacía la tabla del hilo actual (nueva compilación)
+     */
+    public static void reset() {
+        CURRENT.get().clear();
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (spellings.length > INITIAL_CAPACITY * 64) {
+            // No retener tablas enormes de una compilación anterior
+            spellings = new String[INITIAL_CAPACITY];
+            lowers = new String[INITIAL_CAPACITY];
+            uppers = new String[INITIAL_CAPACITY];
+            hashes = new int[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(spellings, null);
+            Arrays.fill(lowers, null);
+            Arrays.fill(uppers, null);
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ========================================================================
+    // INTERNADO
+    // ========================================================================
+
+    /**
+     * Devuelve la instancia única del lexema buf[off .. off+len).
+     * Solo asigna un String la primera vez que aparece esa grafía.
+     */
+    public String intern(char[] buf, int off, int len) {
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + buf[off + i];      // mismo hash que String.hashCode()
+        }
+        int mask = spellings.length - 1;
+        int i = mix(h) & mask;
+        String s;
+        while ((s = spellings[i]) != null) {
+            if (hashes[i] == h && sameChars(s, buf, off, len)) {
+                return s;
+            }
+            i = (i + 1) & mask;
+        }
+        s = new String(buf, off, len);
+        insertAt(i, s, h);
+        return s;
+    }
+
+    /**
+     * Igual que intern(char[], int, int) sobre bytes ASCII (FastScanner):
+     * identificadores, palabras reservadas y operadores nunca tienen otros
+     * caracteres, así que cada byte es un char.
+     */
+    public String intern(byte[] buf, int off, int len) {
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + buf[off + i];
+        }
+        int mask = spellings.length - 1;
+        int i = mix(h) & mask;
+        String s;
+        while ((s = spellings[i]) != null) {
+            if (hashes[i] == h && sameBytes(s, buf, off, len)) {
+                return s;
+            }
+            i = (i + 1) & mask;
+        }
+        s = new String(buf, off, len, StandardCharsets.ISO_8859_1);
+        insertAt(i, s, h);
+        return s;
+    }
+
+    /**
+     * Devuelve la instancia única de s (la agrega si no estaba)
+     */
+    public String intern(String s) {
+        int i = slotOf(s);          // puede redimensionar: leer el arreglo después
+        return spellings[i];
+    }
+
+    /**
+     * Versión en minúsculas de s, internada (para claves case-insensitive)
+     */
+    public String lower(String s) {
+        int i = slotOf(s);
+        String l = lowers[i];
+        if (l == null) {
+            String folded = s.toLowerCase();
+            l = folded.equals(s) ? spellings[i] : intern(folded);
+            i = slotOf(s);          // intern() pudo haber redimensionado
+            lowers[i] = l;
+        }
+        return l;
+    }
+
+    /**
+     * Versión en mayúsculas de s, internada (para el registro de tokens)
+     */
+    public String upper(String s) {
+        int i = slotOf(s);
+        String u = uppers[i];
+        if (u == null) {
+            String folded = s.toUpperCase();
+            u = folded.equals(s) ? spellings[i] : intern(folded);
+            i = slotOf(s);
+            uppers[i] = u;
+        }
+        return u;
+    }
+
+    // ========================================================================
+    // TABLA HASH
+    // ========================================================================
+
+    /**
+     * Posición de s en la tabla; la inserta si no está
+     */
+    private int slotOf(String s) {
+        int h = s.hashCode();
+        int mask = spellings.length - 1;
+        int i = mix(h) & mask;
+        String e;
+        while ((e = spellings[i]) != null) {
+            if (e == s || (hashes[i] == h && e.equals(s))) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        if (insertAt(i, s, h)) {
+            return slotOf(s);       // se redimensionó: buscar la nueva posición
+        }
+        return i;
+    }
+
+    /**
+     * Inserta en una posición libre; retorna true si la tabla se redimensionó
+     */
+    private boolean insertAt(int i, String s, int h) {
+        spellings[i] = s;
+        hashes[i] = h;
+        size++;
+        if (size * 2 > spellings.length) {
+            grow();
+            return true;
+        }
+        return false;
+    }
+
+    private void grow() {
+        String[] oldSpellings = spellings, oldLowers = lowers, oldUppers = uppers;
+        int[] oldHashes = hashes;
+        int cap = oldSpellings.length * 2;
+        spellings = new String[cap];
+        lowers = new String[cap];
+        uppers = new String[cap];
+        hashes = new int[cap];
+        int mask = cap - 1;
+        for (int j = 0; j < oldSpellings.length; j++) {
+            if (oldSpellings[j] == null) {
+                continue;
+            }
+            int i = mix(oldHashes[j]) & mask;
+            while (spellings[i] != null) {
+                i = (i + 1) & mask;
+            }
+            spellings[i] = oldSpellings[j];
+            lowers[i] = oldLowers[j];
+            uppers[i] = oldUppers[j];
+            hashes[i] = oldHashes[j];
+        }
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean sameBytes(String s, byte[] buf, int off, int len) {
+        if (s.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameChars(String s, char[] buf, int off, int len) {
+        if (s.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
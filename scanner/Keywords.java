@@ -0,0 +1,150 @@
+package scanner;
+
+import java.util.Arrays;
+
+import parser.sym;
+
+/**
+ * Palabras reservadas de ABS resueltas con un hash perfecto.
+ *
+ * El scanner reconoce una sola regla de identificador y consulta esta tabla
+ * con el lexema directamente sobre su buffer, sin crear un String. La función
+ * de hash (FNV-1a sobre los caracteres plegados a minúscula, con una semilla)
+ * no tiene colisiones para las palabras de KEYWORDS en una tabla de SIZE
+ * posiciones, así que cada búsqueda es un hash y una sola comparación.
+ *
+ * SEED_HINT es la primera semilla perfecta para la lista actual, así que la
+ * tabla se arma en una sola pasada. Si se agrega o quita una palabra y deja
+ * de serlo, la inicialización sigue buscando desde ahí (funciona igual, solo
+ * que tarda más); java scanner.Keywords imprime la semilla para copiarla.
+ */
+public final class Keywords {
+
+    // Mismo texto y token que las reglas de palabras reservadas de scanner.flex
+    private static final String[] KEYWORDS = {
+        "ABSOLUTE", "AND", "ARRAY", "ASM", "BEGIN", "CASE", "CONST", "CONSTRUCTOR", "DESTRUCTOR",
+        "DIV", "DO", "DOWNTO", "ELSE", "END", "EXTERNAL", "FILE", "FOR", "FORWARD", "FUNCTION",
+        "GOTO", "IF", "IMPLEMENTATION", "IN", "INLINE", "INTERFACE", "INTERRUPT", "LABEL", "MOD",
+        "NIL", "NOT", "OBJECT", "OF", "OR", "PACKED", "PRIVATE", "PROCEDURE", "PROGRAM", "RECORD",
+        "REPEAT", "SET", "SHL", "SHR", "STRING", "THEN", "TO", "TYPE", "UNIT", "UNTIL", "USES",
+        "VAR", "VIRTUAL", "WHILE", "WITH", "XOR", "INT", "CHAR", "READ", "REAL", "WRITE"
+    };
+
+    private static final int[] SYMBOLS = {
+        sym.ABSOLUTE, sym.AND, sym.ARRAY, sym.ASM, sym.BEGIN, sym.CASE, sym.CONST, sym.CONSTRUCTOR, sym.DESTRUCTOR,
+        sym.DIV, sym.DO, sym.DOWNTO, sym.ELSE, sym.END, sym.EXTERNAL, sym.FILE, sym.FOR, sym.FORWARD, sym.FUNCTION,
+        sym.GOTO, sym.IF, sym.IMPLEMENTATION, sym.IN, sym.INLINE, sym.INTERFACE, sym.INTERRUPT, sym.LABEL, sym.MOD,
+        sym.NIL, sym.NOT, sym.OBJECT, sym.OF, sym.OR, sym.PACKED, sym.PRIVATE, sym.PROCEDURE, sym.PROGRAM, sym.RECORD,
+        sym.REPEAT, sym.SET, sym.SHL, sym.SHR, sym.STRING, sym.THEN, sym.TO, sym.TYPE, sym.UNIT, sym.UNTIL, sym.USES,
+        sym.VAR, sym.VIRTUAL, sym.WHILE, sym.WITH, sym.XOR, sym.INT, sym.CHAR, sym.READ, sym.REAL, sym.WRITE
+    };
+
+    private static final int SIZE = 256;           // potencia de 2
+    private static final int SEED_HINT = 3866;     // ver main()
+
+    // Tabla: palabra en mayúsculas (o null) y su token
+    private static final char[][] TABLE_TEXT = new char[SIZE][];
+    private static final int[] TABLE_SYM = new int[SIZE];
+    private static final int SEED;
+    private static final int MAX_LENGTH;
+
+    static {
+        int seed = SEED_HINT;
+        while (!fill(seed)) {
+            seed++;
+        }
+        SEED = seed;
+        int max = 0;
+        for (String k : KEYWORDS) {
+            max = Math.max(max, k.length());
+        }
+        MAX_LENGTH = max;
+    }
+
+    /**
+     * Arma la tabla con la semilla dada; false si hay una colisión
+     */
+    private static boolean fill(int seed) {
+        Arrays.fill(TABLE_TEXT, null);
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            char[] w = KEYWORDS[k].toCharArray();
+            int i = slot(w, 0, w.length, seed);
+            if (TABLE_TEXT[i] != null) {
+                return false;
+            }
+            TABLE_TEXT[i] = w;
+            TABLE_SYM[i] = SYMBOLS[k];
+        }
+        return true;
+    }
+
+    private Keywords() {
+    }
+
+    /**
+     * Token de la palabra reservada buf[off .. off+len), sin distinguir
+     * mayúsculas; -1 si es un identificador común. El lexema debe ser
+     * [a-zA-Z][a-zA-Z0-9]* (lo garantiza la regla del scanner).
+     */
+    public static int lookup(char[] buf, int off, int len) {
+        if (len > MAX_LENGTH) {
+            return -1;
+        }
+        int slot = slot(buf, off, len, SEED);
+        char[] w = TABLE_TEXT[slot];
+        if (w == null || w.length != len) {
+            return -1;
+        }
+        for (int i = 0; i < len; i++) {
+            // Letras ASCII: quitar el bit 0x20 pasa a mayúscula; un dígito nunca coincide
+            if ((buf[off + i] & 0xDF) != w[i]) {
+                return -1;
+            }
+        }
+        return TABLE_SYM[slot];
+    }
+
+    /**
+     * Igual que lookup(char[], int, int) sobre bytes ASCII (FastScanner)
+     */
+    public static int lookup(byte[] buf, int off, int len) {
+        if (len > MAX_LENGTH) {
+            return -1;
+        }
+        int h = 0x811C9DC5 ^ SEED;
+        for (int i = 0; i < len; i++) {
+            h = (h ^ (buf[off + i] | 0x20)) * 0x01000193;
+        }
+        int slot = (h ^ (h >>> 16)) & (SIZE - 1);
+        char[] w = TABLE_TEXT[slot];
+        if (w == null || w.length != len) {
+            return -1;
+        }
+        for (int i = 0; i < len; i++) {
+            if ((buf[off + i] & 0xDF) != w[i]) {
+                return -1;
+            }
+        }
+        return TABLE_SYM[slot];
+    }
+
+    public static int lookup(String s) {
+        return lookup(s.toCharArray(), 0, s.length());
+    }
+
+    private static int slot(char[] buf, int off, int len, int seed) {
+        int h = 0x811C9DC5 ^ seed;
+        for (int i = 0; i < len; i++) {
+            h = (h ^ (buf[off + i] | 0x20)) * 0x01000193;
+        }
+        return (h ^ (h >>> 16)) & (SIZE - 1);
+    }
+
+    /**
+     * Imprime la semilla en uso (copiarla en SEED_HINT si no coincide)
+     */
+    public static void main(String[] args) {
+        System.out.println("SEED = " + SEED + " (" + KEYWORDS.length + " palabras en " + SIZE
+            + " posiciones, pista " + SEED_HINT + ")");
+    }
+}
@@ -0,0 +1,39 @@
+package scanner;
+
+import java.io.IOException;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * Lo que el parser y los reportes usan de un scanner: el flujo de tokens de
+ * CUP más los errores léxicos y la tabla de tokens aceptados.
+ *
+ * Implementaciones: Scanner (generado por JFlex desde scanner.flex) y
+ * FastScanner (escrito a mano sobre bytes). Las dos producen los mismos
+ * Symbol (token, línea, columna y texto) y los mismos mensajes de error.
+ * TokenBuffer.Reader repite los tokens de un FastScanner guardados en un
+ * TokenBuffer (sin el texto de palabras reservadas y operadores).
+ */
+public interface Lexer extends java_cup.runtime.Scanner {
+
+    /**
+     * Próximo token; Symbol con sym.EOF al terminar la entrada
+     */
+    @Override
+    Symbol next_token() throws IOException;
+
+    /**
+     * Errores léxicos encontrados hasta ahora, en orden
+     */
+    List<String> getErrores();
+
+    void setTokenStats(TokenStats stats);
+
+    TokenStats getTokenStats();
+
+    /**
+     * Imprime la tabla de tokens aceptados
+     */
+    void imprimirTokens();
+}
@@ -0,0 +1,119 @@
+package scanner;
+
+import java.util.Arrays;
+
+/**
+ * Tabla de comienzos de línea de un fuente UTF-8, para resolver un offset
+ * (byte desde el principio del fuente) a línea y columna recién cuando
+ * hace falta: la usa FastScanner con setLineTable(), donde los Symbol
+ * llevan offsets en vez de línea y columna.
+ *
+ * Las líneas y columnas son las de JFlex (desde 0, como Symbol.left y
+ * Symbol.right): \r\n, \r, \n, U+000B, U+000C, U+0085, U+2028 y U+2029
+ * terminan una línea, y la columna se cuenta en unidades UTF-16.
+ *
+ * La tabla (un int por línea) se arma una sola vez, con la primera
+ * consulta, y después cada consulta es una búsqueda binaria. Se puede
+ * consultar desde cualquier hilo: si dos la arman a la vez, arman lo mismo.
+ */
+public final class LineTable {
+
+    private final byte[] source;
+    private final int base;
+    private final int end;
+
+    private volatile int[] starts;      // offset de cada línea, en orden
+    private int count;                  // líneas en starts
+
+    public LineTable(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Tabla de data[off .. off+len); los offsets son desde off
+     */
+    public LineTable(byte[] data, int off, int len) {
+        this.source = data;
+        this.base = off;
+        this.end = off + len;
+    }
+
+    /**
+     * Línea (desde 0) del carácter que empieza en offset
+     */
+    public int line(int offset) {
+        int[] s = table();
+        int lo = 0;
+        int hi = count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (s[mid] <= offset) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Columna (desde 0, en unidades UTF-16) del carácter que empieza en offset
+     */
+    public int column(int offset) {
+        int from = base + table()[line(offset)];
+        int to = base + offset;
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int b = source[i] & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                n += ((b & 0xF8) == 0xF0) ? 2 : 1;     // fuera del BMP: par sustituto
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Líneas del fuente (una más que los fines de línea)
+     */
+    public int lineCount() {
+        table();
+        return count;
+    }
+
+    private int[] table() {
+        int[] s = starts;
+        if (s == null) {
+            s = build();
+            starts = s;
+        }
+        return s;
+    }
+
+    /**
+     * Un comienzo de línea después de cada fin de línea; \r\n cuenta una vez
+     */
+    private int[] build() {
+        int[] s = new int[16 + (end - base) / 32];
+        int n = 0;
+        s[n++] = 0;
+        for (int i = base; i < end; i++) {
+            int b = source[i] & 0xFF;
+            boolean fin;
+            switch (b) {
+                case '\n', 0x0B, 0x0C -> fin = true;
+                case '\r' -> fin = i + 1 >= end || source[i + 1] != '\n';
+                case 0x85 -> fin = i > base && (source[i - 1] & 0xFF) == 0xC2;
+                case 0xA8, 0xA9 -> fin = i - 2 >= base && (source[i - 2] & 0xFF) == 0xE2 && (source[i - 1] & 0xFF) == 0x80;
+                default -> fin = false;
+            }
+            if (fin) {
+                if (n == s.length) {
+                    s = Arrays.copyOf(s, 2 * n);
+                }
+                s[n++] = i + 1 - base;
+            }
+        }
+        count = n;
+        return s;
+    }
+}
@@ -0,0 +1,127 @@
+package scanner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import java_cup.runtime.Symbol;
+import parser.sym;
+
+/**
+ * Compara el tiempo de escaneo leyendo el fuente con Files.newBufferedReader
+ * (camino actual) contra MappedSourceReader (FileChannel.map + ASCII directo).
+ *
+ * Sin archivo, arma una entrada grande repitiendo scanner/test/*.abs hasta
+ * el tamaño pedido.
+ *
+ * Uso: java scanner.MappedInputBenchmark [--size MB] [--iter n] [archivo.abs]
+ */
+public class MappedInputBenchmark {
+
+    private static final int WARMUP = 3;
+
+    private static long drain(Reader in) throws IOException {
+        Scanner sc = new Scanner(in);
+        long tokens = 0;
+        Symbol t;
+        do {
+            t = sc.next_token();
+            tokens++;
+        } while (t.sym != sym.EOF);
+        return tokens;
+    }
+
+    private static long scanBuffered(Path file) throws IOException {
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return drain(r);
+        }
+    }
+
+    private static long scanMapped(Path file) throws IOException {
+        try (Reader r = MappedSourceReader.open(file)) {
+            return drain(r);
+        }
+    }
+
+    /**
+     * Concatena los .abs de scanner/test hasta llegar a sizeMb megabytes
+     */
+    private static Path buildInput(int sizeMb) throws IOException {
+        List<byte[]> parts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Paths.get("scanner", "test"))) {
+            for (Path p : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".abs")).sorted()::iterator) {
+                parts.add(Files.readAllBytes(p));
+            }
+        }
+        if (parts.isEmpty()) {
+            throw new IOException("No hay archivos .abs en scanner/test");
+        }
+        Path tmp = Files.createTempFile("abs-bench-", ".abs");
+        tmp.toFile().deleteOnExit();
+        long target = (long) sizeMb * 1024 * 1024;
+        try (var out = Files.newOutputStream(tmp)) {
+            long written = 0;
+            for (int i = 0; written < target; i++) {
+                byte[] part = parts.get(i % parts.size());
+                out.write(part);
+                out.write('\n');
+                written += part.length + 1;
+            }
+        }
+        return tmp;
+    }
+
+    private interface ScanFn {
+        long scan(Path file) throws IOException;
+    }
+
+    private static void measure(String name, ScanFn fn, Path file, int iterations) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            fn.scan(file);
+        }
+        long best = Long.MAX_VALUE, total = 0, tokens = 0;
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            tokens = fn.scan(file);
+            long dt = System.nanoTime() - t0;
+            best = Math.min(best, dt);
+            total += dt;
+        }
+        double mb = Files.size(file) / (1024.0 * 1024.0);
+        System.out.printf("%-10s %10d tokens  media %9.1f ms  mejor %9.1f ms  %7.1f MB/s  %10.0f tokens/s%n",
+            name, tokens, total / 1e6 / iterations, best / 1e6, mb / (best / 1e9), tokens / (best / 1e9));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int sizeMb = 16;
+        int iterations = 5;
+        Path file = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--size") && i + 1 < args.length) {
+                sizeMb = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--iter") && i + 1 < args.length) {
+                iterations = Integer.parseInt(args[++i]);
+            } else {
+                file = Paths.get(args[i]);
+            }
+        }
+        if (file == null) {
+            file = buildInput(sizeMb);
+        }
+
+        try (MappedSourceReader probe = MappedSourceReader.open(file)) {
+            System.out.printf("Entrada: %s (%.1f MB, %s)%n", file, Files.size(file) / (1024.0 * 1024.0),
+                probe.isAsciiFastPath() ? "ASCII, sin decodificar" : "UTF-8, decodificado");
+        }
+
+        measure("reader", MappedInputBenchmark::scanBuffered, file, iterations);
+        measure("mmap", MappedInputBenchmark::scanMapped, file, iterations);
+    }
+}
@@ -0,0 +1,127 @@
+package scanner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader sobre un archivo mapeado en memoria (FileChannel.map) para
+ * alimentar al Scanner sin pasar por FileInputStream/InputStreamReader/BufferedReader.
+ *
+ * Si el archivo es ASCII puro (7 bits), los bytes se copian directo como
+ * caracteres sin decodificar. Si no, se decodifica como UTF-8 una sola vez
+ * (con errores reportados, igual que Files.newBufferedReader).
+ *
+ * El Scanner de JFlex ya tiene su propio buffer, así que no hace falta
+ * envolver este Reader en un BufferedReader.
+ */
+public final class MappedSourceReader extends Reader {
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final ByteBuffer bytes;     // contenido ASCII (null si se decodificó)
+    private final CharBuffer chars;     // contenido decodificado (null si es ASCII)
+    private int pos = 0;
+
+    private MappedSourceReader(ByteBuffer bytes, CharBuffer chars) {
+        this.bytes = bytes;
+        this.chars = chars;
+    }
+
+    /**
+     * Mapea el archivo completo. El canal se cierra enseguida; el mapeo
+     * sigue siendo válido hasta que el buffer se libera.
+     */
+    public static MappedSourceReader open(Path path) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Archivo demasiado grande para mapear: " + path + " (" + size + " bytes)");
+            }
+            map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (isAscii(map)) {
+            return new MappedSourceReader(map, null);
+        }
+        CharBuffer decoded = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT)
+            .decode(map.duplicate());
+        return new MappedSourceReader(null, decoded);
+    }
+
+    /**
+     * true si ningún byte tiene el bit alto encendido (revisa de a 8 bytes)
+     */
+    static boolean isAscii(ByteBuffer buf) {
+        ByteBuffer b = buf.duplicate().order(ByteOrder.nativeOrder());
+        int n = b.limit();
+        int i = 0;
+        for (; i + 8 <= n; i += 8) {
+            if ((b.getLong(i) & HIGH_BITS) != 0) {
+                return false;
+            }
+        }
+        for (; i < n; i++) {
+            if (b.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * true si se usa el camino rápido ASCII (sin decodificar)
+     */
+    public boolean isAsciiFastPath() {
+        return bytes != null;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (bytes != null) {
+            int n = Math.min(len, bytes.limit() - pos);
+            if (n <= 0) {
+                return -1;
+            }
+            for (int i = 0; i < n; i++) {
+                cbuf[off + i] = (char) bytes.get(pos + i);
+            }
+            pos += n;
+            return n;
+        }
+        int n = Math.min(len, chars.limit() - pos);
+        if (n <= 0) {
+            return -1;
+        }
+        chars.get(pos, cbuf, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public int read() {
+        if (bytes != null) {
+            return (pos < bytes.limit()) ? bytes.get(pos++) : -1;
+        }
+        return (pos < chars.limit()) ? chars.get(pos++) : -1;
+    }
+
+    @Override
+    public void close() {
+        pos = (bytes != null) ? bytes.limit() : chars.limit();
+    }
+}
@@ -0,0 +1,375 @@
+package scanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import parser.sym;
+
+/**
+ * Escaneo en paralelo de fuentes grandes, con el mismo resultado que un
+ * escaneo secuencial (los mismos tokens, líneas, columnas y errores que
+ * scanner.Scanner; lo verifica TestFastScanner).
+ *
+ * El fuente se parte en trozos que empiezan al principio de una línea
+ * (después de un \n) y se procesa en tres pasos:
+ *
+ *   1. En paralelo, cada trozo se valida como UTF-8 y cuenta sus fines de
+ *      línea; con eso se sabe en qué línea empieza cada uno.
+ *   2. En paralelo, cada trozo se escanea con un FastScanner que empieza en
+ *      su primer byte (línea conocida, columna 0) y no mira más allá del
+ *      final del trozo (FastScanner.limitar): se detiene en el primer
+ *      lexema que empieza después o que lo cruza, como un comentario largo.
+ *   3. En secuencia, se unen los tokens. El scanner de cada trozo sigue
+ *      (ya sin límite) desde donde se detuvo hasta el primer token
+ *      siguiente. Que un trozo empiece en una línea nueva no garantiza que
+ *      no esté dentro de un comentario o un string que viene de antes, así
+ *      que el punto de unión se verifica: ese token tiene que empezar
+ *      exactamente donde empieza un token del trozo siguiente. Desde ahí
+ *      los dos scanners producen lo mismo (el resultado depende solo de los
+ *      bytes desde el inicio del token), así que se sigue con el siguiente.
+ *      Si no coincide (por ejemplo, un comentario que cruza el límite), el
+ *      scanner anterior sigue escaneando en secuencia hasta sincronizarse
+ *      más adelante; en el peor caso (un comentario sin cerrar) termina él
+ *      solo el fuente.
+ *
+ * Cada byte se escanea a lo sumo dos veces, una en su trozo y otra en
+ * secuencia, así que el tiempo es lineal aunque haya muchos comentarios sin
+ * cerrar o regiones en blanco más largas que un trozo (sin el límite, cada
+ * trozo de esa región seguía hasta su final: cuadrático con trozos chicos).
+ *
+ * El resultado es un TokenBuffer completo, sin tabla de tokens.
+ */
+public final class ParallelLexer {
+
+    // Trozo mínimo: por debajo de dos trozos se escanea en secuencia
+    public static final int MIN_CHUNK = 64 * 1024;
+
+    private ParallelLexer() {
+    }
+
+    /**
+     * Escanea data (UTF-8) en el pool común
+     */
+    public static TokenBuffer scan(byte[] data) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return scan(data, pool, chunkSizeFor(data.length, pool.getParallelism()));
+    }
+
+    /**
+     * Unos cuatro trozos por hilo, para repartir mejor la carga
+     */
+    public static int chunkSizeFor(int length, int parallelism) {
+        return Math.max(MIN_CHUNK, length / (4 * Math.max(1, parallelism)));
+    }
+
+    /**
+     * Escanea data en pool con trozos de al menos chunkSize bytes (cualquier
+     * tamaño funciona; los chicos sirven para probar las uniones)
+     */
+    public static TokenBuffer scan(byte[] data, ForkJoinPool pool, int chunkSize) throws IOException {
+        int[] bounds = split(data, Math.max(1, chunkSize));
+        int n = bounds.length - 1;
+        if (n < 2) {
+            return TokenBuffer.scan(data);
+        }
+        Chunk[] chunks = new Chunk[n];
+        for (int i = 0; i < n; i++) {
+            chunks[i] = new Chunk(bounds[i], bounds[i + 1]);
+        }
+
+        // 1) Validar y contar líneas
+        runAll(pool, chunks, c -> c.measure(data));
+        boolean ascii = true;
+        int line = 0;
+        for (Chunk c : chunks) {
+            if (c.error != null) {
+                throw c.error;
+            }
+            ascii &= c.ascii;
+            c.firstLine = line;
+            line += c.lineCount;
+        }
+
+        // 2) Escanear cada trozo
+        boolean allAscii = ascii;
+        runAll(pool, chunks, c -> c.lex(data, allAscii));
+
+        // 3) Unir
+        return merge(data, ascii, chunks);
+    }
+
+    /**
+     * Límites de los trozos: 0, cada primer byte de línea a partir de
+     * chunkSize bytes del anterior, y data.length
+     */
+    private static int[] split(byte[] data, int chunkSize) {
+        int[] bounds = new int[8];
+        int n = 0;
+        bounds[n++] = 0;
+        int p = chunkSize;
+        while (p < data.length) {
+            int q = p - 1;
+            while (q < data.length && data[q] != '\n') {
+                q++;
+            }
+            if (q + 1 >= data.length) {
+                break;
+            }
+            if (n + 1 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, 2 * n);
+            }
+            bounds[n++] = q + 1;
+            p = q + 1 + chunkSize;
+        }
+        bounds[n++] = data.length;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    private interface ChunkTask {
+        void run(Chunk c);
+    }
+
+    private static void runAll(ForkJoinPool pool, Chunk[] chunks, ChunkTask task) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.length);
+        for (Chunk c : chunks) {
+            tasks.add(pool.submit(() -> task.run(c)));
+        }
+        for (ForkJoinTask<?> t : tasks) {
+            t.join();
+        }
+    }
+
+    // ========================================================================
+    // UNIÓN
+    // ========================================================================
+
+    private static TokenBuffer merge(byte[] data, boolean ascii, Chunk[] chunks) {
+        List<String> errores = new ArrayList<>();
+        TokenBuffer out = new TokenBuffer(data, 0, data.length, ascii, errores);
+        Chunk cur = chunks[0];
+        int i = 0;      // próximo token propio de cur
+        int e = 0;      // próximo error de cur
+        while (true) {
+            // Tokens propios (que empiezan dentro del trozo), cada uno después de sus errores
+            TokenBuffer own = cur.tokens;
+            for (; i < own.size(); i++) {
+                e = cur.copyErrors(e, i, errores);
+                out.add(own.kind(i), own.start(i), own.length(i), own.line(i));
+            }
+            // Token pendiente (el primero después del trozo) hasta sincronizar con otro trozo
+            while (true) {
+                e = cur.copyErrors(e, Integer.MAX_VALUE, errores);
+                if (cur.eof) {
+                    out.finish();
+                    return out;
+                }
+                if (cur.cortado) {
+                    cur.resume();
+                    continue;
+                }
+                Chunk next = chunkAt(chunks, cur.pendingStart);
+                int m = next.indexOfToken(cur.pendingStart);
+                if (m >= 0) {
+                    cur = next;
+                    i = m;
+                    e = next.firstErrorAfter(m);
+                    break;
+                }
+                out.add(cur.pendingKind, cur.pendingStart, cur.pendingLength, cur.pendingLine);
+                cur.advance();
+            }
+        }
+    }
+
+    private static Chunk chunkAt(Chunk[] chunks, int p) {
+        int lo = 0;
+        int hi = chunks.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (chunks[mid].from <= p) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return chunks[lo];
+    }
+
+    // ========================================================================
+    // TROZO
+    // ========================================================================
+
+    private static final class Chunk {
+
+        final int from;
+        final int limit;
+
+        // Paso 1
+        boolean ascii;
+        int lineCount;
+        int firstLine;
+        IOException error;
+
+        // Paso 2: tokens que se deciden sin mirar más allá de limit; en el
+        // paso 3, de a uno (pendiente)
+        FastScanner scanner;
+        TokenBuffer tokens;
+        int[] errorAt = new int[4];     // por error: tokens propios que había al producirse
+        boolean eof;
+        boolean cortado;                // el scanner llegó a limit sin pendiente
+        int pendingKind;
+        int pendingStart;
+        int pendingLength;
+        int pendingLine;
+
+        Chunk(int from, int limit) {
+            this.from = from;
+            this.limit = limit;
+        }
+
+        void measure(byte[] data) {
+            ByteBuffer slice = ByteBuffer.wrap(data, from, limit - from);
+            ascii = MappedSourceReader.isAscii(slice.slice());
+            try {
+                if (!ascii) {
+                    // Empieza después de un \n, así que no corta ningún carácter
+                    FastScanner.validarUtf8(slice);
+                }
+            } catch (IOException ex) {
+                error = ex;
+                return;
+            }
+            lineCount = countLines(data, from, limit);
+        }
+
+        void lex(byte[] data, boolean ascii) {
+            scanner = new FastScanner(data, 0, data.length, ascii, from, firstLine);
+            scanner.setTokenStats(TokenStats.NONE);
+            scanner.limitar(limit);
+            tokens = new TokenBuffer(data, 0, limit - from, ascii, scanner.getErrores());
+            int errors = 0;
+            while (true) {
+                advance();
+                List<String> errores = scanner.getErrores();
+                for (; errors < errores.size(); errors++) {
+                    if (errors == errorAt.length) {
+                        errorAt = Arrays.copyOf(errorAt, 2 * errors);
+                    }
+                    errorAt[errors] = tokens.size();
+                }
+                if (eof || cortado) {
+                    return;
+                }
+                tokens.add(pendingKind, pendingStart, pendingLength, pendingLine);
+            }
+        }
+
+        /**
+         * Escanea el próximo token como pendiente
+         */
+        void advance() {
+            int k = scanner.nextKind();
+            if (k == FastScanner.CORTE) {
+                cortado = true;
+                return;
+            }
+            if (k == sym.EOF) {
+                eof = true;
+                return;
+            }
+            pendingKind = k;
+            pendingStart = scanner.tokenStart();
+            pendingLength = scanner.tokenLength();
+            pendingLine = scanner.tokenLine();
+        }
+
+        /**
+         * Sigue sin límite desde donde se cortó el paso 2
+         */
+        void resume() {
+            scanner.limitar(Integer.MAX_VALUE);
+            cortado = false;
+            advance();
+        }
+
+        /**
+         * Índice del token propio que empieza en p, o -1
+         */
+        int indexOfToken(int p) {
+            int lo = 0;
+            int hi = tokens.size() - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int s = tokens.start(mid);
+                if (s < p) {
+                    lo = mid + 1;
+                } else if (s > p) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Copia los errores desde e que se produjeron antes del token propio
+         * i (todos si i es MAX_VALUE); devuelve el próximo error sin copiar
+         */
+        int copyErrors(int e, int i, List<String> out) {
+            List<String> errores = scanner.getErrores();
+            while (e < errores.size() && (i == Integer.MAX_VALUE || errorAt[e] <= i)) {
+                out.add(errores.get(e++));
+            }
+            return e;
+        }
+
+        /**
+         * Primer error producido después del token propio m
+         */
+        int firstErrorAfter(int m) {
+            int e = 0;
+            int n = scanner.getErrores().size();
+            while (e < n && errorAt[e] <= m) {
+                e++;
+            }
+            return e;
+        }
+    }
+
+    /**
+     * Fines de línea en data[from .. to) como los cuenta JFlex: \r\n es uno
+     * solo, y también cuentan U+000B, U+000C, U+0085, U+2028 y U+2029
+     */
+    static int countLines(byte[] data, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            switch (data[i]) {
+                case '\n', 0x0B, 0x0C -> n++;
+                case '\r' -> {
+                    if (i + 1 >= data.length || data[i + 1] != '\n') {
+                        n++;
+                    }
+                }
+                case (byte) 0x85 -> {
+                    if (i > from && data[i - 1] == (byte) 0xC2) {
+                        n++;
+                    }
+                }
+                case (byte) 0xA8, (byte) 0xA9 -> {
+                    if (i - 2 >= from && data[i - 2] == (byte) 0xE2 && data[i - 1] == (byte) 0x80) {
+                        n++;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,288 @@
+package scanner;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import java_cup.runtime.Symbol;
+import parser.sym;
+
+/**
+ * Lexer que escanea en su propio hilo y le pasa los tokens al parser por un
+ * buffer circular acotado de un productor y un consumidor, así el escaneo y
+ * el análisis sintáctico se solapan en máquinas con más de un núcleo.
+ *
+ * El lexer real se crea dentro del hilo productor (con su propia
+ * IdentifierTable, que es por hilo) la primera vez que se pide un token.
+ * Si el buffer se llena el productor espera (contrapresión), y si se vacía
+ * espera el consumidor: primero girando un poco, después cediendo el
+ * procesador y al final durmiendo de a intervalos cortos.
+ *
+ * Cada token viaja con los errores léxicos que se produjeron antes de él, y
+ * getErrores() devuelve los que llegaron hasta el último token leído: los
+ * mismos que tendría el lexer real si el parser lo hubiera leído directo,
+ * aunque el parser se detenga antes del final. Una excepción del lexer se
+ * relanza en next_token() en el lugar del token que no se pudo leer.
+ *
+ * close() detiene el productor si el parser no llegó al EOF.
+ */
+public final class PipelinedLexer implements Lexer, AutoCloseable {
+
+    /**
+     * Crea el lexer real (se llama en el hilo productor)
+     */
+    public interface Factory {
+        Lexer create() throws IOException;
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(PipelinedLexer.class, "head", long.class);
+            TAIL = lookup.findVarHandle(PipelinedLexer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Factory factory;
+    private final Symbol[] symbols;
+    private final Object[] extras;      // errores previos al token (List<String>) o la excepción del lexer
+    private final int mask;
+
+    // head: próximo a leer (lo escribe el consumidor); tail: próximo a escribir (el productor)
+    private volatile long head;
+    private volatile long tail;
+
+    private Thread producer;
+    private volatile boolean closed;
+    private Lexer lexer;                // solo del productor hasta que termina
+    private TokenStats tokenStats;
+
+    // Consumidor
+    private final List<String> errores = new ArrayList<>();
+    private long cachedTail;
+    private Symbol eof;
+
+    public PipelinedLexer(Factory factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * capacity: tokens en vuelo como máximo (se redondea a potencia de 2)
+     */
+    public PipelinedLexer(Factory factory, int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.factory = factory;
+        this.symbols = new Symbol[size];
+        this.extras = new Object[size];
+        this.mask = size - 1;
+    }
+
+    // ========================================================================
+    // CONSUMIDOR (hilo del parser)
+    // ========================================================================
+
+    @Override
+    public Symbol next_token() throws IOException {
+        if (eof != null) {
+            return new Symbol(eof.sym, eof.left, eof.right, eof.value);
+        }
+        if (producer == null) {
+            start();
+        }
+        long h = head;
+        if (h == cachedTail) {
+            int spins = 0;
+            while (h == (cachedTail = (long) TAIL.getAcquire(this))) {
+                pause(spins++);
+            }
+        }
+        int i = (int) h & mask;
+        Symbol s = symbols[i];
+        Object extra = extras[i];
+        symbols[i] = null;
+        extras[i] = null;
+        HEAD.setRelease(this, h + 1);
+
+        if (s == null) {
+            eof = new Symbol(sym.EOF);
+            throw rethrow((Throwable) extra);
+        }
+        if (extra != null) {
+            @SuppressWarnings("unchecked")
+            List<String> nuevos = (List<String>) extra;
+            errores.addAll(nuevos);
+        }
+        if (s.sym == sym.EOF) {
+            eof = s;
+        }
+        return s;
+    }
+
+    private static IOException rethrow(Throwable t) {
+        if (t instanceof IOException io) {
+            return io;
+        }
+        if (t instanceof RuntimeException re) {
+            throw re;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new IOException(t);
+    }
+
+    private void start() {
+        producer = new Thread(this::produce, "abs-lexer");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Errores léxicos de los tokens leídos hasta ahora
+     */
+    @Override
+    public List<String> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Se aplica al lexer real; fijarla antes del primer token
+     */
+    @Override
+    public void setTokenStats(TokenStats stats) {
+        tokenStats = stats;
+    }
+
+    /**
+     * La del lexer real una vez que empezó; detiene el productor (close())
+     */
+    @Override
+    public TokenStats getTokenStats() {
+        if (producer != null) {
+            close();
+            if (lexer != null) {
+                return lexer.getTokenStats();
+            }
+        }
+        return (tokenStats != null) ? tokenStats : TokenStats.NONE;
+    }
+
+    /**
+     * Tabla de tokens de todo lo que escaneó el productor
+     */
+    @Override
+    public void imprimirTokens() {
+        getTokenStats().print();
+    }
+
+    /**
+     * Detiene el productor y espera a que termine
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+            join();
+        }
+    }
+
+    private void join() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                producer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================================================
+    // PRODUCTOR (hilo del lexer)
+    // ========================================================================
+
+    private void produce() {
+        long t = tail;
+        long cachedHead = head;
+        int erroresVistos = 0;
+        try {
+            lexer = factory.create();
+            if (tokenStats != null) {
+                lexer.setTokenStats(tokenStats);
+            }
+            List<String> lexerErrores = lexer.getErrores();
+            while (true) {
+                Symbol s = lexer.next_token();
+                Object nuevos = null;
+                if (lexerErrores.size() > erroresVistos) {
+                    nuevos = new ArrayList<>(lexerErrores.subList(erroresVistos, lexerErrores.size()));
+                    erroresVistos = lexerErrores.size();
+                }
+                // Contrapresión: esperar lugar
+                if (t - cachedHead > mask) {
+                    int spins = 0;
+                    while (t - (cachedHead = (long) HEAD.getAcquire(this)) > mask) {
+                        if (closed) {
+                            return;
+                        }
+                        pause(spins++);
+                    }
+                }
+                int i = (int) t & mask;
+                symbols[i] = s;
+                extras[i] = nuevos;
+                TAIL.setRelease(this, ++t);
+                if (s.sym == sym.EOF || closed) {
+                    return;
+                }
+            }
+        } catch (Throwable e) {
+            publishFailure(t, e);
+        }
+    }
+
+    /**
+     * Publica la excepción en lugar del próximo token
+     */
+    private void publishFailure(long t, Throwable e) {
+        int spins = 0;
+        while (t - (long) HEAD.getAcquire(this) > mask) {
+            if (closed) {
+                return;
+            }
+            pause(spins++);
+        }
+        int i = (int) t & mask;
+        symbols[i] = null;
+        extras[i] = e;
+        TAIL.setRelease(this, t + 1);
+    }
+
+    /**
+     * Espera activa corta, después ceder el procesador y por último dormir
+     */
+    private static void pause(int spins) {
+        if (spins < 64) {
+            Thread.onSpinWait();
+        } else if (spins < 128) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(50_000);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java_cup.runtime.*;
 import java.util.*;   // para ArrayList, HashMap, etc.
 import java.io.*;     // para manejar archivos
 import parser.sym;
+import parser.TableImage;
 
 
 /**
@@ -13,7 +14,7 @@ import parser.sym;
  * <a href="http://www.jflex.de/">JFlex</a> 1.7.0
  * from the specification file <tt>./scanner/scanner.flex</tt>
  */
-public class Scanner implements java_cup.runtime.Scanner {
+public class Scanner implements java_cup.runtime.Scanner, Lexer {
 
   /** This character denotes the end of file */
   public static final int YYEOF = -1;
@@ -38,70 +39,38 @@ public class Scanner implements java_cup.runtime.Scanner {
    * Translates characters to character classes
    */
   private static final String ZZ_CMAP_PACKED = 
-    "\11\0\1\67\1\57\1\0\1\0\1\60\22\0\1\67\1\0\1\56"+
-    "\4\0\1\61\1\42\1\43\1\33\1\31\1\40\1\32\1\47\1\34"+
-    "\1\54\7\55\2\51\1\46\1\41\1\36\1\35\1\37\2\0\1\1"+
-    "\1\2\1\20\1\12\1\10\1\24\1\16\1\30\1\65\1\26\1\66"+
-    "\1\5\1\15\1\11\1\4\1\25\1\63\1\13\1\64\1\7\1\6"+
-    "\1\22\1\23\1\21\1\14\1\63\1\44\1\62\1\45\1\50\2\0"+
-    "\1\1\1\2\1\20\1\12\1\10\1\24\1\16\1\30\1\65\1\26"+
-    "\1\66\1\5\1\15\1\11\1\4\1\25\1\63\1\13\1\64\1\7"+
-    "\1\6\1\22\1\23\1\21\1\14\1\63\1\52\1\0\1\53\7\0"+
-    "\1\0\252\0\2\17\115\0\1\3\u1ea8\0\1\0\1\0\u0100\0\1\27"+
-    "\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\udee5\0";
+    "\11\0\1\37\1\33\1\0\1\0\1\34\22\0\1\37\1\0\1\32"+
+    "\4\0\1\35\1\14\1\15\1\3\1\1\1\12\1\2\1\21\1\4"+
+    "\1\26\7\27\2\23\1\20\1\13\1\10\1\7\1\11\2\0\1\5"+
+    "\2\5\1\5\1\31\1\5\2\6\1\6\3\6\1\6\1\6\1\6"+
+    "\2\6\1\6\1\6\1\6\1\6\1\6\1\6\1\30\2\6\1\16"+
+    "\1\36\1\17\1\22\2\0\1\5\2\5\1\5\1\31\1\5\2\6"+
+    "\1\6\3\6\1\6\1\6\1\6\2\6\1\6\1\6\1\6\1\6"+
+    "\1\6\1\6\1\30\2\6\1\24\1\0\1\25\7\0\1\0\252\0"+
+    "\2\0\u1ef6\0\1\0\1\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\uffff\0\udfe6\0";
 
   /** 
    * Translates characters to character classes
    */
-  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+  private static final char [] ZZ_CMAP = tablaCMap(ZZ_CMAP_PACKED);
 
   /** 
    * Translates DFA states to action switch labels.
    */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
+  private static final int [] ZZ_ACTION = tabla(TableImage.ZZ_ACTION, Scanner.ZZ_ACTION_PACKED_0);
 
   private static final String ZZ_ACTION_PACKED_0 =
-    "\1\0\1\1\2\2\1\1\13\2\1\1\6\2\1\3"+
-    "\1\4\1\5\1\6\1\7\1\10\1\11\1\12\1\13"+
-    "\1\14\1\15\1\16\1\17\1\20\1\21\1\22\1\23"+
-    "\1\24\1\23\1\25\1\26\1\27\2\2\1\0\2\2"+
-    "\1\0\4\2\3\1\1\2\1\30\1\31\1\2\1\0"+
-    "\2\2\1\32\6\2\1\0\1\2\1\33\1\2\1\0"+
-    "\4\2\1\34\1\1\1\35\5\2\1\0\2\2\1\0"+
-    "\4\2\1\0\3\2\1\36\1\37\1\40\1\41\1\42"+
-    "\1\43\1\44\1\45\1\46\1\47\1\46\1\50\2\47"+
-    "\1\51\1\52\1\0\1\27\1\0\1\53\1\27\3\2"+
-    "\1\34\1\2\1\35\1\54\1\2\1\0\1\2\1\55"+
-    "\1\56\1\2\1\55\1\2\1\1\1\57\1\60\1\61"+
-    "\2\2\1\54\1\2\1\0\4\2\1\0\1\2\1\62"+
-    "\1\2\1\63\2\64\1\2\1\0\1\2\2\65\3\2"+
-    "\1\66\1\2\1\1\1\67\1\1\1\0\3\2\1\70"+
-    "\1\71\1\54\1\2\1\0\1\2\1\54\1\0\2\2"+
-    "\1\72\1\2\1\54\3\2\1\0\1\2\1\0\1\73"+
-    "\1\74\1\75\1\27\1\0\2\76\1\2\1\57\1\60"+
-    "\1\61\1\2\1\67\2\2\1\54\2\2\1\0\1\2"+
-    "\1\0\1\1\2\2\2\77\1\0\1\2\2\100\2\77"+
-    "\1\101\1\102\2\103\2\2\1\54\1\2\1\104\1\105"+
-    "\2\2\1\106\1\0\3\1\2\107\1\0\1\2\1\110"+
-    "\1\54\1\2\1\54\1\2\1\111\1\54\1\2\1\111"+
-    "\2\2\2\112\1\0\3\2\1\54\1\2\2\0\1\2"+
-    "\1\0\4\2\1\54\1\2\1\113\2\114\1\0\1\1"+
-    "\1\2\1\115\2\116\2\2\1\54\3\2\1\0\3\1"+
-    "\2\117\1\54\1\2\2\120\2\121\2\2\1\54\3\2"+
-    "\1\54\1\2\1\0\1\73\1\54\1\2\1\54\4\2"+
-    "\1\54\1\2\2\122\1\123\1\2\1\124\1\54\1\2"+
-    "\1\125\1\126\2\127\3\1\1\54\1\2\1\54\2\2"+
-    "\1\0\1\2\2\130\2\2\1\54\1\2\2\122\2\127"+
-    "\4\2\1\54\2\2\1\54\1\2\3\1\1\54\1\2"+
-    "\2\131\1\132\1\54\1\2\1\133\1\2\2\134\4\2"+
-    "\2\135\1\136\1\54\1\2\3\1\1\54\1\2\2\137"+
-    "\5\2\1\54\1\2\1\140\1\141\1\1\1\54\1\2"+
-    "\1\142\1\140\1\141\2\2\2\143\1\1\1\54\3\2"+
-    "\1\1\2\144\2\2\1\0\1\1\1\0\2\2\1\0"+
-    "\1\1\1\54\2\2\4\145\161\2\1\146";
+    "\1\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7"+
+    "\1\10\1\11\1\12\1\13\1\14\1\15\1\16\1\17"+
+    "\1\20\1\21\1\22\1\23\1\24\1\23\1\25\1\26"+
+    "\1\27\1\30\1\31\1\32\1\0\1\33\1\34\1\35"+
+    "\1\36\1\37\1\40\1\41\1\40\1\42\1\41\1\43"+
+    "\1\41\1\44\1\0\1\27\1\0\1\45\1\27\1\46"+
+    "\1\0\1\47\1\50\1\51\1\27\1\0\2\52\2\0"+
+    "\1\47";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[548];
+    int [] result = new int[59];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -123,81 +92,20 @@ public class Scanner implements java_cup.runtime.Scanner {
   /** 
    * Translates a state to a row index in the transition table
    */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+  private static final int [] ZZ_ROWMAP = tabla(TableImage.ZZ_ROWMAP, Scanner.ZZ_ROWMAP_PACKED_0);
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\70\0\160\0\250\0\340\0\u0118\0\u0150\0\u0188"+
-    "\0\u01c0\0\u01f8\0\u0230\0\u0268\0\u02a0\0\u02d8\0\u0310\0\u0348"+
-    "\0\u0380\0\u03b8\0\u03f0\0\u0428\0\u0460\0\u0498\0\u04d0\0\u0508"+
-    "\0\u0540\0\u0578\0\u05b0\0\u05b0\0\u05e8\0\u0620\0\u05b0\0\u05b0"+
-    "\0\u0658\0\u05b0\0\u05b0\0\u05b0\0\u0690\0\u06c8\0\70\0\u0700"+
-    "\0\u0738\0\u0770\0\u07a8\0\u07e0\0\u0818\0\u0850\0\u0888\0\u08c0"+
-    "\0\u08f8\0\u0930\0\u0968\0\u09a0\0\u09d8\0\u0a10\0\u0a48\0\u0a80"+
-    "\0\u0ab8\0\u0af0\0\u0b28\0\u08f8\0\u08f8\0\u0b60\0\u0b98\0\u0bd0"+
-    "\0\u0c08\0\u08f8\0\u0c40\0\u0c78\0\u0cb0\0\u0ce8\0\u0d20\0\u0d58"+
-    "\0\u0d90\0\u0dc8\0\u0e00\0\u0e38\0\u0e70\0\u0ea8\0\u0ee0\0\u0f18"+
-    "\0\u0f50\0\u0f88\0\u0fc0\0\70\0\u0ff8\0\u1030\0\u1068\0\u10a0"+
-    "\0\u10d8\0\u1110\0\u1148\0\u1180\0\u11b8\0\u11f0\0\u1228\0\u1260"+
-    "\0\u1298\0\u12d0\0\u1308\0\u1340\0\u1378\0\u05b0\0\u05b0\0\u05b0"+
-    "\0\u05b0\0\u05b0\0\u05b0\0\u13b0\0\u05b0\0\u06c8\0\u13e8\0\u1420"+
-    "\0\u05b0\0\u1458\0\u1490\0\u14c8\0\u05b0\0\u1500\0\u1538\0\u1570"+
-    "\0\u05b0\0\u15a8\0\u15e0\0\u1618\0\u1650\0\u1688\0\u16c0\0\u08f8"+
-    "\0\u16f8\0\u1730\0\u1768\0\u17a0\0\u16f8\0\u1730\0\u17d8\0\u1730"+
-    "\0\u1810\0\u1848\0\70\0\70\0\70\0\u1880\0\u18b8\0\u18f0"+
-    "\0\u1928\0\u1960\0\u1998\0\u19d0\0\u1a08\0\u1a40\0\u1a78\0\u1ab0"+
-    "\0\u1730\0\u1ae8\0\u1730\0\u16f8\0\u1730\0\u1b20\0\u1b58\0\u1b90"+
-    "\0\u16f8\0\u1730\0\u1bc8\0\u1c00\0\u1c38\0\u1730\0\u1c70\0\u1ca8"+
-    "\0\u1ce0\0\u1d18\0\u1d50\0\u1d88\0\u1dc0\0\u1df8\0\u1730\0\u1730"+
-    "\0\u1e30\0\u1e68\0\u1ea0\0\u1ed8\0\u1f10\0\u1f48\0\u1f80\0\u1fb8"+
-    "\0\u1ff0\0\u2028\0\u2060\0\u2098\0\u20d0\0\u2108\0\u2140\0\u2178"+
-    "\0\u21b0\0\u21e8\0\u1458\0\u05b0\0\u2220\0\u2258\0\u05b0\0\u2290"+
-    "\0\u22c8\0\u1730\0\u1730\0\u1730\0\u2300\0\u2338\0\u2370\0\u23a8"+
-    "\0\u23e0\0\u2418\0\u2450\0\u2488\0\u24c0\0\u24f8\0\u2530\0\u2568"+
-    "\0\u25a0\0\u05b0\0\u16f8\0\u25d8\0\u2610\0\u16f8\0\u23a8\0\u08c0"+
-    "\0\u23a8\0\u23a8\0\u23a8\0\u16f8\0\u23a8\0\u2648\0\u2680\0\u26b8"+
-    "\0\u26f0\0\u23a8\0\u23a8\0\u2728\0\u2760\0\u23a8\0\u2798\0\u27d0"+
-    "\0\u2808\0\u2840\0\u16f8\0\u23a8\0\u2878\0\u28b0\0\u23a8\0\u28e8"+
-    "\0\u2920\0\u2958\0\u2990\0\u16f8\0\u29c8\0\u2a00\0\u23a8\0\u2a38"+
-    "\0\u2a70\0\u16f8\0\u23a8\0\u2aa8\0\u2ae0\0\u2b18\0\u2b50\0\u2b88"+
-    "\0\u2bc0\0\u2bf8\0\u2c30\0\u2c68\0\u2ca0\0\u2cd8\0\u2d10\0\u2d48"+
-    "\0\u2d80\0\u2db8\0\u2df0\0\u2d80\0\u16f8\0\u2d80\0\u2e28\0\u2e60"+
-    "\0\u2e98\0\u2d80\0\u16f8\0\u2d80\0\u2ed0\0\u2f08\0\u2f40\0\u2f78"+
-    "\0\u2fb0\0\u2fe8\0\u3020\0\u3058\0\u3090\0\u30c8\0\u3100\0\u3138"+
-    "\0\u3170\0\u31a8\0\u16f8\0\u2d80\0\u16f8\0\u2d80\0\u31e0\0\u3218"+
-    "\0\u3250\0\u3288\0\u32c0\0\u32f8\0\u3330\0\u3368\0\u33a0\0\u33a0"+
-    "\0\u33d8\0\u3410\0\u3448\0\u3480\0\u34b8\0\u34f0\0\u3528\0\u3560"+
-    "\0\u3598\0\u05b0\0\70\0\u3528\0\u35d0\0\u3528\0\u3608\0\u3640"+
-    "\0\u3528\0\u3528\0\u05b0\0\70\0\u3678\0\u36b0\0\u36e8\0\u3720"+
-    "\0\u3758\0\u3790\0\u37c8\0\u3800\0\u3838\0\u3870\0\u16f8\0\u3528"+
-    "\0\u38a8\0\u38e0\0\u3918\0\u3950\0\u16f8\0\u3528\0\u16f8\0\u3528"+
-    "\0\u3988\0\u39c0\0\u39f8\0\u3a30\0\u3a68\0\u3aa0\0\u3ad8\0\u3b10"+
-    "\0\u3b48\0\u3b80\0\u3bb8\0\u3bf0\0\u3c28\0\u3c60\0\u16f8\0\u3a30"+
-    "\0\u3a30\0\u3c98\0\u3cd0\0\u3a30\0\u3d08\0\u16f8\0\u3a30\0\u3d40"+
-    "\0\u3d78\0\u3db0\0\u3de8\0\u16f8\0\u3de8\0\u3de8\0\u3e20\0\u3e58"+
-    "\0\u3e90\0\u3ec8\0\u3f00\0\u3f38\0\u3f70\0\u16f8\0\u3de8\0\u3fa8"+
-    "\0\u3fe0\0\u4018\0\u4050\0\u4088\0\u40c0\0\u40f8\0\70\0\70"+
-    "\0\u4130\0\u4168\0\u41a0\0\u4088\0\u4088\0\u4088\0\u41d8\0\u4210"+
-    "\0\u16f8\0\u4210\0\u4248\0\u4280\0\u42b8\0\u42f0\0\u4328\0\u4360"+
-    "\0\u16f8\0\u4328\0\u4398\0\u43d0\0\u4408\0\u4440\0\u4478\0\u44b0"+
-    "\0\u44e8\0\u4520\0\u4558\0\u4590\0\u45c8\0\u4600\0\u05b0\0\70"+
-    "\0\u16f8\0\u4600\0\u4638\0\u4670\0\u46a8\0\u46e0\0\u4718\0\u4750"+
-    "\0\u4788\0\u47c0\0\u47f8\0\u4830\0\u4868\0\u48a0\0\u48d8\0\u4910"+
-    "\0\u4948\0\u4980\0\u49b8\0\u49f0\0\u4a28\0\u4a60\0\u4a98\0\u4ad0"+
-    "\0\u4b08\0\u4b40\0\u4b78\0\u4bb0\0\u4be8\0\u4c20\0\u4c58\0\u4c90"+
-    "\0\u4cc8\0\u4d00\0\u4d38\0\u4d70\0\u4da8\0\u4de0\0\u4e18\0\u4e50"+
-    "\0\u4e88\0\u4ec0\0\u4ef8\0\u4f30\0\u4f68\0\u4fa0\0\u4fd8\0\u5010"+
-    "\0\u5048\0\u5080\0\u50b8\0\u50f0\0\u5128\0\u5160\0\u5198\0\u51d0"+
-    "\0\u5208\0\u5240\0\u5278\0\u52b0\0\u52e8\0\u5320\0\u5358\0\u5390"+
-    "\0\u53c8\0\u5400\0\u5438\0\u5470\0\u54a8\0\u54e0\0\u5518\0\u5550"+
-    "\0\u5588\0\u55c0\0\u55f8\0\u5630\0\u5668\0\u56a0\0\u56d8\0\u5710"+
-    "\0\u5748\0\u5780\0\u57b8\0\u57f0\0\u5828\0\u5860\0\u5898\0\u58d0"+
-    "\0\u5908\0\u5940\0\u5978\0\u59b0\0\u59e8\0\u5a20\0\u5a58\0\u5a90"+
-    "\0\u5ac8\0\u5b00\0\u5b38\0\u5b70\0\u5ba8\0\u5be0\0\u5c18\0\u5c50"+
-    "\0\u5c88\0\u5cc0\0\u5cf8\0\u5d30\0\u5d68\0\u5da0\0\u5dd8\0\u5e10"+
-    "\0\u5e48\0\u5e80\0\u5eb8\0\u5eb8";
+    "\0\0\0\40\0\100\0\140\0\200\0\240\0\300\0\240"+
+    "\0\340\0\u0100\0\240\0\240\0\u0120\0\240\0\240\0\240"+
+    "\0\u0140\0\u0160\0\40\0\u0180\0\u01a0\0\u01c0\0\u01e0\0\u0200"+
+    "\0\u0220\0\240\0\240\0\240\0\u0240\0\240\0\240\0\240"+
+    "\0\u0260\0\240\0\u0160\0\u0280\0\u02a0\0\240\0\u02c0\0\u02e0"+
+    "\0\u0300\0\240\0\u0320\0\u0340\0\u0360\0\240\0\u0380\0\u03a0"+
+    "\0\u03c0\0\u03e0\0\u0300\0\240\0\u0400\0\u0420\0\240\0\u0440"+
+    "\0\u0460\0\u0480\0\u0480";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[548];
+    int [] result = new int[59];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -217,967 +125,39 @@ public class Scanner implements java_cup.runtime.Scanner {
   /** 
    * The transition table of the DFA
    */
-  private static final int [] ZZ_TRANS = zzUnpackTrans();
+  private static final int [] ZZ_TRANS = tabla(TableImage.ZZ_TRANS, Scanner.ZZ_TRANS_PACKED_0);
 
   private static final String ZZ_TRANS_PACKED_0 =
-    "\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11"+
+    "\1\2\1\3\1\4\1\5\1\6\2\7\1\10\1\11"+
     "\1\12\1\13\1\14\1\15\1\16\1\17\1\20\1\21"+
-    "\1\22\1\23\1\24\1\25\1\26\1\27\1\16\1\2"+
-    "\1\16\1\30\1\31\1\32\1\33\1\34\1\35\1\36"+
-    "\1\37\1\40\1\41\1\42\1\43\1\44\1\45\1\46"+
-    "\1\47\1\50\1\51\1\2\1\52\1\50\1\53\2\54"+
-    "\1\55\1\2\1\16\1\56\1\57\1\16\1\54\1\0"+
-    "\2\2\1\0\13\2\1\0\7\2\1\0\1\2\20\0"+
-    "\1\2\2\0\2\2\5\0\4\2\1\0\1\60\1\61"+
-    "\1\62\1\63\5\61\1\64\1\61\1\65\3\61\1\60"+
-    "\7\61\1\60\1\61\17\0\1\60\1\61\2\60\2\61"+
-    "\1\60\2\0\2\60\1\61\1\66\2\61\1\0\1\60"+
-    "\2\61\1\60\4\61\1\67\6\61\1\60\7\61\1\60"+
-    "\1\61\17\0\1\60\1\61\2\60\2\61\1\60\2\0"+
-    "\2\60\4\61\2\0\2\2\1\0\3\2\1\70\1\71"+
-    "\6\2\1\0\7\2\1\0\1\72\20\0\1\2\2\0"+
-    "\2\2\5\0\4\2\1\0\1\60\1\61\1\73\1\60"+
-    "\7\61\1\74\3\61\1\60\4\61\1\75\2\61\1\60"+
-    "\1\61\17\0\1\60\1\61\2\60\2\61\1\60\2\0"+
-    "\2\60\4\61\1\0\1\60\1\76\1\61\1\60\13\61"+
-    "\1\60\7\61\1\60\1\61\17\0\1\60\1\61\2\60"+
-    "\2\61\1\60\2\0\2\60\4\61\1\0\1\60\2\61"+
-    "\1\77\5\61\1\100\5\61\1\60\7\61\1\60\1\61"+
-    "\17\0\1\60\1\61\2\60\2\61\1\60\2\0\2\60"+
-    "\1\61\1\101\2\61\1\0\1\60\2\61\1\60\1\102"+
-    "\7\61\1\103\2\61\1\60\7\61\1\60\1\104\17\0"+
-    "\1\60\1\61\2\60\2\61\1\60\2\0\2\60\4\61"+
-    "\1\0\1\60\2\61\1\60\1\61\1\105\3\61\1\106"+
-    "\5\61\1\60\1\61\1\107\5\61\1\60\1\61\17\0"+
-    "\1\60\1\61\2\60\2\61\1\60\2\0\2\60\4\61"+
-    "\1\0\1\60\2\61\1\60\1\110\12\61\1\111\7\61"+
-    "\1\60\1\61\17\0\1\60\1\61\2\60\2\61\1\60"+
-    "\2\0\2\60\2\61\1\112\1\61\1\0\1\60\2\61"+
-    "\1\60\1\113\3\61\1\114\6\61\1\115\7\61\1\60"+
-    "\1\61\17\0\1\60\1\61\2\60\2\61\1\60\2\0"+
-    "\2\60\2\61\1\116\1\61\1\0\1\60\2\61\1\60"+
-    "\4\61\1\117\6\61\1\60\7\61\1\60\1\61\17\0"+
-    "\1\60\1\61\2\60\2\61\1\60\2\0\2\60\4\61"+
-    "\1\0\1\60\2\61\1\60\13\61\1\60\7\61\1\60"+
-    "\1\61\17\0\1\60\1\61\2\60\2\61\1\60\2\0"+
-    "\2\60\4\61\1\0\1\60\2\61\1\60\1\120\12\61"+
-    "\1\60\7\61\1\60\1\61\17\0\1\60\1\61\2\60"+
-    "\2\61\1\60\2\0\2\60\4\61\1\0\1\60\2\61"+
-    "\1\60\1\121\12\61\1\60\7\61\1\60\1\61\17\0"+
-    "\1\60\1\61\2\60\2\61\1\60\2\0\2\60\4\61"+
-    "\2\0\2\2\1\0\5\2\1\122\3\2\1\123\1\2"+
-    "\1\0\4\2\1\124\2\2\1\0\1\2\20\0\1\2"+
-    "\2\0\2\2\5\0\4\2\1\0\1\60\1\125\1\61"+
-    "\1\60\1\126\12\61\1\60\7\61\1\60\1\127\17\0"+
-    "\1\60\1\61\2\60\2\61\1\60\2\0\2\60\4\61"+
-    "\1\0\1\60\2\61\1\60\1\130\12\61\1\60\7\61"+
-    "\1\60\1\61\17\0\1\60\1\61\2\60\2\61\1\60"+
-    "\2\0\2\60\4\61\1\0\1\60\1\131\1\61\1\60"+
-    "\13\61\1\132\7\61\1\60\1\61\17\0\1\60\1\61"+
-    "\2\60\2\61\1\60\2\0\2\60\2\61\1\133\1\61"+
-    "\1\0\1\60\2\61\1\60\7\61\1\134\3\61\1\135"+
-    "\7\61\1\60\1\136\17\0\1\60\1\61\2\60\2\61"+
-    "\1\60\2\0\2\60\2\61\1\137\1\61\1\0\1\60"+
-    "\2\61\1\60\1\140\1\61\1\141\10\61\1\142\7\61"+
-    "\1\60\1\61\17\0\1\60\1\61\2\60\2\61\1\60"+
-    "\2\0\2\60\2\61\1\143\1\61\1\0\1\60\1\144"+
-    "\1\61\1\60\7\61\1\145\3\61\1\60\7\61\1\60"+
-    "\1\61\17\0\1\60\1\61\2\60\2\61\1\60\2\0"+
-    "\2\60\4\61\32\0\1\146\70\0\1\147\70\0\1\150"+
-    "\161\0\1\151\1\0\1\152\65\0\1\153\65\0\1\154"+
-    "\71\0\1\155\103\0\1\156\2\0\2\156\13\0\2\157"+
-    "\1\0\13\157\1\0\7\157\1\0\1\157\16\0\1\160"+
-    "\1\0\1\50\2\0\2\50\5\0\4\157\1\0\53\51"+
-    "\1\161\14\51\1\0\2\157\1\0\13\157\1\0\1\157"+
-    "\1\162\5\157\1\0\1\157\16\0\1\160\1\0\1\163"+
-    "\2\0\2\164\5\0\4\157\1\0\56\53\1\165\2\166"+
-    "\7\53\57\0\2\54\6\0\1\54\57\167\1\0\1\170"+
-    "\1\171\1\172\5\167\1\60\2\61\1\60\3\61\1\173"+
-    "\1\174\6\61\1\60\7\61\1\60\1\175\17\0\1\60"+
-    "\1\61\2\60\2\61\1\60\2\0\2\60\4\61\1\0"+
-    "\1\60\2\61\1\60\5\61\1\176\3\61\1\177\1\61"+
-    "\1\60\4\61\1\200\2\61\1\60\1\61\17\0\1\60"+
-    "\1\61\2\60\2\61\1\60\2\0\2\60\4\61\1\0"+
-    "\1\60\2\201\1\60\13\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\202\1\60\13\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\203\13\202"+
-    "\1\60\7\202\1\60\1\202\17\0\1\60\1\202\2\60"+
-    "\2\202\1\60\2\0\2\60\1\202\1\204\2\202\1\0"+
-    "\1\60\2\201\1\60\11\201\1\205\1\201\1\60\7\201"+
-    "\1\60\1\201\17\0\1\60\1\201\2\60\2\201\1\60"+
-    "\2\0\2\60\4\201\1\0\1\60\2\202\1\60\6\202"+
-    "\1\206\4\202\1\60\7\202\1\60\1\202\17\0\1\60"+
-    "\1\202\2\60\2\202\1\60\2\0\2\60\4\202\1\0"+
-    "\1\60\2\202\1\60\7\202\1\207\3\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\60\11\202"+
-    "\1\210\1\202\1\60\7\202\1\60\1\202\17\0\1\60"+
-    "\1\202\2\60\2\202\1\60\2\0\2\60\4\202\1\0"+
-    "\1\60\2\202\1\60\12\202\1\211\1\60\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\4\202\2\0\2\2\1\0\7\2\1\212\3\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\2\1\0\3\2\1\213\7\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\2\1\0\1\2\1\214\5\2"+
-    "\1\215\3\2\1\0\7\2\1\0\1\2\20\0\1\2"+
-    "\2\0\2\2\5\0\4\2\1\0\1\60\2\202\1\60"+
-    "\13\202\1\60\6\202\1\216\1\60\1\202\17\0\1\60"+
-    "\1\202\2\60\2\202\1\60\2\0\2\60\4\202\1\0"+
-    "\1\60\1\202\1\217\1\60\13\202\1\60\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\4\202\1\0\1\60\2\201\1\60\4\201\1\220"+
-    "\6\201\1\60\7\201\1\60\1\201\17\0\1\60\1\201"+
-    "\2\60\2\201\1\60\2\0\2\60\4\201\1\0\1\60"+
-    "\2\202\1\60\3\202\1\221\7\202\1\222\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\2\202\1\223\1\202\1\0\1\60\2\202\1\60"+
-    "\4\202\1\224\6\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\202\1\60\13\202\1\60\5\202\1\225"+
-    "\1\202\1\60\1\202\17\0\1\60\1\202\2\60\2\202"+
-    "\1\60\2\0\2\60\4\202\1\0\1\60\2\202\1\60"+
-    "\4\202\1\226\6\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\202\1\227\13\202\1\60\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\1\202\1\230\2\202\1\0\1\60\2\202\1\60"+
-    "\6\202\1\231\4\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\202\1\60\3\202\1\232\7\202\1\60"+
-    "\7\202\1\60\1\202\17\0\1\60\1\202\2\60\2\202"+
-    "\1\60\2\0\2\60\4\202\1\0\1\60\2\202\1\60"+
-    "\3\202\1\233\7\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\201\1\60\1\201\1\234\11\201\1\60"+
-    "\7\201\1\60\1\201\17\0\1\60\1\201\2\60\2\201"+
-    "\1\60\2\0\2\60\4\201\1\0\1\60\2\202\1\60"+
-    "\1\202\1\235\11\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\202\1\60\13\202\1\60\3\202\1\236"+
-    "\3\202\1\60\1\202\17\0\1\60\1\202\2\60\2\202"+
-    "\1\60\2\0\2\60\4\202\1\0\1\60\2\202\1\237"+
-    "\13\202\1\60\7\202\1\60\1\202\17\0\1\60\1\202"+
-    "\2\60\2\202\1\60\2\0\2\60\1\202\1\240\2\202"+
-    "\1\0\1\60\2\201\1\60\13\201\1\60\2\201\1\241"+
-    "\4\201\1\60\1\201\17\0\1\60\1\201\2\60\2\201"+
-    "\1\60\2\0\2\60\4\201\1\0\1\60\2\202\1\60"+
-    "\13\202\1\60\2\202\1\242\4\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\1\243\1\202\1\60\13\202\1\60\1\244"+
-    "\4\202\1\245\1\202\1\60\1\202\17\0\1\60\1\202"+
-    "\2\60\2\202\1\60\2\0\2\60\4\202\1\0\1\60"+
-    "\2\202\1\60\6\202\1\246\4\202\1\60\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\4\202\1\0\1\60\2\202\1\60\3\202\1\247"+
-    "\7\202\1\60\7\202\1\60\1\202\17\0\1\60\1\202"+
-    "\2\60\2\202\1\60\2\0\2\60\4\202\2\0\2\2"+
-    "\1\0\1\2\1\250\1\2\1\251\7\2\1\0\7\2"+
-    "\1\0\1\2\20\0\1\2\2\0\2\2\5\0\4\2"+
-    "\2\0\2\2\1\0\13\2\1\0\5\2\1\252\1\2"+
-    "\1\0\1\2\20\0\1\2\2\0\2\2\5\0\4\2"+
-    "\1\0\1\60\2\202\1\253\13\202\1\60\7\202\1\60"+
-    "\1\202\17\0\1\60\1\202\2\60\2\202\1\60\2\0"+
-    "\2\60\1\202\1\254\2\202\1\0\1\60\2\202\1\60"+
-    "\5\202\1\255\5\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\1\256\1\202\1\60\13\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\60\7\202"+
-    "\1\257\3\202\1\60\7\202\1\60\1\202\17\0\1\60"+
-    "\1\202\2\60\2\202\1\60\2\0\2\60\4\202\1\0"+
-    "\1\60\2\202\1\60\7\202\1\260\3\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\201\1\60\7\201"+
-    "\1\261\3\201\1\60\7\201\1\60\1\201\17\0\1\60"+
-    "\1\201\2\60\2\201\1\60\2\0\2\60\4\201\1\0"+
-    "\1\60\2\202\1\60\7\202\1\262\3\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\60\13\202"+
-    "\1\263\7\202\1\60\1\202\17\0\1\60\1\202\2\60"+
-    "\2\202\1\60\2\0\2\60\2\202\1\264\1\202\1\0"+
-    "\1\60\2\201\1\60\3\201\1\265\7\201\1\60\7\201"+
-    "\1\60\1\201\17\0\1\60\1\201\2\60\2\201\1\60"+
-    "\2\0\2\60\4\201\1\0\1\60\2\202\1\60\13\202"+
-    "\1\266\7\202\1\60\1\202\17\0\1\60\1\202\2\60"+
-    "\2\202\1\60\2\0\2\60\2\202\1\267\1\202\1\0"+
-    "\1\60\2\202\1\60\3\202\1\270\7\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\60\7\202"+
-    "\1\271\3\202\1\60\7\202\1\60\1\202\17\0\1\60"+
-    "\1\202\2\60\2\202\1\60\2\0\2\60\4\202\1\0"+
-    "\1\60\2\202\1\60\5\202\1\272\5\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\201\1\60\1\201"+
-    "\1\273\11\201\1\60\7\201\1\60\1\201\17\0\1\60"+
-    "\1\201\2\60\2\201\1\60\2\0\2\60\4\201\1\0"+
-    "\1\60\2\202\1\60\1\202\1\274\11\202\1\60\7\202"+
-    "\1\60\1\202\17\0\1\60\1\202\2\60\2\202\1\60"+
-    "\2\0\2\60\4\202\1\0\1\60\2\202\1\60\13\202"+
-    "\1\60\1\275\6\202\1\60\1\202\17\0\1\60\1\202"+
-    "\2\60\2\202\1\60\2\0\2\60\4\202\1\0\1\60"+
-    "\2\202\1\60\1\276\12\202\1\277\7\202\1\60\1\202"+
-    "\17\0\1\60\1\202\2\60\2\202\1\60\2\0\2\60"+
-    "\2\202\1\300\1\202\1\0\33\154\1\301\34\154\1\0"+
-    "\2\157\1\0\13\157\1\0\7\157\1\0\1\157\20\0"+
-    "\1\157\2\0\2\157\5\0\4\157\52\0\1\302\2\0"+
-    "\2\302\13\0\2\303\1\0\4\157\1\303\1\157\1\303"+
-    "\4\157\1\0\1\303\3\157\1\303\2\157\1\0\1\157"+
-    "\20\0\1\303\2\0\2\303\5\0\4\157\2\0\2\157"+
-    "\1\0\13\157\1\0\7\157\1\0\1\157\16\0\1\160"+
-    "\1\0\1\163\2\0\2\163\5\0\4\157\2\0\2\157"+
-    "\1\0\13\157\1\0\7\157\1\0\1\157\16\0\1\160"+
-    "\1\0\1\163\2\0\2\164\5\0\4\157\1\0\56\166"+
-    "\1\304\11\166\57\305\1\0\1\306\1\307\6\305\57\306"+
-    "\1\0\1\306\1\307\6\306\57\305\1\0\1\306\1\310"+
-    "\6\305\1\60\2\202\1\60\7\202\1\311\3\202\1\60"+
-    "\7\202\1\60\1\202\17\0\1\60\1\202\2\60\2\202"+
-    "\1\60\2\0\2\60\4\202\1\0\1\60\2\202\1\60"+
-    "\3\202\1\312\7\202\1\60\7\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\1\0\1\60\2\202\1\60\1\202\1\313\5\202\1\314"+
-    "\3\202\1\60\7\202\1\60\1\202\17\0\1\60\1\202"+
-    "\2\60\2\202\1\60\2\0\2\60\4\202\1\0\1\60"+
-    "\2\202\1\60\1\202\1\315\1\202\1\316\7\202\1\60"+
-    "\7\202\1\60\1\202\17\0\1\60\1\202\2\60\2\202"+
-    "\1\60\2\0\2\60\4\202\1\0\1\60\2\202\1\60"+
-    "\13\202\1\60\5\202\1\317\1\202\1\60\1\202\17\0"+
-    "\1\60\1\202\2\60\2\202\1\60\2\0\2\60\4\202"+
-    "\2\0\2\201\1\0\13\201\1\0\7\201\1\0\1\201"+
-    "\20\0\1\201\2\0\2\201\5\0\4\201\1\0\1\60"+
-    "\2\320\1\60\13\320\1\60\7\320\1\60\1\320\17\0"+
-    "\1\60\1\320\2\60\2\320\1\60\2\0\2\60\4\320"+
-    "\1\0\1\60\2\201\1\60\1\321\12\201\1\60\7\201"+
-    "\1\60\1\201\17\0\1\60\1\201\2\60\2\201\1\60"+
-    "\2\0\2\60\4\201\1\0\1\60\2\320\1\60\1\322"+
-    "\12\320\1\60\7\320\1\60\1\320\17\0\1\60\1\320"+
-    "\2\60\2\320\1\60\2\0\2\60\4\320\1\0\1\60"+
-    "\1\323\1\320\1\60\13\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\60\13\320\1\324\7\320"+
-    "\1\60\1\320\17\0\1\60\1\320\2\60\2\320\1\60"+
-    "\2\0\2\60\2\320\1\325\1\320\2\0\2\2\1\0"+
-    "\13\2\1\326\7\2\1\0\1\2\20\0\1\2\2\0"+
-    "\2\2\5\0\2\2\1\327\1\2\1\0\1\60\2\320"+
-    "\1\60\4\320\1\330\6\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\60\4\320\1\331\6\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\2\0\2\201\1\332"+
-    "\13\201\1\0\7\201\1\0\1\201\20\0\1\201\2\0"+
-    "\2\201\5\0\1\201\1\333\2\201\1\0\1\60\2\320"+
-    "\1\60\13\320\1\334\7\320\1\60\1\320\17\0\1\60"+
-    "\1\320\2\60\2\320\1\60\2\0\2\60\2\320\1\335"+
-    "\1\320\1\0\1\60\2\201\1\60\3\201\1\336\7\201"+
-    "\1\60\7\201\1\60\1\201\17\0\1\60\1\201\2\60"+
-    "\2\201\1\60\2\0\2\60\4\201\1\0\1\60\2\320"+
-    "\1\60\3\320\1\337\7\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\340\13\320\1\60\7\320"+
-    "\1\60\1\320\17\0\1\60\1\320\2\60\2\320\1\60"+
-    "\2\0\2\60\1\320\1\341\2\320\1\0\1\60\2\320"+
-    "\1\60\4\320\1\342\6\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\60\5\320\1\343\5\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\201"+
-    "\1\60\4\201\1\344\6\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\320\1\60\4\320\1\345\6\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\320"+
-    "\1\60\4\320\1\346\6\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\60\5\320\1\347\5\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\201"+
-    "\1\60\3\201\1\350\7\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\320\1\60\3\320\1\351\7\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\320"+
-    "\1\60\1\320\1\352\4\320\1\353\4\320\1\60\7\320"+
-    "\1\60\1\320\17\0\1\60\1\320\2\60\2\320\1\60"+
-    "\2\0\2\60\4\320\1\0\1\60\2\320\1\60\1\354"+
-    "\12\320\1\60\7\320\1\60\1\320\17\0\1\60\1\320"+
-    "\2\60\2\320\1\60\2\0\2\60\4\320\1\0\1\60"+
-    "\2\320\1\60\4\320\1\355\6\320\1\60\7\320\1\60"+
-    "\1\320\17\0\1\60\1\320\2\60\2\320\1\60\2\0"+
-    "\2\60\4\320\1\0\1\60\2\320\1\60\1\356\12\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\2\0\2\2\1\0"+
-    "\13\2\1\357\7\2\1\0\1\2\20\0\1\2\2\0"+
-    "\2\2\5\0\2\2\1\360\1\2\2\0\2\2\1\0"+
-    "\4\2\1\361\6\2\1\0\7\2\1\0\1\2\20\0"+
-    "\1\2\2\0\2\2\5\0\4\2\2\0\2\2\1\0"+
-    "\1\2\1\362\11\2\1\0\7\2\1\0\1\2\20\0"+
-    "\1\2\2\0\2\2\5\0\4\2\1\0\1\60\2\201"+
-    "\1\60\4\201\1\363\6\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\320\1\60\4\320\1\364\6\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\320"+
-    "\1\365\13\320\1\60\7\320\1\60\1\320\17\0\1\60"+
-    "\1\320\2\60\2\320\1\60\2\0\2\60\1\320\1\366"+
-    "\2\320\1\0\1\60\2\320\1\60\7\320\1\367\3\320"+
-    "\1\60\7\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\2\0\2\201\1\0"+
-    "\3\201\1\370\7\201\1\0\7\201\1\0\1\201\20\0"+
-    "\1\201\2\0\2\201\5\0\4\201\1\0\1\60\2\320"+
-    "\1\60\3\320\1\371\7\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\201\1\60\3\201\1\372\7\201"+
-    "\1\60\7\201\1\60\1\201\17\0\1\60\1\201\2\60"+
-    "\2\201\1\60\2\0\2\60\4\201\1\0\1\60\2\320"+
-    "\1\60\3\320\1\373\7\320\1\60\7\320\1\60\1\320"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\2\0\2\201\1\0\13\201\1\0\7\201\1\0"+
-    "\1\374\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\201\1\60\1\201\1\375\11\201\1\60\7\201"+
-    "\1\60\1\201\17\0\1\60\1\201\2\60\2\201\1\60"+
-    "\2\0\2\60\4\201\1\0\1\60\2\320\1\60\1\320"+
-    "\1\376\11\320\1\60\7\320\1\60\1\320\17\0\1\60"+
-    "\1\320\2\60\2\320\1\60\2\0\2\60\4\320\1\0"+
-    "\1\60\2\320\1\60\13\320\1\60\7\320\1\60\1\377"+
-    "\17\0\1\60\1\320\2\60\2\320\1\60\2\0\2\60"+
-    "\4\320\1\0\1\60\2\320\1\60\13\320\1\60\3\320"+
-    "\1\u0100\3\320\1\60\1\320\17\0\1\60\1\320\2\60"+
-    "\2\320\1\60\2\0\2\60\4\320\1\0\1\60\2\320"+
-    "\1\60\13\320\1\60\1\u0101\6\320\1\60\1\320\17\0"+
-    "\1\60\1\320\2\60\2\320\1\60\2\0\2\60\4\320"+
-    "\2\0\2\201\1\0\4\201\1\u0102\6\201\1\0\7\201"+
-    "\1\0\1\201\20\0\1\201\2\0\2\201\5\0\4\201"+
-    "\1\0\1\60\2\320\1\60\4\320\1\u0103\6\320\1\60"+
-    "\7\320\1\60\1\320\17\0\1\60\1\320\2\60\2\320"+
-    "\1\60\2\0\2\60\4\320\1\0\1\60\2\320\1\60"+
-    "\13\320\1\60\7\320\1\u0104\1\320\17\0\1\60\1\320"+
-    "\2\60\2\320\1\60\2\0\2\60\3\320\1\u0105\1\0"+
-    "\1\60\2\320\1\60\12\320\1\u0106\1\60\1\u0107\6\320"+
-    "\1\60\1\320\17\0\1\60\1\320\2\60\2\320\1\60"+
-    "\2\0\2\60\4\320\1\0\1\60\2\201\1\60\13\201"+
-    "\1\60\2\201\1\u0108\4\201\1\60\1\201\17\0\1\60"+
-    "\1\201\2\60\2\201\1\60\2\0\2\60\4\201\1\0"+
-    "\1\60\2\320\1\60\13\320\1\60\2\320\1\u0109\4\320"+
-    "\1\60\1\320\17\0\1\60\1\320\2\60\2\320\1\60"+
-    "\2\0\2\60\4\320\1\0\43\154\1\161\24\154\10\0"+
-    "\1\u010a\40\0\1\302\2\0\2\302\12\0\57\305\1\0"+
-    "\1\306\1\171\6\305\57\306\1\0\1\306\1\171\6\306"+
-    "\61\0\1\307\6\0\1\60\2\320\1\60\13\320\1\u010b"+
-    "\7\320\1\60\1\320\17\0\1\60\1\320\2\60\2\320"+
-    "\1\60\2\0\2\60\2\320\1\u010c\1\320\1\0\1\60"+
-    "\2\320\1\60\13\320\1\u010d\7\320\1\60\1\320\17\0"+
-    "\1\60\1\320\2\60\2\320\1\60\2\0\2\60\2\320"+
-    "\1\u010e\1\320\1\0\1\60\2\320\1\60\4\320\1\u010f"+
-    "\6\320\1\60\7\320\1\60\1\320\17\0\1\60\1\320"+
-    "\2\60\2\320\1\60\2\0\2\60\4\320\1\0\1\60"+
-    "\2\320\1\60\1\320\1\u0110\11\320\1\60\7\320\1\60"+
-    "\1\320\17\0\1\60\1\320\2\60\2\320\1\60\2\0"+
-    "\2\60\4\320\1\0\1\60\2\u0111\1\60\13\u0111\1\60"+
-    "\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60\2\u0111"+
-    "\1\60\2\0\2\60\4\u0111\2\0\2\201\1\0\1\201"+
-    "\1\u0112\11\201\1\0\7\201\1\0\1\201\20\0\1\201"+
-    "\2\0\2\201\5\0\4\201\1\0\1\60\2\u0111\1\60"+
-    "\1\u0111\1\u0113\11\u0111\1\60\7\u0111\1\60\1\u0111\17\0"+
-    "\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60\4\u0111"+
-    "\1\0\1\60\2\u0111\1\60\10\u0111\1\u0114\2\u0111\1\60"+
-    "\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60\2\u0111"+
-    "\1\60\2\0\2\60\4\u0111\1\0\1\60\2\201\1\60"+
-    "\5\201\1\u0115\5\201\1\60\7\201\1\60\1\201\17\0"+
-    "\1\60\1\201\2\60\2\201\1\60\2\0\2\60\4\201"+
-    "\1\0\1\60\2\u0111\1\60\5\u0111\1\u0116\5\u0111\1\60"+
-    "\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60\2\u0111"+
-    "\1\60\2\0\2\60\4\u0111\12\0\1\u0117\57\0\2\2"+
-    "\1\0\5\2\1\u0118\5\2\1\0\7\2\1\0\1\2"+
-    "\20\0\1\2\2\0\2\2\5\0\4\2\1\0\1\60"+
-    "\2\u0111\1\60\13\u0111\1\60\1\u0119\6\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\1\u0111\1\u011a\11\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\201"+
-    "\1\60\1\201\1\u011b\11\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\u0111\1\60\1\u0111\1\u011c\11\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\u0111"+
-    "\1\60\7\u0111\1\u011d\3\u0111\1\60\7\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\3\u0111\1\u011e\7\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\2\0\2\201\1\0"+
-    "\7\201\1\u011f\3\201\1\0\7\201\1\0\1\201\20\0"+
-    "\1\201\2\0\2\201\5\0\4\201\1\0\1\60\2\u0111"+
-    "\1\60\7\u0111\1\u0120\3\u0111\1\60\7\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\7\u0111\1\u0121\3\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\1\u0122"+
-    "\1\u0111\1\60\13\u0111\1\60\7\u0111\1\60\1\u0111\17\0"+
-    "\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60\4\u0111"+
-    "\12\0\1\u0123\57\0\2\2\1\0\5\2\1\u0124\5\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\2\1\0\7\2\1\u0125\3\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\2\1\0\4\2\1\u0126\6\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\1\0\1\60\2\201\1\60\3\201\1\u0127"+
-    "\7\201\1\60\7\201\1\60\1\201\17\0\1\60\1\201"+
-    "\2\60\2\201\1\60\2\0\2\60\4\201\1\0\1\60"+
-    "\2\u0111\1\60\3\u0111\1\u0128\7\u0111\1\60\7\u0111\1\60"+
-    "\1\u0111\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0"+
-    "\2\60\4\u0111\2\0\2\201\1\0\2\201\1\u0129\10\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u0111\1\60\2\u0111\1\u012a"+
-    "\10\u0111\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111"+
-    "\2\60\2\u0111\1\60\2\0\2\60\4\u0111\2\0\2\201"+
-    "\1\0\4\201\1\u012b\6\201\1\0\7\201\1\0\1\201"+
-    "\20\0\1\201\2\0\2\201\5\0\4\201\1\0\1\60"+
-    "\2\u0111\1\60\4\u0111\1\u012c\6\u0111\1\60\7\u0111\1\60"+
-    "\1\u0111\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0"+
-    "\2\60\4\u0111\2\0\2\201\1\0\4\201\1\u012d\6\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u0111\1\60\4\u0111\1\u012e"+
-    "\6\u0111\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111"+
-    "\2\60\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60"+
-    "\1\u012f\1\u0111\1\60\13\u0111\1\60\7\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\3\u0111\1\u0130\7\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\201"+
-    "\1\60\4\201\1\u0131\6\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\u0111\1\60\4\u0111\1\u0132\6\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\u0111"+
-    "\1\60\7\u0111\1\u0133\3\u0111\1\60\7\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\4\u0111\1\u0134\6\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\2\0\1\u0135\1\201"+
-    "\1\0\13\201\1\0\7\201\1\0\1\201\20\0\1\201"+
-    "\2\0\2\201\5\0\4\201\1\0\1\60\1\u0136\1\u0111"+
-    "\1\60\13\u0111\1\60\7\u0111\1\60\1\u0111\17\0\1\60"+
-    "\1\u0111\2\60\2\u0111\1\60\2\0\2\60\4\u0111\32\0"+
-    "\2\u0137\16\0\1\u0138\2\0\2\u0138\12\0\1\60\2\201"+
-    "\1\60\5\201\1\u0139\5\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\u0111\1\60\5\u0111\1\u013a\5\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\201"+
-    "\1\60\5\201\1\u013b\5\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\u0111\1\60\5\u0111\1\u013c\5\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\u0111"+
-    "\1\60\7\u0111\1\u013d\3\u0111\1\60\7\u0111\1\60\1\u0111"+
-    "\17\0\1\60\1\u0111\2\60\2\u0111\1\60\2\0\2\60"+
-    "\4\u0111\1\0\1\60\2\u0111\1\60\4\u0111\1\u013e\6\u0111"+
-    "\1\60\7\u0111\1\60\1\u0111\17\0\1\60\1\u0111\2\60"+
-    "\2\u0111\1\60\2\0\2\60\4\u0111\1\0\1\60\2\u013f"+
-    "\1\60\13\u013f\1\60\7\u013f\1\60\1\u013f\17\0\1\60"+
-    "\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f\2\0"+
-    "\2\201\1\0\2\201\1\u0140\10\201\1\0\7\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u013f\1\60\2\u013f\1\u0141\10\u013f\1\60\7\u013f"+
-    "\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60"+
-    "\2\0\2\60\4\u013f\17\0\1\u0142\52\0\2\2\1\0"+
-    "\12\2\1\u0143\1\0\7\2\1\0\1\2\20\0\1\2"+
-    "\2\0\2\2\5\0\4\2\1\0\1\60\2\u013f\1\60"+
-    "\3\u013f\1\u0144\7\u013f\1\60\7\u013f\1\60\1\u013f\17\0"+
-    "\1\60\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f"+
-    "\1\0\1\60\2\u013f\1\60\5\u013f\1\u0145\5\u013f\1\60"+
-    "\7\u013f\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f"+
-    "\1\60\2\0\2\60\4\u013f\1\0\1\60\2\u013f\1\60"+
-    "\1\u0146\12\u013f\1\60\7\u013f\1\60\1\u013f\17\0\1\60"+
-    "\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f\2\0"+
-    "\2\201\1\0\2\201\1\u0147\10\201\1\0\7\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u013f\1\60\2\u013f\1\u0148\10\u013f\1\60\7\u013f"+
-    "\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60"+
-    "\2\0\2\60\4\u013f\1\0\1\60\2\u013f\1\60\6\u013f"+
-    "\1\u0149\4\u013f\1\60\7\u013f\1\60\1\u013f\17\0\1\60"+
-    "\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f\1\0"+
-    "\1\60\2\u013f\1\60\3\u013f\1\u014a\7\u013f\1\60\7\u013f"+
-    "\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60"+
-    "\2\0\2\60\4\u013f\11\0\1\u014b\60\0\2\2\1\0"+
-    "\4\2\1\u014c\6\2\1\0\7\2\1\0\1\2\20\0"+
-    "\1\2\2\0\2\2\5\0\4\2\2\0\2\2\1\0"+
-    "\7\2\1\u014d\3\2\1\0\4\2\1\u014e\2\2\1\0"+
-    "\1\2\20\0\1\2\2\0\2\2\5\0\4\2\2\0"+
-    "\2\2\1\0\11\2\1\u014f\1\2\1\0\7\2\1\0"+
-    "\1\2\20\0\1\2\2\0\2\2\5\0\4\2\2\0"+
-    "\2\201\1\0\7\201\1\u0150\3\201\1\0\7\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u013f\1\60\7\u013f\1\u0151\3\u013f\1\60\7\u013f"+
-    "\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60"+
-    "\2\0\2\60\4\u013f\2\0\1\u0152\1\201\1\0\13\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\1\u0153\1\u013f\1\60\13\u013f"+
-    "\1\60\7\u013f\1\60\1\u013f\17\0\1\60\1\u013f\2\60"+
-    "\2\u013f\1\60\2\0\2\60\4\u013f\1\0\1\60\2\u013f"+
-    "\1\60\7\u013f\1\u0154\3\u013f\1\60\7\u013f\1\60\1\u013f"+
-    "\17\0\1\60\1\u013f\2\60\2\u013f\1\60\2\0\2\60"+
-    "\4\u013f\1\0\1\60\2\u013f\1\60\13\u013f\1\u0155\7\u013f"+
-    "\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60"+
-    "\2\0\2\60\2\u013f\1\u0156\1\u013f\2\0\2\201\1\0"+
-    "\6\201\1\u0157\4\201\1\0\7\201\1\0\1\201\20\0"+
-    "\1\201\2\0\2\201\5\0\4\201\1\0\1\60\2\u013f"+
-    "\1\60\6\u013f\1\u0158\4\u013f\1\60\7\u013f\1\60\1\u013f"+
-    "\17\0\1\60\1\u013f\2\60\2\u013f\1\60\2\0\2\60"+
-    "\4\u013f\1\0\1\60\1\u0159\1\u013f\1\60\13\u013f\1\60"+
-    "\7\u013f\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f"+
-    "\1\60\2\0\2\60\4\u013f\1\0\1\60\2\u013f\1\60"+
-    "\6\u013f\1\u015a\4\u013f\1\60\7\u013f\1\60\1\u013f\17\0"+
-    "\1\60\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f"+
-    "\2\0\2\201\1\0\3\201\1\u015b\7\201\1\0\7\201"+
-    "\1\0\1\201\20\0\1\201\2\0\2\201\5\0\4\201"+
-    "\1\0\1\60\2\u013f\1\60\3\u013f\1\u015c\7\u013f\1\60"+
-    "\7\u013f\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f"+
-    "\1\60\2\0\2\60\4\u013f\52\0\1\u0138\2\0\2\u0138"+
-    "\13\0\2\201\1\0\12\201\1\u015d\1\0\7\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u013f\1\60\12\u013f\1\u015e\1\60\7\u013f\1\60"+
-    "\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f\1\60\2\0"+
-    "\2\60\4\u013f\2\0\2\201\1\0\4\201\1\u015f\6\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u013f\1\60\4\u013f\1\u0160"+
-    "\6\u013f\1\60\7\u013f\1\60\1\u013f\17\0\1\60\1\u013f"+
-    "\2\60\2\u013f\1\60\2\0\2\60\4\u013f\1\0\1\60"+
-    "\2\u013f\1\60\7\u013f\1\u0161\3\u013f\1\60\4\u013f\1\u0162"+
-    "\2\u013f\1\60\1\u013f\17\0\1\60\1\u013f\2\60\2\u013f"+
-    "\1\60\2\0\2\60\4\u013f\1\0\1\60\2\u013f\1\60"+
-    "\11\u013f\1\u0163\1\u013f\1\60\7\u013f\1\60\1\u013f\17\0"+
-    "\1\60\1\u013f\2\60\2\u013f\1\60\2\0\2\60\4\u013f"+
-    "\1\0\1\60\2\u0164\1\60\13\u0164\1\60\7\u0164\1\60"+
-    "\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164\1\60\2\0"+
-    "\2\60\4\u0164\2\0\2\201\1\0\3\201\1\u0165\7\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u0164\1\60\3\u0164\1\u0166"+
-    "\7\u0164\1\60\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164"+
-    "\2\60\2\u0164\1\60\2\0\2\60\4\u0164\1\0\1\60"+
-    "\1\u0167\1\u0164\1\60\13\u0164\1\60\7\u0164\1\60\1\u0164"+
-    "\17\0\1\60\1\u0164\2\60\2\u0164\1\60\2\0\2\60"+
-    "\4\u0164\2\0\2\201\1\0\13\201\1\0\1\u0168\6\201"+
-    "\1\0\1\201\20\0\1\201\2\0\2\201\5\0\4\201"+
-    "\1\0\1\60\2\u0164\1\60\13\u0164\1\60\1\u0169\6\u0164"+
-    "\1\60\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164\1\60"+
-    "\2\0\2\60\4\u0164\2\0\2\2\1\0\2\2\1\u016a"+
-    "\10\2\1\0\7\2\1\0\1\2\20\0\1\2\2\0"+
-    "\2\2\5\0\4\2\2\0\1\u016b\1\2\1\0\13\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\2\1\0\4\2\1\u016c\6\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\201\1\0\2\201\1\u016d\10\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u0164\1\60\2\u0164\1\u016e"+
-    "\10\u0164\1\60\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164"+
-    "\2\60\2\u0164\1\60\2\0\2\60\4\u0164\2\0\2\201"+
-    "\1\0\1\201\1\u016f\11\201\1\0\7\201\1\0\1\201"+
-    "\20\0\1\201\2\0\2\201\5\0\4\201\1\0\1\60"+
-    "\2\u0164\1\60\1\u0164\1\u0170\11\u0164\1\60\7\u0164\1\60"+
-    "\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164\1\60\2\0"+
-    "\2\60\4\u0164\1\0\1\60\2\u0164\1\60\6\u0164\1\u0171"+
-    "\4\u0164\1\60\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164"+
-    "\2\60\2\u0164\1\60\2\0\2\60\4\u0164\1\0\1\60"+
-    "\2\201\1\60\1\u0172\12\201\1\60\7\201\1\60\1\201"+
-    "\17\0\1\60\1\201\2\60\2\201\1\60\2\0\2\60"+
-    "\4\201\1\0\1\60\2\u0164\1\60\1\u0173\12\u0164\1\60"+
-    "\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164"+
-    "\1\60\2\0\2\60\4\u0164\1\0\1\60\2\u0164\1\60"+
-    "\11\u0164\1\u0174\1\u0164\1\60\7\u0164\1\60\1\u0164\17\0"+
-    "\1\60\1\u0164\2\60\2\u0164\1\60\2\0\2\60\4\u0164"+
-    "\1\0\1\60\2\u0164\1\60\2\u0164\1\u0175\10\u0164\1\60"+
-    "\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164"+
-    "\1\60\2\0\2\60\4\u0164\2\0\2\201\1\0\4\201"+
-    "\1\u0176\6\201\1\0\7\201\1\0\1\201\20\0\1\201"+
-    "\2\0\2\201\5\0\4\201\1\0\1\60\2\u0164\1\60"+
-    "\4\u0164\1\u0177\6\u0164\1\60\7\u0164\1\60\1\u0164\17\0"+
-    "\1\60\1\u0164\2\60\2\u0164\1\60\2\0\2\60\4\u0164"+
-    "\1\0\1\60\2\u0164\1\60\2\u0164\1\u0178\10\u0164\1\60"+
-    "\7\u0164\1\60\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164"+
-    "\1\60\2\0\2\60\4\u0164\1\0\1\60\1\u0179\1\u0164"+
-    "\1\60\13\u0164\1\60\7\u0164\1\60\1\u0164\17\0\1\60"+
-    "\1\u0164\2\60\2\u0164\1\60\2\0\2\60\4\u0164\1\0"+
-    "\1\60\2\u0164\1\60\4\u0164\1\u017a\6\u0164\1\60\7\u0164"+
-    "\1\60\1\u0164\17\0\1\60\1\u0164\2\60\2\u0164\1\60"+
-    "\2\0\2\60\4\u0164\1\0\1\60\2\u017b\1\60\13\u017b"+
-    "\1\60\7\u017b\1\60\1\u017b\17\0\1\60\1\u017b\2\60"+
-    "\2\u017b\1\60\2\0\2\60\4\u017b\2\0\2\201\1\0"+
-    "\4\201\1\u017c\6\201\1\0\7\201\1\0\1\201\20\0"+
-    "\1\201\2\0\2\201\5\0\4\201\1\0\1\60\2\u017b"+
-    "\1\60\4\u017b\1\u017d\6\u017b\1\60\7\u017b\1\60\1\u017b"+
-    "\17\0\1\60\1\u017b\2\60\2\u017b\1\60\2\0\2\60"+
-    "\4\u017b\1\0\1\60\2\u017b\1\60\1\u017b\1\u017e\11\u017b"+
-    "\1\60\7\u017b\1\60\1\u017b\17\0\1\60\1\u017b\2\60"+
-    "\2\u017b\1\60\2\0\2\60\4\u017b\2\0\2\201\1\0"+
-    "\3\201\1\u017f\7\201\1\0\7\201\1\0\1\201\20\0"+
-    "\1\201\2\0\2\201\5\0\4\201\1\0\1\60\2\u017b"+
-    "\1\60\3\u017b\1\u0180\7\u017b\1\60\7\u017b\1\60\1\u017b"+
-    "\17\0\1\60\1\u017b\2\60\2\u017b\1\60\2\0\2\60"+
-    "\4\u017b\2\0\2\2\1\0\13\2\1\0\5\2\1\u0181"+
-    "\1\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\4\2\2\0\2\2\1\0\13\2\1\0\1\u0182\6\2"+
-    "\1\0\1\2\20\0\1\2\2\0\2\2\5\0\4\2"+
-    "\2\0\2\2\1\0\5\2\1\u0183\5\2\1\0\7\2"+
-    "\1\0\1\2\20\0\1\2\2\0\2\2\5\0\4\2"+
-    "\2\0\2\201\1\0\13\201\1\0\1\u0184\6\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u017b\1\60\13\u017b\1\60\1\u0185\6\u017b\1\60"+
-    "\1\u017b\17\0\1\60\1\u017b\2\60\2\u017b\1\60\2\0"+
-    "\2\60\4\u017b\2\0\2\201\1\0\5\201\1\u0186\5\201"+
-    "\1\0\7\201\1\0\1\201\20\0\1\201\2\0\2\201"+
-    "\5\0\4\201\1\0\1\60\2\u017b\1\60\5\u017b\1\u0187"+
-    "\5\u017b\1\60\7\u017b\1\60\1\u017b\17\0\1\60\1\u017b"+
-    "\2\60\2\u017b\1\60\2\0\2\60\4\u017b\1\0\1\60"+
-    "\2\u017b\1\60\7\u017b\1\u0188\3\u017b\1\60\7\u017b\1\60"+
-    "\1\u017b\17\0\1\60\1\u017b\2\60\2\u017b\1\60\2\0"+
-    "\2\60\4\u017b\1\0\1\60\2\u017b\1\60\13\u017b\1\60"+
-    "\5\u017b\1\u0189\1\u017b\1\60\1\u017b\17\0\1\60\1\u017b"+
-    "\2\60\2\u017b\1\60\2\0\2\60\4\u017b\1\0\1\60"+
-    "\2\u017b\1\60\13\u017b\1\60\1\u018a\6\u017b\1\60\1\u017b"+
-    "\17\0\1\60\1\u017b\2\60\2\u017b\1\60\2\0\2\60"+
-    "\4\u017b\1\0\1\60\2\u017b\1\60\5\u017b\1\u018b\5\u017b"+
-    "\1\60\7\u017b\1\60\1\u017b\17\0\1\60\1\u017b\2\60"+
-    "\2\u017b\1\60\2\0\2\60\4\u017b\1\0\1\60\2\u018c"+
-    "\1\60\13\u018c\1\60\7\u018c\1\60\1\u018c\17\0\1\60"+
-    "\1\u018c\2\60\2\u018c\1\60\2\0\2\60\4\u018c\2\0"+
-    "\2\201\1\0\1\u018d\12\201\1\0\7\201\1\0\1\201"+
-    "\20\0\1\201\2\0\2\201\5\0\4\201\1\0\1\60"+
-    "\2\u018c\1\60\1\u018e\12\u018c\1\60\7\u018c\1\60\1\u018c"+
-    "\17\0\1\60\1\u018c\2\60\2\u018c\1\60\2\0\2\60"+
-    "\4\u018c\2\0\2\2\1\0\3\2\1\u018f\7\2\1\0"+
-    "\7\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\4\2\2\0\2\2\1\0\4\2\1\u0190\6\2\1\0"+
-    "\7\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\4\2\2\0\2\2\1\0\3\2\1\u0191\7\2\1\0"+
-    "\7\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\4\2\2\0\2\201\1\0\3\201\1\u0192\7\201\1\0"+
-    "\7\201\1\0\1\201\20\0\1\201\2\0\2\201\5\0"+
-    "\4\201\1\0\1\60\2\u018c\1\60\3\u018c\1\u0193\7\u018c"+
-    "\1\60\7\u018c\1\60\1\u018c\17\0\1\60\1\u018c\2\60"+
-    "\2\u018c\1\60\2\0\2\60\4\u018c\1\0\1\60\2\u018c"+
-    "\1\60\4\u018c\1\u0194\6\u018c\1\60\7\u018c\1\60\1\u018c"+
-    "\17\0\1\60\1\u018c\2\60\2\u018c\1\60\2\0\2\60"+
-    "\4\u018c\1\0\1\60\2\u018c\1\60\3\u018c\1\u0195\7\u018c"+
-    "\1\60\7\u018c\1\60\1\u018c\17\0\1\60\1\u018c\2\60"+
-    "\2\u018c\1\60\2\0\2\60\4\u018c\1\0\1\60\2\u018c"+
-    "\1\60\4\u018c\1\u0196\6\u018c\1\60\7\u018c\1\60\1\u018c"+
-    "\17\0\1\60\1\u018c\2\60\2\u018c\1\60\2\0\2\60"+
-    "\4\u018c\1\0\1\60\2\u018c\1\60\3\u018c\1\u0197\7\u018c"+
-    "\1\60\7\u018c\1\60\1\u018c\17\0\1\60\1\u018c\2\60"+
-    "\2\u018c\1\60\2\0\2\60\4\u018c\1\0\1\60\2\u0198"+
-    "\1\60\13\u0198\1\60\7\u0198\1\60\1\u0198\17\0\1\60"+
-    "\1\u0198\2\60\2\u0198\1\60\2\0\2\60\4\u0198\2\0"+
-    "\2\201\1\0\7\201\1\u0199\3\201\1\0\7\201\1\0"+
-    "\1\201\20\0\1\201\2\0\2\201\5\0\4\201\1\0"+
-    "\1\60\2\u0198\1\60\7\u0198\1\u019a\3\u0198\1\60\7\u0198"+
-    "\1\60\1\u0198\17\0\1\60\1\u0198\2\60\2\u0198\1\60"+
-    "\2\0\2\60\4\u0198\2\0\1\u019b\1\2\1\0\13\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\2\0\2\201\1\0\1\u019c\12\201\1\0"+
-    "\7\201\1\0\1\201\20\0\1\201\2\0\2\201\5\0"+
-    "\4\201\1\0\1\60\2\u0198\1\60\1\u019d\12\u0198\1\60"+
-    "\7\u0198\1\60\1\u0198\17\0\1\60\1\u0198\2\60\2\u0198"+
-    "\1\60\2\0\2\60\4\u0198\1\0\1\60\1\u019e\1\u0198"+
-    "\1\60\13\u0198\1\60\7\u0198\1\60\1\u0198\17\0\1\60"+
-    "\1\u0198\2\60\2\u0198\1\60\2\0\2\60\4\u0198\1\0"+
-    "\1\60\2\u019f\1\60\13\u019f\1\60\7\u019f\1\60\1\u019f"+
-    "\17\0\1\60\1\u019f\2\60\2\u019f\1\60\2\0\2\60"+
-    "\4\u019f\2\0\2\2\1\0\3\2\1\u01a0\7\2\1\0"+
-    "\7\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\4\2\2\0\2\201\1\0\7\201\1\u01a1\3\201\1\0"+
-    "\7\201\1\0\1\201\20\0\1\201\2\0\2\201\5\0"+
-    "\4\201\1\0\1\60\2\u019f\1\60\7\u019f\1\u01a2\3\u019f"+
-    "\1\60\7\u019f\1\60\1\u019f\17\0\1\60\1\u019f\2\60"+
-    "\2\u019f\1\60\2\0\2\60\4\u019f\1\0\1\60\2\u019f"+
-    "\1\60\3\u019f\1\u01a3\7\u019f\1\60\7\u019f\1\60\1\u019f"+
-    "\17\0\1\60\1\u019f\2\60\2\u019f\1\60\2\0\2\60"+
-    "\4\u019f\1\0\1\60\2\u01a4\1\60\13\u01a4\1\60\7\u01a4"+
-    "\1\60\1\u01a4\17\0\1\60\1\u01a4\2\60\2\u01a4\1\60"+
-    "\2\0\2\60\4\u01a4\2\0\2\2\1\0\13\2\1\u01a5"+
-    "\7\2\1\0\1\2\20\0\1\2\2\0\2\2\5\0"+
-    "\2\2\1\u01a6\1\2\1\0\1\60\2\u01a4\1\60\13\u01a4"+
-    "\1\u01a7\7\u01a4\1\60\1\u01a4\17\0\1\60\1\u01a4\2\60"+
-    "\2\u01a4\1\60\2\0\2\60\2\u01a4\1\u01a8\1\u01a4\1\0"+
-    "\1\60\2\u01a9\1\60\13\u01a9\1\60\7\u01a9\1\60\1\u01a9"+
-    "\17\0\1\60\1\u01a9\2\60\2\u01a9\1\60\2\0\2\60"+
-    "\4\u01a9\5\0\1\u01aa\64\0\2\2\1\0\1\u01ab\12\2"+
-    "\1\0\7\2\1\0\1\2\20\0\1\2\2\0\2\2"+
-    "\5\0\4\2\1\0\1\60\2\201\1\60\1\u01ac\12\201"+
-    "\1\60\7\201\1\60\1\201\17\0\1\60\1\201\2\60"+
-    "\2\201\1\60\2\0\2\60\4\201\1\0\1\60\2\u01a9"+
-    "\1\60\1\u01ad\12\u01a9\1\60\7\u01a9\1\60\1\u01a9\17\0"+
-    "\1\60\1\u01a9\2\60\2\u01a9\1\60\2\0\2\60\4\u01a9"+
-    "\1\0\1\60\2\u01ae\1\60\13\u01ae\1\60\7\u01ae\1\60"+
-    "\1\u01ae\17\0\1\60\1\u01ae\2\60\2\u01ae\1\60\2\0"+
-    "\2\60\4\u01ae\12\0\1\u01af\57\0\2\2\1\0\5\2"+
-    "\1\u01b0\5\2\1\0\7\2\1\0\1\2\20\0\1\2"+
-    "\2\0\2\2\5\0\4\2\2\0\2\201\1\0\5\201"+
-    "\1\u01b1\5\201\1\0\7\201\1\0\1\201\20\0\1\201"+
-    "\2\0\2\201\5\0\4\201\1\0\1\60\2\u01ae\1\60"+
-    "\5\u01ae\1\u01b2\5\u01ae\1\60\7\u01ae\1\60\1\u01ae\17\0"+
-    "\1\60\1\u01ae\2\60\2\u01ae\1\60\2\0\2\60\4\u01ae"+
-    "\1\0\1\60\2\u01b3\1\60\13\u01b3\1\60\7\u01b3\1\60"+
-    "\1\u01b3\17\0\1\60\1\u01b3\2\60\2\u01b3\1\60\2\0"+
-    "\2\60\4\u01b3\1\0\1\60\2\u01b4\1\60\13\u01b4\1\60"+
-    "\7\u01b4\1\60\1\u01b4\17\0\1\60\1\u01b4\2\60\2\u01b4"+
-    "\1\60\2\0\2\60\4\u01b4\1\0\1\60\2\u01b5\1\60"+
-    "\13\u01b5\1\60\7\u01b5\1\60\1\u01b5\17\0\1\60\1\u01b5"+
-    "\2\60\2\u01b5\1\60\2\0\2\60\4\u01b5\1\0\1\60"+
-    "\2\u01b6\1\60\13\u01b6\1\60\7\u01b6\1\60\1\u01b6\17\0"+
-    "\1\60\1\u01b6\2\60\2\u01b6\1\60\2\0\2\60\4\u01b6"+
-    "\1\0\1\60\2\u01b7\1\60\13\u01b7\1\60\7\u01b7\1\60"+
-    "\1\u01b7\17\0\1\60\1\u01b7\2\60\2\u01b7\1\60\2\0"+
-    "\2\60\4\u01b7\1\0\1\60\2\u01b8\1\60\13\u01b8\1\60"+
-    "\7\u01b8\1\60\1\u01b8\17\0\1\60\1\u01b8\2\60\2\u01b8"+
-    "\1\60\2\0\2\60\4\u01b8\1\0\1\60\2\u01b9\1\60"+
-    "\13\u01b9\1\60\7\u01b9\1\60\1\u01b9\17\0\1\60\1\u01b9"+
-    "\2\60\2\u01b9\1\60\2\0\2\60\4\u01b9\1\0\1\60"+
-    "\2\u01ba\1\60\13\u01ba\1\60\7\u01ba\1\60\1\u01ba\17\0"+
-    "\1\60\1\u01ba\2\60\2\u01ba\1\60\2\0\2\60\4\u01ba"+
-    "\1\0\1\60\2\u01bb\1\60\13\u01bb\1\60\7\u01bb\1\60"+
-    "\1\u01bb\17\0\1\60\1\u01bb\2\60\2\u01bb\1\60\2\0"+
-    "\2\60\4\u01bb\1\0\1\60\2\u01bc\1\60\13\u01bc\1\60"+
-    "\7\u01bc\1\60\1\u01bc\17\0\1\60\1\u01bc\2\60\2\u01bc"+
-    "\1\60\2\0\2\60\4\u01bc\1\0\1\60\2\u01bd\1\60"+
-    "\13\u01bd\1\60\7\u01bd\1\60\1\u01bd\17\0\1\60\1\u01bd"+
-    "\2\60\2\u01bd\1\60\2\0\2\60\4\u01bd\1\0\1\60"+
-    "\2\u01be\1\60\13\u01be\1\60\7\u01be\1\60\1\u01be\17\0"+
-    "\1\60\1\u01be\2\60\2\u01be\1\60\2\0\2\60\4\u01be"+
-    "\1\0\1\60\2\u01bf\1\60\13\u01bf\1\60\7\u01bf\1\60"+
-    "\1\u01bf\17\0\1\60\1\u01bf\2\60\2\u01bf\1\60\2\0"+
-    "\2\60\4\u01bf\1\0\1\60\2\u01c0\1\60\13\u01c0\1\60"+
-    "\7\u01c0\1\60\1\u01c0\17\0\1\60\1\u01c0\2\60\2\u01c0"+
-    "\1\60\2\0\2\60\4\u01c0\1\0\1\60\2\u01c1\1\60"+
-    "\13\u01c1\1\60\7\u01c1\1\60\1\u01c1\17\0\1\60\1\u01c1"+
-    "\2\60\2\u01c1\1\60\2\0\2\60\4\u01c1\1\0\1\60"+
-    "\2\u01c2\1\60\13\u01c2\1\60\7\u01c2\1\60\1\u01c2\17\0"+
-    "\1\60\1\u01c2\2\60\2\u01c2\1\60\2\0\2\60\4\u01c2"+
-    "\1\0\1\60\2\u01c3\1\60\13\u01c3\1\60\7\u01c3\1\60"+
-    "\1\u01c3\17\0\1\60\1\u01c3\2\60\2\u01c3\1\60\2\0"+
-    "\2\60\4\u01c3\1\0\1\60\2\u01c4\1\60\13\u01c4\1\60"+
-    "\7\u01c4\1\60\1\u01c4\17\0\1\60\1\u01c4\2\60\2\u01c4"+
-    "\1\60\2\0\2\60\4\u01c4\1\0\1\60\2\u01c5\1\60"+
-    "\13\u01c5\1\60\7\u01c5\1\60\1\u01c5\17\0\1\60\1\u01c5"+
-    "\2\60\2\u01c5\1\60\2\0\2\60\4\u01c5\1\0\1\60"+
-    "\2\u01c6\1\60\13\u01c6\1\60\7\u01c6\1\60\1\u01c6\17\0"+
-    "\1\60\1\u01c6\2\60\2\u01c6\1\60\2\0\2\60\4\u01c6"+
-    "\1\0\1\60\2\u01c7\1\60\13\u01c7\1\60\7\u01c7\1\60"+
-    "\1\u01c7\17\0\1\60\1\u01c7\2\60\2\u01c7\1\60\2\0"+
-    "\2\60\4\u01c7\1\0\1\60\2\u01c8\1\60\13\u01c8\1\60"+
-    "\7\u01c8\1\60\1\u01c8\17\0\1\60\1\u01c8\2\60\2\u01c8"+
-    "\1\60\2\0\2\60\4\u01c8\1\0\1\60\2\u01c9\1\60"+
-    "\13\u01c9\1\60\7\u01c9\1\60\1\u01c9\17\0\1\60\1\u01c9"+
-    "\2\60\2\u01c9\1\60\2\0\2\60\4\u01c9\1\0\1\60"+
-    "\2\u01ca\1\60\13\u01ca\1\60\7\u01ca\1\60\1\u01ca\17\0"+
-    "\1\60\1\u01ca\2\60\2\u01ca\1\60\2\0\2\60\4\u01ca"+
-    "\1\0\1\60\2\u01cb\1\60\13\u01cb\1\60\7\u01cb\1\60"+
-    "\1\u01cb\17\0\1\60\1\u01cb\2\60\2\u01cb\1\60\2\0"+
-    "\2\60\4\u01cb\1\0\1\60\2\u01cc\1\60\13\u01cc\1\60"+
-    "\7\u01cc\1\60\1\u01cc\17\0\1\60\1\u01cc\2\60\2\u01cc"+
-    "\1\60\2\0\2\60\4\u01cc\1\0\1\60\2\u01cd\1\60"+
-    "\13\u01cd\1\60\7\u01cd\1\60\1\u01cd\17\0\1\60\1\u01cd"+
-    "\2\60\2\u01cd\1\60\2\0\2\60\4\u01cd\1\0\1\60"+
-    "\2\u01ce\1\60\13\u01ce\1\60\7\u01ce\1\60\1\u01ce\17\0"+
-    "\1\60\1\u01ce\2\60\2\u01ce\1\60\2\0\2\60\4\u01ce"+
-    "\1\0\1\60\2\u01cf\1\60\13\u01cf\1\60\7\u01cf\1\60"+
-    "\1\u01cf\17\0\1\60\1\u01cf\2\60\2\u01cf\1\60\2\0"+
-    "\2\60\4\u01cf\1\0\1\60\2\u01d0\1\60\13\u01d0\1\60"+
-    "\7\u01d0\1\60\1\u01d0\17\0\1\60\1\u01d0\2\60\2\u01d0"+
-    "\1\60\2\0\2\60\4\u01d0\1\0\1\60\2\u01d1\1\60"+
-    "\13\u01d1\1\60\7\u01d1\1\60\1\u01d1\17\0\1\60\1\u01d1"+
-    "\2\60\2\u01d1\1\60\2\0\2\60\4\u01d1\1\0\1\60"+
-    "\2\u01d2\1\60\13\u01d2\1\60\7\u01d2\1\60\1\u01d2\17\0"+
-    "\1\60\1\u01d2\2\60\2\u01d2\1\60\2\0\2\60\4\u01d2"+
-    "\1\0\1\60\2\u01d3\1\60\13\u01d3\1\60\7\u01d3\1\60"+
-    "\1\u01d3\17\0\1\60\1\u01d3\2\60\2\u01d3\1\60\2\0"+
-    "\2\60\4\u01d3\1\0\1\60\2\u01d4\1\60\13\u01d4\1\60"+
-    "\7\u01d4\1\60\1\u01d4\17\0\1\60\1\u01d4\2\60\2\u01d4"+
-    "\1\60\2\0\2\60\4\u01d4\1\0\1\60\2\u01d5\1\60"+
-    "\13\u01d5\1\60\7\u01d5\1\60\1\u01d5\17\0\1\60\1\u01d5"+
-    "\2\60\2\u01d5\1\60\2\0\2\60\4\u01d5\1\0\1\60"+
-    "\2\u01d6\1\60\13\u01d6\1\60\7\u01d6\1\60\1\u01d6\17\0"+
-    "\1\60\1\u01d6\2\60\2\u01d6\1\60\2\0\2\60\4\u01d6"+
-    "\1\0\1\60\2\u01d7\1\60\13\u01d7\1\60\7\u01d7\1\60"+
-    "\1\u01d7\17\0\1\60\1\u01d7\2\60\2\u01d7\1\60\2\0"+
-    "\2\60\4\u01d7\1\0\1\60\2\u01d8\1\60\13\u01d8\1\60"+
-    "\7\u01d8\1\60\1\u01d8\17\0\1\60\1\u01d8\2\60\2\u01d8"+
-    "\1\60\2\0\2\60\4\u01d8\1\0\1\60\2\u01d9\1\60"+
-    "\13\u01d9\1\60\7\u01d9\1\60\1\u01d9\17\0\1\60\1\u01d9"+
-    "\2\60\2\u01d9\1\60\2\0\2\60\4\u01d9\1\0\1\60"+
-    "\2\u01da\1\60\13\u01da\1\60\7\u01da\1\60\1\u01da\17\0"+
-    "\1\60\1\u01da\2\60\2\u01da\1\60\2\0\2\60\4\u01da"+
-    "\1\0\1\60\2\u01db\1\60\13\u01db\1\60\7\u01db\1\60"+
-    "\1\u01db\17\0\1\60\1\u01db\2\60\2\u01db\1\60\2\0"+
-    "\2\60\4\u01db\1\0\1\60\2\u01dc\1\60\13\u01dc\1\60"+
-    "\7\u01dc\1\60\1\u01dc\17\0\1\60\1\u01dc\2\60\2\u01dc"+
-    "\1\60\2\0\2\60\4\u01dc\1\0\1\60\2\u01dd\1\60"+
-    "\13\u01dd\1\60\7\u01dd\1\60\1\u01dd\17\0\1\60\1\u01dd"+
-    "\2\60\2\u01dd\1\60\2\0\2\60\4\u01dd\1\0\1\60"+
-    "\2\u01de\1\60\13\u01de\1\60\7\u01de\1\60\1\u01de\17\0"+
-    "\1\60\1\u01de\2\60\2\u01de\1\60\2\0\2\60\4\u01de"+
-    "\1\0\1\60\2\u01df\1\60\13\u01df\1\60\7\u01df\1\60"+
-    "\1\u01df\17\0\1\60\1\u01df\2\60\2\u01df\1\60\2\0"+
-    "\2\60\4\u01df\1\0\1\60\2\u01e0\1\60\13\u01e0\1\60"+
-    "\7\u01e0\1\60\1\u01e0\17\0\1\60\1\u01e0\2\60\2\u01e0"+
-    "\1\60\2\0\2\60\4\u01e0\1\0\1\60\2\u01e1\1\60"+
-    "\13\u01e1\1\60\7\u01e1\1\60\1\u01e1\17\0\1\60\1\u01e1"+
-    "\2\60\2\u01e1\1\60\2\0\2\60\4\u01e1\1\0\1\60"+
-    "\2\u01e2\1\60\13\u01e2\1\60\7\u01e2\1\60\1\u01e2\17\0"+
-    "\1\60\1\u01e2\2\60\2\u01e2\1\60\2\0\2\60\4\u01e2"+
-    "\1\0\1\60\2\u01e3\1\60\13\u01e3\1\60\7\u01e3\1\60"+
-    "\1\u01e3\17\0\1\60\1\u01e3\2\60\2\u01e3\1\60\2\0"+
-    "\2\60\4\u01e3\1\0\1\60\2\u01e4\1\60\13\u01e4\1\60"+
-    "\7\u01e4\1\60\1\u01e4\17\0\1\60\1\u01e4\2\60\2\u01e4"+
-    "\1\60\2\0\2\60\4\u01e4\1\0\1\60\2\u01e5\1\60"+
-    "\13\u01e5\1\60\7\u01e5\1\60\1\u01e5\17\0\1\60\1\u01e5"+
-    "\2\60\2\u01e5\1\60\2\0\2\60\4\u01e5\1\0\1\60"+
-    "\2\u01e6\1\60\13\u01e6\1\60\7\u01e6\1\60\1\u01e6\17\0"+
-    "\1\60\1\u01e6\2\60\2\u01e6\1\60\2\0\2\60\4\u01e6"+
-    "\1\0\1\60\2\u01e7\1\60\13\u01e7\1\60\7\u01e7\1\60"+
-    "\1\u01e7\17\0\1\60\1\u01e7\2\60\2\u01e7\1\60\2\0"+
-    "\2\60\4\u01e7\1\0\1\60\2\u01e8\1\60\13\u01e8\1\60"+
-    "\7\u01e8\1\60\1\u01e8\17\0\1\60\1\u01e8\2\60\2\u01e8"+
-    "\1\60\2\0\2\60\4\u01e8\1\0\1\60\2\u01e9\1\60"+
-    "\13\u01e9\1\60\7\u01e9\1\60\1\u01e9\17\0\1\60\1\u01e9"+
-    "\2\60\2\u01e9\1\60\2\0\2\60\4\u01e9\1\0\1\60"+
-    "\2\u01ea\1\60\13\u01ea\1\60\7\u01ea\1\60\1\u01ea\17\0"+
-    "\1\60\1\u01ea\2\60\2\u01ea\1\60\2\0\2\60\4\u01ea"+
-    "\1\0\1\60\2\u01eb\1\60\13\u01eb\1\60\7\u01eb\1\60"+
-    "\1\u01eb\17\0\1\60\1\u01eb\2\60\2\u01eb\1\60\2\0"+
-    "\2\60\4\u01eb\1\0\1\60\2\u01ec\1\60\13\u01ec\1\60"+
-    "\7\u01ec\1\60\1\u01ec\17\0\1\60\1\u01ec\2\60\2\u01ec"+
-    "\1\60\2\0\2\60\4\u01ec\1\0\1\60\2\u01ed\1\60"+
-    "\13\u01ed\1\60\7\u01ed\1\60\1\u01ed\17\0\1\60\1\u01ed"+
-    "\2\60\2\u01ed\1\60\2\0\2\60\4\u01ed\1\0\1\60"+
-    "\2\u01ee\1\60\13\u01ee\1\60\7\u01ee\1\60\1\u01ee\17\0"+
-    "\1\60\1\u01ee\2\60\2\u01ee\1\60\2\0\2\60\4\u01ee"+
-    "\1\0\1\60\2\u01ef\1\60\13\u01ef\1\60\7\u01ef\1\60"+
-    "\1\u01ef\17\0\1\60\1\u01ef\2\60\2\u01ef\1\60\2\0"+
-    "\2\60\4\u01ef\1\0\1\60\2\u01f0\1\60\13\u01f0\1\60"+
-    "\7\u01f0\1\60\1\u01f0\17\0\1\60\1\u01f0\2\60\2\u01f0"+
-    "\1\60\2\0\2\60\4\u01f0\1\0\1\60\2\u01f1\1\60"+
-    "\13\u01f1\1\60\7\u01f1\1\60\1\u01f1\17\0\1\60\1\u01f1"+
-    "\2\60\2\u01f1\1\60\2\0\2\60\4\u01f1\1\0\1\60"+
-    "\2\u01f2\1\60\13\u01f2\1\60\7\u01f2\1\60\1\u01f2\17\0"+
-    "\1\60\1\u01f2\2\60\2\u01f2\1\60\2\0\2\60\4\u01f2"+
-    "\1\0\1\60\2\u01f3\1\60\13\u01f3\1\60\7\u01f3\1\60"+
-    "\1\u01f3\17\0\1\60\1\u01f3\2\60\2\u01f3\1\60\2\0"+
-    "\2\60\4\u01f3\1\0\1\60\2\u01f4\1\60\13\u01f4\1\60"+
-    "\7\u01f4\1\60\1\u01f4\17\0\1\60\1\u01f4\2\60\2\u01f4"+
-    "\1\60\2\0\2\60\4\u01f4\1\0\1\60\2\u01f5\1\60"+
-    "\13\u01f5\1\60\7\u01f5\1\60\1\u01f5\17\0\1\60\1\u01f5"+
-    "\2\60\2\u01f5\1\60\2\0\2\60\4\u01f5\1\0\1\60"+
-    "\2\u01f6\1\60\13\u01f6\1\60\7\u01f6\1\60\1\u01f6\17\0"+
-    "\1\60\1\u01f6\2\60\2\u01f6\1\60\2\0\2\60\4\u01f6"+
-    "\1\0\1\60\2\u01f7\1\60\13\u01f7\1\60\7\u01f7\1\60"+
-    "\1\u01f7\17\0\1\60\1\u01f7\2\60\2\u01f7\1\60\2\0"+
-    "\2\60\4\u01f7\1\0\1\60\2\u01f8\1\60\13\u01f8\1\60"+
-    "\7\u01f8\1\60\1\u01f8\17\0\1\60\1\u01f8\2\60\2\u01f8"+
-    "\1\60\2\0\2\60\4\u01f8\1\0\1\60\2\u01f9\1\60"+
-    "\13\u01f9\1\60\7\u01f9\1\60\1\u01f9\17\0\1\60\1\u01f9"+
-    "\2\60\2\u01f9\1\60\2\0\2\60\4\u01f9\1\0\1\60"+
-    "\2\u01fa\1\60\13\u01fa\1\60\7\u01fa\1\60\1\u01fa\17\0"+
-    "\1\60\1\u01fa\2\60\2\u01fa\1\60\2\0\2\60\4\u01fa"+
-    "\1\0\1\60\2\u01fb\1\60\13\u01fb\1\60\7\u01fb\1\60"+
-    "\1\u01fb\17\0\1\60\1\u01fb\2\60\2\u01fb\1\60\2\0"+
-    "\2\60\4\u01fb\1\0\1\60\2\u01fc\1\60\13\u01fc\1\60"+
-    "\7\u01fc\1\60\1\u01fc\17\0\1\60\1\u01fc\2\60\2\u01fc"+
-    "\1\60\2\0\2\60\4\u01fc\1\0\1\60\2\u01fd\1\60"+
-    "\13\u01fd\1\60\7\u01fd\1\60\1\u01fd\17\0\1\60\1\u01fd"+
-    "\2\60\2\u01fd\1\60\2\0\2\60\4\u01fd\1\0\1\60"+
-    "\2\u01fe\1\60\13\u01fe\1\60\7\u01fe\1\60\1\u01fe\17\0"+
-    "\1\60\1\u01fe\2\60\2\u01fe\1\60\2\0\2\60\4\u01fe"+
-    "\1\0\1\60\2\u01ff\1\60\13\u01ff\1\60\7\u01ff\1\60"+
-    "\1\u01ff\17\0\1\60\1\u01ff\2\60\2\u01ff\1\60\2\0"+
-    "\2\60\4\u01ff\1\0\1\60\2\u0200\1\60\13\u0200\1\60"+
-    "\7\u0200\1\60\1\u0200\17\0\1\60\1\u0200\2\60\2\u0200"+
-    "\1\60\2\0\2\60\4\u0200\1\0\1\60\2\u0201\1\60"+
-    "\13\u0201\1\60\7\u0201\1\60\1\u0201\17\0\1\60\1\u0201"+
-    "\2\60\2\u0201\1\60\2\0\2\60\4\u0201\1\0\1\60"+
-    "\2\u0202\1\60\13\u0202\1\60\7\u0202\1\60\1\u0202\17\0"+
-    "\1\60\1\u0202\2\60\2\u0202\1\60\2\0\2\60\4\u0202"+
-    "\1\0\1\60\2\u0203\1\60\13\u0203\1\60\7\u0203\1\60"+
-    "\1\u0203\17\0\1\60\1\u0203\2\60\2\u0203\1\60\2\0"+
-    "\2\60\4\u0203\1\0\1\60\2\u0204\1\60\13\u0204\1\60"+
-    "\7\u0204\1\60\1\u0204\17\0\1\60\1\u0204\2\60\2\u0204"+
-    "\1\60\2\0\2\60\4\u0204\1\0\1\60\2\u0205\1\60"+
-    "\13\u0205\1\60\7\u0205\1\60\1\u0205\17\0\1\60\1\u0205"+
-    "\2\60\2\u0205\1\60\2\0\2\60\4\u0205\1\0\1\60"+
-    "\2\u0206\1\60\13\u0206\1\60\7\u0206\1\60\1\u0206\17\0"+
-    "\1\60\1\u0206\2\60\2\u0206\1\60\2\0\2\60\4\u0206"+
-    "\1\0\1\60\2\u0207\1\60\13\u0207\1\60\7\u0207\1\60"+
-    "\1\u0207\17\0\1\60\1\u0207\2\60\2\u0207\1\60\2\0"+
-    "\2\60\4\u0207\1\0\1\60\2\u0208\1\60\13\u0208\1\60"+
-    "\7\u0208\1\60\1\u0208\17\0\1\60\1\u0208\2\60\2\u0208"+
-    "\1\60\2\0\2\60\4\u0208\1\0\1\60\2\u0209\1\60"+
-    "\13\u0209\1\60\7\u0209\1\60\1\u0209\17\0\1\60\1\u0209"+
-    "\2\60\2\u0209\1\60\2\0\2\60\4\u0209\1\0\1\60"+
-    "\2\u020a\1\60\13\u020a\1\60\7\u020a\1\60\1\u020a\17\0"+
-    "\1\60\1\u020a\2\60\2\u020a\1\60\2\0\2\60\4\u020a"+
-    "\1\0\1\60\2\u020b\1\60\13\u020b\1\60\7\u020b\1\60"+
-    "\1\u020b\17\0\1\60\1\u020b\2\60\2\u020b\1\60\2\0"+
-    "\2\60\4\u020b\1\0\1\60\2\u020c\1\60\13\u020c\1\60"+
-    "\7\u020c\1\60\1\u020c\17\0\1\60\1\u020c\2\60\2\u020c"+
-    "\1\60\2\0\2\60\4\u020c\1\0\1\60\2\u020d\1\60"+
-    "\13\u020d\1\60\7\u020d\1\60\1\u020d\17\0\1\60\1\u020d"+
-    "\2\60\2\u020d\1\60\2\0\2\60\4\u020d\1\0\1\60"+
-    "\2\u020e\1\60\13\u020e\1\60\7\u020e\1\60\1\u020e\17\0"+
-    "\1\60\1\u020e\2\60\2\u020e\1\60\2\0\2\60\4\u020e"+
-    "\1\0\1\60\2\u020f\1\60\13\u020f\1\60\7\u020f\1\60"+
-    "\1\u020f\17\0\1\60\1\u020f\2\60\2\u020f\1\60\2\0"+
-    "\2\60\4\u020f\1\0\1\60\2\u0210\1\60\13\u0210\1\60"+
-    "\7\u0210\1\60\1\u0210\17\0\1\60\1\u0210\2\60\2\u0210"+
-    "\1\60\2\0\2\60\4\u0210\1\0\1\60\2\u0211\1\60"+
-    "\13\u0211\1\60\7\u0211\1\60\1\u0211\17\0\1\60\1\u0211"+
-    "\2\60\2\u0211\1\60\2\0\2\60\4\u0211\1\0\1\60"+
-    "\2\u0212\1\60\13\u0212\1\60\7\u0212\1\60\1\u0212\17\0"+
-    "\1\60\1\u0212\2\60\2\u0212\1\60\2\0\2\60\4\u0212"+
-    "\1\0\1\60\2\u0213\1\60\13\u0213\1\60\7\u0213\1\60"+
-    "\1\u0213\17\0\1\60\1\u0213\2\60\2\u0213\1\60\2\0"+
-    "\2\60\4\u0213\1\0\1\60\2\u0214\1\60\13\u0214\1\60"+
-    "\7\u0214\1\60\1\u0214\17\0\1\60\1\u0214\2\60\2\u0214"+
-    "\1\60\2\0\2\60\4\u0214\1\0\1\60\2\u0215\1\60"+
-    "\13\u0215\1\60\7\u0215\1\60\1\u0215\17\0\1\60\1\u0215"+
-    "\2\60\2\u0215\1\60\2\0\2\60\4\u0215\1\0\1\60"+
-    "\2\u0216\1\60\13\u0216\1\60\7\u0216\1\60\1\u0216\17\0"+
-    "\1\60\1\u0216\2\60\2\u0216\1\60\2\0\2\60\4\u0216"+
-    "\1\0\1\60\2\u0217\1\60\13\u0217\1\60\7\u0217\1\60"+
-    "\1\u0217\17\0\1\60\1\u0217\2\60\2\u0217\1\60\2\0"+
-    "\2\60\4\u0217\1\0\1\60\2\u0218\1\60\13\u0218\1\60"+
-    "\7\u0218\1\60\1\u0218\17\0\1\60\1\u0218\2\60\2\u0218"+
-    "\1\60\2\0\2\60\4\u0218\1\0\1\60\2\u0219\1\60"+
-    "\13\u0219\1\60\7\u0219\1\60\1\u0219\17\0\1\60\1\u0219"+
-    "\2\60\2\u0219\1\60\2\0\2\60\4\u0219\1\0\1\60"+
-    "\2\u021a\1\60\13\u021a\1\60\7\u021a\1\60\1\u021a\17\0"+
-    "\1\60\1\u021a\2\60\2\u021a\1\60\2\0\2\60\4\u021a"+
-    "\1\0\1\60\2\u021b\1\60\13\u021b\1\60\7\u021b\1\60"+
-    "\1\u021b\17\0\1\60\1\u021b\2\60\2\u021b\1\60\2\0"+
-    "\2\60\4\u021b\1\0\1\60\2\u021c\1\60\13\u021c\1\60"+
-    "\7\u021c\1\60\1\u021c\17\0\1\60\1\u021c\2\60\2\u021c"+
-    "\1\60\2\0\2\60\4\u021c\1\0\1\60\2\u021d\1\60"+
-    "\13\u021d\1\60\7\u021d\1\60\1\u021d\17\0\1\60\1\u021d"+
-    "\2\60\2\u021d\1\60\2\0\2\60\4\u021d\1\0\1\60"+
-    "\2\u021e\1\60\13\u021e\1\60\7\u021e\1\60\1\u021e\17\0"+
-    "\1\60\1\u021e\2\60\2\u021e\1\60\2\0\2\60\4\u021e"+
-    "\1\0\1\60\2\u021f\1\60\13\u021f\1\60\7\u021f\1\60"+
-    "\1\u021f\17\0\1\60\1\u021f\2\60\2\u021f\1\60\2\0"+
-    "\2\60\4\u021f\1\0\1\60\2\u0220\1\60\13\u0220\1\60"+
-    "\7\u0220\1\60\1\u0220\17\0\1\60\1\u0220\2\60\2\u0220"+
-    "\1\60\2\0\2\60\4\u0220\1\0\1\60\2\u0221\1\60"+
-    "\13\u0221\1\60\7\u0221\1\60\1\u0221\17\0\1\60\1\u0221"+
-    "\2\60\2\u0221\1\60\2\0\2\60\4\u0221\1\0\1\60"+
-    "\2\u0222\1\60\13\u0222\1\60\7\u0222\1\60\1\u0222\17\0"+
-    "\1\60\1\u0222\2\60\2\u0222\1\60\2\0\2\60\4\u0222"+
-    "\1\0\1\60\2\u0223\1\60\13\u0223\1\60\7\u0223\1\60"+
-    "\1\u0223\17\0\1\60\1\u0223\2\60\2\u0223\1\60\2\0"+
-    "\2\60\4\u0223\1\0\1\60\2\u0224\1\60\13\u0224\1\60"+
-    "\7\u0224\1\60\1\u0224\17\0\1\60\1\u0224\2\60\2\u0224"+
-    "\1\60\2\0\2\60\4\u0224\1\0";
+    "\1\22\1\23\1\24\1\25\1\2\1\26\1\24\2\7"+
+    "\1\27\2\30\1\31\1\2\1\30\5\0\2\2\14\0"+
+    "\1\2\2\0\4\2\7\0\1\32\40\0\1\33\40\0"+
+    "\1\34\74\0\1\35\4\0\2\7\13\0\1\35\1\7"+
+    "\2\35\4\7\1\35\2\0\2\35\10\0\1\36\1\0"+
+    "\1\37\35\0\1\40\33\0\1\41\43\0\1\42\53\0"+
+    "\1\43\2\0\2\43\15\0\2\44\12\0\1\45\1\0"+
+    "\1\24\2\0\2\24\2\44\6\0\25\25\1\46\12\25"+
+    "\5\0\2\44\12\0\1\45\1\0\1\47\2\0\2\50"+
+    "\1\51\1\44\6\0\32\27\1\52\2\53\3\27\33\0"+
+    "\2\30\2\0\1\30\33\54\1\0\1\55\1\56\1\57"+
+    "\1\54\1\35\4\0\2\60\13\0\1\35\1\60\2\35"+
+    "\4\60\1\35\2\0\2\35\1\0\3\41\1\61\34\41"+
+    "\5\0\2\44\14\0\1\44\2\0\4\44\31\0\1\62"+
+    "\2\0\2\62\15\0\2\44\12\0\1\45\1\0\1\47"+
+    "\2\0\2\47\2\44\13\0\2\44\12\0\1\45\1\0"+
+    "\1\47\2\0\2\50\2\44\13\0\1\63\1\44\14\0"+
+    "\1\63\2\0\2\63\1\44\1\63\6\0\32\53\1\64"+
+    "\5\53\33\65\1\0\1\66\1\67\2\65\33\66\1\0"+
+    "\1\66\1\67\2\66\33\65\1\0\1\66\1\70\2\65"+
+    "\5\0\2\60\14\0\1\60\2\0\4\60\6\0\15\41"+
+    "\1\46\22\41\23\0\1\62\2\0\2\62\1\0\1\71"+
+    "\6\0\33\65\1\0\1\66\1\56\2\65\33\66\1\0"+
+    "\1\66\1\56\2\66\35\0\1\67\3\0\2\72\20\0"+
+    "\1\73\2\0\2\73\33\0\1\73\2\0\2\73\10\0";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[24304];
+    int [] result = new int[1184];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -1212,25 +192,17 @@ public class Scanner implements java_cup.runtime.Scanner {
   /**
    * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
    */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
+  private static final int [] ZZ_ATTRIBUTE = tabla(TableImage.ZZ_ATTRIBUTE, Scanner.ZZ_ATTRIBUTE_PACKED_0);
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\1\0\31\1\2\11\2\1\2\11\1\1\3\11\13\1"+
-    "\1\0\2\1\1\0\13\1\1\0\11\1\1\0\3\1"+
-    "\1\0\14\1\1\0\2\1\1\0\4\1\1\0\3\1"+
-    "\6\11\1\1\1\11\3\1\1\11\3\1\1\11\1\0"+
-    "\1\1\1\0\1\11\11\1\1\0\16\1\1\0\4\1"+
-    "\1\0\7\1\1\0\13\1\1\0\7\1\1\0\2\1"+
-    "\1\0\10\1\1\0\1\1\1\0\2\1\1\11\1\1"+
-    "\1\0\1\11\14\1\1\0\1\1\1\0\3\1\1\11"+
-    "\1\1\1\0\22\1\1\0\5\1\1\0\16\1\1\0"+
-    "\5\1\2\0\1\1\1\0\11\1\1\0\13\1\1\0"+
-    "\23\1\1\0\12\1\1\11\10\1\1\11\11\1\1\0"+
-    "\117\1\1\0\1\1\1\0\2\1\1\0\4\1\1\11"+
-    "\165\1";
+    "\1\0\4\1\1\11\1\1\1\11\2\1\2\11\1\1"+
+    "\3\11\11\1\3\11\1\0\3\11\1\1\1\11\3\1"+
+    "\1\11\3\1\1\11\1\0\1\1\1\0\1\11\2\1"+
+    "\1\0\2\1\1\11\1\1\1\0\1\11\1\1\2\0"+
+    "\1\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[548];
+    int [] result = new int[59];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -1306,6 +278,27 @@ public class Scanner implements java_cup.runtime.Scanner {
   private int zzFinalHighSurrogate = 0;
 
   /* user code: */
+// Tablas de JFlex desde la imagen de parser.TableImage; si no hay imagen o es
+// de otra versión del scanner, se decodifican los strings como siempre
+// (TableGen --patch hace que las tablas de arriba pasen por acá)
+private static char [] tablaCMap(String packed) {
+    char [] t = TableImage.charMap(packed);
+    return (t != null) ? t : zzUnpackCMap(packed);
+}
+
+private static int [] tabla(int seccion, String packed) {
+    int [] t = TableImage.intTable(seccion, packed);
+    if (t != null) {
+        return t;
+    }
+    switch (seccion) {
+        case TableImage.ZZ_ACTION:    return zzUnpackAction();
+        case TableImage.ZZ_ROWMAP:    return zzUnpackRowMap();
+        case TableImage.ZZ_TRANS:     return zzUnpackTrans();
+        default:                      return zzUnpackAttribute();
+    }
+}
+
 // Lista para guardar errores léxicos
 private ArrayList<String> errores = new ArrayList<>();
 
@@ -1313,51 +306,38 @@ public ArrayList<String> getErrores() {
     return errores;
 }
 
-// Mapa para tokens aceptados
-private HashMap<String, TokenInfo> tokensAceptados = new HashMap<>();
+// Estadísticas de tokens aceptados (TokenStats.NONE si nadie las va a mostrar)
+private TokenStats tokenStats = TokenStats.counting();
 
-// Clase auxiliar para almacenar info de token
-private static class TokenInfo {
-    String tipo;
-    HashMap<Integer, Integer> lineas = new HashMap<>();
+public void setTokenStats(TokenStats stats) {
+    tokenStats = stats;
+}
 
-    TokenInfo(String tipo) {
-        this.tipo = tipo;
-    } 
+public TokenStats getTokenStats() {
+    return tokenStats;
+}
 
-    void agregarLinea(int linea) {
-        lineas.put(linea, lineas.getOrDefault(linea, 0) + 1);
-    }
+// Largo máximo de un identificador (uno más largo es error léxico)
+private static final int MAX_IDENTIFICADOR = 127;
+
+// Identificadores, palabras reservadas y operadores internados (ver IdentifierTable)
+private final IdentifierTable ids = IdentifierTable.current();
+
+// Lexema actual internado: no asigna un String si la grafía ya apareció
+private String texto() {
+    return ids.intern(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead);
 }
 
 // Método para registrar tokens válidos
 private void registrarToken(String token, String tipo) {
-    token = token.toUpperCase(); 
-    TokenInfo info = tokensAceptados.get(token);
-    if(info == null) {
-        info = new TokenInfo(tipo);
-        tokensAceptados.put(token, info);
+    if (tokenStats.isEnabled()) {
+        tokenStats.record(token.toUpperCase(), tipo, yyline + 1);
     }
-    info.agregarLinea(yyline + 1); 
 }
 
 // Método para mostrar tabla al final
 public void imprimirTokens() {
-    System.out.printf("%-20s %-25s %s\n", "Token", "Tipo de Token", "Líneas");
-    System.out.println("----------------------------------------------------------");
-    List<String> claves = new ArrayList<>(tokensAceptados.keySet());
-    Collections.sort(claves); // orden alfabético
-    for(String token : claves) {
-        TokenInfo info = tokensAceptados.get(token);
-        StringBuilder sb = new StringBuilder();
-        for(Map.Entry<Integer, Integer> e : info.lineas.entrySet()) {
-            sb.append(e.getKey());
-            if(e.getValue() > 1) sb.append("(").append(e.getValue()).append(")");
-            sb.append(", ");
-        }
-        if(sb.length() >= 2) sb.setLength(sb.length() - 2); // quitar última coma
-        System.out.printf("%-20s %-25s %s\n", token, info.tipo, sb.toString());
-    }
+    tokenStats.print();
 }
 
 // Método auxiliar para combinar registro y creación de símbolo
@@ -1366,6 +346,14 @@ private Symbol crearSymbol(int symType, String token, String tipoToken) {
     return new Symbol(symType, yyline, yycolumn, token);
 }
 
+// Igual que crearSymbol para lexemas internados: la forma en mayúsculas sale de la tabla
+private Symbol crearSymbolInternado(int symType, String token, String tipoToken) {
+    if (tokenStats.isEnabled()) {
+        tokenStats.record(ids.upper(token), tipoToken, yyline + 1);
+    }
+    return new Symbol(symType, yyline, yycolumn, token);
+}
+
 
   /**
    * Creates a new scanner
@@ -1387,7 +375,7 @@ private Symbol crearSymbol(int symType, String token, String tipoToken) {
     char [] map = new char[0x110000];
     int i = 0;  /* index in packed string  */
     int j = 0;  /* index in unpacked array */
-    while (i < 234) {
+    while (i < 202) {
       int  count = packed.charAt(i++);
       char value = packed.charAt(i++);
       do map[j++] = value; while (--count > 0);
@@ -1754,524 +742,233 @@ private Symbol crearSymbol(int symType, String token, String tipoToken) {
             { errores.add("Error en línea " + (yyline+1) + ", columna " + (yycolumn+1) + ": identificador inválido, no puede iniciar con símbolo. Texto: " + yytext());
             } 
             // fall through
-          case 103: break;
+          case 43: break;
           case 2: 
-            { return crearSymbol(sym.IDENTIFICADOR, yytext(), "IDENTIFICADOR");
+            { return crearSymbolInternado(sym.MAS, texto(), "OPERADOR");
             } 
             // fall through
-          case 104: break;
+          case 44: break;
           case 3: 
-            { return crearSymbol(sym.MAS, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.MENOS, texto(), "OPERADOR");
             } 
             // fall through
-          case 105: break;
+          case 45: break;
           case 4: 
-            { return crearSymbol(sym.MENOS, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.POR, texto(), "OPERADOR");
             } 
             // fall through
-          case 106: break;
+          case 46: break;
           case 5: 
-            { return crearSymbol(sym.POR, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.DIVISION, texto(), "OPERADOR");
             } 
             // fall through
-          case 107: break;
+          case 47: break;
           case 6: 
-            { return crearSymbol(sym.DIVISION, yytext(), "OPERADOR");
+            { int largo = yylength();
+    if (largo > MAX_IDENTIFICADOR) {
+        errores.add("Error en línea " + (yyline+1) + ", columna " + (yycolumn+1) + ": identificador inválido, excede el máximo de 127 caracteres. Texto: " + yytext());
+    } else {
+        int reservada = Keywords.lookup(zzBuffer, zzStartRead, largo);
+        if (reservada >= 0) {
+            return crearSymbolInternado(reservada, texto(), "PALABRA RESERVADA");
+        }
+        return crearSymbolInternado(sym.IDENTIFICADOR, texto(), "IDENTIFICADOR");
+    }
             } 
             // fall through
-          case 108: break;
+          case 48: break;
           case 7: 
-            { return crearSymbol(sym.IGUAL, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.IGUAL, texto(), "OPERADOR");
             } 
             // fall through
-          case 109: break;
+          case 49: break;
           case 8: 
-            { return crearSymbol(sym.MENOR, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.MENOR, texto(), "OPERADOR");
             } 
             // fall through
-          case 110: break;
+          case 50: break;
           case 9: 
-            { return crearSymbol(sym.MAYOR, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.MAYOR, texto(), "OPERADOR");
             } 
             // fall through
-          case 111: break;
+          case 51: break;
           case 10: 
-            { return crearSymbol(sym.COMA, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.COMA, texto(), "OPERADOR");
             } 
             // fall through
-          case 112: break;
+          case 52: break;
           case 11: 
-            { return crearSymbol(sym.PUNTO_COMA, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.PUNTO_COMA, texto(), "OPERADOR");
             } 
             // fall through
-          case 113: break;
+          case 53: break;
           case 12: 
-            { return crearSymbol(sym.PARENTESIS_IZQ, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.PARENTESIS_IZQ, texto(), "OPERADOR");
             } 
             // fall through
-          case 114: break;
+          case 54: break;
           case 13: 
-            { return crearSymbol(sym.PARENTESIS_DER, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.PARENTESIS_DER, texto(), "OPERADOR");
             } 
             // fall through
-          case 115: break;
+          case 55: break;
           case 14: 
-            { return crearSymbol(sym.CORCHETE_IZQ, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.CORCHETE_IZQ, texto(), "OPERADOR");
             } 
             // fall through
-          case 116: break;
+          case 56: break;
           case 15: 
-            { return crearSymbol(sym.CORCHETE_DER, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.CORCHETE_DER, texto(), "OPERADOR");
             } 
             // fall through
-          case 117: break;
+          case 57: break;
           case 16: 
-            { return crearSymbol(sym.DOS_PUNTOS, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.DOS_PUNTOS, texto(), "OPERADOR");
             } 
             // fall through
-          case 118: break;
+          case 58: break;
           case 17: 
-            { return crearSymbol(sym.PUNTO, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.PUNTO, texto(), "OPERADOR");
             } 
             // fall through
-          case 119: break;
+          case 59: break;
           case 18: 
-            { return crearSymbol(sym.PUNTERO, yytext(), "OPERADOR");
+            { return crearSymbolInternado(sym.PUNTERO, texto(), "OPERADOR");
             } 
             // fall through
-          case 120: break;
+          case 60: break;
           case 19: 
             { return crearSymbol(sym.LIT_ENTERO, yytext(), "LITERAL ENTERO");
             } 
             // fall through
-          case 121: break;
+          case 61: break;
           case 20: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", comentario '{' sin cerrar. Texto: " + yytext());
             } 
             // fall through
-          case 122: break;
+          case 62: break;
           case 21: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", columna " + (yycolumn+1) +
                 ": string sin cerrar. Texto: " + yytext());
             } 
             // fall through
-          case 123: break;
+          case 63: break;
           case 22: 
             { /* Ignorar */
             } 
             // fall through
-          case 124: break;
+          case 64: break;
           case 23: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", columna " + (yycolumn+1) +
                 ": carácter sin cerrar. Texto: " + yytext());
             } 
             // fall through
-          case 125: break;
+          case 65: break;
           case 24: 
-            { return crearSymbol(sym.OR, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.INCREMENTO, texto(), "OPERADOR");
             } 
             // fall through
-          case 126: break;
+          case 66: break;
           case 25: 
-            { return crearSymbol(sym.OF, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.DECREMENTO, texto(), "OPERADOR");
             } 
             // fall through
-          case 127: break;
+          case 67: break;
           case 26: 
-            { return crearSymbol(sym.TO, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.POTENCIA, texto(), "OPERADOR");
             } 
             // fall through
-          case 128: break;
+          case 68: break;
           case 27: 
-            { return crearSymbol(sym.DO, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.MENOR_IGUAL, texto(), "OPERADOR");
             } 
             // fall through
-          case 129: break;
+          case 69: break;
           case 28: 
-            { return crearSymbol(sym.IN, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.DIFERENTE, texto(), "OPERADOR");
             } 
             // fall through
-          case 130: break;
+          case 70: break;
           case 29: 
-            { return crearSymbol(sym.IF, yytext(), "PALABRA RESERVADA");
+            { return crearSymbolInternado(sym.MAYOR_IGUAL, texto(), "OPERADOR");
             } 
             // fall through
-          case 131: break;
+          case 71: break;
           case 30: 
-            { return crearSymbol(sym.INCREMENTO, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 132: break;
-          case 31: 
-            { return crearSymbol(sym.DECREMENTO, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 133: break;
-          case 32: 
-            { return crearSymbol(sym.POTENCIA, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 134: break;
-          case 33: 
-            { return crearSymbol(sym.MENOR_IGUAL, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 135: break;
-          case 34: 
-            { return crearSymbol(sym.DIFERENTE, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 136: break;
-          case 35: 
-            { return crearSymbol(sym.MAYOR_IGUAL, yytext(), "OPERADOR");
-            } 
-            // fall through
-          case 137: break;
-          case 36: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", comentario '(*' sin cerrar. Texto: " + yytext());
             } 
             // fall through
-          case 138: break;
-          case 37: 
-            { return crearSymbol(sym.ASIGNACION, yytext(), "OPERADOR");
+          case 72: break;
+          case 31: 
+            { return crearSymbolInternado(sym.ASIGNACION, texto(), "OPERADOR");
             } 
             // fall through
-          case 139: break;
-          case 38: 
+          case 73: break;
+          case 32: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", columna " + (yycolumn+1) +
                 ": número real incorrecto. Texto: " + yytext());
             } 
             // fall through
-          case 140: break;
-          case 39: 
+          case 74: break;
+          case 33: 
             { errores.add("Error en línea " + (yyline+1) + ", columna " + (yycolumn+1) + ": identificador inválido, no puede iniciar con un número. Texto: " + yytext());
             } 
             // fall through
-          case 141: break;
-          case 40: 
+          case 75: break;
+          case 34: 
             { registrarToken(yytext(), "COMENTARIO");
             } 
             // fall through
-          case 142: break;
-          case 41: 
+          case 76: break;
+          case 35: 
             { return crearSymbol(sym.LIT_OCTAL, yytext(), "LITERAL OCTAL");
             } 
             // fall through
-          case 143: break;
-          case 42: 
+          case 77: break;
+          case 36: 
             { return crearSymbol(sym.LIT_STRING, yytext(), "LITERAL STRING");
             } 
             // fall through
-          case 144: break;
-          case 43: 
+          case 78: break;
+          case 37: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", columna " + (yycolumn+1) +
                 ": carácter inválido. Texto: " + yytext());
             } 
             // fall through
-          case 145: break;
-          case 44: 
+          case 79: break;
+          case 38: 
             { errores.add("Error en línea " + (yyline+1) + ", columna " + (yycolumn+1) + ": identificador inválido, solo se permiten letras y dígitos. Texto: " + yytext());
             } 
             // fall through
-          case 146: break;
-          case 45: 
-            { return crearSymbol(sym.ASM, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 147: break;
-          case 46: 
-            { return crearSymbol(sym.AND, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 148: break;
-          case 47: 
-            { return crearSymbol(sym.SET, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 149: break;
-          case 48: 
-            { return crearSymbol(sym.SHL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 150: break;
-          case 49: 
-            { return crearSymbol(sym.SHR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 151: break;
-          case 50: 
-            { return crearSymbol(sym.END, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 152: break;
-          case 51: 
-            { return crearSymbol(sym.NOT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 153: break;
-          case 52: 
-            { return crearSymbol(sym.NIL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 154: break;
-          case 53: 
-            { return crearSymbol(sym.DIV, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 155: break;
-          case 54: 
-            { return crearSymbol(sym.MOD, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 156: break;
-          case 55: 
-            { return crearSymbol(sym.INT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 157: break;
-          case 56: 
-            { return crearSymbol(sym.XOR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 158: break;
-          case 57: 
-            { return crearSymbol(sym.VAR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 159: break;
-          case 58: 
-            { return crearSymbol(sym.FOR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 160: break;
-          case 59: 
+          case 80: break;
+          case 39: 
             { return crearSymbol(sym.LIT_REAL, yytext(), "LITERAL REAL");
             } 
             // fall through
-          case 161: break;
-          case 60: 
+          case 81: break;
+          case 40: 
             { return crearSymbol(sym.LIT_HEX, yytext(), "LITERAL HEXADECIMAL");
             } 
             // fall through
-          case 162: break;
-          case 61: 
+          case 82: break;
+          case 41: 
             { errores.add("Error en línea " + (yyline+1) +
                 ", columna " + (yycolumn+1) +
                 ": string incorrecto. Texto: " + yytext());
             } 
             // fall through
-          case 163: break;
-          case 62: 
+          case 83: break;
+          case 42: 
             { return crearSymbol(sym.LIT_CHAR, yytext(), "LITERAL CARACTER");
             } 
             // fall through
-          case 164: break;
-          case 63: 
-            { return crearSymbol(sym.USES, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 165: break;
-          case 64: 
-            { return crearSymbol(sym.UNIT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 166: break;
-          case 65: 
-            { return crearSymbol(sym.TYPE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 167: break;
-          case 66: 
-            { return crearSymbol(sym.THEN, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 168: break;
-          case 67: 
-            { return crearSymbol(sym.ELSE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 169: break;
-          case 68: 
-            { return crearSymbol(sym.REAL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 170: break;
-          case 69: 
-            { return crearSymbol(sym.READ, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 171: break;
-          case 70: 
-            { return crearSymbol(sym.GOTO, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 172: break;
-          case 71: 
-            { return crearSymbol(sym.CASE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 173: break;
-          case 72: 
-            { return crearSymbol(sym.CHAR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 174: break;
-          case 73: 
-            { return crearSymbol(sym.WITH, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 175: break;
-          case 74: 
-            { return crearSymbol(sym.FILE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 176: break;
-          case 75: 
-            { return crearSymbol(sym.ARRAY, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 177: break;
-          case 76: 
-            { return crearSymbol(sym.BEGIN, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 178: break;
-          case 77: 
-            { return crearSymbol(sym.LABEL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 179: break;
-          case 78: 
-            { return crearSymbol(sym.UNTIL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 180: break;
-          case 79: 
-            { return crearSymbol(sym.CONST, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 181: break;
-          case 80: 
-            { return crearSymbol(sym.WRITE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 182: break;
-          case 81: 
-            { return crearSymbol(sym.WHILE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 183: break;
-          case 82: 
-            { return crearSymbol(sym.STRING, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 184: break;
-          case 83: 
-            { return crearSymbol(sym.OBJECT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 185: break;
-          case 84: 
-            { return crearSymbol(sym.DOWNTO, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 186: break;
-          case 85: 
-            { return crearSymbol(sym.RECORD, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 187: break;
-          case 86: 
-            { return crearSymbol(sym.REPEAT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 188: break;
-          case 87: 
-            { return crearSymbol(sym.INLINE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 189: break;
-          case 88: 
-            { return crearSymbol(sym.PACKED, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 190: break;
-          case 89: 
-            { return crearSymbol(sym.VIRTUAL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 191: break;
-          case 90: 
-            { return crearSymbol(sym.FORWARD, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 192: break;
-          case 91: 
-            { return crearSymbol(sym.PROGRAM, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 193: break;
-          case 92: 
-            { return crearSymbol(sym.PRIVATE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 194: break;
-          case 93: 
-            { return crearSymbol(sym.ABSOLUTE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 195: break;
-          case 94: 
-            { return crearSymbol(sym.EXTERNAL, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 196: break;
-          case 95: 
-            { return crearSymbol(sym.FUNCTION, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 197: break;
-          case 96: 
-            { return crearSymbol(sym.INTERRUPT, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 198: break;
-          case 97: 
-            { return crearSymbol(sym.INTERFACE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 199: break;
-          case 98: 
-            { return crearSymbol(sym.PROCEDURE, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 200: break;
-          case 99: 
-            { return crearSymbol(sym.DESTRUCTOR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 201: break;
-          case 100: 
-            { return crearSymbol(sym.CONSTRUCTOR, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 202: break;
-          case 101: 
-            { return crearSymbol(sym.IMPLEMENTATION, yytext(), "PALABRA RESERVADA");
-            } 
-            // fall through
-          case 203: break;
-          case 102: 
-            { errores.add("Error en línea " + (yyline+1) + ", columna " + (yycolumn+1) + ": identificador inválido, excede el máximo de 127 caracteres. Texto: " + yytext());
-            } 
-            // fall through
-          case 204: break;
+          case 84: break;
           default:
             zzScanError(ZZ_NO_MATCH);
         }
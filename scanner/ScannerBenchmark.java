@@ -0,0 +1,460 @@
+package scanner;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import java_cup.runtime.Symbol;
+import parser.sym;
+
+/**
+ * Benchmark de throughput de Scanner.next_token().
+ *
+ * Mide tokens/s, MB/s y bytes asignados por token (ThreadMXBean) sobre:
+ *   corpus        scanner/test/*.abs repetidos
+ *   ident         muchos identificadores y palabras reservadas
+ *   comentarios   comentarios { } y (* *) largos
+ *   indentado     código muy indentado con bloques de comentarios de
+ *                 varias líneas, como el de los generadores: casi todo
+ *                 blancos y comentarios
+ *   strings       literales de string y char
+ *   numeros       enteros, hexadecimales, octales y reales con exponente
+ *
+ * Las entradas sintéticas salen de un Random con semilla fija, así que dos
+ * corridas con los mismos parámetros escanean exactamente el mismo texto.
+ * El texto se arma en memoria antes de medir (no se mide IO).
+ *
+ * Antes de medir se informa cuánto tarda la inicialización de las clases del
+ * scanner (desempaquetar las tablas del DFA y armar la tabla de Keywords),
+ * que se paga una vez por JVM.
+ *
+ * Con --lexer fast se mide FastScanner (sobre los bytes UTF-8 del mismo
+ * texto) y con --lexer ambos los dos, con la aceleración de cada carga.
+ * Con --lexer escalar se mide FastScanner recorriendo blancos y comentarios
+ * de a un byte (setWordScan(false)), y con --lexer todos jflex, escalar y
+ * fast, con la aceleración de fast sobre los otros dos.
+ * Con --lexer offsets se mide FastScanner con posiciones por offset (sin
+ * contar líneas ni columnas por carácter; la LineTable se arma recién si
+ * hay un error léxico que informar).
+ * Con --lexer buffer se mide el llenado de un TokenBuffer, sin Symbol ni
+ * textos: su B/token es lo que queda guardado por token. Con --lexer paralelo
+ * se mide ParallelLexer (B/token cuenta solo lo asignado por el hilo que
+ * mide, no por los del pool).
+ *
+ * Por defecto el scanner registra la tabla de tokens como en MainScanner;
+ * con --no-stats usa TokenStats.NONE, como en una corrida del parser.
+ *
+ * Uso: java scanner.ScannerBenchmark [--size KB] [--warmup n] [--iter n] [--seed s]
+ *          [--only nombre] [--no-stats] [--lexer jflex|fast|escalar|offsets|buffer|paralelo|ambos|todos] [--csv salida.csv] [--compare anterior.csv]
+ */
+public class ScannerBenchmark {
+
+    // ========================================================================
+    // CARGAS DE TRABAJO
+    // ========================================================================
+
+    private static final String[] KEYWORDS = {
+        "BEGIN", "END", "IF", "THEN", "ELSE", "WHILE", "DO", "FOR", "TO", "VAR", "INT", "CHAR", "WRITE"
+    };
+
+    private static String identifier(Random rnd) {
+        int len = 1 + rnd.nextInt(12);
+        StringBuilder sb = new StringBuilder(len);
+        sb.append((char) ((rnd.nextBoolean() ? 'a' : 'A') + rnd.nextInt(26)));
+        for (int i = 1; i < len; i++) {
+            int r = rnd.nextInt(36);
+            sb.append(r < 26 ? (char) ('a' + r) : (char) ('0' + r - 26));
+        }
+        return sb.toString();
+    }
+
+    private static String identHeavy(Random rnd, int size) {
+        StringBuilder sb = new StringBuilder(size + 128);
+        while (sb.length() < size) {
+            sb.append(KEYWORDS[rnd.nextInt(KEYWORDS.length)]).append(' ');
+            for (int i = 0; i < 6; i++) {
+                sb.append(identifier(rnd)).append(i < 5 ? ", " : " := ");
+            }
+            sb.append(identifier(rnd)).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    private static String commentHeavy(Random rnd, int size) {
+        StringBuilder sb = new StringBuilder(size + 256);
+        while (sb.length() < size) {
+            boolean braces = rnd.nextBoolean();
+            sb.append(braces ? "{ " : "(* ");
+            int words = 5 + rnd.nextInt(30);
+            for (int i = 0; i < words; i++) {
+                sb.append(identifier(rnd)).append(rnd.nextInt(8) == 0 ? "\n" : " ");
+            }
+            sb.append(braces ? "}\n" : "*)\n");
+            sb.append("x := x + 1;\n");
+        }
+        return sb.toString();
+    }
+
+    private static String indented(Random rnd, int size) {
+        StringBuilder sb = new StringBuilder(size + 512);
+        int depth = 1;
+        while (sb.length() < size) {
+            String indent = "    ".repeat(depth);
+            if (rnd.nextInt(4) == 0) {
+                boolean braces = rnd.nextBoolean();
+                sb.append(indent).append(braces ? "{" : "(*").append('\n');
+                int lines = 2 + rnd.nextInt(6);
+                for (int i = 0; i < lines; i++) {
+                    sb.append(indent).append("   ");
+                    int words = 4 + rnd.nextInt(10);
+                    for (int k = 0; k < words; k++) {
+                        sb.append(' ').append(identifier(rnd));
+                    }
+                    sb.append('\n');
+                }
+                sb.append(indent).append(braces ? "}" : "*)").append("\n\n");
+            }
+            sb.append(indent).append(identifier(rnd)).append(" := ").append(identifier(rnd))
+              .append(" + ").append(rnd.nextInt(100)).append(";\n");
+            if (rnd.nextInt(6) == 0) {
+                depth = 1 + rnd.nextInt(8);
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String stringHeavy(Random rnd, int size) {
+        StringBuilder sb = new StringBuilder(size + 256);
+        while (sb.length() < size) {
+            sb.append("WRITE(\"");
+            int words = 1 + rnd.nextInt(10);
+            for (int i = 0; i < words; i++) {
+                sb.append(identifier(rnd)).append(' ');
+            }
+            sb.append("\");\n");
+            sb.append("c := '").append((char) ('a' + rnd.nextInt(26))).append("';\n");
+        }
+        return sb.toString();
+    }
+
+    private static String numberHeavy(Random rnd, int size) {
+        StringBuilder sb = new StringBuilder(size + 128);
+        while (sb.length() < size) {
+            sb.append("n := ");
+            for (int i = 0; i < 6; i++) {
+                switch (rnd.nextInt(4)) {
+                    case 0 -> sb.append(1 + rnd.nextInt(1_000_000));
+                    case 1 -> sb.append("0x").append(Integer.toHexString(rnd.nextInt(1 << 24)).toUpperCase());
+                    case 2 -> sb.append('0').append(Integer.toOctalString(1 + rnd.nextInt(4096)));
+                    default -> sb.append(rnd.nextInt(1000)).append('.').append(rnd.nextInt(1000))
+                                 .append("E").append(rnd.nextBoolean() ? "-" : "+").append(rnd.nextInt(20));
+                }
+                sb.append(i < 5 ? " + " : ";\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String corpus(int size) throws IOException {
+        List<String> parts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(Paths.get("scanner", "test"))) {
+            for (Path p : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".abs")).sorted()::iterator) {
+                parts.add(new String(Files.readAllBytes(p), StandardCharsets.UTF_8));
+            }
+        }
+        if (parts.isEmpty()) {
+            throw new IOException("No hay archivos .abs en scanner/test");
+        }
+        StringBuilder sb = new StringBuilder(size + 4096);
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append(parts.get(i % parts.size())).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Arma todas las entradas (en orden fijo) con la semilla dada
+     */
+    static Map<String, String> workloads(int size, long seed) throws IOException {
+        Map<String, String> w = new LinkedHashMap<>();
+        w.put("corpus", corpus(size));
+        w.put("ident", identHeavy(new Random(seed), size));
+        w.put("comentarios", commentHeavy(new Random(seed + 1), size));
+        w.put("indentado", indented(new Random(seed + 4), size));
+        w.put("strings", stringHeavy(new Random(seed + 2), size));
+        w.put("numeros", numberHeavy(new Random(seed + 3), size));
+        return w;
+    }
+
+    // ========================================================================
+    // MEDICIÓN
+    // ========================================================================
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Resultado de una carga: mediana de tokens/s y bytes asignados por token
+     */
+    static final class Result {
+        final String name;
+        final long tokens;
+        final int chars;
+        final double tokensPerSec;
+        final double mbPerSec;
+        final double bytesPerToken;
+
+        Result(String name, long tokens, int chars, double tokensPerSec, double mbPerSec, double bytesPerToken) {
+            this.name = name;
+            this.tokens = tokens;
+            this.chars = chars;
+            this.tokensPerSec = tokensPerSec;
+            this.mbPerSec = mbPerSec;
+            this.bytesPerToken = bytesPerToken;
+        }
+    }
+
+    // false con --no-stats
+    private static boolean collectStats = true;
+
+    /**
+     * Tiempo de inicialización de Scanner y Keywords; solo vale la primera vez en la JVM
+     */
+    static long classInitNanos() {
+        long t0 = System.nanoTime();
+        try {
+            ClassLoader loader = ScannerBenchmark.class.getClassLoader();
+            Class.forName("scanner.Scanner", true, loader);
+            Class.forName("scanner.Keywords", true, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        return System.nanoTime() - t0;
+    }
+
+    private static Lexer newLexer(String text, byte[] utf8, String lexer) throws IOException {
+        Lexer sc;
+        if (lexer.equals("jflex")) {
+            sc = new Scanner(new StringReader(text));
+        } else {
+            FastScanner fast = new FastScanner(utf8);
+            if (lexer.equals("offsets")) {
+                fast.setLineTable(new LineTable(utf8));
+            }
+            sc = fast;
+        }
+        if (!collectStats) {
+            sc.setTokenStats(TokenStats.NONE);
+        }
+        return sc;
+    }
+
+    private static long scanAll(Lexer sc) throws IOException {
+        long tokens = 0;
+        Symbol t;
+        do {
+            t = sc.next_token();
+            tokens++;
+        } while (t.sym != sym.EOF);
+        return tokens;
+    }
+
+    /**
+     * Llena un TokenBuffer sin pedir ningún Symbol; cuenta el EOF como en scanAll
+     */
+    private static long fillBuffer(byte[] utf8) throws IOException {
+        FastScanner sc = new FastScanner(utf8);
+        if (!collectStats) {
+            sc.setTokenStats(TokenStats.NONE);
+        }
+        return new TokenBuffer(sc).fillAll().size() + 1;
+    }
+
+    private static long run(String text, byte[] utf8, String lexer) throws IOException {
+        return switch (lexer) {
+            case "buffer" -> fillBuffer(utf8);
+            case "paralelo" -> ParallelLexer.scan(utf8).size() + 1;
+            default -> scanAll(newLexer(text, utf8, lexer));
+        };
+    }
+
+    /**
+     * lexer: jflex, fast (FastScanner), escalar (FastScanner de a un byte),
+     * offsets (FastScanner con posiciones por offset y LineTable), buffer (TokenBuffer sobre FastScanner) o
+     * paralelo (ParallelLexer en el pool común), todos menos jflex sobre los
+     * bytes UTF-8 del texto (convertidos antes de medir)
+     */
+    static Result measure(String name, String text, String lexer, int warmup, int iterations) throws IOException {
+        byte[] utf8 = lexer.equals("jflex") ? null : text.getBytes(StandardCharsets.UTF_8);
+        FastScanner.setWordScan(!lexer.equals("escalar"));
+        for (int i = 0; i < warmup; i++) {
+            run(text, utf8, lexer);
+        }
+        long thread = Thread.currentThread().getId();
+        double[] rates = new double[iterations];
+        long tokens = 0;
+        long allocated = 0;
+        for (int i = 0; i < iterations; i++) {
+            long a0 = THREADS.getThreadAllocatedBytes(thread);
+            long t0 = System.nanoTime();
+            tokens = run(text, utf8, lexer);
+            long dt = System.nanoTime() - t0;
+            allocated += THREADS.getThreadAllocatedBytes(thread) - a0;
+            rates[i] = tokens / (dt / 1e9);
+        }
+        Arrays.sort(rates);
+        double median = rates[iterations / 2];
+        double mbPerSec = median * (text.length() / (double) tokens) / (1024.0 * 1024.0);
+        return new Result(name, tokens, text.length(), median, mbPerSec,
+            allocated / (double) (tokens * iterations));
+    }
+
+    // ========================================================================
+    // REPORTES
+    // ========================================================================
+
+    private static void printTable(List<Result> results, Map<String, Double> baseline) {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                     BENCHMARK DEL SCANNER");
+        System.out.println("=".repeat(80));
+        System.out.printf("%-20s %10s %10s %14s %9s %10s%s%n",
+            "Carga", "KB", "Tokens", "tokens/s", "MB/s", "B/token", (baseline != null ? "   vs. base" : ""));
+        System.out.println("-".repeat(80));
+        for (Result r : results) {
+            String delta = "";
+            if (baseline != null && baseline.containsKey(r.name)) {
+                double base = baseline.get(r.name);
+                delta = String.format(Locale.ROOT, "   %+8.1f%%", (r.tokensPerSec / base - 1) * 100);
+            }
+            System.out.printf(Locale.ROOT, "%-20s %10d %10d %14.0f %9.2f %10.1f%s%n",
+                r.name, r.chars / 1024, r.tokens, r.tokensPerSec, r.mbPerSec, r.bytesPerToken, delta);
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    private static final String FAST_SUFFIX = "/fast";
+    private static final String SCALAR_SUFFIX = "/escalar";
+
+    /**
+     * FastScanner contra JFlex en cada carga (modos --lexer ambos y todos) y,
+     * si se midió, contra FastScanner de a un byte
+     */
+    private static void printSpeedup(List<Result> results) {
+        System.out.println("Aceleración de FastScanner (tokens/s):");
+        for (Result fast : results) {
+            if (!fast.name.endsWith(FAST_SUFFIX)) {
+                continue;
+            }
+            String base = fast.name.substring(0, fast.name.length() - FAST_SUFFIX.length());
+            StringBuilder line = new StringBuilder(String.format("  %-12s", base));
+            for (Result other : results) {
+                if (other.name.equals(base)) {
+                    line.append(String.format(Locale.ROOT, "  x%.2f sobre JFlex", fast.tokensPerSec / other.tokensPerSec));
+                } else if (other.name.equals(base + SCALAR_SUFFIX)) {
+                    line.append(String.format(Locale.ROOT, "  x%.2f sobre escalar", fast.tokensPerSec / other.tokensPerSec));
+                }
+            }
+            System.out.println(line);
+        }
+    }
+
+    private static void writeCsv(Path file, List<Result> results) throws IOException {
+        StringBuilder sb = new StringBuilder("carga,chars,tokens,tokens_por_s,mb_por_s,bytes_por_token\n");
+        for (Result r : results) {
+            sb.append(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.2f%n",
+                r.name, r.chars, r.tokens, r.tokensPerSec, r.mbPerSec, r.bytesPerToken));
+        }
+        Files.writeString(file, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lee tokens/s por carga de un CSV escrito antes con --csv
+     */
+    private static Map<String, Double> readCsv(Path file) throws IOException {
+        Map<String, Double> base = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            String[] f = lines.get(i).split(",");
+            if (f.length >= 4) {
+                base.put(f[0], Double.parseDouble(f[3]));
+            }
+        }
+        return base;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int sizeKb = 2048;
+        int warmup = 5;
+        int iterations = 10;
+        long seed = 42;
+        String only = null;
+        String lexer = "jflex";
+        Path csv = null;
+        Path compare = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--size" -> sizeKb = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--iter" -> iterations = Math.max(1, Integer.parseInt(args[++i]));
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--only" -> only = args[++i];
+                case "--no-stats" -> collectStats = false;
+                case "--lexer" -> lexer = args[++i];
+                case "--csv" -> csv = Paths.get(args[++i]);
+                case "--compare" -> compare = Paths.get(args[++i]);
+                default -> {
+                    System.err.println("Uso: java scanner.ScannerBenchmark [--size KB] [--warmup n] [--iter n] [--seed s] "
+                        + "[--only carga] [--no-stats] [--lexer jflex|fast|escalar|offsets|buffer|paralelo|ambos|todos] [--csv salida.csv] [--compare anterior.csv]");
+                    System.exit(1);
+                }
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "Inicialización de clases del scanner: %.2f ms%n", classInitNanos() / 1e6);
+        System.out.printf("Entradas de %d KB, semilla %d, %d calentamientos, %d mediciones, tabla de tokens %s%n",
+            sizeKb, seed, warmup, iterations, collectStats ? "activa" : "desactivada");
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, String> w : workloads(sizeKb * 1024, seed).entrySet()) {
+            if (only != null && !only.equals(w.getKey())) {
+                continue;
+            }
+            boolean todos = lexer.equals("todos");
+            if (lexer.equals("jflex") || lexer.equals("ambos") || todos) {
+                results.add(measure(w.getKey(), w.getValue(), "jflex", warmup, iterations));
+            }
+            if (lexer.equals("escalar") || todos) {
+                results.add(measure(w.getKey() + SCALAR_SUFFIX, w.getValue(), "escalar", warmup, iterations));
+            }
+            if (lexer.equals("fast") || lexer.equals("ambos") || todos) {
+                results.add(measure(w.getKey() + FAST_SUFFIX, w.getValue(), "fast", warmup, iterations));
+            }
+            if (lexer.equals("offsets") || lexer.equals("buffer") || lexer.equals("paralelo")) {
+                results.add(measure(w.getKey() + "/" + lexer, w.getValue(), lexer, warmup, iterations));
+            }
+        }
+
+        printTable(results, (compare != null) ? readCsv(compare) : null);
+        if (lexer.equals("ambos") || lexer.equals("todos")) {
+            printSpeedup(results);
+        }
+        if (csv != null) {
+            writeCsv(csv, results);
+            System.out.println("[BENCH] CSV: " + csv);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package scanner;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+import parser.sym;
+
+/**
+ * Benchmark de peor caso de los scanners: entradas armadas para que las
+ * reglas que miran lejos hacia adelante ({Comentario1MalCerrado},
+ * {Comentario2MalCerrado}, {StringIncorrecto}, {StringSinCerrar},
+ * {CharSinCierre}, {IdentificadorInvalido}) lo hagan una y otra vez, con
+ * tamaños que se duplican.
+ *
+ * Por cada entrada y scanner se estima el exponente de crecimiento del
+ * tiempo (la pendiente de log(ms) contra log(tamaño) por mínimos
+ * cuadrados, en los tres tamaños más grandes: un término cuadrático con
+ * constante chica recién ahí pesa más que la parte lineal): 1 es lineal y
+ * 2 cuadrático. Si alguno pasa de
+ * --max-exponent el programa termina con código 1, así que sirve como
+ * prueba de que el escaneo sigue siendo lineal.
+ *
+ * Scanners: jflex (scanner.Scanner), fast (FastScanner) y paralelo
+ * (ParallelLexer en el pool común, con trozos de --chunk KB, 4 por
+ * defecto: chicos a propósito, para que los comentarios, strings y
+ * blancos crucen muchos límites).
+ *
+ * Las entradas se arman en memoria antes de medir; "mezcla" sale de un
+ * Random con semilla fija. Antes de cada medición se corre el GC.
+ *
+ * Varias entradas tienen un error léxico cada uno o dos bytes, y la lista de
+ * errores (un String por error) crece con la entrada: con un heap chico
+ * (SerialGC, lo que elige la JVM en una máquina de un núcleo) el GC de esa
+ * lista puede dar exponentes de más aunque el escaneo sea lineal. Para
+ * medir solo el scanner conviene un heap inicial grande (-Xms1g).
+ *
+ * Uso: java [-Xms1g] scanner.ScannerStressBenchmark [--sizes KB,KB,...] [--warmup n] [--iter n] [--seed s]
+ *          [--only nombre] [--lexer jflex|fast|paralelo|todos] [--chunk KB] [--max-exponent x]
+ */
+public class ScannerStressBenchmark {
+
+    // ========================================================================
+    // ENTRADAS
+    // ========================================================================
+
+    private static String repeat(String unit, int size) {
+        return unit.repeat(Math.max(1, size / unit.length()));
+    }
+
+    private static String mezcla(long seed, int size) {
+        String[] partes = {
+            "{", "}", "(*", "*)", "*", "\"", "'", "\\", "\n", "\r", "\r\n", " ", "a", "x1", "1.", "é", ";"
+        };
+        Random rnd = new Random(seed);
+        StringBuilder sb = new StringBuilder(size + 4);
+        while (sb.length() < size) {
+            sb.append(partes[rnd.nextInt(partes.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Entradas por nombre: cada una arma un texto de unos size caracteres
+     */
+    static Map<String, IntFunction<String>> entradas(long seed) {
+        Map<String, IntFunction<String>> e = new LinkedHashMap<>();
+        e.put("llaves", n -> repeat("{", n));
+        e.put("llave-por-linea", n -> repeat("{ x\n", n));
+        e.put("parentesis", n -> repeat("(*", n));
+        e.put("asteriscos", n -> "(*" + repeat("**)", n));
+        e.put("comillas", n -> repeat("\"", n));
+        e.put("comilla-por-linea", n -> repeat("\"x\n", n));
+        e.put("comilla-por-cr", n -> repeat("\"x\r", n));
+        e.put("string-sin-cerrar", n -> "\"" + repeat("x\n", n));
+        e.put("apostrofes", n -> repeat("'", n));
+        e.put("apostrofe-por-linea", n -> repeat("'x\n", n));
+        e.put("char-sin-cierre", n -> "'" + repeat("x\r", n));
+        e.put("simbolos", n -> "a" + repeat("\"", n));     // {IdentificadorInvalido} mira hasta el final
+        e.put("reales", n -> repeat("1.", n));
+        e.put("blancos", n -> repeat(" \n", n));
+        e.put("mezcla", n -> mezcla(seed, n));
+        return e;
+    }
+
+    // ========================================================================
+    // MEDICIÓN
+    // ========================================================================
+
+    private static final List<String> LEXERS = List.of("jflex", "fast", "paralelo");
+
+    /**
+     * Escanea el texto completo y devuelve los tokens
+     */
+    private static int scan(String lexer, String text, byte[] data, int chunk) throws IOException {
+        if (lexer.equals("paralelo")) {
+            return ParallelLexer.scan(data, ForkJoinPool.commonPool(), chunk).size();
+        }
+        Lexer l = lexer.equals("jflex") ? new Scanner(new StringReader(text)) : new FastScanner(data);
+        l.setTokenStats(TokenStats.NONE);
+        int tokens = 0;
+        while (l.next_token().sym != sym.EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+
+    /**
+     * Mínimo de ms de escanear text: lo que agregan el GC o el sistema en
+     * una medición suelta no es del scanner
+     */
+    private static double measure(String lexer, String text, int chunk, int warmup, int iterations) throws IOException {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < warmup; i++) {
+            scan(lexer, text, data, chunk);
+        }
+        double[] ms = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            System.gc();
+            long t0 = System.nanoTime();
+            scan(lexer, text, data, chunk);
+            ms[i] = (System.nanoTime() - t0) / 1e6;
+        }
+        Arrays.sort(ms);
+        return ms[0];
+    }
+
+    /**
+     * Pendiente de log(ms) contra log(tamaño) por mínimos cuadrados desde
+     * el tamaño from
+     */
+    static double exponent(int[] sizes, double[] ms, int from) {
+        int n = sizes.length - from;
+        double sx = 0;
+        double sy = 0;
+        for (int i = from; i < sizes.length; i++) {
+            sx += Math.log(sizes[i]);
+            sy += Math.log(Math.max(ms[i], 1e-3));
+        }
+        double mx = sx / n;
+        double my = sy / n;
+        double num = 0;
+        double den = 0;
+        for (int i = from; i < sizes.length; i++) {
+            double dx = Math.log(sizes[i]) - mx;
+            num += dx * (Math.log(Math.max(ms[i], 1e-3)) - my);
+            den += dx * dx;
+        }
+        return num / den;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizesKb = { 256, 512, 1024, 2048 };
+        int warmup = 2;
+        int iterations = 5;
+        long seed = 1;
+        String only = null;
+        String lexer = "todos";
+        int chunkKb = 4;
+        double maxExponent = 1.5;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sizes" -> sizesKb = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--iter" -> iterations = Math.max(1, Integer.parseInt(args[++i]));
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--only" -> only = args[++i];
+                case "--lexer" -> lexer = args[++i];
+                case "--chunk" -> chunkKb = Integer.parseInt(args[++i]);
+                case "--max-exponent" -> maxExponent = Double.parseDouble(args[++i]);
+                default -> {
+                    System.err.println("Uso: java scanner.ScannerStressBenchmark [--sizes KB,KB,...] [--warmup n] [--iter n] "
+                        + "[--seed s] [--only nombre] [--lexer jflex|fast|paralelo|todos] [--chunk KB] [--max-exponent x]");
+                    System.exit(1);
+                }
+            }
+        }
+        if (sizesKb.length < 2) {
+            System.err.println("Hacen falta al menos dos tamaños");
+            System.exit(1);
+        }
+        List<String> lexers = lexer.equals("todos") ? LEXERS : List.of(lexer);
+        if (!LEXERS.containsAll(lexers)) {
+            System.err.println("Scanner desconocido: " + lexer);
+            System.exit(1);
+        }
+        Map<String, IntFunction<String>> entradas = entradas(seed);
+        if (only != null && !entradas.containsKey(only)) {
+            System.err.println("Entrada desconocida: " + only + " (hay " + String.join(", ", entradas.keySet()) + ")");
+            System.exit(1);
+        }
+        int[] sizes = Arrays.stream(sizesKb).map(kb -> kb * 1024).toArray();
+        int chunk = chunkKb * 1024;
+
+        System.out.printf(Locale.ROOT, "Semilla %d, %d calentamientos, %d mediciones, trozos de %d KB, exponente máximo %.2f%n",
+            seed, warmup, iterations, chunkKb, maxExponent);
+        int width = 32 + 10 * sizes.length + 10;
+        System.out.println("\n" + "=".repeat(width));
+        System.out.println("  PEOR CASO: ms POR TAMAÑO Y EXPONENTE DE CRECIMIENTO (1 = lineal)");
+        System.out.println("=".repeat(width));
+        StringBuilder header = new StringBuilder(String.format("%-22s %-9s", "Entrada", "Scanner"));
+        for (int kb : sizesKb) {
+            header.append(String.format("%10s", kb + " KB"));
+        }
+        System.out.println(header.append(String.format("%10s", "exp.")));
+        System.out.println("-".repeat(width));
+
+        // Compilar los scanners antes de la primera fila
+        String calentamiento = mezcla(seed, sizes[0]);
+        for (String l : lexers) {
+            measure(l, calentamiento, chunk, 5 * warmup, 1);
+        }
+
+        List<String> superlineales = new ArrayList<>();
+        for (Map.Entry<String, IntFunction<String>> e : entradas.entrySet()) {
+            if (only != null && !only.equals(e.getKey())) {
+                continue;
+            }
+            String[] texts = new String[sizes.length];
+            for (int i = 0; i < sizes.length; i++) {
+                texts[i] = e.getValue().apply(sizes[i]);
+            }
+            for (String l : lexers) {
+                double[] ms = new double[sizes.length];
+                StringBuilder row = new StringBuilder(String.format("%-22s %-9s", e.getKey(), l));
+                for (int i = 0; i < sizes.length; i++) {
+                    ms[i] = measure(l, texts[i], chunk, warmup, iterations);
+                    row.append(String.format(Locale.ROOT, "%10.1f", ms[i]));
+                }
+                double exp = exponent(sizes, ms, Math.max(0, sizes.length - 3));
+                row.append(String.format(Locale.ROOT, "%10.2f", exp));
+                if (exp > maxExponent) {
+                    row.append("  SUPERLINEAL");
+                    superlineales.add(e.getKey() + "/" + l);
+                }
+                System.out.println(row);
+            }
+        }
+        System.out.println("=".repeat(width));
+        if (!superlineales.isEmpty()) {
+            System.out.println("Crecimiento superlineal en: " + String.join(", ", superlineales));
+            System.exit(1);
+        }
+        System.out.println("Todas las entradas escalan linealmente");
+    }
+}
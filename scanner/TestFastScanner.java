@@ -0,0 +1,281 @@
+package scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import java_cup.runtime.Symbol;
+import parser.ProgramGenerator;
+import parser.sym;
+
+/**
+ * Prueba diferencial: FastScanner tiene que producir token por token lo
+ * mismo que el Scanner de JFlex (token, línea, columna, texto), los mismos
+ * errores léxicos y la misma tabla de tokens aceptados. Lo mismo para un
+ * TokenBuffer, recorrido dos veces (escaneando y repitiendo el buffer), para
+ * PipelinedLexer (escaneando en otro hilo), para FastScanner con posiciones
+ * por offset (resueltas con su LineTable) y para ParallelLexer con trozos
+ * de distintos tamaños (tokens y errores).
+ *
+ * Entradas: los archivos de scanner/test, programas de ProgramGenerator y
+ * textos aleatorios armados con los fragmentos que más casos especiales
+ * tocan (comentarios y strings sin cerrar, "**)", \r\n, U+2028, números
+ * mal formados, caracteres fuera del BMP, ...).
+ *
+ * Con --escalar FastScanner recorre los blancos y comentarios de a un byte
+ * (setWordScan(false)) en vez de a 8.
+ *
+ * Uso: java scanner.TestFastScanner [--fuzz n] [--seed s] [--escalar] [archivo.abs ...]
+ */
+public class TestFastScanner {
+
+    private static final String[] FRAGMENTOS = {
+        " ", "  ", "\t", "\n", "\r", "\r\n", "\u000B", "\u000C", "\u0085", "\u2028", "\u2029",
+        "{", "}", "(*", "*)", "**)", "*", "(", ")", "\"", "'", "\\", "''", "'a'", "'\\n'", "'ab'",
+        "0", "7", "12", "0x1F", "0X", "017", "08", "1.5", "1.", ".5", "1.5e3", "2E-", "e", "x",
+        "a", "Z", "abc", "a1", "_", "@", "#", "^", "^p", "\u00F1", "\u00E9", "\uD83D\uDE00", "\u212A",
+        "+", "++", "-", "--", "**", "/", "=", "<>", "<", "<=", ">", ">=", ":", ":=", ";", ",",
+        ".", "[", "]", "BEGIN", "end", "If", "writeln", "DIV", "mod", "INT", "string",
+        "        ", "\n\t\t        ", "{ comentario largo }", "(* comentario largo *)", "\"string largo\"",
+    };
+
+    // Tamaños de trozo para ParallelLexer (cortan en el primer fin de línea después)
+    private static final int[] TROZOS = { 1, 16, 512 };
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static int casos = 0;
+    private static int fallas = 0;
+
+    public static void main(String[] args) throws IOException {
+        int fuzz = 20000;
+        long seed = 7;
+        List<Path> archivos = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fuzz" -> fuzz = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--escalar" -> FastScanner.setWordScan(false);
+                default -> archivos.add(Paths.get(args[i]));
+            }
+        }
+
+        System.out.println("=== PRUEBA DIFERENCIAL: FastScanner, TokenBuffer, PipelinedLexer y ParallelLexer vs Scanner (JFlex) ===\n");
+
+        // ===== 1: Archivos =====
+        if (archivos.isEmpty()) {
+            try (Stream<Path> files = Files.list(Paths.get("scanner", "test"))) {
+                files.sorted().forEach(archivos::add);
+            }
+        }
+        System.out.println("--- Archivos (" + archivos.size() + ") ---");
+        for (Path p : archivos) {
+            comparar(p.toString(), Files.readAllBytes(p));
+        }
+
+        // ===== 2: Programas generados =====
+        System.out.println("--- Programas generados ---");
+        for (int s = 1; s <= 3; s++) {
+            ProgramGenerator.Options opt = new ProgramGenerator.Options();
+            opt.lines = 3000;
+            opt.seed = s;
+            StringWriter w = new StringWriter();
+            ProgramGenerator.generate(opt, w);
+            comparar("generado semilla " + s, w.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        // ===== 3: Textos aleatorios =====
+        System.out.println("--- Textos aleatorios (" + fuzz + ", semilla " + seed + ") ---");
+        Random rnd = new Random(seed);
+        for (int i = 0; i < fuzz; i++) {
+            StringBuilder sb = new StringBuilder();
+            int n = 1 + rnd.nextInt((i % 100 == 0) ? 400 : 12);
+            for (int k = 0; k < n; k++) {
+                sb.append(FRAGMENTOS[rnd.nextInt(FRAGMENTOS.length)]);
+            }
+            comparar("aleatorio #" + i, sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        System.out.println("\n" + casos + " entradas, " + fallas + " diferencias");
+        if (fallas > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Escanea data con los dos scanners y reporta la primera diferencia
+     */
+    private static void comparar(String nombre, byte[] data) throws IOException {
+        FastScanner fast;
+        try {
+            fast = new FastScanner(data);
+        } catch (CharacterCodingException e) {
+            System.out.println("[OMITIDO] " + nombre + ": no es UTF-8 válido (MainParser tampoco lo lee)");
+            return;
+        }
+        casos++;
+        Scanner jflex = new Scanner(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8));
+
+        List<Symbol> esperados = new ArrayList<>();
+        for (int n = 0; ; n++) {
+            Symbol a = jflex.next_token();
+            Symbol b = fast.next_token();
+            esperados.add(a);
+            if (distintos(a, b)) {
+                falla(nombre, data, "token " + n + ": JFlex " + mostrar(a) + ", FastScanner " + mostrar(b));
+                return;
+            }
+            if (a.sym == sym.EOF) {
+                break;
+            }
+        }
+        String tablaA = tabla(jflex);
+        if (!mismosResultados(nombre, data, "FastScanner", jflex, fast, tablaA)) {
+            return;
+        }
+
+        // TokenBuffer: la primera pasada escanea, la segunda repite el buffer
+        TokenBuffer tokens = new TokenBuffer(new FastScanner(data));
+        for (int pasada = 1; pasada <= 2; pasada++) {
+            TokenBuffer.Reader reader = tokens.reader();
+            if (!mismosTokens(nombre, data, "TokenBuffer (pasada " + pasada + ")", esperados, reader)
+                    || !mismosResultados(nombre, data, "TokenBuffer", jflex, reader, tablaA)) {
+                return;
+            }
+        }
+
+        // PipelinedLexer con un buffer de 2 tokens, para que el productor espere seguido
+        try (PipelinedLexer pipe = new PipelinedLexer(() -> new FastScanner(data), 2)) {
+            if (!mismosTokens(nombre, data, "PipelinedLexer", esperados, pipe)
+                    || !mismosResultados(nombre, data, "PipelinedLexer", jflex, pipe, tablaA)) {
+                return;
+            }
+        }
+
+        // Posiciones por offset: resueltas con la LineTable, la misma línea y columna
+        FastScanner offsets = new FastScanner(data);
+        LineTable lineas = new LineTable(data);
+        offsets.setLineTable(lineas);
+        for (int n = 0; n < esperados.size(); n++) {
+            Symbol a = esperados.get(n);
+            Symbol b = offsets.next_token();
+            if (b.left >= 0) {
+                b = new Symbol(b.sym, lineas.line(b.left), lineas.column(b.left), b.value);
+            }
+            if (distintos(a, b)) {
+                falla(nombre, data, "token " + n + ": JFlex " + mostrar(a) + ", FastScanner con LineTable " + mostrar(b));
+                return;
+            }
+        }
+        if (!mismosResultados(nombre, data, "FastScanner con LineTable", jflex, offsets, tablaA)) {
+            return;
+        }
+
+        // ParallelLexer con trozos chicos, para que haya muchas uniones (sin tabla de tokens)
+        for (int trozo : TROZOS) {
+            String lexer = "ParallelLexer (trozos de " + trozo + ")";
+            TokenBuffer.Reader reader = ParallelLexer.scan(data, POOL, trozo).reader();
+            if (!mismosTokens(nombre, data, lexer, esperados, reader)
+                    || !mismosResultados(nombre, data, lexer, jflex, reader, null)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean mismosTokens(String nombre, byte[] data, String lexer, List<Symbol> esperados, Lexer otro)
+            throws IOException {
+        for (int n = 0; n < esperados.size(); n++) {
+            Symbol a = esperados.get(n);
+            Symbol b = otro.next_token();
+            if (distintos(a, b)) {
+                falla(nombre, data, "token " + n + ": JFlex " + mostrar(a) + ", " + lexer + " " + mostrar(b));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compara errores y tabla de tokens (si tablaA no es null) de otro lexer contra JFlex
+     */
+    private static boolean mismosResultados(String nombre, byte[] data, String lexer, Scanner jflex, Lexer otro, String tablaA) {
+        if (!jflex.getErrores().equals(otro.getErrores())) {
+            falla(nombre, data, "errores\n  JFlex:       " + jflex.getErrores() + "\n  " + lexer + ": " + otro.getErrores());
+            return false;
+        }
+        if (tablaA == null) {
+            return true;
+        }
+        String tablaB = tabla(otro);
+        if (!tablaA.equals(tablaB)) {
+            falla(nombre, data, "tabla de tokens\n--- JFlex ---\n" + tablaA + "--- " + lexer + " ---\n" + tablaB);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean distintos(Symbol a, Symbol b) {
+        return a.sym != b.sym || a.left != b.left || a.right != b.right || !texto(a).equals(texto(b));
+    }
+
+    /**
+     * Valor del token; los de TokenBuffer pueden traerlo sin armar
+     */
+    private static String texto(Symbol s) {
+        if (s.value == null && s instanceof TokenBuffer.Token t) {
+            return t.lexeme();
+        }
+        return String.valueOf(s.value);
+    }
+
+    private static String tabla(Lexer lexer) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        try {
+            lexer.imprimirTokens();
+        } finally {
+            System.setOut(out);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String mostrar(Symbol s) {
+        String nombre = (s.sym >= 0 && s.sym < sym.terminalNames.length) ? sym.terminalNames[s.sym] : "?" + s.sym;
+        return nombre + "(" + s.left + ":" + s.right + ") " + escapar(texto(s));
+    }
+
+    private static void falla(String nombre, byte[] data, String detalle) {
+        fallas++;
+        System.out.println("[DIFERENCIA] " + nombre + ": " + detalle);
+        if (data.length < 600) {
+            System.out.println("  entrada: " + escapar(new String(data, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static String escapar(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c < 0x7F) {
+                sb.append(c);
+            } else {
+                sb.append(String.format("\\u%04X", (int) c));
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,401 @@
+package scanner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import java_cup.runtime.Symbol;
+import parser.sym;
+
+/**
+ * Tokens de un fuente guardados como arreglos paralelos sobre sus bytes:
+ * tipo (byte), inicio, largo y línea (int), 13 bytes por token en total
+ * (en bloques de 4096 tokens, así que crecer no copia nada).
+ * Un token no es un Symbol ni tiene un String hasta que alguien lo pide.
+ *
+ * Se llena a medida que se lee (desde un FastScanner), o lo arma completo
+ * ParallelLexer, y una vez leído se puede recorrer todas las veces que haga
+ * falta con reader(): cada Reader alimenta al Parser de CUP desde el
+ * principio sin volver a escanear.
+ *
+ * Textos: los Symbol que entrega Reader traen el valor solo en los tokens
+ * cuyo valor usa la gramática (IDENTIFICADOR y literales). Las palabras
+ * reservadas y los operadores van con value null; su texto se arma con
+ * lexeme(i) o Token.lexeme() (lo usa el Parser para los mensajes de error).
+ *
+ * La columna tampoco se guarda: se calcula desde el último fin de línea,
+ * en unidades UTF-16 como en JFlex.
+ */
+public final class TokenBuffer {
+
+    private final FastScanner scanner;       // null si se armó con add()
+    private final byte[] source;
+    private final int sourceStart;
+    private final boolean ascii;
+    private final List<String> errores;
+    private final int firstBlock;
+
+    // Arreglos paralelos partidos en bloques de BLOCK tokens: crecer no copia
+    // tokens y lo que sobra es a lo sumo un bloque
+    private static final int SHIFT = 12;
+    private static final int BLOCK = 1 << SHIFT;
+    private static final int MASK = BLOCK - 1;
+
+    private byte[][] kinds = new byte[4][];     // parser.sym tiene menos de 128 terminales
+    private int[][] starts = new int[4][];
+    private int[][] lengths = new int[4][];
+    private int[][] lines = new int[4][];
+    private int size;
+    private boolean complete;
+
+    /**
+     * Buffer que se llena con los tokens de scanner (que no se debe usar
+     * por otro lado). Fijar la tabla de tokens antes de leer.
+     */
+    public TokenBuffer(FastScanner scanner) {
+        this.scanner = scanner;
+        this.source = scanner.source();
+        this.sourceStart = scanner.sourceStart();
+        this.ascii = scanner.isAscii();
+        this.errores = scanner.getErrores();
+        this.firstBlock = firstBlock(scanner.remaining());
+    }
+
+    /**
+     * Buffer vacío sobre source (ya validado) que se arma con add() y
+     * finish(), con los errores léxicos ya calculados (ParallelLexer)
+     */
+    TokenBuffer(byte[] source, int sourceStart, int length, boolean ascii, List<String> errores) {
+        this.scanner = null;
+        this.source = source;
+        this.sourceStart = sourceStart;
+        this.ascii = ascii;
+        this.errores = errores;
+        this.firstBlock = firstBlock(length);
+    }
+
+    /**
+     * Un fuente chico no necesita un bloque completo (casi nunca hay más de
+     * un token cada 4 bytes)
+     */
+    private static int firstBlock(int bytes) {
+        return Math.min(BLOCK, 16 + bytes / 4);
+    }
+
+    /**
+     * Escanea data (UTF-8) completo, sin tabla de tokens
+     */
+    public static TokenBuffer scan(byte[] data) throws IOException {
+        FastScanner sc = new FastScanner(data);
+        sc.setTokenStats(TokenStats.NONE);
+        TokenBuffer tokens = new TokenBuffer(sc);
+        tokens.fillAll();
+        return tokens;
+    }
+
+    // ========================================================================
+    // LLENADO
+    // ========================================================================
+
+    /**
+     * Escanea hasta tener el token i; false si el fuente tiene menos tokens
+     */
+    private boolean fillTo(int i) {
+        while (size <= i) {
+            if (complete || scanner == null) {
+                return false;
+            }
+            int k = scanner.nextKind();
+            if (k == sym.EOF) {
+                complete = true;
+                return false;
+            }
+            if (scanner.getTokenStats().isEnabled()) {
+                scanner.registrar(k, scanner.lexema(k));
+            }
+            add(k, scanner.tokenStart(), scanner.tokenLength(), scanner.tokenLine());
+        }
+        return true;
+    }
+
+    /**
+     * Agrega un token al final
+     */
+    void add(int kind, int start, int length, int line) {
+        int b = size >>> SHIFT;
+        int j = size & MASK;
+        if (j == 0 || j == kinds[b].length) {
+            addBlock(b, j);
+        }
+        kinds[b][j] = (byte) kind;
+        starts[b][j] = start;
+        lengths[b][j] = length;
+        lines[b][j] = line;
+        size++;
+    }
+
+    /**
+     * Marca como completo un buffer armado con add()
+     */
+    void finish() {
+        complete = true;
+    }
+
+    /**
+     * Escanea el resto del fuente
+     */
+    public TokenBuffer fillAll() {
+        fillTo(Integer.MAX_VALUE - 1);
+        return this;
+    }
+
+    /**
+     * Bloque b nuevo, o el primero agrandado a BLOCK si se llenó en j
+     */
+    private void addBlock(int b, int j) {
+        if (j > 0) {
+            kinds[b] = Arrays.copyOf(kinds[b], BLOCK);
+            starts[b] = Arrays.copyOf(starts[b], BLOCK);
+            lengths[b] = Arrays.copyOf(lengths[b], BLOCK);
+            lines[b] = Arrays.copyOf(lines[b], BLOCK);
+            return;
+        }
+        if (b == kinds.length) {
+            kinds = Arrays.copyOf(kinds, 2 * b);
+            starts = Arrays.copyOf(starts, 2 * b);
+            lengths = Arrays.copyOf(lengths, 2 * b);
+            lines = Arrays.copyOf(lines, 2 * b);
+        }
+        int n = (b == 0) ? firstBlock : BLOCK;
+        kinds[b] = new byte[n];
+        starts[b] = new int[n];
+        lengths[b] = new int[n];
+        lines[b] = new int[n];
+    }
+
+    // ========================================================================
+    // CONSULTAS
+    // ========================================================================
+
+    /**
+     * Tokens leídos hasta ahora (todos si isComplete())
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Tipo (parser.sym) del token i
+     */
+    public int kind(int i) {
+        return kinds[i >>> SHIFT][i & MASK];
+    }
+
+    /**
+     * Posición del token i en el arreglo de bytes del fuente
+     */
+    public int start(int i) {
+        return starts[i >>> SHIFT][i & MASK];
+    }
+
+    /**
+     * Largo en bytes del token i
+     */
+    public int length(int i) {
+        return lengths[i >>> SHIFT][i & MASK];
+    }
+
+    /**
+     * Línea del token i (desde 0, como Symbol.left)
+     */
+    public int line(int i) {
+        return lines[i >>> SHIFT][i & MASK];
+    }
+
+    /**
+     * Columna del token i (desde 0, como Symbol.right)
+     */
+    public int column(int i) {
+        int p = start(i);
+        return units(lineStart(p), p);
+    }
+
+    /**
+     * Texto del token i, igual al value de FastScanner: internado en la
+     * IdentifierTable del hilo salvo los literales
+     */
+    public String lexeme(int i) {
+        int b = i >>> SHIFT;
+        int j = i & MASK;
+        if (FastScanner.esLiteral(kinds[b][j])) {
+            return new String(source, starts[b][j], lengths[b][j],
+                ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+        return IdentifierTable.current().intern(source, starts[b][j], lengths[b][j]);
+    }
+
+    /**
+     * Errores léxicos (los de todo el fuente cuando isComplete())
+     */
+    public List<String> getErrores() {
+        return errores;
+    }
+
+    /**
+     * Lector nuevo desde el primer token, para un Parser de CUP
+     */
+    public Reader reader() {
+        return new Reader();
+    }
+
+    // ========================================================================
+    // POSICIÓN
+    // ========================================================================
+
+    /**
+     * Inicio de la línea que contiene p: después del último \n, \r, U+000B,
+     * U+000C, U+0085, U+2028 o U+2029 anterior
+     */
+    private int lineStart(int p) {
+        while (p > sourceStart && !endsLine(p)) {
+            p--;
+        }
+        return p;
+    }
+
+    /**
+     * true si el byte anterior a p cierra un fin de línea
+     */
+    private boolean endsLine(int p) {
+        int b = source[p - 1] & 0xFF;
+        switch (b) {
+            case '\n', '\r', 0x0B, 0x0C:
+                return true;
+            case 0x85:
+                return p - 2 >= sourceStart && (source[p - 2] & 0xFF) == 0xC2;
+            case 0xA8, 0xA9:
+                return p - 3 >= sourceStart && (source[p - 3] & 0xFF) == 0xE2 && (source[p - 2] & 0xFF) == 0x80;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Unidades UTF-16 entre dos posiciones del fuente
+     */
+    private int units(int from, int to) {
+        if (ascii) {
+            return to - from;
+        }
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int b = source[i] & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                n += ((b & 0xF8) == 0xF0) ? 2 : 1;     // fuera del BMP: par sustituto
+            }
+        }
+        return n;
+    }
+
+    // ========================================================================
+    // ADAPTADOR PARA CUP
+    // ========================================================================
+
+    /**
+     * Symbol de un token del buffer; index permite pedir su texto aunque
+     * value sea null
+     */
+    public static final class Token extends Symbol {
+
+        public final int index;
+        private final TokenBuffer tokens;
+
+        Token(TokenBuffer tokens, int index, int column, Object value) {
+            super(tokens.kind(index), tokens.line(index), column, value);
+            this.tokens = tokens;
+            this.index = index;
+        }
+
+        public String lexeme() {
+            return tokens.lexeme(index);
+        }
+    }
+
+    /**
+     * Recorre el buffer como un Lexer; el primer Reader es el que escanea y
+     * los siguientes repiten los mismos tokens
+     */
+    public final class Reader implements Lexer {
+
+        private int next;
+
+        // Columna incremental dentro de la línea del último token
+        private int currentLine = -1;
+        private int lastStart;
+        private int lastColumn;
+
+        private Reader() {
+        }
+
+        @Override
+        public Symbol next_token() {
+            if (!fillTo(next)) {
+                return new Symbol(sym.EOF);
+            }
+            int i = next++;
+            int k = kind(i);
+            Object value = (k == sym.IDENTIFICADOR || FastScanner.esLiteral(k)) ? lexeme(i) : null;
+            return new Token(TokenBuffer.this, i, columnOf(i), value);
+        }
+
+        private int columnOf(int i) {
+            int p = start(i);
+            if (line(i) == currentLine) {
+                lastColumn += units(lastStart, p);
+            } else {
+                currentLine = line(i);
+                lastColumn = units(lineStart(p), p);
+            }
+            lastStart = p;
+            return lastColumn;
+        }
+
+        /**
+         * El buffer que recorre (para volver a parsear con otro reader())
+         */
+        public TokenBuffer tokens() {
+            return TokenBuffer.this;
+        }
+
+        @Override
+        public List<String> getErrores() {
+            return errores;
+        }
+
+        /**
+         * Solo tiene efecto antes de escanear; un buffer armado con add()
+         * no tiene tabla de tokens
+         */
+        @Override
+        public void setTokenStats(TokenStats stats) {
+            if (scanner != null) {
+                scanner.setTokenStats(stats);
+            }
+        }
+
+        @Override
+        public TokenStats getTokenStats() {
+            return (scanner != null) ? scanner.getTokenStats() : TokenStats.NONE;
+        }
+
+        @Override
+        public void imprimirTokens() {
+            getTokenStats().print();
+        }
+    }
+}
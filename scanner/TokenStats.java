@@ -0,0 +1,133 @@
+package scanner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Política de estadísticas de tokens aceptados del Scanner.
+ *
+ *   NONE        no registra nada (corridas del parser, donde la tabla no se muestra)
+ *   counting()  tabla token -> tipo y líneas, con contadores primitivos:
+ *               las líneas de cada token se guardan en arreglos int que crecen
+ *               (línea, cantidad), sin boxing de Integer por cada aparición
+ *
+ * El Scanner usa counting() por defecto (MainScanner, DumpTokens); MainParser
+ * le pasa NONE con setTokenStats().
+ */
+public abstract class TokenStats {
+
+    /**
+     * No registra tokens
+     */
+    public static final TokenStats NONE = new TokenStats() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(String token, String tipo, int linea) {
+        }
+
+        @Override
+        public void print() {
+            System.out.println("(registro de tokens desactivado)");
+        }
+    };
+
+    /**
+     * Nueva tabla de conteo (una por Scanner)
+     */
+    public static TokenStats counting() {
+        return new Counting();
+    }
+
+    /**
+     * false si record() no hace nada (el scanner evita preparar el token)
+     */
+    public abstract boolean isEnabled();
+
+    /**
+     * Registra una aparición; token ya viene en mayúsculas
+     */
+    public abstract void record(String token, String tipo, int linea);
+
+    /**
+     * Imprime la tabla: token, tipo y líneas (con la cantidad si se repite)
+     */
+    public abstract void print();
+
+    // ========================================================================
+    // CONTEO CON ARREGLOS PRIMITIVOS
+    // ========================================================================
+
+    private static final class Counting extends TokenStats {
+        private final HashMap<String, TokenInfo> tokens = new HashMap<>();
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void record(String token, String tipo, int linea) {
+            TokenInfo info = tokens.get(token);
+            if (info == null) {
+                info = new TokenInfo(tipo);
+                tokens.put(token, info);
+            }
+            info.agregarLinea(linea);
+        }
+
+        @Override
+        public void print() {
+            System.out.printf("%-20s %-25s %s\n", "Token", "Tipo de Token", "Líneas");
+            System.out.println("----------------------------------------------------------");
+            List<String> claves = new ArrayList<>(tokens.keySet());
+            Collections.sort(claves); // orden alfabético
+            for (String token : claves) {
+                TokenInfo info = tokens.get(token);
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < info.size; i++) {
+                    sb.append(info.lineas[i]);
+                    if (info.cantidades[i] > 1) sb.append("(").append(info.cantidades[i]).append(")");
+                    sb.append(", ");
+                }
+                if (sb.length() >= 2) sb.setLength(sb.length() - 2); // quitar última coma
+                System.out.printf("%-20s %-25s %s\n", token, info.tipo, sb.toString());
+            }
+        }
+    }
+
+    /**
+     * Líneas donde aparece un token. El scanner avanza de línea en línea,
+     * así que basta con comparar contra la última línea registrada.
+     */
+    private static final class TokenInfo {
+        final String tipo;
+        int[] lineas = new int[4];
+        int[] cantidades = new int[4];
+        int size = 0;
+
+        TokenInfo(String tipo) {
+            this.tipo = tipo;
+        }
+
+        void agregarLinea(int linea) {
+            if (size > 0 && lineas[size - 1] == linea) {
+                cantidades[size - 1]++;
+                return;
+            }
+            if (size == lineas.length) {
+                lineas = Arrays.copyOf(lineas, size * 2);
+                cantidades = Arrays.copyOf(cantidades, size * 2);
+            }
+            lineas[size] = linea;
+            cantidades[size] = 1;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package scanner;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Búsquedas de a 8 bytes (un long por vez) para los tramos largos que
+ * FastScanner recorre sin armar tokens: blancos, el cuerpo de los
+ * comentarios y el avance de línea y columna sobre ellos.
+ *
+ * Cada comparación deja encendido el bit alto de los bytes que cumplen, sin
+ * acarreos de un byte al siguiente, así que el primer byte que cumple es
+ * numberOfTrailingZeros / 8 (los long se leen en little-endian: el byte más
+ * bajo es el de menor índice). Lo que queda al final del rango, menos de 8
+ * bytes, se recorre de a uno.
+ */
+public final class WordScan {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long UNOS = 0x0101010101010101L;
+    private static final long ALTOS = 0x8080808080808080L;
+    private static final long BAJOS = 0x7F7F7F7F7F7F7F7FL;
+
+    private WordScan() {
+    }
+
+    /**
+     * Los 8 bytes b[i .. i+8)
+     */
+    static long palabra(byte[] b, int i) {
+        return (long) LONGS.get(b, i);
+    }
+
+    /**
+     * Bit alto encendido en cada byte de w igual a c
+     */
+    static long iguales(long w, int c) {
+        long x = w ^ (UNOS * c);
+        return ~(((x & BAJOS) + BAJOS) | x | BAJOS);
+    }
+
+    /**
+     * Bit alto encendido en cada byte de w que no es ' ', \t, \n ni \r
+     */
+    private static long noEspacios(long w) {
+        return ~(iguales(w, ' ') | iguales(w, '\t') | iguales(w, '\n') | iguales(w, '\r')) & ALTOS;
+    }
+
+    /**
+     * true si w es ASCII sin otro fin de línea que \n (ni \r, U+000B ni
+     * U+000C): cada byte avanza una columna o es un \n
+     */
+    static boolean columnasOSaltos(long w) {
+        return ((w & ALTOS) | iguales(w, 0x0B) | iguales(w, 0x0C) | iguales(w, '\r')) == 0;
+    }
+
+    /**
+     * Primer índice de [i, tope) cuyo byte no es ' ', \t, \n ni \r; tope si no hay
+     */
+    static int saltarEspacios(byte[] b, int i, int tope) {
+        for (; i + 8 <= tope; i += 8) {
+            long m = noEspacios(palabra(b, i));
+            if (m != 0) {
+                return i + (Long.numberOfTrailingZeros(m) >>> 3);
+            }
+        }
+        while (i < tope && (b[i] == ' ' || b[i] == '\t' || b[i] == '\n' || b[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Primer índice de [i, tope) con el byte c (ASCII); tope si no está
+     */
+    static int buscar(byte[] b, int i, int tope, int c) {
+        for (; i + 8 <= tope; i += 8) {
+            long m = iguales(palabra(b, i), c);
+            if (m != 0) {
+                return i + (Long.numberOfTrailingZeros(m) >>> 3);
+            }
+        }
+        while (i < tope && b[i] != c) {
+            i++;
+        }
+        return i;
+    }
+}